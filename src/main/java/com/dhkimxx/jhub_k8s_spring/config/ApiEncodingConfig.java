@@ -0,0 +1,48 @@
+package com.dhkimxx.jhub_k8s_spring.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * API 응답 바이너리 인코딩(Smile/CBOR) 설정 클래스.
+ * Accept 헤더가 application/x-jackson-smile 또는 application/cbor인 경우 JSON 대신 해당 포맷으로 응답합니다.
+ * 반복되는 필드명(및 문자열 값)은 back-reference로 인코딩하여 목록 응답의 크기와 파싱 비용을 줄입니다.
+ */
+@Configuration
+public class ApiEncodingConfig {
+
+    /**
+     * Smile 컨버터 빈 생성.
+     * 공유 필드명/문자열 값 back-reference를 활성화합니다.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(factory).build());
+    }
+
+    /**
+     * CBOR 컨버터 빈 생성.
+     * stringref 확장(tag 256/25)을 사용하여 반복되는 필드명/문자열을 참조로 인코딩합니다.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        CBORFactory factory = CBORFactory.builder()
+                .enable(CBORGenerator.Feature.STRINGREF)
+                .build();
+        return new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.factory(factory).build());
+    }
+}
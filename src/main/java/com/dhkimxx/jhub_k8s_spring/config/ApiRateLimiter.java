@@ -0,0 +1,311 @@
+package com.dhkimxx.jhub_k8s_spring.config;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * 쿠버네티스 API 호출의 클라이언트 측 QPS 제한기. (client-go의 QPS/Burst와 같은 토큰 버킷)
+ * 초당 qps개씩 토큰이 채워지고 최대 burst개까지 쌓이며, 호출마다 토큰 하나를 사용합니다.
+ * 토큰이 없으면 대기열에서 기다리며, 대기열은 우선순위(INTERACTIVE → NORMAL → BACKGROUND) 순, 같은 우선순위는 도착 순으로 처리합니다.
+ * maxWait 안에 토큰을 얻지 못하면 RejectedException으로 호출을 거절합니다.
+ * 클러스터마다 하나를 만들어 해당 클러스터의 일반/메트릭/watch 클라이언트가 함께 사용합니다.
+ * 대기는 ReentrantLock/Condition으로 하므로 가상 스레드에서 기다려도 캐리어 스레드를 점유하지 않습니다.
+ * 비동기 호출은 prepareAsync로 호출 스레드에서 토큰을 얻은 뒤 enqueue하여, OkHttp 디스패처 스레드(호스트당 슬롯)를
+ * 대기에 쓰지 않고 호출 스레드의 우선순위도 잃지 않도록 합니다.
+ */
+public class ApiRateLimiter implements MeterBinder {
+
+    private static final ThreadLocal<Lane> CURRENT_LANE = new ThreadLocal<>();
+    private static final int RESOURCE_PATH_OFFSET_CORE = 2;
+    private static final int RESOURCE_PATH_OFFSET_GROUP = 3;
+
+    private final String clusterName;
+    private final boolean enabled;
+    private final double permitsPerNano;
+    private final double burst;
+    private final long maxWaitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    /** lock으로 보호 */
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+            Comparator.comparing(Waiter::lane).thenComparingLong(Waiter::sequence));
+    private double tokens;
+    private long lastRefillNanos;
+    private long sequence;
+
+    private final LongAdder[] acquired = newAdders();
+    private final LongAdder[] waitNanos = newAdders();
+    private final LongAdder[] rejected = newAdders();
+
+    public ApiRateLimiter(String clusterName, JhubK8sProperties.RateLimit settings) {
+        this.clusterName = clusterName;
+        this.enabled = settings.isEnabled();
+        this.permitsPerNano = settings.getQps() / 1_000_000_000d;
+        this.burst = Math.max(1, settings.getBurst());
+        this.maxWaitNanos = settings.getMaxWait().toNanos();
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 현재 스레드에서 수행하는 API 호출의 우선순위를 지정하고 작업을 실행합니다.
+     */
+    public static <T> T callWithLane(Lane lane, Supplier<T> work) {
+        Lane previous = CURRENT_LANE.get();
+        CURRENT_LANE.set(lane);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT_LANE.set(previous);
+            } else {
+                CURRENT_LANE.remove();
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드에서 수행하는 API 호출의 우선순위를 지정하고 작업을 실행합니다.
+     */
+    public static void runWithLane(Lane lane, Runnable work) {
+        callWithLane(lane, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * 토큰 버킷을 거쳐 요청을 보내는 OkHttp 인터셉터. prepareAsync로 이미 토큰을 얻은 요청은 그대로 보냅니다.
+     */
+    public Interceptor interceptor() {
+        return new LimiterInterceptor();
+    }
+
+    /**
+     * 비동기로 보낼 호출을 준비합니다. 호출 스레드에서 우선순위를 정해 요청에 태그로 남기고,
+     * 클라이언트에 제한기가 있으면 enqueue 전에 토큰을 얻습니다. 반환한 호출을 enqueue해야 합니다.
+     */
+    public static Call prepareAsync(OkHttpClient httpClient, Call call) throws IOException {
+        Request request = call.request();
+        Lane lane = laneOf(request);
+        Request.Builder tagged = request.newBuilder().tag(Lane.class, lane);
+        for (Interceptor interceptor : httpClient.interceptors()) {
+            if (interceptor instanceof LimiterInterceptor limiterInterceptor) {
+                limiterInterceptor.limiter().acquire(lane);
+                tagged.tag(Permit.class, Permit.ACQUIRED);
+                break;
+            }
+        }
+        return httpClient.newCall(tagged.build());
+    }
+
+    /**
+     * 토큰 하나를 얻을 때까지 기다립니다. maxWait을 넘기면 RejectedException을 던집니다.
+     */
+    public void acquire(Lane lane) throws IOException {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            refill(start);
+            if (waiters.isEmpty() && tokens >= 1) {
+                tokens -= 1;
+                acquired[lane.ordinal()].increment();
+                return;
+            }
+            Waiter waiter = new Waiter(lane, sequence++);
+            waiters.add(waiter);
+            long deadline = start + maxWaitNanos;
+            try {
+                while (true) {
+                    long now = System.nanoTime();
+                    refill(now);
+                    if (waiters.peek() == waiter && tokens >= 1) {
+                        tokens -= 1;
+                        waiters.poll();
+                        changed.signalAll();
+                        acquired[lane.ordinal()].increment();
+                        waitNanos[lane.ordinal()].add(now - start);
+                        return;
+                    }
+                    long remaining = deadline - now;
+                    if (remaining <= 0) {
+                        waiters.remove(waiter);
+                        changed.signalAll();
+                        rejected[lane.ordinal()].increment();
+                        throw new RejectedException(lane, Duration.ofNanos(maxWaitNanos));
+                    }
+                    long untilToken = tokens >= 1 ? remaining : (long) ((1 - tokens) / permitsPerNano) + 1;
+                    changed.awaitNanos(Math.min(remaining, untilToken));
+                }
+            } catch (InterruptedException ex) {
+                waiters.remove(waiter);
+                changed.signalAll();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for API rate limiter");
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Lane lane : Lane.values()) {
+            int index = lane.ordinal();
+            List<Tag> tags = List.of(
+                    Tag.of("cluster", clusterName),
+                    Tag.of("lane", lane.name().toLowerCase()));
+            FunctionTimer.builder("jhub.k8s.ratelimit.wait", this,
+                    limiter -> limiter.acquired[index].sum(),
+                    limiter -> limiter.waitNanos[index].sum(),
+                    TimeUnit.NANOSECONDS)
+                    .description("Time Kubernetes API calls waited for a rate limiter token")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("jhub.k8s.ratelimit.rejected", this,
+                    limiter -> limiter.rejected[index].sum())
+                    .description("Kubernetes API calls rejected by the client-side rate limiter")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("jhub.k8s.ratelimit.queued", this, limiter -> limiter.queued(lane))
+                    .description("Kubernetes API calls waiting for a rate limiter token")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+
+    int queued(Lane lane) {
+        lock.lock();
+        try {
+            return (int) waiters.stream().filter(waiter -> waiter.lane() == lane).count();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+
+    /**
+     * 요청의 우선순위. 요청에 태그된 우선순위, 스레드에 지정된 우선순위 순으로 사용하고,
+     * 둘 다 없으면 변경 요청(DELETE 등)과 단건 조회는 INTERACTIVE, watch는 BACKGROUND, 목록 조회는 NORMAL로 분류합니다.
+     */
+    static Lane laneOf(Request request) {
+        Lane tagged = request.tag(Lane.class);
+        if (tagged != null) {
+            return tagged;
+        }
+        Lane lane = CURRENT_LANE.get();
+        if (lane != null) {
+            return lane;
+        }
+        if (!"GET".equals(request.method())) {
+            return Lane.INTERACTIVE;
+        }
+        if ("true".equals(request.url().queryParameter("watch"))) {
+            return Lane.BACKGROUND;
+        }
+        return isSingleObjectPath(request.url().pathSegments()) ? Lane.INTERACTIVE : Lane.NORMAL;
+    }
+
+    /**
+     * /api/v1/... 또는 /apis/{group}/{version}/... 뒤의 경로 조각이 짝수 개(종류/이름 쌍)이면 단건 조회입니다.
+     */
+    private static boolean isSingleObjectPath(List<String> segments) {
+        if (segments.isEmpty()) {
+            return false;
+        }
+        int offset = "apis".equals(segments.get(0)) ? RESOURCE_PATH_OFFSET_GROUP : RESOURCE_PATH_OFFSET_CORE;
+        int resourceSegments = segments.size() - offset;
+        return resourceSegments > 0 && resourceSegments % 2 == 0;
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[Lane.values().length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * 호출 우선순위. 선언 순서가 높은 우선순위입니다.
+     */
+    public enum Lane {
+        /** 사용자가 기다리는 상세 조회, 삭제 등 */
+        INTERACTIVE,
+        /** 목록 화면 조회 */
+        NORMAL,
+        /** watch 재조회, 백그라운드 수집 */
+        BACKGROUND
+    }
+
+    /**
+     * maxWait 안에 토큰을 얻지 못해 호출이 거절되었을 때 발생하는 예외.
+     */
+    public static class RejectedException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        public RejectedException(Lane lane, Duration maxWait) {
+            super("Kubernetes API call rejected by client-side rate limiter (lane=" + lane + ", waited " + maxWait
+                    + ")");
+        }
+    }
+
+    private record Waiter(Lane lane, long sequence) {
+    }
+
+    /**
+     * prepareAsync에서 이미 토큰을 얻었음을 나타내는 요청 태그.
+     */
+    private enum Permit {
+        ACQUIRED
+    }
+
+    /**
+     * 이 제한기의 인터셉터. prepareAsync가 클라이언트에서 제한기를 찾을 때 사용합니다.
+     */
+    private final class LimiterInterceptor implements Interceptor {
+
+        ApiRateLimiter limiter() {
+            return ApiRateLimiter.this;
+        }
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            Request request = chain.request();
+            if (request.tag(Permit.class) == null) {
+                acquire(laneOf(request));
+            }
+            return chain.proceed(request);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.dhkimxx.jhub_k8s_spring.config;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 쿠버네티스 API 병렬 호출용 실행기 및 watch 스레드 설정.
+ * 기본(플랫폼 스레드) 모드에서는 고정 크기 풀을 사용하고,
+ * spring.threads.virtual.enabled=true이면 호출마다 가상 스레드를 사용합니다. (Java 21 이상)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AsyncConfig {
+
+    public static final String KUBERNETES_IO_EXECUTOR = "kubernetesIoExecutor";
+    public static final String WATCH_THREAD_FACTORY = "watchThreadFactory";
+    public static final String JOB_SCHEDULER = "jobScheduler";
+
+    private static final String IO_THREAD_PREFIX = "k8s-io-";
+    private static final String WATCH_THREAD_PREFIX = "watch-";
+    private static final String JOB_THREAD_PREFIX = "job-";
+    private static final int JOB_POOL_SIZE = 2;
+
+    @Bean(name = KUBERNETES_IO_EXECUTOR)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor kubernetesIoExecutor(JhubK8sProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getIoConcurrency());
+        executor.setMaxPoolSize(properties.getIoConcurrency());
+        executor.setQueueCapacity(properties.getIoConcurrency() * 64);
+        executor.setThreadNamePrefix(IO_THREAD_PREFIX);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 모드의 API 호출 실행기.
+     * 블로킹 대기 중에는 캐리어 스레드를 점유하지 않으며, 동시 호출 수는 ioConcurrency로 제한하여 API 서버를 보호합니다.
+     */
+    @Bean(name = KUBERNETES_IO_EXECUTOR)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualKubernetesIoExecutor(JhubK8sProperties properties) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(IO_THREAD_PREFIX);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(properties.getIoConcurrency());
+        return executor;
+    }
+
+    @Bean(name = WATCH_THREAD_FACTORY)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadFactory watchThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(WATCH_THREAD_PREFIX);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    /**
+     * 가상 스레드 모드의 watch 스레드 생성기. watch 연결은 대부분 응답 대기 상태이므로 가상 스레드에 적합합니다.
+     */
+    @Bean(name = WATCH_THREAD_FACTORY)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ThreadFactory virtualWatchThreadFactory() {
+        return new VirtualThreadTaskExecutor(WATCH_THREAD_PREFIX).getVirtualThreadFactory();
+    }
+
+    /**
+     * 세션 일괄 종료 등 장시간 진행되는 관리 작업의 실행기.
+     * 작업 진행(삭제 간격 조절 등)만 담당하고 실제 API 호출은 kubernetesIoExecutor에서 수행합니다.
+     */
+    @Bean(name = JOB_SCHEDULER)
+    public ThreadPoolTaskScheduler jobScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(JOB_POOL_SIZE);
+        scheduler.setThreadNamePrefix(JOB_THREAD_PREFIX);
+        scheduler.setDaemon(true);
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+}
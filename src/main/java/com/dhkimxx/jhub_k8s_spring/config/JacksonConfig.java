@@ -0,0 +1,55 @@
+package com.dhkimxx.jhub_k8s_spring.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.dhkimxx.jhub_k8s_spring.web.FieldSelectionFilter;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * 공통 ObjectMapper 설정 클래스.
+ * JSON/Smile/CBOR 매퍼 모두에 적용되며, 응답 DTO에 필드 선택(fields=) 필터를 연결합니다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    private static final String DTO_PACKAGE = "com.dhkimxx.jhub_k8s_spring.dto";
+
+    /**
+     * DTO 클래스에 필드 선택 필터 ID를 부여하고, 기본값으로 모든 필드를 직렬화하는 필터를 등록합니다.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionCustomizer() {
+        return builder -> builder
+                .annotationIntrospector(current -> AnnotationIntrospector.pair(
+                        new DtoFilterIdIntrospector(),
+                        current != null ? current : new JacksonAnnotationIntrospector()))
+                .filters(new SimpleFilterProvider()
+                        .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                        .setFailOnUnknownId(false));
+    }
+
+    /**
+     * dto 패키지의 클래스에만 필드 선택 필터 ID를 반환하는 Introspector.
+     */
+    private static final class DtoFilterIdIntrospector extends NopAnnotationIntrospector {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Object findFilterId(Annotated annotated) {
+            if (annotated instanceof AnnotatedClass annotatedClass
+                    && annotatedClass.getRawType().getPackageName().startsWith(DTO_PACKAGE)) {
+                return FieldSelectionFilter.FILTER_ID;
+            }
+            return null;
+        }
+    }
+}
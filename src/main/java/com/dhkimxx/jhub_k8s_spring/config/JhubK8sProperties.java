@@ -1,10 +1,19 @@
 package com.dhkimxx.jhub_k8s_spring.config;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -54,9 +63,515 @@ public class JhubK8sProperties {
     @NotNull
     private Duration metricsTimeout;
 
+    /**
+     * true이면 namespace(및 namespaces)의 사용자 파드만 조회하고,
+     * false이면 전체 클러스터에서 사용자 라벨로 필터링하여 조회합니다.
+     */
     private boolean defaultNamespaceSelector = true;
 
+    /** namespace 외에 함께 모니터링할 JupyterHub 네임스페이스 목록 */
+    @NotNull
+    private List<String> namespaces = new ArrayList<>();
+
     @Min(1)
     @Max(1000)
     private int maxPodFetch = 200;
+
+    /** PV/PVC 목록 조회의 페이지 크기 (스토리지 개요, NDJSON 내보내기) */
+    @Min(1)
+    @Max(1000)
+    private int maxStorageFetch = 500;
+
+    /** 쿠버네티스 API 병렬 호출에 사용하는 최대 스레드 수 */
+    @Min(1)
+    @Max(256)
+    private int ioConcurrency = 16;
+
+    /**
+     * core/v1 파드 목록 조회에 사용할 응답 형식.
+     * PROTOBUF이면 application/vnd.kubernetes.protobuf로 요청합니다. (watch, CRD, 메트릭은 항상 JSON)
+     * 노드와 PV/PVC 목록은 항목 수가 적거나 maxStorageFetch 단위로 나눠 조회하므로 JSON을 유지합니다.
+     */
+    @NotNull
+    private WireFormat wireFormat = WireFormat.JSON;
+
+    /** 쿠버네티스 API HTTP 전송 계층 설정 */
+    @Valid
+    @NotNull
+    private Transport transport = new Transport();
+
+    /** 노드별 리소스 요청량 집계(전체 네임스페이스 파드 인덱스) 설정 */
+    @Valid
+    @NotNull
+    private NodeAllocation nodeAllocation = new NodeAllocation();
+
+    /** 쿠버네티스 API 조회 서킷 브레이커 설정 */
+    @Valid
+    @NotNull
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /** 쿠버네티스 API 호출의 클라이언트 측 QPS 제한 설정 */
+    @Valid
+    @NotNull
+    private RateLimit rateLimit = new RateLimit();
+
+    /** /api/** 요청의 엔드포인트 그룹별 동시 처리 제한(벌크헤드) 설정 */
+    @Valid
+    @NotNull
+    private Bulkhead bulkhead = new Bulkhead();
+
+    /** 세션 일괄 종료 작업 설정 */
+    @Valid
+    @NotNull
+    private BulkTermination bulkTermination = new BulkTermination();
+
+    /** 유휴 세션 정리 설정 */
+    @Valid
+    @NotNull
+    private IdleCulling idleCulling = new IdleCulling();
+
+    /** 세션 생성 단계별 소요 시간 분석 설정 */
+    @Valid
+    @NotNull
+    private SpawnLatency spawnLatency = new SpawnLatency();
+
+    /** 노드×이미지별 이미지 풀 비용 추적 설정 */
+    @Valid
+    @NotNull
+    private ImagePull imagePull = new ImagePull();
+
+    /** user-placeholder 용량 계획 설정 */
+    @Valid
+    @NotNull
+    private Placeholders placeholders = new Placeholders();
+
+    /** 이 설정(기본 클러스터)의 이름. 클러스터별 경로와 통합 현황에서 사용합니다. */
+    @NotBlank
+    private String clusterName = "default";
+
+    /**
+     * 함께 모니터링할 추가 클러스터. (이름 → 연결 설정)
+     * 지정하지 않은 항목은 기본 클러스터 설정을 그대로 사용합니다.
+     */
+    @Valid
+    @NotNull
+    private Map<String, Cluster> clusters = new LinkedHashMap<>();
+
+    /** 통합 현황 조회 시 클러스터별 수집 대기 시간. 넘기면 마지막 수집 결과를 stale로 표시합니다. */
+    @NotNull
+    private Duration federationTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 추가 클러스터의 설정을 만듭니다.
+     * 연결/네임스페이스 항목만 클러스터 설정으로 덮어쓰고 나머지는 기본 클러스터 설정을 복사합니다.
+     */
+    public JhubK8sProperties forCluster(String name, Cluster cluster) {
+        JhubK8sProperties copy = new JhubK8sProperties();
+        copy.setEnabled(enabled);
+        copy.setNamespace(cluster.getNamespace() != null ? cluster.getNamespace() : namespace);
+        copy.setNamespaces(cluster.getNamespaces() != null ? cluster.getNamespaces() : namespaces);
+        copy.setUsernameLabelKey(usernameLabelKey);
+        copy.setPodNamePrefix(podNamePrefix);
+        copy.setUseKubeconfig(cluster.getUseKubeconfig() != null ? cluster.getUseKubeconfig() : useKubeconfig);
+        copy.setKubeconfigPath(cluster.getKubeconfigPath() != null ? cluster.getKubeconfigPath() : kubeconfigPath);
+        copy.setApiServerUrl(cluster.getApiServerUrl());
+        copy.setBearerToken(cluster.getBearerToken());
+        copy.setVerifySsl(cluster.getVerifySsl() != null ? cluster.getVerifySsl() : verifySsl);
+        copy.setRequestTimeout(requestTimeout);
+        copy.setMetricsTimeout(metricsTimeout);
+        copy.setDefaultNamespaceSelector(defaultNamespaceSelector);
+        copy.setMaxPodFetch(maxPodFetch);
+        copy.setMaxStorageFetch(maxStorageFetch);
+        copy.setIoConcurrency(ioConcurrency);
+        copy.setWireFormat(wireFormat);
+        copy.setTransport(transport);
+        copy.setNodeAllocation(nodeAllocation);
+        copy.setCircuitBreaker(circuitBreaker);
+        copy.setRateLimit(rateLimit);
+        copy.setBulkhead(bulkhead);
+        copy.setBulkTermination(bulkTermination);
+        copy.setIdleCulling(idleCulling);
+        copy.setSpawnLatency(spawnLatency);
+        copy.setImagePull(imagePull);
+        copy.setPlaceholders(placeholders);
+        copy.setClusterName(name);
+        copy.setFederationTimeout(federationTimeout);
+        return copy;
+    }
+
+    /**
+     * 모니터링 대상 JupyterHub 네임스페이스 목록. (namespace가 첫 번째, 중복 제거)
+     */
+    public List<String> hubNamespaces() {
+        Set<String> hubNamespaces = new LinkedHashSet<>();
+        hubNamespaces.add(namespace);
+        hubNamespaces.addAll(namespaces);
+        return List.copyOf(hubNamespaces);
+    }
+
+    /**
+     * 해당 네임스페이스의 사용자 라벨 파드가 세션 조회 대상인지 여부.
+     * defaultNamespaceSelector=false이면 모든 네임스페이스가 대상입니다.
+     */
+    public boolean isUserNamespace(String candidate) {
+        return !defaultNamespaceSelector || hubNamespaces().contains(candidate);
+    }
+
+    /**
+     * OkHttp 연결 풀 및 디스패처 설정.
+     * 일반/메트릭/watch 클라이언트가 각자 이 값으로 별도의 연결 풀과 디스패처를 구성합니다.
+     */
+    @Getter
+    @Setter
+    public static class Transport {
+
+        /** 클라이언트별 유휴 연결 최대 개수 */
+        @Min(1)
+        private int maxIdleConnections = 10;
+
+        /** 유휴 연결 유지 시간 */
+        @NotNull
+        private Duration keepAlive = Duration.ofMinutes(5);
+
+        /** 비동기 호출의 클라이언트별 최대 동시 요청 수 */
+        @Min(1)
+        private int maxRequests = 64;
+
+        /** 비동기 호출의 호스트별 최대 동시 요청 수 */
+        @Min(1)
+        private int maxRequestsPerHost = 32;
+
+        /** HTTP/2 사용 여부 (false이면 HTTP/1.1만 사용) */
+        private boolean http2 = true;
+    }
+
+    /**
+     * 작업(API 호출 종류)별 서킷 브레이커 설정.
+     * 5xx, 429, 타임아웃/연결 오류가 연속으로 failureThreshold번 발생하면 호출을 차단(open)하고,
+     * 차단 시간은 initialBackoff부터 차단될 때마다 두 배씩(maxBackoff까지) 늘리되 절반~전체 범위에서 무작위로 정합니다.
+     * 차단 중이거나 호출이 실패하면 maxStaleAge 이내의 마지막 성공 결과로 응답합니다.
+     */
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        /** 서킷 브레이커 사용 여부 */
+        private boolean enabled = true;
+
+        /** 차단까지의 연속 실패 횟수 */
+        @Min(1)
+        private int failureThreshold = 3;
+
+        /** 첫 차단 시간 */
+        @NotNull
+        private Duration initialBackoff = Duration.ofSeconds(5);
+
+        /** 최대 차단 시간 */
+        @NotNull
+        private Duration maxBackoff = Duration.ofMinutes(2);
+
+        /** 대신 응답할 수 있는 마지막 성공 결과의 최대 경과 시간 */
+        @NotNull
+        private Duration maxStaleAge = Duration.ofMinutes(30);
+
+        /** 보관할 마지막 성공 결과의 최대 개수 (작업 + 인자 조합 기준) */
+        @Min(1)
+        private int maxStaleEntries = 512;
+    }
+
+    /**
+     * 클러스터별 API 호출 QPS 제한(토큰 버킷) 설정. (client-go의 QPS/Burst에 해당)
+     * 일반/메트릭/watch 클라이언트가 하나의 버킷을 공유하며, 토큰을 기다리는 호출은
+     * 상세 조회/삭제 → 목록 조회 → watch 재조회/백그라운드 수집 순으로 처리됩니다.
+     */
+    @Getter
+    @Setter
+    public static class RateLimit {
+
+        /** QPS 제한 사용 여부 */
+        private boolean enabled = true;
+
+        /** 초당 허용 호출 수 (토큰 충전 속도) */
+        @DecimalMin(value = "0.1")
+        private double qps = 50;
+
+        /** 순간적으로 허용하는 최대 호출 수 (버킷 크기) */
+        @Min(1)
+        private int burst = 100;
+
+        /** 토큰을 기다리는 최대 시간. 넘기면 호출을 거절합니다. */
+        @NotNull
+        private Duration maxWait = Duration.ofSeconds(5);
+    }
+
+    /**
+     * 엔드포인트 그룹(목록/상세/스토리지/변경)별 벌크헤드 설정.
+     * 그룹마다 동시 처리 수를 제한하고 초과 요청은 제한된 대기열에서 기다리게 하여,
+     * 여러 번의 목록 조회를 수행하는 무거운 요청이 몰려도 다른 그룹의 요청을 처리할 워커 스레드가 남도록 합니다.
+     * 대기열이 가득 찼거나 maxWait 안에 차례가 오지 않으면 즉시 503과 Retry-After로 응답합니다.
+     */
+    @Getter
+    @Setter
+    public static class Bulkhead {
+
+        /** 벌크헤드 사용 여부 */
+        private boolean enabled = true;
+
+        /** 세션/노드/PVC 목록, 현황 조회 */
+        @Valid
+        @NotNull
+        private Group lists = new Group(32, 64, Duration.ofSeconds(2));
+
+        /** 세션/노드/파드 상세 조회 */
+        @Valid
+        @NotNull
+        private Group details = new Group(16, 32, Duration.ofSeconds(2));
+
+        /** 스토리지(PV/PVC) 현황 조회 및 내보내기 */
+        @Valid
+        @NotNull
+        private Group storage = new Group(4, 8, Duration.ofSeconds(2));
+
+        /** 세션 종료 등 변경 요청 */
+        @Valid
+        @NotNull
+        private Group mutations = new Group(8, 16, Duration.ofSeconds(5));
+
+        /**
+         * 벌크헤드 그룹 하나의 제한 값.
+         */
+        @Getter
+        @Setter
+        public static class Group {
+
+            /** 동시에 처리하는 최대 요청 수 */
+            @Min(1)
+            private int maxConcurrent;
+
+            /** 차례를 기다릴 수 있는 최대 요청 수 (0이면 대기 없이 거절) */
+            @Min(0)
+            private int maxQueued;
+
+            /** 차례를 기다리는 최대 시간 */
+            @NotNull
+            private Duration maxWait;
+
+            public Group() {
+                this(1, 0, Duration.ZERO);
+            }
+
+            public Group(int maxConcurrent, int maxQueued, Duration maxWait) {
+                this.maxConcurrent = maxConcurrent;
+                this.maxQueued = maxQueued;
+                this.maxWait = maxWait;
+            }
+        }
+    }
+
+    /**
+     * 세션 일괄 종료 작업 설정.
+     * 삭제 요청은 초당 deletesPerSecond개 간격으로 시작하고 동시에 concurrency개까지 진행하며,
+     * 삭제가 접수된 파드는 세션 인덱스의 watch로 사라진 것을 확인합니다.
+     */
+    @Getter
+    @Setter
+    public static class BulkTermination {
+
+        /** 동시에 진행하는 최대 삭제 요청 수 */
+        @Min(1)
+        private int concurrency = 8;
+
+        /** 초당 시작하는 최대 삭제 요청 수 */
+        @DecimalMin(value = "0.1")
+        private double deletesPerSecond = 10;
+
+        /** 삭제가 접수된 파드가 사라지기를 기다리는 최대 시간. 넘기면 실패로 표시합니다. */
+        @NotNull
+        private Duration completionTimeout = Duration.ofMinutes(5);
+
+        /** 진행 상황을 조회할 수 있도록 보관하는 최근 작업 수 */
+        @Min(1)
+        private int maxRetainedJobs = 20;
+    }
+
+    /**
+     * 유휴 세션 정리 설정.
+     * scanInterval마다 네임스페이스 단위 메트릭을 한 번씩 조회하여, CPU 사용량이 cpuThresholdMilliCores 미만인 상태가
+     * idleAfter 이상 이어진 Running 세션을 유휴로 판단합니다.
+     * 유휴 세션은 한 번에 maxCullPerScan개까지 세션 일괄 종료 작업(bulkTermination 속도 제한)으로 삭제하며,
+     * dryRun=true이면 삭제하지 않고 로그와 메트릭에만 기록합니다.
+     */
+    @Getter
+    @Setter
+    public static class IdleCulling {
+
+        /** 유휴 세션 정리 사용 여부 */
+        private boolean enabled = false;
+
+        /** 삭제 없이 유휴 판단 결과만 기록 */
+        private boolean dryRun = true;
+
+        /** 이 값 미만의 CPU 사용량(millicores)을 유휴로 판단 */
+        @DecimalMin(value = "0")
+        private double cpuThresholdMilliCores = 10;
+
+        /** 유휴 상태가 이 시간 이상 이어지면 정리 대상 */
+        @NotNull
+        private Duration idleAfter = Duration.ofMinutes(60);
+
+        /** 메트릭 조회 및 유휴 판단 주기 */
+        @NotNull
+        private Duration scanInterval = Duration.ofMinutes(1);
+
+        /** 한 번의 판단에서 삭제하는 최대 세션 수 */
+        @Min(1)
+        private int maxCullPerScan = 20;
+
+        /** 정리에서 제외할 사용자명 */
+        @NotNull
+        private List<String> excludedUsers = new ArrayList<>();
+    }
+
+    /**
+     * 세션 생성 단계별 소요 시간 분석 설정.
+     * 사용자 파드의 조건(PodScheduled/ContainersReady)과 Pulled 이벤트를 watch로 받아
+     * 생성→스케줄링→이미지 준비→컨테이너 준비 단계별 소요 시간을 기록합니다.
+     */
+    @Getter
+    @Setter
+    public static class SpawnLatency {
+
+        /** 단계별 소요 시간 분석 사용 여부 (파드 이벤트 watch를 추가로 사용) */
+        private boolean enabled = true;
+
+        /** 화면용 백분위수 계산에 사용하는 최근 표본 수 (단계 × 노드/이미지별) */
+        @Min(16)
+        private int windowSize = 512;
+    }
+
+    /**
+     * 이미지 풀 비용 추적 설정.
+     * 파드 이벤트(Pulling/Pulled)에서 노드×이미지별 풀 소요 시간과 이미지 크기를 모으고,
+     * 노드 상태의 이미지 목록과 함께 사전 풀(pre-pull)이 필요한 노드/이미지 순위를 계산합니다.
+     */
+    @Getter
+    @Setter
+    public static class ImagePull {
+
+        /** 이미지 풀 비용 추적 사용 여부 */
+        private boolean enabled = true;
+
+        /** 이벤트로 관측한 이미지가 노드에 남아 있다고(warm) 간주하는 시간. 노드 상태 이미지 목록에 있으면 항상 warm */
+        @NotNull
+        private Duration warmTtl = Duration.ofHours(24);
+
+        /** 사전 풀 순위 조회의 기본 최대 항목 수 */
+        @Min(1)
+        private int maxRecommendations = 50;
+    }
+
+    /**
+     * user-placeholder 용량 계획 설정.
+     * 세션 생성 시각으로 요일×시간대(168칸)별 시간당 생성 수를 EWMA로 예측하고,
+     * 노드 확장에 걸리는 leadTime 동안의 예상 생성 수에 안전 여유를 더한 만큼 빈 자리를 확보하도록 placeholder 수를 권장합니다.
+     * autoScale=true이면 planInterval마다 placeholder StatefulSet의 replicas를 권장 값으로 맞춥니다.
+     */
+    @Getter
+    @Setter
+    public static class Placeholders {
+
+        /** 세션 생성 기록 및 권장 값 계산 사용 여부 */
+        private boolean enabled = true;
+
+        /** 권장 값으로 StatefulSet을 자동 조정할지 여부 */
+        private boolean autoScale = false;
+
+        /** placeholder StatefulSet 네임스페이스 (비우면 namespace) */
+        private String namespace;
+
+        /** placeholder StatefulSet 이름 (z2jh 기본값) */
+        @NotBlank
+        private String statefulSetName = "user-placeholder";
+
+        /** 시간대별 EWMA 가중치 (클수록 최근 주에 민감) */
+        @DecimalMin(value = "0.01")
+        @DecimalMax(value = "1.0")
+        private double alpha = 0.3;
+
+        /** 새 노드가 준비되기까지 걸리는 시간. 이 동안의 생성을 빈 자리로 받아야 즉시 생성됩니다. */
+        @NotNull
+        private Duration leadTime = Duration.ofMinutes(10);
+
+        /** 예상 생성 수에 더하는 안전 여유 (표준편차 배수, 포아송 가정) */
+        @DecimalMin(value = "0")
+        private double safetyFactor = 1.65;
+
+        @Min(0)
+        private int minReplicas = 0;
+
+        @Min(0)
+        private int maxReplicas = 20;
+
+        /** 시간대 집계 및 권장 값 계산(자동 조정) 주기 */
+        @NotNull
+        private Duration planInterval = Duration.ofMinutes(5);
+
+        /** 시뮬레이션용으로 보관하는 시간별 생성 기록 기간 */
+        @Min(1)
+        private int historyWeeks = 8;
+    }
+
+    /**
+     * 추가 클러스터 연결 설정. 비워 둔 항목은 기본 클러스터 값을 사용합니다.
+     * apiServerUrl/bearerToken은 상속하지 않으므로 직접 인증 시 클러스터마다 지정해야 합니다.
+     */
+    @Getter
+    @Setter
+    public static class Cluster {
+
+        private Boolean useKubeconfig;
+
+        /** 클러스터 전용 kubeconfig 파일 경로 */
+        private String kubeconfigPath;
+
+        private String apiServerUrl;
+
+        private String bearerToken;
+
+        private Boolean verifySsl;
+
+        /** 클러스터의 JupyterHub 네임스페이스 */
+        private String namespace;
+
+        private List<String> namespaces;
+    }
+
+    /**
+     * 노드별 요청량 집계 설정.
+     * 활성화하면 전체 네임스페이스의 종료되지 않은 파드를 watch하여 사용자/시스템/기타 파드의 요청량을 구분해 합산합니다.
+     * (클러스터 범위 파드 list/watch 권한 필요)
+     */
+    @Getter
+    @Setter
+    public static class NodeAllocation {
+
+        /** 전체 네임스페이스 파드 인덱스 사용 여부 (false이면 사용자 파드 요청량만 합산) */
+        private boolean enabled = true;
+
+        /** 시스템 파드로 분류할 네임스페이스 (JupyterHub 네임스페이스의 사용자 외 파드도 시스템으로 분류) */
+        @NotNull
+        private List<String> systemNamespaces = new ArrayList<>(List.of("kube-system"));
+
+        /** 인덱스에 보관할 최대 파드 수. 초과한 파드는 집계에서 제외하고 경고를 남깁니다. */
+        @Min(1)
+        private int maxPods = 50_000;
+    }
+
+    /**
+     * 쿠버네티스 API 응답 형식.
+     */
+    public enum WireFormat {
+        JSON,
+        PROTOBUF
+    }
 }
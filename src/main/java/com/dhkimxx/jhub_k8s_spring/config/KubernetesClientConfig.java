@@ -3,43 +3,82 @@ package com.dhkimxx.jhub_k8s_spring.config;
 import java.io.FileReader;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.util.StringUtils;
 
+import io.kubernetes.client.ProtoClient;
 import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.apis.AppsV1Api;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.apis.CustomObjectsApi;
 import io.kubernetes.client.openapi.apis.EventsV1Api;
 import io.kubernetes.client.util.ClientBuilder;
 import io.kubernetes.client.util.KubeConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 
 /**
  * 쿠버네티스 클라이언트(ApiClient) 및 API 인스턴스 빈 설정.
  * Kubeconfig 파일 또는 직접 설정을 통해 클라이언트를 초기화합니다.
+ * 일반 API, 메트릭(metrics.k8s.io), watch 요청은 연결 풀과 디스패처가 분리된 별도 클라이언트를 사용하여
+ * 느린 메트릭 조회나 장시간 유지되는 watch 연결이 파드/노드 조회를 지연시키지 않도록 합니다.
+ * 세 클라이언트는 하나의 ApiRateLimiter를 공유하여 API 서버로 보내는 전체 호출량을 제한합니다.
  */
 @Configuration
 @ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
 @EnableConfigurationProperties(JhubK8sProperties.class)
 public class KubernetesClientConfig {
 
+    public static final String METRICS_API_CLIENT = "metricsApiClient";
+    public static final String WATCH_API_CLIENT = "watchApiClient";
+
+    /**
+     * 기본 클러스터의 API 호출 QPS 제한기. 대기 시간/거절 수 메트릭도 함께 등록됩니다.
+     */
+    @Bean
+    public ApiRateLimiter apiRateLimiter(JhubK8sProperties properties) {
+        return new ApiRateLimiter(properties.getClusterName(), properties.getRateLimit());
+    }
+
     /**
      * 기본 Kubernetes ApiClient 빈 생성.
      * 설정에 따라 Kubeconfig 파일 로드 또는 직접 설정을 수행합니다.
      */
     @Bean
-    public ApiClient apiClient(JhubK8sProperties properties) throws IOException {
-        ApiClient client = shouldUseKubeconfig(properties)
-                ? ClientBuilder.kubeconfig(loadKubeConfig(properties)).build()
-                : buildDirectClient(properties);
+    @Primary
+    public ApiClient apiClient(JhubK8sProperties properties, ApiRateLimiter apiRateLimiter) throws IOException {
+        return buildClient(properties, properties.getRequestTimeout(), apiRateLimiter);
+    }
 
-        Duration timeout = properties.getRequestTimeout();
-        client.setConnectTimeout((int) timeout.toMillis());
-        client.setReadTimeout((int) timeout.toMillis());
-        return client;
+    /**
+     * metrics.k8s.io 조회 전용 ApiClient. 읽기 타임아웃으로 metricsTimeout을 사용합니다.
+     */
+    @Bean(name = METRICS_API_CLIENT)
+    public ApiClient metricsApiClient(JhubK8sProperties properties, ApiRateLimiter apiRateLimiter)
+            throws IOException {
+        return buildClient(properties, properties.getMetricsTimeout(), apiRateLimiter);
+    }
+
+    /**
+     * watch 요청 전용 ApiClient. 연결이 장시간 유지되므로 읽기 타임아웃을 두지 않습니다.
+     */
+    @Bean(name = WATCH_API_CLIENT)
+    public ApiClient watchApiClient(JhubK8sProperties properties, ApiRateLimiter apiRateLimiter)
+            throws IOException {
+        return buildClient(properties, Duration.ZERO, apiRateLimiter);
     }
 
     @Bean
@@ -53,17 +92,99 @@ public class KubernetesClientConfig {
     }
 
     @Bean
-    public CustomObjectsApi customObjectsApi(ApiClient apiClient) {
-        return new CustomObjectsApi(apiClient);
+    public AppsV1Api appsV1Api(ApiClient apiClient) {
+        return new AppsV1Api(apiClient);
+    }
+
+    /**
+     * Protobuf 형식 조회용 클라이언트. (jhub.k8s.wire-format=protobuf)
+     */
+    @Bean
+    public ProtoClient protoClient(ApiClient apiClient) {
+        return new ProtoClient(apiClient);
+    }
+
+    @Bean
+    public CustomObjectsApi customObjectsApi(@Qualifier(METRICS_API_CLIENT) ApiClient metricsApiClient) {
+        return new CustomObjectsApi(metricsApiClient);
+    }
+
+    /**
+     * 클라이언트별 연결 풀 및 디스패처 사용량을 메트릭으로 노출합니다.
+     */
+    @Bean
+    public MeterBinder kubernetesTransportMetrics(
+            ApiClient apiClient,
+            @Qualifier(METRICS_API_CLIENT) ApiClient metricsApiClient,
+            @Qualifier(WATCH_API_CLIENT) ApiClient watchApiClient) {
+        return registry -> {
+            bindTransportMetrics(registry, "default", apiClient.getHttpClient());
+            bindTransportMetrics(registry, "metrics", metricsApiClient.getHttpClient());
+            bindTransportMetrics(registry, "watch", watchApiClient.getHttpClient());
+        };
+    }
+
+    /**
+     * 설정으로 ApiClient를 생성합니다. 연결 풀과 디스패처는 클라이언트마다 새로 구성됩니다.
+     * 모든 요청은 rateLimiter의 토큰을 얻은 뒤 전송됩니다.
+     * 추가 클러스터(jhub.k8s.clusters)의 클라이언트 생성에도 사용합니다.
+     */
+    public static ApiClient buildClient(JhubK8sProperties properties, Duration readTimeout,
+            ApiRateLimiter rateLimiter) throws IOException {
+        ApiClient client = shouldUseKubeconfig(properties)
+                ? ClientBuilder.kubeconfig(loadKubeConfig(properties)).build()
+                : buildDirectClient(properties);
+
+        JhubK8sProperties.Transport transport = properties.getTransport();
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(transport.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(transport.getMaxRequestsPerHost());
+
+        // 인증 및 TLS 설정은 유지한 채 연결 풀, 디스패처, 타임아웃만 교체
+        client.setHttpClient(client.getHttpClient().newBuilder()
+                .connectionPool(new ConnectionPool(
+                        transport.getMaxIdleConnections(),
+                        transport.getKeepAlive().toMillis(),
+                        TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                .protocols(transport.isHttp2()
+                        ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                        : List.of(Protocol.HTTP_1_1))
+                .connectTimeout(properties.getRequestTimeout())
+                .readTimeout(readTimeout)
+                .addInterceptor(rateLimiter.interceptor())
+                .build());
+        return client;
+    }
+
+    private static void bindTransportMetrics(MeterRegistry registry, String clientName, OkHttpClient httpClient) {
+        ConnectionPool pool = httpClient.connectionPool();
+        Dispatcher dispatcher = httpClient.dispatcher();
+        Gauge.builder("jhub.k8s.http.connections", pool, ConnectionPool::connectionCount)
+                .description("Open connections in the Kubernetes API client pool")
+                .tags("client", clientName, "state", "total")
+                .register(registry);
+        Gauge.builder("jhub.k8s.http.connections", pool, ConnectionPool::idleConnectionCount)
+                .description("Open connections in the Kubernetes API client pool")
+                .tags("client", clientName, "state", "idle")
+                .register(registry);
+        Gauge.builder("jhub.k8s.http.calls", dispatcher, Dispatcher::runningCallsCount)
+                .description("Asynchronous Kubernetes API calls in the dispatcher")
+                .tags("client", clientName, "state", "running")
+                .register(registry);
+        Gauge.builder("jhub.k8s.http.calls", dispatcher, Dispatcher::queuedCallsCount)
+                .description("Asynchronous Kubernetes API calls in the dispatcher")
+                .tags("client", clientName, "state", "queued")
+                .register(registry);
     }
 
-    private KubeConfig loadKubeConfig(JhubK8sProperties properties) throws IOException {
+    private static KubeConfig loadKubeConfig(JhubK8sProperties properties) throws IOException {
         try (FileReader reader = new FileReader(properties.getKubeconfigPath())) {
             return KubeConfig.loadKubeConfig(reader);
         }
     }
 
-    private ApiClient buildDirectClient(JhubK8sProperties properties) throws IOException {
+    private static ApiClient buildDirectClient(JhubK8sProperties properties) throws IOException {
         if (!StringUtils.hasText(properties.getApiServerUrl())) {
             throw new IllegalStateException("API server URL must be configured when kubeconfig is disabled.");
         }
@@ -81,7 +202,7 @@ public class KubernetesClientConfig {
         return client;
     }
 
-    private boolean shouldUseKubeconfig(JhubK8sProperties properties) {
+    private static boolean shouldUseKubeconfig(JhubK8sProperties properties) {
         if (properties.isUseKubeconfig()) {
             return true;
         }
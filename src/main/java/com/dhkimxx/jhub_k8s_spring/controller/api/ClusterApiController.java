@@ -1,17 +1,41 @@
 package com.dhkimxx.jhub_k8s_spring.controller.api;
 
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.dhkimxx.jhub_k8s_spring.config.ApiRateLimiter;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.CapacitySimulationRequest;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.CapacitySimulationResponse;
 import com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeSummaryResponse;
 import com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterOverviewResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.ImagePullMatrixResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.PlaceholderPlanResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.PlaceholderSimulationResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.PrePullRecommendation;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.SpawnLatencyResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.storage.StorageExportItem;
 import com.dhkimxx.jhub_k8s_spring.dto.storage.StorageOverviewResponse;
+import com.dhkimxx.jhub_k8s_spring.service.CapacitySimulator;
+import com.dhkimxx.jhub_k8s_spring.service.ClusterFederationService;
 import com.dhkimxx.jhub_k8s_spring.service.ClusterService;
+import com.dhkimxx.jhub_k8s_spring.service.ImagePullTracker;
+import com.dhkimxx.jhub_k8s_spring.service.PlaceholderPlanner;
+import com.dhkimxx.jhub_k8s_spring.service.SpawnLatencyTracker;
+import com.dhkimxx.jhub_k8s_spring.util.FieldSelection;
+import com.dhkimxx.jhub_k8s_spring.web.FieldSelectionAdvice;
+import com.dhkimxx.jhub_k8s_spring.web.JsonStreamWriter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,13 +50,75 @@ import lombok.RequiredArgsConstructor;
 public class ClusterApiController {
 
     private final ClusterService clusterService;
+    private final ClusterFederationService clusterFederationService;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final SpawnLatencyTracker spawnLatencyTracker;
+    private final ImagePullTracker imagePullTracker;
+    private final PlaceholderPlanner placeholderPlanner;
+    private final CapacitySimulator capacitySimulator;
 
     /**
      * 클러스터 전체 리소스 현황 및 세션 통계를 조회합니다.
+     * 추가 클러스터(jhub.k8s.clusters)가 있으면 모든 클러스터의 현황을 합산하며,
+     * 클러스터별 현황과 수집 상태(stale 여부)는 clusters 필드로 전달합니다.
      */
     @GetMapping("/overview")
     public ResponseEntity<ClusterOverviewResponse> overview() {
-        return ResponseEntity.ok(clusterService.buildOverview());
+        return ResponseEntity.ok(clusterFederationService.buildFederatedOverview());
+    }
+
+    /**
+     * 세션 생성 단계별(스케줄링, 이미지 준비, 컨테이너 시작) 최근 소요 시간 백분위수를 전체/노드별/이미지별로 조회합니다.
+     */
+    @GetMapping("/spawn-latency")
+    public ResponseEntity<SpawnLatencyResponse> spawnLatency() {
+        return ResponseEntity.ok(spawnLatencyTracker.latency());
+    }
+
+    /**
+     * 세션 노드×세션 이미지의 이미지 풀 이력과 warm/cold 상태 행렬을 조회합니다.
+     */
+    @GetMapping("/image-pulls")
+    public ResponseEntity<ImagePullMatrixResponse> imagePullMatrix() {
+        return ResponseEntity.ok(imagePullTracker.matrix());
+    }
+
+    /**
+     * 이미지가 없는(cold) 노드에 어떤 이미지를 먼저 받아 두어야 하는지 점수 순으로 조회합니다.
+     */
+    @GetMapping("/image-pulls/prepull")
+    public ResponseEntity<List<PrePullRecommendation>> prePullRecommendations(
+            @RequestParam(name = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok(imagePullTracker.recommendPrePulls(limit));
+    }
+
+    /**
+     * 요일×시간대별 세션 생성 예측과 현재 빈 자리로 계산한 user-placeholder 권장 replicas를 조회합니다.
+     */
+    @GetMapping("/placeholders/plan")
+    public ResponseEntity<PlaceholderPlanResponse> placeholderPlan() {
+        return ResponseEntity.ok(placeholderPlanner.plan());
+    }
+
+    /**
+     * 기록된 생성 이력을 재생하여 즉시 생성 비율과 placeholder 유지 비용을 조회합니다.
+     * alpha/safetyFactor를 지정하면 설정값 대신 사용합니다.
+     */
+    @GetMapping("/placeholders/simulation")
+    public ResponseEntity<PlaceholderSimulationResponse> placeholderSimulation(
+            @RequestParam(name = "alpha", required = false) Double alpha,
+            @RequestParam(name = "safetyFactor", required = false) Double safetyFactor) {
+        return ResponseEntity.ok(placeholderPlanner.simulate(alpha, safetyFactor));
+    }
+
+    /**
+     * 가상 파드 묶음을 현재 노드의 빈 자원에 배치해 보고 배치 가능한 수와 노드별 고립 자원을 조회합니다.
+     * 클러스터 상태는 변경하지 않습니다.
+     */
+    @PostMapping("/capacity/simulation")
+    public ResponseEntity<CapacitySimulationResponse> simulateCapacity(
+            @RequestBody CapacitySimulationRequest request) {
+        return ResponseEntity.ok(capacitySimulator.simulate(request));
     }
 
     /**
@@ -48,17 +134,23 @@ public class ClusterApiController {
      */
     @GetMapping("/nodes/{nodeName}")
     public ResponseEntity<com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeDetailResponse> getNodeDetail(
-            @org.springframework.web.bind.annotation.PathVariable("nodeName") String nodeName) {
-        return ResponseEntity.ok(clusterService.fetchNodeDetail(nodeName));
+            @org.springframework.web.bind.annotation.PathVariable("nodeName") String nodeName,
+            @RequestParam(name = FieldSelectionAdvice.FIELDS_PARAM, required = false) String fields) {
+        return ResponseEntity.ok(ApiRateLimiter.callWithLane(ApiRateLimiter.Lane.INTERACTIVE,
+                () -> clusterService.fetchNodeDetail(nodeName, FieldSelection.parse(fields))));
     }
 
     /**
      * 특정 파드의 인프라 상세 정보를 조회합니다.
+     * namespace가 없으면 기본 네임스페이스에서 찾으며, 세션 대상 네임스페이스가 아니면 400으로 응답합니다.
      */
     @GetMapping("/pods/{podName}")
     public ResponseEntity<com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterPodDetailResponse> getPodDetail(
-            @org.springframework.web.bind.annotation.PathVariable("podName") String podName) {
-        return ResponseEntity.ok(clusterService.fetchPodDetail(podName));
+            @org.springframework.web.bind.annotation.PathVariable("podName") String podName,
+            @RequestParam(name = "namespace", required = false) String namespace,
+            @RequestParam(name = FieldSelectionAdvice.FIELDS_PARAM, required = false) String fields) {
+        return ResponseEntity.ok(ApiRateLimiter.callWithLane(ApiRateLimiter.Lane.INTERACTIVE,
+                () -> clusterService.fetchPodDetail(namespace, podName, FieldSelection.parse(fields))));
     }
 
     /**
@@ -68,4 +160,46 @@ public class ClusterApiController {
     public ResponseEntity<StorageOverviewResponse> getStorageOverview() {
         return ResponseEntity.ok(clusterService.fetchStorageOverview());
     }
+
+    /**
+     * 클러스터 스토리지(PV/PVC) 현황을 스트리밍합니다. (stream=true)
+     * PV/PVC를 페이지 단위로 조회하며 즉시 응답에 기록하고, 집계 필드는 목록 뒤에 기록됩니다.
+     * format=ndjson을 함께 지정하면 NDJSON 내보내기가 처리합니다.
+     */
+    @GetMapping(value = "/storage", params = { "stream=true", "format!=ndjson" })
+    public ResponseEntity<StreamingResponseBody> streamStorageOverview(
+            @RequestParam(name = FieldSelectionAdvice.FIELDS_PARAM, required = false) String fields) {
+        StreamingResponseBody body = jsonStreamWriter.object(fields, Set.of("pvList", "pvcList"), out -> {
+            StorageOverviewResponse totals = clusterService.streamStorageOverview(
+                    pv -> out.arrayItem("pvList", pv),
+                    pvc -> out.arrayItem("pvcList", pvc));
+            out.field("totalPvCount", totals.totalPvCount());
+            out.field("boundPvCount", totals.boundPvCount());
+            out.field("availablePvCount", totals.availablePvCount());
+            out.field("totalCapacityBytes", totals.totalCapacityBytes());
+            out.field("boundCapacityBytes", totals.boundCapacityBytes());
+            out.field("totalPvcCount", totals.totalPvcCount());
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * 클러스터 스토리지(PV/PVC) 목록을 NDJSON으로 내보냅니다.
+     * PV 항목을 모두 기록한 뒤 PVC 항목을 기록하며, 각 줄의 kind(pv/pvc)로 종류를 구분합니다.
+     * fields로 필드를 골라도 kind는 항상 기록합니다.
+     */
+    @GetMapping(value = "/storage", params = "format=ndjson")
+    public ResponseEntity<StreamingResponseBody> exportStorage(
+            @RequestParam(name = FieldSelectionAdvice.FIELDS_PARAM, required = false) String fields) {
+        String selected = StringUtils.hasText(fields) ? StorageExportItem.KIND_FIELD + "," + fields : fields;
+        StreamingResponseBody body = jsonStreamWriter.<StorageExportItem>ndjson(selected,
+                sink -> clusterService.streamStorageOverview(
+                        pv -> sink.accept(StorageExportItem.pv(pv)),
+                        pvc -> sink.accept(StorageExportItem.pvc(pvc))));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
 }
@@ -0,0 +1,100 @@
+package com.dhkimxx.jhub_k8s_spring.controller.api;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dhkimxx.jhub_k8s_spring.config.ApiRateLimiter;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeDetailResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeSummaryResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterPodDetailResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterStatusResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.storage.StorageOverviewResponse;
+import com.dhkimxx.jhub_k8s_spring.service.ClusterFederationService;
+import com.dhkimxx.jhub_k8s_spring.service.ClusterService;
+import com.dhkimxx.jhub_k8s_spring.service.ClusterRegistry;
+import com.dhkimxx.jhub_k8s_spring.service.ClusterRegistry.ClusterStack;
+import com.dhkimxx.jhub_k8s_spring.util.FieldSelection;
+import com.dhkimxx.jhub_k8s_spring.web.FieldSelectionAdvice;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 클러스터별 정보 조회 API 컨트롤러.
+ * /api/clusters/{cluster}/... 경로로 기본 클러스터 또는 jhub.k8s.clusters에 등록된 클러스터의 정보를 조회합니다.
+ */
+@RestController
+@RequestMapping("/api/clusters")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ClustersApiController {
+
+    private final ClusterRegistry clusterRegistry;
+    private final ClusterFederationService clusterFederationService;
+
+    /**
+     * 등록된 클러스터 이름 목록을 조회합니다. 기본 클러스터가 첫 번째입니다.
+     */
+    @GetMapping
+    public ResponseEntity<List<String>> listClusters() {
+        return ResponseEntity.ok(clusterRegistry.clusters().stream().map(ClusterStack::name).toList());
+    }
+
+    /**
+     * 특정 클러스터의 현황과 수집 상태를 조회합니다.
+     * 수집이 실패하거나 기한을 넘기면 마지막 수집 결과를 stale로 표시하여 반환합니다.
+     */
+    @GetMapping("/{cluster}/overview")
+    public ResponseEntity<ClusterStatusResponse> overview(@PathVariable("cluster") String cluster) {
+        return ResponseEntity.ok(clusterFederationService.fetchClusterStatus(cluster));
+    }
+
+    /**
+     * 특정 클러스터의 노드 요약 목록을 조회합니다.
+     */
+    @GetMapping("/{cluster}/nodes")
+    public ResponseEntity<List<ClusterNodeSummaryResponse>> listNodes(@PathVariable("cluster") String cluster) {
+        return ResponseEntity.ok(clusterRegistry.get(cluster).clusterService().fetchNodeSummaries());
+    }
+
+    /**
+     * 특정 클러스터의 노드 상세 정보를 조회합니다.
+     */
+    @GetMapping("/{cluster}/nodes/{nodeName}")
+    public ResponseEntity<ClusterNodeDetailResponse> getNodeDetail(
+            @PathVariable("cluster") String cluster,
+            @PathVariable("nodeName") String nodeName,
+            @RequestParam(name = FieldSelectionAdvice.FIELDS_PARAM, required = false) String fields) {
+        ClusterService clusterService = clusterRegistry.get(cluster).clusterService();
+        return ResponseEntity.ok(ApiRateLimiter.callWithLane(ApiRateLimiter.Lane.INTERACTIVE,
+                () -> clusterService.fetchNodeDetail(nodeName, FieldSelection.parse(fields))));
+    }
+
+    /**
+     * 특정 클러스터의 파드 인프라 상세 정보를 조회합니다.
+     */
+    @GetMapping("/{cluster}/pods/{podName}")
+    public ResponseEntity<ClusterPodDetailResponse> getPodDetail(
+            @PathVariable("cluster") String cluster,
+            @PathVariable("podName") String podName,
+            @RequestParam(name = "namespace", required = false) String namespace,
+            @RequestParam(name = FieldSelectionAdvice.FIELDS_PARAM, required = false) String fields) {
+        ClusterService clusterService = clusterRegistry.get(cluster).clusterService();
+        return ResponseEntity.ok(ApiRateLimiter.callWithLane(ApiRateLimiter.Lane.INTERACTIVE,
+                () -> clusterService.fetchPodDetail(namespace, podName, FieldSelection.parse(fields))));
+    }
+
+    /**
+     * 특정 클러스터의 스토리지(PV/PVC) 현황을 조회합니다.
+     */
+    @GetMapping("/{cluster}/storage")
+    public ResponseEntity<StorageOverviewResponse> getStorageOverview(@PathVariable("cluster") String cluster) {
+        return ResponseEntity.ok(clusterRegistry.get(cluster).clusterService().fetchStorageOverview());
+    }
+}
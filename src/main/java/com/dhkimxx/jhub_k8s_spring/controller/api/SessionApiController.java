@@ -1,25 +1,49 @@
 package com.dhkimxx.jhub_k8s_spring.controller.api;
 
+import java.net.URI;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.dhkimxx.jhub_k8s_spring.config.ApiRateLimiter;
+import com.dhkimxx.jhub_k8s_spring.dto.session.BulkTerminationRequest;
+import com.dhkimxx.jhub_k8s_spring.dto.session.BulkTerminationResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.session.IdleSessionResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.session.NamespaceSessionSummary;
 import com.dhkimxx.jhub_k8s_spring.dto.session.SessionDetailResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionPage;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionQuery;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionSortKey;
 import com.dhkimxx.jhub_k8s_spring.dto.session.SessionSummaryResponse;
+import com.dhkimxx.jhub_k8s_spring.exception.BadRequestException;
+import com.dhkimxx.jhub_k8s_spring.service.IdleSessionCuller;
 import com.dhkimxx.jhub_k8s_spring.service.SessionService;
+import com.dhkimxx.jhub_k8s_spring.service.SessionTerminationService;
+import com.dhkimxx.jhub_k8s_spring.web.FieldSelectionAdvice;
+import com.dhkimxx.jhub_k8s_spring.web.JsonStreamWriter;
 
 import lombok.RequiredArgsConstructor;
 
 /**
  * 사용자 세션(파드) 관리 API 컨트롤러.
- * 세션 목록 조회, 상세 조회 및 강제 종료 API를 제공합니다.
+ * 세션 목록 조회, 상세 조회, 강제 종료 및 일괄 종료 API를 제공합니다.
+ * 고정 경로(/search, /details, /namespaces, /idle)는 사용자명 경로(/{username})보다 먼저 매핑됩니다.
  */
 @RestController
 @RequestMapping("/api/sessions")
@@ -27,31 +51,201 @@ import lombok.RequiredArgsConstructor;
 @ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
 public class SessionApiController {
 
+    /** 필터 조건을 만족하는 전체 세션 수를 담는 응답 헤더 */
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int MAX_BATCH_USERS = 100;
+    /** 라벨 셀렉터에 사용할 수 있는 라벨 값 형식 */
+    private static final Pattern LABEL_VALUE_PATTERN = Pattern.compile(
+            "[A-Za-z0-9]([-A-Za-z0-9_.]{0,61}[A-Za-z0-9])?");
+
     private final SessionService sessionService;
+    private final SessionTerminationService sessionTerminationService;
+    private final IdleSessionCuller idleSessionCuller;
+    private final JsonStreamWriter jsonStreamWriter;
 
     /**
-     * 현재 활성화된 모든 사용자 세션 목록을 조회합니다.
+     * 사용자 세션 목록을 조회합니다.
+     * page/size가 없으면 전체 목록을, 있으면 해당 페이지만 반환하며 전체 건수는 X-Total-Count 헤더로 전달합니다.
+     * sort는 "필드[,asc|desc]" 형식이며 username, cpu, memory, restarts, startTime, node를 지원합니다.
+     * namespace를 지정하면 해당 JupyterHub 네임스페이스의 세션만 조회합니다.
      */
     @GetMapping
-    public ResponseEntity<List<SessionSummaryResponse>> listSessions() {
-        return ResponseEntity.ok(sessionService.fetchAllSessions());
+    public ResponseEntity<List<SessionSummaryResponse>> listSessions(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "username") String sort,
+            @RequestParam(required = false) String namespace,
+            @RequestParam(required = false) String phase,
+            @RequestParam(required = false) String node,
+            @RequestParam(required = false) Boolean ready,
+            @RequestParam(required = false) String username) {
+        SessionQuery query = toQuery(page, size, sort, namespace, phase, node, ready, username);
+        SessionPage result = sessionService.fetchSessionPage(query);
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(result.totalCount()))
+                .body(result.items());
+    }
+
+    /**
+     * 세션 목록을 JSON 배열로 스트리밍합니다. (stream=true)
+     * 파드를 페이지 단위로 조회하며 즉시 응답에 기록하므로 요청당 메모리 사용량이 일정합니다.
+     * 정렬되지 않은(API 서버 반환) 순서로 기록됩니다. format=ndjson을 함께 지정하면 NDJSON 내보내기가 처리합니다.
+     */
+    @GetMapping(params = { "stream=true", "format!=ndjson" })
+    public ResponseEntity<StreamingResponseBody> streamSessions(
+            @RequestParam(name = FieldSelectionAdvice.FIELDS_PARAM, required = false) String fields) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonStreamWriter.array(fields, sessionService::streamAllSessions));
+    }
+
+    /**
+     * 세션 목록을 NDJSON(한 줄에 세션 하나)으로 내보냅니다.
+     * 내보내기 및 대량 분석 클라이언트용이며 stream=true와 동일하게 스트리밍됩니다.
+     */
+    @GetMapping(params = "format=ndjson")
+    public ResponseEntity<StreamingResponseBody> exportSessions(
+            @RequestParam(name = FieldSelectionAdvice.FIELDS_PARAM, required = false) String fields) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(jsonStreamWriter.ndjson(fields, sessionService::streamAllSessions));
+    }
+
+    /**
+     * 사용자명 또는 파드명 접두사로 세션을 검색합니다. (자동완성용, 대소문자 구분 없음)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<SessionSummaryResponse>> searchSessions(
+            @RequestParam(name = "q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (query.isBlank()) {
+            throw new BadRequestException("q must not be blank");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        return ResponseEntity.ok(sessionService.searchSessions(query.trim(), limit));
+    }
+
+    /**
+     * 여러 사용자의 세션 상세 정보를 일괄 조회합니다. (users=a,b,hub-a/c)
+     * 각 항목은 사용자명 또는 "네임스페이스/사용자명"이며, 요청한 항목을 키로 하는 맵을 반환합니다.
+     * 세션이 없는 항목은 결과에서 제외되며, 네임스페이스 없이 지정한 사용자의 세션이 여러 네임스페이스에 있으면 409를 반환합니다.
+     */
+    @GetMapping("/details")
+    public ResponseEntity<Map<String, SessionDetailResponse>> getSessionDetails(
+            @RequestParam(name = "users") List<String> users) {
+        Set<String> usernames = new LinkedHashSet<>();
+        users.stream()
+                .map(String::trim)
+                .filter(username -> !username.isEmpty())
+                .forEach(usernames::add);
+        if (usernames.isEmpty()) {
+            throw new BadRequestException("users must not be empty");
+        }
+        if (usernames.size() > MAX_BATCH_USERS) {
+            throw new BadRequestException("users must contain at most " + MAX_BATCH_USERS + " entries");
+        }
+        usernames.stream()
+                .filter(key -> !LABEL_VALUE_PATTERN.matcher(key.substring(key.indexOf('/') + 1)).matches())
+                .findFirst()
+                .ifPresent(username -> {
+                    throw new BadRequestException("Invalid username: " + username);
+                });
+        return ResponseEntity.ok(sessionService.fetchSessionDetails(usernames));
+    }
+
+    /**
+     * 네임스페이스(JupyterHub)별 세션 수와 요청 리소스 합계를 조회합니다.
+     */
+    @GetMapping("/namespaces")
+    public ResponseEntity<List<NamespaceSessionSummary>> getNamespaceSummaries() {
+        return ResponseEntity.ok(sessionService.fetchNamespaceSummaries());
+    }
+
+    /**
+     * 유휴 세션 정리기가 현재 유휴로 판단한 세션 목록을 조회합니다. (유휴 시간이 긴 순)
+     * 정리 기능이 꺼져 있으면 빈 목록을 반환합니다.
+     */
+    @GetMapping("/idle")
+    public ResponseEntity<List<IdleSessionResponse>> listIdleSessions() {
+        return ResponseEntity.ok(idleSessionCuller.idleSessions());
     }
 
     /**
      * 특정 사용자의 세션 상세 정보를 조회합니다.
+     * 같은 사용자의 세션이 여러 네임스페이스에 있으면 namespace를 지정해야 하며, 없으면 409 Conflict를 반환합니다.
      */
     @GetMapping("/{username}")
-    public ResponseEntity<SessionDetailResponse> getSessionDetail(@PathVariable String username) {
-        return ResponseEntity.ok(sessionService.fetchSessionDetail(username));
+    public ResponseEntity<SessionDetailResponse> getSessionDetail(@PathVariable String username,
+            @RequestParam(required = false) String namespace) {
+        return ResponseEntity.ok(ApiRateLimiter.callWithLane(ApiRateLimiter.Lane.INTERACTIVE,
+                () -> sessionService.fetchSessionDetail(username, blankToNull(namespace))));
     }
 
     /**
      * 특정 세션(파드)을 별도 스레드에서 비동기로 종료합니다.
-     * 종료 요청이 접수되면 202 Accepted를 반환합니다.
+     * 종료 요청이 접수되면 202 Accepted를 반환합니다. namespace가 없으면 기본 네임스페이스의 파드를 종료합니다.
      */
     @DeleteMapping("/{podName}")
-    public ResponseEntity<Void> terminate(@PathVariable String podName) {
-        sessionService.terminateSession(podName);
+    public ResponseEntity<Void> terminate(@PathVariable String podName,
+            @RequestParam(required = false) String namespace) {
+        sessionService.terminateSession(blankToNull(namespace), podName);
         return ResponseEntity.status(HttpStatus.ACCEPTED).build();
     }
+
+    /**
+     * 지정한 파드 목록 또는 셀렉터(namespace, nodeName, phase, minAge)에 해당하는 세션을 일괄 종료하는 작업을 시작합니다.
+     * 202 Accepted와 함께 작업 ID를 반환하며, 진행 상황은 Location 헤더의 경로로 조회합니다.
+     */
+    @PostMapping("/terminations")
+    public ResponseEntity<BulkTerminationResponse> terminateSessions(@RequestBody BulkTerminationRequest request) {
+        BulkTerminationResponse job = sessionTerminationService.submit(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/sessions/terminations/" + job.jobId()))
+                .body(job);
+    }
+
+    /**
+     * 일괄 종료 작업의 파드별 진행 상황을 조회합니다.
+     */
+    @GetMapping("/terminations/{jobId}")
+    public ResponseEntity<BulkTerminationResponse> getTerminationJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(sessionTerminationService.fetchJob(jobId));
+    }
+
+    private SessionQuery toQuery(Integer page, Integer size, String sort, String namespace, String phase, String node,
+            Boolean ready, String username) {
+        if (page != null && page < 0) {
+            throw new BadRequestException("page must be greater than or equal to 0");
+        }
+        if (size != null && (size < 1 || size > MAX_PAGE_SIZE)) {
+            throw new BadRequestException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        String[] sortParts = sort.split(",", 2);
+        SessionSortKey sortKey = SessionSortKey.fromParam(sortParts[0].trim());
+        if (sortKey == null) {
+            throw new BadRequestException("Unsupported sort field: " + sortParts[0]);
+        }
+        boolean descending = sortParts.length > 1 && "desc".equalsIgnoreCase(sortParts[1].trim());
+
+        return new SessionQuery(
+                blankToNull(namespace),
+                blankToNull(phase),
+                blankToNull(node),
+                ready,
+                blankToNull(username),
+                sortKey,
+                descending,
+                size != null && page != null ? page : 0,
+                size != null ? size : Integer.MAX_VALUE);
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
 }
@@ -28,8 +28,11 @@ public class ClusterViewController {
     /** 파드 인프라 상세 페이지 렌더링 */
     @GetMapping("/cluster/pods/{podName}")
     public String podDetailPage(@org.springframework.web.bind.annotation.PathVariable("podName") String podName,
+            @org.springframework.web.bind.annotation.RequestParam(name = "namespace", required = false)
+            String namespace,
             org.springframework.ui.Model model) {
         model.addAttribute("podName", podName);
+        model.addAttribute("podNamespace", namespace);
         return "cluster/pod_detail";
     }
 }
@@ -0,0 +1,12 @@
+package com.dhkimxx.jhub_k8s_spring.dto.cluster;
+
+import java.util.List;
+
+/**
+ * 용량 시뮬레이션 요청 DTO.
+ * profiles는 지정한 순서대로 배치하며, strategy가 없으면 BEST_FIT을 사용합니다.
+ */
+public record CapacitySimulationRequest(
+        List<PodProfile> profiles,
+        PackingStrategy strategy) {
+}
@@ -0,0 +1,26 @@
+package com.dhkimxx.jhub_k8s_spring.dto.cluster;
+
+import java.util.List;
+
+/**
+ * 용량 시뮬레이션 결과 DTO.
+ *
+ * @param nodeCount             시뮬레이션에 사용한 준비(Ready) 노드 수
+ * @param clusterWideRequests   노드 요청량이 모든 파드 기준인지 여부 (false이면 사용자 파드만 반영되어 빈 자원이 과대 추정됨)
+ * @param strandedCpuMilliCores 배치 후 전체 노드의 고립 CPU 합계
+ * @param strandedMemoryBytes   배치 후 전체 노드의 고립 메모리 합계
+ * @param elapsedMillis         배치 계산에 걸린 시간 (노드 조회 제외)
+ */
+public record CapacitySimulationResponse(
+        PackingStrategy strategy,
+        int nodeCount,
+        boolean clusterWideRequests,
+        long requestedPods,
+        long placedPods,
+        long unplacedPods,
+        List<ProfilePlacement> profiles,
+        double strandedCpuMilliCores,
+        double strandedMemoryBytes,
+        List<NodePlacement> nodes,
+        double elapsedMillis) {
+}
@@ -50,6 +50,12 @@ public record ClusterNodeDetailResponse(
         double requestedEphemeralStorageBytes,
         double ephemeralStorageUsagePercent,
 
+        // Requests by pod category (user / system / other)
+        RequestBreakdown cpuRequestBreakdown,
+        RequestBreakdown memoryRequestBreakdown,
+        RequestBreakdown ephemeralStorageRequestBreakdown,
+        boolean clusterWideRequests, // false: 사용자 파드 요청량만 집계됨
+
         // Pods
         List<NodePodSummaryResponse> pods) {
 
@@ -3,6 +3,8 @@ package com.dhkimxx.jhub_k8s_spring.dto.cluster;
 /**
  * 클러스터 노드 요약 정보 DTO.
  * 노드별 리소스 할당량, 요청량 및 파드 수 정보를 담습니다.
+ * 요청량(requested*)은 clusterWideRequests가 true이면 노드의 모든 종료되지 않은 파드,
+ * false이면 사용자 파드만 합산한 값입니다.
  */
 public record ClusterNodeSummaryResponse(
                 String nodeName,
@@ -22,5 +24,9 @@ public record ClusterNodeSummaryResponse(
                 double allocatableEphemeralStorageBytes,
                 double requestedEphemeralStorageBytes,
                 double ephemeralStorageUsagePercent,
-                int runningPodCount) {
+                int runningPodCount,
+                RequestBreakdown cpuRequestBreakdown,
+                RequestBreakdown memoryRequestBreakdown,
+                RequestBreakdown ephemeralStorageRequestBreakdown,
+                boolean clusterWideRequests) {
 }
@@ -1,8 +1,12 @@
 package com.dhkimxx.jhub_k8s_spring.dto.cluster;
 
+import java.util.List;
+
 /**
  * 클러스터 전체 현황 요약 DTO.
  * 대시보드 상단에 표시될 합계 데이터(노드 수, 세션 수, 전체 리소스 등)를 담습니다.
+ * 여러 클러스터의 통합 현황이면 clusters에 클러스터별 현황과 수집 상태가 담기고, 단일 클러스터 현황이면 비어 있습니다.
+ * 일부 클러스터나 조회 작업이 이전 결과로 대체되었으면 staleness에 그 내용이 담깁니다. (최신이면 null)
  */
 public record ClusterOverviewResponse(
         int totalNodes,
@@ -20,5 +24,16 @@ public record ClusterOverviewResponse(
         double totalEphemeralStorageCapacityBytes,
         double totalEphemeralStorageAllocatableBytes,
         double totalEphemeralStorageRequestedBytes,
-        double ephemeralStorageUsagePercent) {
+        double ephemeralStorageUsagePercent,
+        List<ClusterStatusResponse> clusters,
+        DataStaleness staleness) implements DataStaleness.Holder<ClusterOverviewResponse> {
+
+    @Override
+    public ClusterOverviewResponse withStaleness(DataStaleness staleness) {
+        return new ClusterOverviewResponse(totalNodes, readyNodes, totalSessions, runningSessions,
+                totalCpuCapacityMilliCores, totalCpuAllocatableMilliCores, totalCpuRequestedMilliCores,
+                cpuUsagePercent, totalMemoryCapacityBytes, totalMemoryAllocatableBytes, totalMemoryRequestedBytes,
+                memoryUsagePercent, totalEphemeralStorageCapacityBytes, totalEphemeralStorageAllocatableBytes,
+                totalEphemeralStorageRequestedBytes, ephemeralStorageUsagePercent, clusters, staleness);
+    }
 }
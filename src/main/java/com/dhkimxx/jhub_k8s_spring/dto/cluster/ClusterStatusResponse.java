@@ -0,0 +1,15 @@
+package com.dhkimxx.jhub_k8s_spring.dto.cluster;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 통합 현황에 포함된 클러스터 하나의 현황 및 수집 상태 DTO.
+ * 수집이 실패하거나 기한을 넘기면 stale=true이며, overview는 마지막으로 수집에 성공한 값(없으면 null)입니다.
+ */
+public record ClusterStatusResponse(
+        String name,
+        boolean stale,
+        OffsetDateTime collectedAt,
+        String error,
+        ClusterOverviewResponse overview) {
+}
@@ -0,0 +1,43 @@
+package com.dhkimxx.jhub_k8s_spring.dto.cluster;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 이전 조회 결과(stale)로 응답한 경우 응답 본문에 함께 담는 stale 정보.
+ * 최신 결과로만 만든 응답이면 이 값 대신 null이 담깁니다.
+ *
+ * @param sources         이전 결과로 대신한 조회 작업 또는 클러스터 이름 (정렬됨)
+ * @param oldestFetchedAt 그중 가장 오래된 결과의 조회 시각 (알 수 없으면 null)
+ */
+public record DataStaleness(
+        List<String> sources,
+        OffsetDateTime oldestFetchedAt) {
+
+    /**
+     * 두 stale 정보를 합칩니다. 어느 한쪽이 null이면 다른 쪽을 반환합니다.
+     */
+    public static DataStaleness merge(DataStaleness first, DataStaleness second) {
+        if (first == null || second == null) {
+            return first != null ? first : second;
+        }
+        TreeSet<String> sources = new TreeSet<>(first.sources());
+        sources.addAll(second.sources());
+        OffsetDateTime oldest = first.oldestFetchedAt();
+        if (oldest == null || second.oldestFetchedAt() != null && second.oldestFetchedAt().isBefore(oldest)) {
+            oldest = second.oldestFetchedAt();
+        }
+        return new DataStaleness(List.copyOf(sources), oldest);
+    }
+
+    /**
+     * staleness 필드를 가진 응답 DTO. StaleResponseAdvice가 요청 중 기록된 stale 정보를 본문에 채웁니다.
+     */
+    public interface Holder<T> {
+
+        DataStaleness staleness();
+
+        T withStaleness(DataStaleness staleness);
+    }
+}
@@ -0,0 +1,28 @@
+package com.dhkimxx.jhub_k8s_spring.dto.cluster;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 노드×이미지 행렬의 칸 하나. 해당 노드에서의 이미지 풀 이력과 현재 warm/cold 상태를 나타냅니다.
+ *
+ * @param warm             노드 상태 이미지 목록에 있거나 warmTtl 안에 풀/재사용이 관측되었으면 true
+ * @param inNodeStatus     노드 상태(status.images)의 이미지 목록에 있는지 여부
+ * @param coldPulls        실제로 이미지를 받은 횟수
+ * @param warmHits         이미 노드에 있어 받지 않은 횟수 ("already present on machine")
+ * @param avgPullSeconds   실제 풀 평균 소요 시간 (없으면 null)
+ * @param maxPullSeconds   실제 풀 최대 소요 시간 (없으면 null)
+ * @param imageSizeBytes   이미지 크기 (이벤트 또는 노드 상태에서 확인, 모르면 0)
+ * @param lastObservedAt   마지막으로 풀/재사용이 관측된 시각 (없으면 null)
+ */
+public record ImagePullCell(
+        String node,
+        String image,
+        boolean warm,
+        boolean inNodeStatus,
+        long coldPulls,
+        long warmHits,
+        Double avgPullSeconds,
+        Double maxPullSeconds,
+        long imageSizeBytes,
+        OffsetDateTime lastObservedAt) {
+}
@@ -0,0 +1,13 @@
+package com.dhkimxx.jhub_k8s_spring.dto.cluster;
+
+import java.util.List;
+
+/**
+ * 노드×이미지 이미지 풀 행렬 DTO.
+ * 세션 이미지(현재 세션 또는 풀 이력이 있는 이미지)와 세션을 실행하는 노드의 조합마다 칸 하나를 담습니다.
+ */
+public record ImagePullMatrixResponse(
+        List<String> nodes,
+        List<String> images,
+        List<ImagePullCell> cells) {
+}
@@ -0,0 +1,15 @@
+package com.dhkimxx.jhub_k8s_spring.dto.cluster;
+
+/**
+ * 노드별 배치 결과 DTO.
+ * 남는 자원(free*)은 현재 요청량과 배치한 가상 파드를 뺀 값이며,
+ * 고립 자원(stranded*)은 그중 가장 작은 프로필 크기(CPU/메모리 각각의 최솟값) 단위로 더 채울 수 없는 나머지입니다.
+ */
+public record NodePlacement(
+        String nodeName,
+        int placedPods,
+        double freeCpuMilliCores,
+        double freeMemoryBytes,
+        double strandedCpuMilliCores,
+        double strandedMemoryBytes) {
+}
@@ -0,0 +1,11 @@
+package com.dhkimxx.jhub_k8s_spring.dto.cluster;
+
+/**
+ * 용량 시뮬레이션에서 가상 파드를 노드에 배치하는 방식.
+ */
+public enum PackingStrategy {
+    /** 노드 이름 순으로 처음 들어가는 노드에 배치 */
+    FIRST_FIT,
+    /** 배치 후 남는 자원 비율(CPU/메모리 평균)이 가장 작은 노드에 배치 */
+    BEST_FIT
+}
@@ -0,0 +1,32 @@
+package com.dhkimxx.jhub_k8s_spring.dto.cluster;
+
+import java.time.OffsetDateTime;
+
+/**
+ * user-placeholder 권장 값 DTO.
+ *
+ * @param hourOfWeek            현재 요일×시간대 칸 (월요일 0시 = 0, 일요일 23시 = 167)
+ * @param forecastSpawnsPerHour 현재/다음 시간대 EWMA 중 큰 값 (시간당 예상 생성 수)
+ * @param expectedSpawns        leadTime 동안의 예상 생성 수
+ * @param requiredHeadroom      안전 여유를 더해 확보해야 하는 빈 자리 수
+ * @param freeSlots             세션 노드에 지금 남아 있는 빈 자리 수 (세션 크기 기준, placeholder 자리 제외)
+ * @param sessionCpuMilliCores  빈 자리 계산에 사용한 세션 하나의 CPU 요청량 (현재 세션 중앙값)
+ * @param sessionMemoryBytes    빈 자리 계산에 사용한 세션 하나의 메모리 요청량 (현재 세션 중앙값)
+ * @param currentReplicas       placeholder StatefulSet의 현재 replicas (없으면 null)
+ * @param recommendedReplicas   권장 replicas (requiredHeadroom - freeSlots, min/max 범위)
+ * @param recordedHours         예측에 반영된 시간 수
+ */
+public record PlaceholderPlanResponse(
+        OffsetDateTime plannedAt,
+        int hourOfWeek,
+        double forecastSpawnsPerHour,
+        double expectedSpawns,
+        int requiredHeadroom,
+        int freeSlots,
+        double sessionCpuMilliCores,
+        double sessionMemoryBytes,
+        Integer currentReplicas,
+        int recommendedReplicas,
+        boolean autoScale,
+        long recordedHours) {
+}
@@ -0,0 +1,32 @@
+package com.dhkimxx.jhub_k8s_spring.dto.cluster;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 기록된 시간별 생성 수를 처음부터 재생하여 권장 방식을 검증한 결과 DTO.
+ * 각 시간은 그 시간을 보기 전의 예측으로 placeholder 수를 정하고, placeholder가 leadTime마다 다시 채워진다고 보아
+ * 시간당 받을 수 있는 생성 수를 넘는 생성을 대기 생성으로 셉니다. (노드의 다른 빈 자리는 고려하지 않는 보수적 추정)
+ *
+ * @param from               재생한 첫 시간
+ * @param to                 재생한 마지막 시간
+ * @param hours              재생한 시간 수
+ * @param spawns             전체 생성 수
+ * @param instantSpawns      placeholder 자리로 즉시 생성되었을 것으로 보는 수
+ * @param waitedSpawns       노드 확장을 기다렸을 것으로 보는 수
+ * @param instantRatio       instantSpawns / spawns (생성이 없으면 1)
+ * @param placeholderHours   placeholder 유지 비용 (replicas × 시간 합계)
+ * @param averageReplicas    시간당 평균 replicas
+ */
+public record PlaceholderSimulationResponse(
+        OffsetDateTime from,
+        OffsetDateTime to,
+        int hours,
+        long spawns,
+        long instantSpawns,
+        long waitedSpawns,
+        double instantRatio,
+        long placeholderHours,
+        double averageReplicas,
+        double alpha,
+        double safetyFactor) {
+}
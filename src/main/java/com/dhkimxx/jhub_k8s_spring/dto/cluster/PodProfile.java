@@ -0,0 +1,16 @@
+package com.dhkimxx.jhub_k8s_spring.dto.cluster;
+
+/**
+ * 용량 시뮬레이션에 배치할 가상 파드 묶음.
+ *
+ * @param name   결과에 표시할 이름 (없으면 "cpu/memory")
+ * @param cpu    파드 하나의 CPU 요청량 (쿠버네티스 수량 문자열, 예: "4", "500m")
+ * @param memory 파드 하나의 메모리 요청량 (쿠버네티스 수량 문자열, 예: "16Gi")
+ * @param count  배치할 파드 수
+ */
+public record PodProfile(
+        String name,
+        String cpu,
+        String memory,
+        int count) {
+}
@@ -0,0 +1,20 @@
+package com.dhkimxx.jhub_k8s_spring.dto.cluster;
+
+/**
+ * 사전 풀(pre-pull) 권장 항목. score가 높을수록 먼저 받아 두는 것이 효과적입니다.
+ *
+ * @param activeSessions      현재 이 이미지를 사용하는 세션 수
+ * @param coldPulls           전체 노드에서 이 이미지를 실제로 받은 횟수
+ * @param expectedPullSeconds 전체 노드의 실제 풀 평균 소요 시간 (관측되지 않았으면 null)
+ * @param imageSizeBytes      이미지 크기 (모르면 0)
+ * @param score               (세션 수 + 실제 풀 횟수) × 예상 풀 시간(관측되지 않았으면 1초)
+ */
+public record PrePullRecommendation(
+        String node,
+        String image,
+        int activeSessions,
+        long coldPulls,
+        Double expectedPullSeconds,
+        long imageSizeBytes,
+        double score) {
+}
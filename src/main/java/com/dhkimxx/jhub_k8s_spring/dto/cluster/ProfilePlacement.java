@@ -0,0 +1,12 @@
+package com.dhkimxx.jhub_k8s_spring.dto.cluster;
+
+/**
+ * 가상 파드 묶음별 배치 결과 DTO.
+ */
+public record ProfilePlacement(
+        String name,
+        double cpuMilliCores,
+        double memoryBytes,
+        int requested,
+        int placed) {
+}
@@ -0,0 +1,20 @@
+package com.dhkimxx.jhub_k8s_spring.dto.cluster;
+
+/**
+ * 노드에 배치된 파드의 리소스 요청량을 파드 분류별로 나눈 값.
+ *
+ * @param user   JupyterHub 사용자 파드 요청량
+ * @param system 시스템 네임스페이스 및 JupyterHub 구성 요소(hub, proxy 등) 파드 요청량
+ * @param other  그 외 네임스페이스 파드 요청량
+ */
+public record RequestBreakdown(
+        double user,
+        double system,
+        double other) {
+
+    public static final RequestBreakdown EMPTY = new RequestBreakdown(0, 0, 0);
+
+    public double total() {
+        return user + system + other;
+    }
+}
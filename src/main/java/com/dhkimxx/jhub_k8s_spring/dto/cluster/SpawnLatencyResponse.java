@@ -0,0 +1,21 @@
+package com.dhkimxx.jhub_k8s_spring.dto.cluster;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 세션 생성 단계별 소요 시간 분석 결과 DTO.
+ *
+ * @param since          분석을 시작한 시각 (이후 준비 완료된 세션만 기록)
+ * @param recordedSpawns 기록한 세션 생성 수
+ * @param overall        단계별 전체 백분위수
+ * @param byNode         노드별 단계 백분위수 (노드 이름, 단계 순)
+ * @param byImage        이미지별 단계 백분위수 (이미지, 단계 순)
+ */
+public record SpawnLatencyResponse(
+        OffsetDateTime since,
+        long recordedSpawns,
+        List<SpawnPhaseLatency> overall,
+        List<SpawnPhaseLatency> byNode,
+        List<SpawnPhaseLatency> byImage) {
+}
@@ -0,0 +1,18 @@
+package com.dhkimxx.jhub_k8s_spring.dto.cluster;
+
+/**
+ * 세션 생성 단계 하나의 최근 소요 시간 백분위수 DTO.
+ *
+ * @param phase 단계 (scheduling: 생성→스케줄링, image_pull: 스케줄링→이미지 준비,
+ *              startup: 이미지 준비→컨테이너 준비, total: 생성→컨테이너 준비)
+ * @param key   분류 기준 값 (노드 이름 또는 이미지, 전체 집계이면 null)
+ * @param count 백분위수 계산에 사용한 최근 표본 수
+ */
+public record SpawnPhaseLatency(
+        String phase,
+        String key,
+        int count,
+        double p50Seconds,
+        double p95Seconds,
+        double p99Seconds) {
+}
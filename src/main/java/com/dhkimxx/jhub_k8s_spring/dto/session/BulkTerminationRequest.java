@@ -0,0 +1,24 @@
+package com.dhkimxx.jhub_k8s_spring.dto.session;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 세션 일괄 종료 요청 DTO.
+ * pods로 지정한 파드와 셀렉터(namespace, nodeName, phase, minAge)를 모두 만족하는 세션을 종료 대상으로 합니다.
+ * 셀렉터 값이 null이면 해당 조건은 적용하지 않으며, 셀렉터 조건이 하나도 없으면 pods만 종료합니다.
+ */
+public record BulkTerminationRequest(
+        List<PodReference> pods,
+        String namespace,
+        String nodeName,
+        String phase,
+        Duration minAge) {
+
+    /**
+     * 셀렉터 조건이 하나라도 있는지 여부.
+     */
+    public boolean hasSelector() {
+        return namespace != null || nodeName != null || phase != null || minAge != null;
+    }
+}
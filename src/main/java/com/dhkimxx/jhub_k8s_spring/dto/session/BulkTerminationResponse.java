@@ -0,0 +1,22 @@
+package com.dhkimxx.jhub_k8s_spring.dto.session;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 세션 일괄 종료 작업의 진행 상황 DTO.
+ * 상태별 파드 수와 파드별 진행 상황을 담으며, 모든 파드가 TERMINATED 또는 FAILED가 되면 completed가 true입니다.
+ */
+public record BulkTerminationResponse(
+        String jobId,
+        boolean completed,
+        OffsetDateTime createdAt,
+        OffsetDateTime completedAt,
+        int total,
+        int pending,
+        int deleting,
+        int awaitingRemoval,
+        int terminated,
+        int failed,
+        List<PodTerminationStatus> pods) {
+}
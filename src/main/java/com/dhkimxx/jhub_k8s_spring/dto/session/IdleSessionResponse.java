@@ -0,0 +1,19 @@
+package com.dhkimxx.jhub_k8s_spring.dto.session;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 유휴 세션 정보 DTO.
+ * 마지막으로 임계값 이상의 CPU 사용이 관측된 시각(idleSince)과 정리 시 회수되는 요청 리소스를 담습니다.
+ * culled는 정리 대상으로 처리되었는지(dry-run이면 기록만) 여부입니다.
+ */
+public record IdleSessionResponse(
+        String username,
+        String namespace,
+        String podName,
+        OffsetDateTime idleSince,
+        double lastCpuMilliCores,
+        double requestedCpuMilliCores,
+        double requestedMemoryBytes,
+        boolean culled) {
+}
@@ -0,0 +1,13 @@
+package com.dhkimxx.jhub_k8s_spring.dto.session;
+
+/**
+ * 네임스페이스(JupyterHub)별 세션 집계 DTO.
+ */
+public record NamespaceSessionSummary(
+        String namespace,
+        int totalSessions,
+        int runningSessions,
+        int readySessions,
+        double requestedCpuMilliCores,
+        double requestedMemoryBytes) {
+}
@@ -0,0 +1,9 @@
+package com.dhkimxx.jhub_k8s_spring.dto.session;
+
+/**
+ * 네임스페이스와 이름으로 지정한 파드. namespace가 없으면 기본 네임스페이스를 사용합니다.
+ */
+public record PodReference(
+        String namespace,
+        String podName) {
+}
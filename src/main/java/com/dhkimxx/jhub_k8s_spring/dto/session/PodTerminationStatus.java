@@ -0,0 +1,14 @@
+package com.dhkimxx.jhub_k8s_spring.dto.session;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 일괄 종료 작업에서 파드 하나의 진행 상황 DTO.
+ */
+public record PodTerminationStatus(
+        String namespace,
+        String podName,
+        TerminationState state,
+        String error,
+        OffsetDateTime updatedAt) {
+}
@@ -4,10 +4,14 @@ import java.util.List;
 
 /**
  * 사용자 세션 상세 정보 DTO.
+ * 메트릭/이벤트/스토리지 중 일부 조회가 실패하거나 기한을 넘기면 degraded=true와 함께
+ * 실패한 항목(failedSources)을 제외한 부분 응답을 담습니다.
  */
 public record SessionDetailResponse(
                 SessionMetadata metadata,
                 SessionStatus status,
                 SessionResourceUsage resources,
-                List<KubernetesEventResponse> events) {
+                List<KubernetesEventResponse> events,
+                boolean degraded,
+                List<String> failedSources) {
 }
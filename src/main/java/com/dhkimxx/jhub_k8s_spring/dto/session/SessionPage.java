@@ -0,0 +1,12 @@
+package com.dhkimxx.jhub_k8s_spring.dto.session;
+
+import java.util.List;
+
+/**
+ * 세션 목록 조회 결과의 한 페이지.
+ * totalCount는 필터 조건을 만족하는 전체 세션 수입니다.
+ */
+public record SessionPage(
+        List<SessionSummaryResponse> items,
+        int totalCount) {
+}
@@ -0,0 +1,61 @@
+package com.dhkimxx.jhub_k8s_spring.dto.session;
+
+/**
+ * 세션 목록 조회 조건 (필터, 정렬, 페이지).
+ * 필터 값이 null이면 해당 조건은 적용하지 않습니다.
+ */
+public record SessionQuery(
+        String namespace,
+        String phase,
+        String nodeName,
+        Boolean ready,
+        String usernamePrefix,
+        SessionSortKey sort,
+        boolean descending,
+        int page,
+        int size) {
+
+    /**
+     * 필터 없이 사용자 이름순으로 전체 세션을 조회하는 조건.
+     */
+    public static SessionQuery all() {
+        return new SessionQuery(null, null, null, null, null, SessionSortKey.USERNAME, false, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 현재 페이지의 첫 항목 위치.
+     */
+    public long offset() {
+        return (long) page * size;
+    }
+
+    /**
+     * 세션이 필터 조건을 모두 만족하는지 여부.
+     */
+    public boolean matches(SessionSummaryResponse session) {
+        return matches(session.namespace(), session.phase(), session.nodeName(), session.ready(), session.username());
+    }
+
+    /**
+     * 세션 필드 값이 필터 조건을 모두 만족하는지 여부. (세션 요약을 만들지 않고 검사할 때 사용)
+     */
+    public boolean matches(String sessionNamespace, String sessionPhase, String sessionNodeName,
+            boolean sessionReady, String username) {
+        if (namespace != null && !namespace.equals(sessionNamespace)) {
+            return false;
+        }
+        if (phase != null && !phase.equalsIgnoreCase(sessionPhase)) {
+            return false;
+        }
+        if (nodeName != null && !nodeName.equals(sessionNodeName)) {
+            return false;
+        }
+        if (ready != null && ready != sessionReady) {
+            return false;
+        }
+        if (usernamePrefix != null) {
+            return username != null && username.regionMatches(true, 0, usernamePrefix, 0, usernamePrefix.length());
+        }
+        return true;
+    }
+}
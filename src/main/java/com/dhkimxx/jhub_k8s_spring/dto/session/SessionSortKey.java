@@ -0,0 +1,62 @@
+package com.dhkimxx.jhub_k8s_spring.dto.session;
+
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+
+/**
+ * 세션 목록 정렬 기준.
+ * 각 기준의 비교자는 동일 값일 때 네임스페이스/파드 이름으로 순서를 고정합니다.
+ */
+public enum SessionSortKey {
+    USERNAME("username", Comparator.comparing(SessionSummaryResponse::username,
+            Comparator.nullsLast(Comparator.<String>naturalOrder()))),
+    CPU("cpu", Comparator.comparingDouble(SessionSummaryResponse::cpuMilliCores)),
+    MEMORY("memory", Comparator.comparingDouble(SessionSummaryResponse::memoryBytes)),
+    RESTARTS("restarts", Comparator.comparingInt(SessionSummaryResponse::restartCount)),
+    START_TIME("startTime", Comparator.comparing(SessionSummaryResponse::startTime,
+            Comparator.nullsLast(Comparator.<OffsetDateTime>naturalOrder()))),
+    NODE("node", Comparator.comparing(SessionSummaryResponse::nodeName,
+            Comparator.nullsLast(Comparator.<String>naturalOrder())));
+
+    private final String paramName;
+    private final Comparator<SessionSummaryResponse> comparator;
+
+    SessionSortKey(String paramName, Comparator<SessionSummaryResponse> comparator) {
+        this.paramName = paramName;
+        this.comparator = comparator.thenComparing(TieBreaker.COMPARATOR);
+    }
+
+    public String paramName() {
+        return paramName;
+    }
+
+    /**
+     * 정렬 기준 비교자 (동일 값은 네임스페이스/파드 이름 순).
+     */
+    public Comparator<SessionSummaryResponse> comparator() {
+        return comparator;
+    }
+
+    /**
+     * 요청 파라미터 이름(예: "cpu", "startTime")에 해당하는 정렬 기준을 반환합니다.
+     * 일치하는 기준이 없으면 null을 반환합니다.
+     */
+    public static SessionSortKey fromParam(String value) {
+        for (SessionSortKey key : values()) {
+            if (key.paramName.equalsIgnoreCase(value)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 동일 값 정렬 순서를 고정하는 비교자. (enum 생성자에서 참조하기 위해 별도 클래스로 분리)
+     */
+    private static final class TieBreaker {
+        private static final Comparator<SessionSummaryResponse> COMPARATOR = Comparator
+                .comparing(SessionSummaryResponse::namespace, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                .thenComparing(SessionSummaryResponse::podName,
+                        Comparator.nullsLast(Comparator.<String>naturalOrder()));
+    }
+}
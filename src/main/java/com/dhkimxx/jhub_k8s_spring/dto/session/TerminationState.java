@@ -0,0 +1,21 @@
+package com.dhkimxx.jhub_k8s_spring.dto.session;
+
+/**
+ * 일괄 종료 작업에서 파드 하나의 진행 상태.
+ */
+public enum TerminationState {
+    /** 삭제 차례를 기다리는 중 */
+    PENDING,
+    /** 삭제 요청 중 */
+    DELETING,
+    /** 삭제 요청이 접수되어 파드가 사라지기를 기다리는 중 */
+    AWAITING_REMOVAL,
+    /** 파드가 사라짐 (이미 없던 파드 포함) */
+    TERMINATED,
+    /** 삭제 요청 실패 또는 기한 안에 사라지지 않음 */
+    FAILED;
+
+    public boolean isDone() {
+        return this == TERMINATED || this == FAILED;
+    }
+}
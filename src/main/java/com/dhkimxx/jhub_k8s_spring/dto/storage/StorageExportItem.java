@@ -0,0 +1,23 @@
+package com.dhkimxx.jhub_k8s_spring.dto.storage;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * 스토리지 NDJSON 내보내기의 한 줄 DTO.
+ * kind(pv/pvc)로 항목 종류를 구분하고, 항목의 필드는 같은 객체에 펼쳐서 기록합니다.
+ * (예: {"kind":"pv","pvName":...}, {"kind":"pvc","pvcName":...})
+ */
+public record StorageExportItem(
+        String kind,
+        @JsonUnwrapped Object item) {
+
+    public static final String KIND_FIELD = "kind";
+
+    public static StorageExportItem pv(PvSummaryResponse pv) {
+        return new StorageExportItem("pv", pv);
+    }
+
+    public static StorageExportItem pvc(PvcOverviewResponse pvc) {
+        return new StorageExportItem("pvc", pvc);
+    }
+}
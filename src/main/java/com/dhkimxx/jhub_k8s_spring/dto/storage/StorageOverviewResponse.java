@@ -2,9 +2,12 @@ package com.dhkimxx.jhub_k8s_spring.dto.storage;
 
 import java.util.List;
 
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.DataStaleness;
+
 /**
  * 클러스터 스토리지 개요 DTO.
  * 전체 PV 현황 및 집계 정보를 담습니다.
+ * PV/PVC 조회가 이전 결과로 대체되었으면 staleness에 그 내용이 담깁니다. (최신이면 null)
  */
 public record StorageOverviewResponse(
         int totalPvCount,
@@ -14,5 +17,12 @@ public record StorageOverviewResponse(
         double boundCapacityBytes,
         int totalPvcCount,
         List<PvSummaryResponse> pvList,
-        List<PvcOverviewResponse> pvcList) {
+        List<PvcOverviewResponse> pvcList,
+        DataStaleness staleness) implements DataStaleness.Holder<StorageOverviewResponse> {
+
+    @Override
+    public StorageOverviewResponse withStaleness(DataStaleness staleness) {
+        return new StorageOverviewResponse(totalPvCount, boundPvCount, availablePvCount, totalCapacityBytes,
+                boundCapacityBytes, totalPvcCount, pvList, pvcList, staleness);
+    }
 }
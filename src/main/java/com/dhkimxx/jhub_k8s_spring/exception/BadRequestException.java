@@ -0,0 +1,13 @@
+package com.dhkimxx.jhub_k8s_spring.exception;
+
+/**
+ * 요청 파라미터가 올바르지 않을 때 발생하는 예외.
+ */
+public class BadRequestException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
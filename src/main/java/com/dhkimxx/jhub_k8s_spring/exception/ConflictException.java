@@ -0,0 +1,14 @@
+package com.dhkimxx.jhub_k8s_spring.exception;
+
+/**
+ * 요청이 현재 상태와 충돌하여 처리할 수 없을 때 발생하는 예외.
+ * (예: 같은 사용자명의 세션이 여러 네임스페이스에 있어 대상을 하나로 정할 수 없는 경우)
+ */
+public class ConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
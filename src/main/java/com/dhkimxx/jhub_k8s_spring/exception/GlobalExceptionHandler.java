@@ -2,6 +2,7 @@ package com.dhkimxx.jhub_k8s_spring.exception;
 
 import java.time.OffsetDateTime;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -58,6 +59,28 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage(), null);
     }
 
+    /**
+     * 서킷 브레이커로 API 호출이 차단되었고 대신 응답할 결과도 없을 때(KubernetesUnavailableException)
+     * 503과 함께 다시 시도할 수 있는 시점을 Retry-After(초)로 반환합니다.
+     */
+    @ExceptionHandler(KubernetesUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleKubernetesUnavailableException(KubernetesUnavailableException ex) {
+        log.warn("Kubernetes API unavailable: {}", ex.getMessage());
+        long retryAfterSeconds = Math.max(1L, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        ResponseEntity<ErrorResponse> response = buildResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), null);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(response.getBody());
+    }
+
+    /**
+     * 잘못된 요청 파라미터(BadRequestException)에 대해 400을 반환합니다.
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequestException(BadRequestException ex) {
+        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), null);
+    }
+
     /**
      * 리소스를 찾을 수 없을 때(ResourceNotFoundException) 404를 반환합니다.
      */
@@ -66,6 +89,14 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage(), null);
     }
 
+    /**
+     * 요청이 현재 상태와 충돌할 때(ConflictException) 409를 반환합니다.
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflictException(ConflictException ex) {
+        return buildResponse(HttpStatus.CONFLICT, ex.getMessage(), null);
+    }
+
     /**
      * 존재하지 않는 엔드포인트 요청 시(NoHandlerFoundException) 404를 반환합니다.
      */
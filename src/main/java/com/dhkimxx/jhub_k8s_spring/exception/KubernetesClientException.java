@@ -8,6 +8,10 @@ public class KubernetesClientException extends RuntimeException {
 
     private static final long serialVersionUID = 1L;
 
+    public KubernetesClientException(String message) {
+        super(message);
+    }
+
     public KubernetesClientException(String message, Throwable cause) {
         super(message, cause);
     }
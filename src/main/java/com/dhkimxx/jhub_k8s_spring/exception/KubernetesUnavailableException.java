@@ -0,0 +1,22 @@
+package com.dhkimxx.jhub_k8s_spring.exception;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+/**
+ * 쿠버네티스 API 호출이 차단(서킷 브레이커 open)되었고 대신 응답할 이전 조회 결과도 없을 때 발생하는 예외.
+ * retryAfter는 다음 호출을 시도할 수 있을 때까지 남은 시간입니다.
+ */
+@Getter
+public class KubernetesUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Duration retryAfter;
+
+    public KubernetesUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
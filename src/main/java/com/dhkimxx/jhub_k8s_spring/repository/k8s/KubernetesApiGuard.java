@@ -0,0 +1,245 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.dhkimxx.jhub_k8s_spring.config.ApiRateLimiter;
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.exception.KubernetesUnavailableException;
+
+import io.kubernetes.client.openapi.ApiException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리포지토리의 조회 호출을 작업(operation)별 서킷 브레이커로 감싸고, 마지막 성공 결과를 보관합니다.
+ * API 서버 장애(5xx, 429, 타임아웃/연결 오류)가 연속되면 해당 작업의 호출을 일정 시간 차단하여
+ * 요청마다 requestTimeout만큼 대기하거나 어려움을 겪는 API 서버에 부하를 더하지 않도록 합니다.
+ * 차단 중이거나 호출이 실패하면 마지막 성공 결과로 응답하고 StaleReadTracker에 기록하며,
+ * 대신 응답할 결과가 없으면 KubernetesUnavailableException을 던집니다.
+ * 404 등 API 서버 상태와 무관한 오류는 실패로 집계하지 않고 그대로 전달합니다.
+ * 클라이언트 측 QPS 제한기(ApiRateLimiter)가 거절한 호출도 실패로 집계하지 않으며, 마지막 성공 결과가 있으면 그것으로 응답합니다.
+ * 변경 호출(write)도 같은 브레이커를 거치지만 결과를 보관하거나 이전 결과로 대신 응답하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class KubernetesApiGuard {
+
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final int HTTP_SERVER_ERROR = 500;
+    private static final Duration RATE_LIMITED_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final JhubK8sProperties.CircuitBreaker settings;
+    private final Map<String, Breaker> breakers = new ConcurrentHashMap<>();
+    /** "작업 + 구분자 + 키" → 마지막 성공 결과 (접근 순서 기준 LRU) */
+    private final Map<String, LastGood> lastGood;
+
+    public KubernetesApiGuard(JhubK8sProperties properties) {
+        this.settings = properties.getCircuitBreaker();
+        int maxEntries = settings.getMaxStaleEntries();
+        this.lastGood = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LastGood> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 작업별 서킷 브레이커를 거쳐 조회를 수행합니다.
+     *
+     * @param operation 작업 이름 (서킷 브레이커 단위, 예: "list nodes")
+     * @param key       같은 작업 안에서 결과를 구분하는 키 (인자 없는 작업이면 null)
+     * @param call      실제 조회
+     */
+    public <T> T call(String operation, String key, Supplier<T> call) {
+        return guard(operation, key != null ? operation + '\u0000' + key : operation, call);
+    }
+
+    /**
+     * 작업별 서킷 브레이커를 거쳐 변경(쓰기)을 수행합니다.
+     * 변경은 이전 결과로 대신할 수 없으므로, 차단 중이면 KubernetesUnavailableException을, 실패하면 원래 예외를 던집니다.
+     */
+    public <T> T write(String operation, Supplier<T> call) {
+        return guard(operation, null, call);
+    }
+
+    /**
+     * cacheKey가 null이면 결과를 보관하지 않고 마지막 성공 결과로 대신 응답하지도 않습니다.
+     */
+    private <T> T guard(String operation, String cacheKey, Supplier<T> call) {
+        if (!settings.isEnabled()) {
+            return call.get();
+        }
+        Breaker breaker = breakers.computeIfAbsent(operation, name -> new Breaker());
+        Duration retryAfter = breaker.tryAcquire();
+        if (retryAfter != null) {
+            return serveStale(operation, cacheKey, retryAfter, null);
+        }
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException ex) {
+            if (isRateLimited(ex)) {
+                breaker.onNeutral();
+                return serveStale(operation, cacheKey, RATE_LIMITED_RETRY_AFTER, null);
+            }
+            if (!isServerTrouble(ex)) {
+                breaker.onNeutral();
+                throw ex;
+            }
+            Duration openFor = breaker.onFailure(settings);
+            if (openFor != null) {
+                log.warn("Circuit for [{}] opened for {} after repeated failures: {}", operation, openFor,
+                        ex.getMessage());
+            }
+            return serveStale(operation, cacheKey, openFor, ex);
+        }
+        breaker.onSuccess();
+        if (cacheKey != null) {
+            synchronized (lastGood) {
+                lastGood.put(cacheKey, new LastGood(result, Instant.now()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 작업별 서킷 브레이커 상태. (관리/모니터링용, 작업 이름 → open 여부)
+     */
+    public Map<String, Boolean> openCircuits() {
+        Map<String, Boolean> states = new LinkedHashMap<>();
+        breakers.forEach((operation, breaker) -> states.put(operation, breaker.isOpen()));
+        return states;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T serveStale(String operation, String cacheKey, Duration retryAfter, RuntimeException failure) {
+        LastGood entry = null;
+        if (cacheKey != null) {
+            synchronized (lastGood) {
+                entry = lastGood.get(cacheKey);
+            }
+        }
+        if (entry != null && entry.fetchedAt().isAfter(Instant.now().minus(settings.getMaxStaleAge()))) {
+            StaleReadTracker.record(operation, entry.fetchedAt());
+            return (T) entry.value();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        throw new KubernetesUnavailableException(
+                "Kubernetes API temporarily unavailable for [" + operation + "]", retryAfter);
+    }
+
+    /**
+     * API 서버 상태에 따른 오류(5xx, 429, 상태 코드 없는 타임아웃/연결 오류)인지 여부.
+     */
+    private static boolean isServerTrouble(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiException apiException) {
+                int code = apiException.getCode();
+                return code == 0 || code == HTTP_TOO_MANY_REQUESTS || code >= HTTP_SERVER_ERROR;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRateLimited(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiRateLimiter.RejectedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * n번째 연속 차단의 차단 시간.
+     * initialBackoff * 2^(trips-1)을 maxBackoff로 제한한 값의 절반~전체 범위에서 무작위로 정합니다. (equal jitter)
+     */
+    static Duration backoff(JhubK8sProperties.CircuitBreaker settings, int trips) {
+        long ceiling = settings.getMaxBackoff().toMillis();
+        long base = settings.getInitialBackoff().toMillis() << Math.min(trips - 1, 20);
+        long capped = Math.max(1L, Math.min(ceiling, base));
+        long half = capped / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(capped - half + 1));
+    }
+
+    private record LastGood(Object value, Instant fetchedAt) {
+    }
+
+    /**
+     * 작업 하나의 서킷 브레이커.
+     * closed: 호출 허용, 연속 실패 횟수 집계 / open: openUntil까지 차단 /
+     * half-open: 차단 시간이 지나면 한 번의 시험 호출만 허용하고 결과에 따라 closed 또는 다시 open으로 전환합니다.
+     */
+    private static final class Breaker {
+
+        private int consecutiveFailures;
+        /** 연속으로 open된 횟수. 차단 시간 계산에 사용하며 성공하면 0으로 초기화합니다. */
+        private int trips;
+        private long openUntilNanos;
+        private boolean open;
+        private boolean trialInFlight;
+
+        /**
+         * 호출 가능하면 null, 차단 중이면 남은 차단 시간을 반환합니다.
+         */
+        synchronized Duration tryAcquire() {
+            if (!open) {
+                return null;
+            }
+            long remaining = openUntilNanos - System.nanoTime();
+            if (remaining > 0) {
+                return Duration.ofNanos(remaining);
+            }
+            if (trialInFlight) {
+                return Duration.ZERO;
+            }
+            trialInFlight = true;
+            return null;
+        }
+
+        synchronized void onSuccess() {
+            consecutiveFailures = 0;
+            trips = 0;
+            open = false;
+            trialInFlight = false;
+        }
+
+        synchronized void onNeutral() {
+            trialInFlight = false;
+        }
+
+        /**
+         * 실패를 기록합니다. 이번 실패로 open되면 차단 시간을, 아니면 null을 반환합니다.
+         */
+        synchronized Duration onFailure(JhubK8sProperties.CircuitBreaker settings) {
+            consecutiveFailures++;
+            if (!trialInFlight && consecutiveFailures < settings.getFailureThreshold()) {
+                return null;
+            }
+            trialInFlight = false;
+            trips++;
+            Duration openFor = backoff(settings, trips);
+            open = true;
+            openUntilNanos = System.nanoTime() + openFor.toNanos();
+            return openFor;
+        }
+
+        synchronized boolean isOpen() {
+            return open && openUntilNanos - System.nanoTime() > 0;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.dhkimxx.jhub_k8s_spring.config.ApiRateLimiter;
+
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * client-java 비동기 호출 결과를 CompletableFuture로 전달하는 콜백.
+ * 기한(deadline)이 지나거나 future가 취소되면 진행 중인 HTTP 호출도 함께 취소합니다.
+ * 호출은 ApiRateLimiter.prepareAsync로 호출 스레드에서 우선순위를 태그하고 토큰을 얻은 뒤 enqueue합니다.
+ */
+final class KubernetesCallFuture<T> extends CompletableFuture<T> implements ApiCallback<T> {
+
+    private volatile Call call;
+
+    /**
+     * 생성한 호출을 비동기로 실행하고 응답을 returnType으로 역직렬화한 결과를 전달하는, 기한이 적용된 future를 반환합니다.
+     * 호출 생성이나 토큰 획득이 실패하면 예외로 완료된 future를 반환합니다.
+     */
+    static <T> CompletableFuture<T> start(ApiClient apiClient, CallFactory callFactory, Type returnType,
+            Duration deadline) {
+        KubernetesCallFuture<T> future = new KubernetesCallFuture<>();
+        try {
+            future.call = ApiRateLimiter.prepareAsync(apiClient.getHttpClient(), callFactory.create());
+        } catch (ApiException ex) {
+            future.completeExceptionally(ex);
+            return future;
+        } catch (IOException ex) {
+            future.completeExceptionally(new ApiException(ex));
+            return future;
+        }
+        apiClient.executeAsync(future.call, returnType, future);
+        return future.withDeadline(deadline);
+    }
+
+    /**
+     * 생성한 호출을 직접 실행하고 응답 본문을 decoder로 변환한 결과를 전달합니다.
+     * client-java의 모델 역직렬화를 거치지 않으므로 응답을 스트리밍 방식으로 읽을 수 있습니다.
+     * 2xx가 아닌 응답은 상태 코드가 담긴 ApiException으로 완료됩니다.
+     */
+    static <T> CompletableFuture<T> startStreaming(ApiClient apiClient, CallFactory callFactory,
+            BodyDecoder<T> decoder, Duration deadline) {
+        KubernetesCallFuture<T> future = new KubernetesCallFuture<>();
+        try {
+            future.call = ApiRateLimiter.prepareAsync(apiClient.getHttpClient(), callFactory.create());
+        } catch (ApiException ex) {
+            future.completeExceptionally(ex);
+            return future;
+        } catch (IOException ex) {
+            future.completeExceptionally(new ApiException(ex));
+            return future;
+        }
+        future.call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException ex) {
+                future.completeExceptionally(new ApiException(ex));
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    ResponseBody body = response.body();
+                    if (!response.isSuccessful()) {
+                        future.completeExceptionally(new ApiException(response.code(),
+                                response.headers().toMultimap(), body != null ? body.string() : null));
+                        return;
+                    }
+                    future.complete(decoder.decode(body != null ? body.byteStream() : InputStream.nullInputStream()));
+                } catch (IOException ex) {
+                    future.completeExceptionally(new ApiException(ex));
+                } catch (RuntimeException ex) {
+                    future.completeExceptionally(ex);
+                }
+            }
+        });
+        return future.withDeadline(deadline);
+    }
+
+    private CompletableFuture<T> withDeadline(Duration deadline) {
+        orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        whenComplete((result, ex) -> {
+            if (ex instanceof TimeoutException) {
+                cancelCall();
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        cancelCall();
+        return super.cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    public void onSuccess(T result, int statusCode, Map<String, List<String>> responseHeaders) {
+        complete(result);
+    }
+
+    @Override
+    public void onFailure(ApiException ex, int statusCode, Map<String, List<String>> responseHeaders) {
+        completeExceptionally(ex);
+    }
+
+    @Override
+    public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+        // 사용하지 않음
+    }
+
+    @Override
+    public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+        // 사용하지 않음
+    }
+
+    private void cancelCall() {
+        Call current = call;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    /**
+     * 아직 실행하지 않은 HTTP 호출을 생성하는 함수. (client-java의 *Call 메서드)
+     */
+    @FunctionalInterface
+    interface CallFactory {
+        Call create() throws ApiException;
+    }
+
+    /**
+     * 응답 본문 스트림을 결과로 변환하는 함수.
+     */
+    @FunctionalInterface
+    interface BodyDecoder<T> {
+        T decode(InputStream body) throws IOException;
+    }
+}
@@ -1,21 +1,36 @@
 package com.dhkimxx.jhub_k8s_spring.repository.k8s;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.config.KubernetesClientConfig;
 import com.dhkimxx.jhub_k8s_spring.dto.session.KubernetesEventResponse;
 import com.dhkimxx.jhub_k8s_spring.exception.KubernetesClientException;
 
+import com.google.gson.reflect.TypeToken;
+
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.EventsV1Api;
 import io.kubernetes.client.openapi.models.EventsV1Event;
+import io.kubernetes.client.openapi.models.EventsV1EventList;
+import io.kubernetes.client.util.Watch;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
 
 /**
  * 쿠버네티스 이벤트(EventsV1) 정보를 조회하는 리포지토리.
@@ -27,8 +42,15 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class KubernetesEventRepository {
 
+    private static final String POD_EVENT_SELECTOR = "regarding.kind=Pod";
+    private static final int EVENT_PAGE_SIZE = 500;
+    private static final int WATCH_TIMEOUT_SECONDS = 300;
+    private static final Duration WATCH_RETRY_BACKOFF = Duration.ofSeconds(5);
+
     private final EventsV1Api eventsV1Api;
     private final JhubK8sProperties properties;
+    @Qualifier(KubernetesClientConfig.WATCH_API_CLIENT)
+    private final ApiClient watchApiClient;
 
     /**
      * 특정 파드 이름과 관련된 이벤트를 최신순으로 조회합니다.
@@ -53,11 +75,7 @@ public class KubernetesEventRepository {
                     .getItems();
 
             return events.stream()
-                    .map(event -> new KubernetesEventResponse(
-                            event.getType(),
-                            event.getReason(),
-                            event.getNote(),
-                            resolveTimestamp(event)))
+                    .map(this::toResponse)
                     .collect(Collectors.toList());
         } catch (ApiException ex) {
             logApiError("list events for pod " + podName, ex);
@@ -67,6 +85,171 @@ public class KubernetesEventRepository {
         }
     }
 
+    /**
+     * 지정한 네임스페이스에서 특정 파드의 이벤트를 비동기로 조회합니다.
+     * requestTimeout이 지나면 호출을 취소하고 예외로 완료됩니다.
+     */
+    public CompletableFuture<List<KubernetesEventResponse>> findEventsByPodNameAsync(String namespace,
+            String podName) {
+        return KubernetesCallFuture.<EventsV1EventList>start(
+                eventsV1Api.getApiClient(),
+                () -> eventsV1Api.listNamespacedEventCall(
+                        namespace,
+                        null,
+                        null,
+                        null,
+                        "regarding.name=" + podName,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        Boolean.FALSE,
+                        null),
+                EventsV1EventList.class,
+                properties.getRequestTimeout())
+                .thenApply(list -> list.getItems().stream().map(this::toResponse).toList());
+    }
+
+    /**
+     * 지정한 네임스페이스에서 여러 파드의 이벤트를 비동기로 한 번에 조회하여 파드 이름별로 분류합니다.
+     * requestTimeout이 적용됩니다.
+     */
+    public CompletableFuture<Map<String, List<KubernetesEventResponse>>> findEventsByPodNamesAsync(
+            String namespace, Set<String> podNames) {
+        if (podNames.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        return KubernetesCallFuture.<EventsV1EventList>start(
+                eventsV1Api.getApiClient(),
+                () -> eventsV1Api.listNamespacedEventCall(
+                        namespace,
+                        null,
+                        null,
+                        null,
+                        "regarding.kind=Pod",
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        Boolean.FALSE,
+                        null),
+                EventsV1EventList.class,
+                properties.getRequestTimeout())
+                .thenApply(list -> groupByPod(list.getItems(), podNames));
+    }
+
+    /**
+     * 파드 대상 이벤트를 list + watch로 추적하는 워처를 생성합니다.
+     * namespace가 null이면 전체 네임스페이스를 하나의 watch로 추적합니다.
+     * watch 요청은 watch 전용 클라이언트로 수행하며, 이벤트는 PodEvent로 변환하여 전달합니다.
+     */
+    public ResourceWatcher<EventsV1Event, PodEvent> newPodEventWatcher(String namespace,
+            ResourceEventListener<PodEvent> listener) {
+        OkHttpClient watchHttpClient = watchApiClient.getHttpClient();
+
+        return new ResourceWatcher<>(
+                namespace != null ? "pod-events-" + namespace : "pod-events",
+                watchApiClient,
+                continueToken -> {
+                    EventsV1EventList list = eventsV1Api.getApiClient().<EventsV1EventList>execute(
+                            eventListCall(namespace, continueToken, null, false), EventsV1EventList.class)
+                            .getData();
+                    return new ResourceWatcher.Page<>(
+                            list.getItems().stream().map(this::toPodEvent).toList(),
+                            list.getMetadata() != null ? list.getMetadata().getContinue() : null,
+                            list.getMetadata() != null ? list.getMetadata().getResourceVersion() : null);
+                },
+                resourceVersion -> watchHttpClient.newCall(
+                        eventListCall(namespace, null, resourceVersion, true).request()),
+                new TypeToken<Watch.Response<EventsV1Event>>() {
+                }.getType(),
+                this::toPodEvent,
+                listener,
+                WATCH_RETRY_BACKOFF);
+    }
+
+    private Call eventListCall(String namespace, String continueToken, String resourceVersion, boolean watch)
+            throws ApiException {
+        Boolean allowWatchBookmarks = watch ? Boolean.TRUE : null;
+        Integer limit = watch ? null : EVENT_PAGE_SIZE;
+        Integer timeoutSeconds = watch ? WATCH_TIMEOUT_SECONDS : null;
+        if (namespace != null) {
+            return eventsV1Api.listNamespacedEventCall(
+                    namespace,
+                    null,
+                    allowWatchBookmarks,
+                    continueToken,
+                    POD_EVENT_SELECTOR,
+                    null,
+                    limit,
+                    resourceVersion,
+                    null,
+                    null,
+                    timeoutSeconds,
+                    watch,
+                    null);
+        }
+        return eventsV1Api.listEventForAllNamespacesCall(
+                allowWatchBookmarks,
+                continueToken,
+                POD_EVENT_SELECTOR,
+                null,
+                limit,
+                null,
+                resourceVersion,
+                null,
+                null,
+                timeoutSeconds,
+                watch,
+                null);
+    }
+
+    private PodEvent toPodEvent(EventsV1Event event) {
+        var regarding = event.getRegarding();
+        return new PodEvent(
+                regarding != null ? regarding.getNamespace() : null,
+                regarding != null ? regarding.getName() : null,
+                event.getReason(),
+                event.getNote(),
+                resolveReportingNode(event),
+                resolveTimestamp(event),
+                event.getMetadata() != null ? event.getMetadata().getUid() : null,
+                event.getMetadata() != null ? event.getMetadata().getResourceVersion() : null);
+    }
+
+    private String resolveReportingNode(EventsV1Event event) {
+        if (event.getReportingInstance() != null && !event.getReportingInstance().isEmpty()) {
+            return event.getReportingInstance();
+        }
+        var source = event.getDeprecatedSource();
+        return source != null ? source.getHost() : null;
+    }
+
+    private Map<String, List<KubernetesEventResponse>> groupByPod(List<EventsV1Event> events, Set<String> podNames) {
+        Map<String, List<KubernetesEventResponse>> eventsByPod = new HashMap<>();
+        podNames.forEach(podName -> eventsByPod.put(podName, new ArrayList<>()));
+        for (EventsV1Event event : events) {
+            String podName = event.getRegarding() != null ? event.getRegarding().getName() : null;
+            List<KubernetesEventResponse> podEvents = podName != null ? eventsByPod.get(podName) : null;
+            if (podEvents != null) {
+                podEvents.add(toResponse(event));
+            }
+        }
+        return eventsByPod;
+    }
+
+    private KubernetesEventResponse toResponse(EventsV1Event event) {
+        return new KubernetesEventResponse(
+                event.getType(),
+                event.getReason(),
+                event.getNote(),
+                resolveTimestamp(event));
+    }
+
     private OffsetDateTime resolveTimestamp(EventsV1Event event) {
         if (event.getEventTime() != null) {
             return event.getEventTime();
@@ -1,8 +1,10 @@
 package com.dhkimxx.jhub_k8s_spring.repository.k8s;
 
-import java.time.OffsetDateTime;
-import java.util.Iterator;
+import java.io.IOException;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
@@ -10,17 +12,18 @@ import org.springframework.stereotype.Repository;
 import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
 import com.dhkimxx.jhub_k8s_spring.dto.session.PodMetricsResponse;
 import com.dhkimxx.jhub_k8s_spring.exception.KubernetesClientException;
-import com.dhkimxx.jhub_k8s_spring.util.ResourceQuantityParser;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.CustomObjectsApi;
 import lombok.RequiredArgsConstructor;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 /**
  * 쿠버네티스 파드 메트릭(metrics.k8s.io)을 조회하는 리포지토리.
- * CustomObjectsApi를 사용하여 원시 메트릭 데이터를 가져와 파싱합니다.
+ * CustomObjectsApi로 호출을 생성하고, 응답 본문을 스트리밍으로 읽어 필요한 값만 파싱합니다.
  */
 @Repository
 @RequiredArgsConstructor
@@ -40,37 +43,75 @@ public class KubernetesMetricsRepository {
      * Metrics Server가 설치되어 있어야 동작합니다.
      */
     public Optional<PodMetricsResponse> findPodMetrics(String podName) {
-        try {
-            Object response = customObjectsApi.getNamespacedCustomObject(
-                    METRICS_GROUP,
-                    METRICS_VERSION,
-                    properties.getNamespace(),
-                    METRICS_RESOURCE,
-                    podName);
-
-            JsonNode root = objectMapper.valueToTree(response);
-            if (root == null || !root.has("containers")) {
+        try (Response response = customObjectsApi.getNamespacedCustomObjectCall(
+                METRICS_GROUP,
+                METRICS_VERSION,
+                properties.getNamespace(),
+                METRICS_RESOURCE,
+                podName,
+                null).execute()) {
+            ResponseBody body = response.body();
+            if (!response.isSuccessful() || body == null) {
                 return Optional.empty();
             }
+            return PodMetricsDecoder.decodeOne(objectMapper.getFactory(), body.byteStream(), podName);
+        } catch (JsonProcessingException | RuntimeException ex) {
+            throw new KubernetesClientException("Failed to parse pod metrics for " + podName, ex);
+        } catch (ApiException | IOException ex) {
+            return Optional.empty();
+        }
+    }
 
-            Iterator<JsonNode> containers = root.path("containers").elements();
-            double cpu = 0d;
-            double memory = 0d;
-            while (containers.hasNext()) {
-                JsonNode usageNode = containers.next().path("usage");
-                cpu += ResourceQuantityParser.toMilliCores(usageNode.path("cpu").asText(""));
-                memory += ResourceQuantityParser.toBytes(usageNode.path("memory").asText(""));
-            }
+    /**
+     * 지정한 네임스페이스에서 특정 파드의 메트릭을 비동기로 조회합니다. metricsTimeout이 지나면 호출을 취소하고 예외로 완료됩니다.
+     * Metrics Server가 오류 응답을 반환하면 빈 값으로 완료됩니다.
+     * 응답 본문은 범용 맵/JsonNode를 거치지 않고 필요한 필드만 스트리밍으로 읽습니다.
+     */
+    public CompletableFuture<Optional<PodMetricsResponse>> findPodMetricsAsync(String namespace, String podName) {
+        return KubernetesCallFuture.startStreaming(
+                customObjectsApi.getApiClient(),
+                () -> customObjectsApi.getNamespacedCustomObjectCall(
+                        METRICS_GROUP,
+                        METRICS_VERSION,
+                        namespace,
+                        METRICS_RESOURCE,
+                        podName,
+                        null),
+                body -> PodMetricsDecoder.decodeOne(objectMapper.getFactory(), body, podName),
+                properties.getMetricsTimeout())
+                .exceptionally(ex -> emptyOnErrorResponse(ex, Optional.empty()));
+    }
 
-            OffsetDateTime timestamp = root.hasNonNull("timestamp")
-                    ? OffsetDateTime.parse(root.get("timestamp").asText())
-                    : OffsetDateTime.now();
+    /**
+     * 지정한 네임스페이스의 모든 파드 메트릭을 비동기로 조회합니다. metricsTimeout이 적용됩니다.
+     */
+    public CompletableFuture<Map<String, PodMetricsResponse>> findAllPodMetricsAsync(String namespace) {
+        return KubernetesCallFuture.startStreaming(
+                customObjectsApi.getApiClient(),
+                () -> customObjectsApi.listNamespacedCustomObjectCall(
+                        METRICS_GROUP,
+                        METRICS_VERSION,
+                        namespace,
+                        METRICS_RESOURCE,
+                        null, null, null, null, null, null, null, null, null,
+                        Boolean.FALSE,
+                        null),
+                body -> PodMetricsDecoder.decodeList(objectMapper.getFactory(), body),
+                properties.getMetricsTimeout())
+                .exceptionally(ex -> emptyOnErrorResponse(ex, Map.of()));
+    }
 
-            return Optional.of(new PodMetricsResponse(podName, timestamp, cpu, memory));
-        } catch (ApiException ex) {
-            return Optional.empty();
-        } catch (RuntimeException ex) {
-            throw new KubernetesClientException("Failed to parse pod metrics for " + podName, ex);
+    /**
+     * API 서버가 오류 응답(HTTP 상태 코드)을 반환한 경우 동기 조회와 동일하게 빈 값을 사용하고,
+     * 타임아웃이나 연결 실패는 그대로 전파합니다.
+     */
+    private static <R> R emptyOnErrorResponse(Throwable ex, R empty) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof ApiException apiException && apiException.getCode() > 0) {
+            return empty;
         }
+        throw ex instanceof CompletionException completionException
+                ? completionException
+                : new CompletionException(cause);
     }
 }
@@ -24,29 +24,32 @@ import lombok.extern.slf4j.Slf4j;
 public class KubernetesNodeRepository {
 
     private final CoreV1Api coreV1Api;
+    private final KubernetesApiGuard apiGuard;
 
     /**
      * 클러스터 내의 모든 노드를 조회합니다.
      */
     public List<V1Node> findAllNodes() {
-        try {
-            return coreV1Api.listNode(
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    Boolean.FALSE)
-                    .getItems();
-        } catch (ApiException ex) {
-            logApiError("list nodes", ex);
-            throw new KubernetesClientException(formatApiExceptionMessage("Failed to list cluster nodes", ex), ex);
-        }
+        return apiGuard.call("list nodes", null, () -> {
+            try {
+                return coreV1Api.listNode(
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        Boolean.FALSE)
+                        .getItems();
+            } catch (ApiException ex) {
+                logApiError("list nodes", ex);
+                throw new KubernetesClientException(formatApiExceptionMessage("Failed to list cluster nodes", ex), ex);
+            }
+        });
     }
 
     private void logApiError(String action, ApiException ex) {
@@ -68,11 +71,14 @@ public class KubernetesNodeRepository {
      * @return V1Node 객체 (존재하지 않을 경우 null 반환 가능성 있음 - API 예외 처리 필요)
      */
     public V1Node findNode(String nodeName) {
-        try {
-            return coreV1Api.readNode(nodeName, null);
-        } catch (ApiException ex) {
-            logApiError("read node " + nodeName, ex);
-            throw new KubernetesClientException(formatApiExceptionMessage("Failed to read node: " + nodeName, ex), ex);
-        }
+        return apiGuard.call("read node", nodeName, () -> {
+            try {
+                return coreV1Api.readNode(nodeName, null);
+            } catch (ApiException ex) {
+                logApiError("read node " + nodeName, ex);
+                throw new KubernetesClientException(
+                        formatApiExceptionMessage("Failed to read node: " + nodeName, ex), ex);
+            }
+        });
     }
 }
@@ -0,0 +1,41 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import org.springframework.util.StringUtils;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+
+/**
+ * continue 토큰 기반 목록 페이지 조회 루프.
+ * 각 페이지는 호출자가 조회하고 처리하므로 전체 목록을 한 번에 메모리에 올리지 않습니다.
+ */
+final class KubernetesPaging {
+
+    private KubernetesPaging() {
+    }
+
+    /**
+     * continue 토큰이 없을 때까지 페이지를 차례로 읽습니다. 첫 페이지는 null 토큰으로 조회합니다.
+     */
+    static void readAll(PageReader reader) throws ApiException {
+        String continueToken = null;
+        do {
+            continueToken = reader.read(continueToken);
+        } while (StringUtils.hasText(continueToken));
+    }
+
+    /**
+     * 목록 메타데이터의 다음 페이지 continue 토큰. 없으면 null입니다.
+     */
+    static String continueOf(V1ListMeta metadata) {
+        return metadata != null ? metadata.getContinue() : null;
+    }
+
+    /**
+     * 한 페이지를 조회하여 처리하고 다음 페이지의 continue 토큰을 반환하는 함수.
+     */
+    @FunctionalInterface
+    interface PageReader {
+        String read(String continueToken) throws ApiException;
+    }
+}
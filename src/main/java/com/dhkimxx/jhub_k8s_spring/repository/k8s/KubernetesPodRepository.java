@@ -1,20 +1,50 @@
 package com.dhkimxx.jhub_k8s_spring.repository.k8s;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
 
 import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.config.KubernetesClientConfig;
 import com.dhkimxx.jhub_k8s_spring.exception.KubernetesClientException;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.reflect.TypeToken;
+
+import io.kubernetes.client.ProtoClient;
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.V1;
+import io.kubernetes.client.util.Watch;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 /**
  * 쿠버네티스 파드(Pod) 정보를 관리하는 리포지토리.
@@ -26,62 +56,143 @@ import lombok.extern.slf4j.Slf4j;
 @ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
 public class KubernetesPodRepository {
 
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final String TABLE_ACCEPT = "application/json;as=Table;v=v1;g=meta.k8s.io";
+    private static final String NON_TERMINAL_POD_SELECTOR = "status.phase!=Succeeded,status.phase!=Failed";
+    private static final int WATCH_TIMEOUT_SECONDS = 300;
+    /** 전체 네임스페이스에서 사용자명으로 찾을 때 받는 최대 파드 수 */
+    private static final int USERNAME_LOOKUP_LIMIT = 20;
+    private static final Duration WATCH_RETRY_BACKOFF = Duration.ofSeconds(5);
+
     private final CoreV1Api coreV1Api;
     private final JhubK8sProperties properties;
+    @Qualifier(KubernetesClientConfig.WATCH_API_CLIENT)
+    private final ApiClient watchApiClient;
+    private final ProtoClient protoClient;
+    private final ObjectMapper objectMapper;
+    private final KubernetesApiGuard apiGuard;
+
+    /**
+     * 사용자 라벨이 붙은 모든 파드를 PodSnapshot으로 조회합니다.
+     * 세션 요약과 노드별 요청량 집계처럼 일부 필드만 필요한 경우 V1Pod 대신 사용합니다.
+     */
+    public List<PodSnapshot> findAllUserPodSnapshots() {
+        return apiGuard.call("list user pods", null, () -> {
+            List<PodSnapshot> snapshots = new ArrayList<>();
+            forEachUserPodSnapshot(snapshots::add);
+            return snapshots;
+        });
+    }
 
     /**
-     * 지정된 네임스페이스 내의 사용자 라벨이 붙은 모든 파드를 조회합니다.
+     * 사용자 라벨이 붙은 모든 파드를 페이지 단위(maxPodFetch)로 조회하여 PodSnapshot으로 순서대로 전달합니다.
+     * 대상 네임스페이스가 여러 개이면 네임스페이스 순서대로 조회합니다.
+     * 세션 목록에는 컨테이너 리소스 요청량(spec)과 상태 조건(status)이 필요하고, Table 열과
+     * PartialObjectMetadata(메타데이터만)에는 이 값이 없으므로 전체 객체를 받아 스트리밍으로 필요한 필드만 읽습니다.
      */
-    public List<V1Pod> findAllUserPods() {
+    public void forEachUserPodSnapshot(Consumer<PodSnapshot> consumer) {
         try {
-            return coreV1Api.listNamespacedPod(
-                    properties.getNamespace(), // namespace
-                    null, // pretty
-                    null, // allowWatchBookmarks
-                    null, // _continue
-                    null, // fieldSelector
-                    getUserLabelSelector(), // labelSelector
-                    properties.getMaxPodFetch(), // limit
-                    null, // resourceVersion
-                    null, // resourceVersionMatch
-                    null, // sendInitialEvents
-                    null, // timeoutSeconds
-                    Boolean.FALSE) // watch
-                    .getItems();
+            for (String namespace : userNamespaceScopes()) {
+                KubernetesPaging.readAll(continueToken -> {
+                    ResourceWatcher.Page<PodSnapshot> page = listPodSnapshots(namespace, continueToken, null,
+                            getUserLabelSelector(), properties.getMaxPodFetch());
+                    page.items().forEach(consumer);
+                    return page.continueToken();
+                });
+            }
         } catch (ApiException ex) {
-            logApiError("list user pods", ex);
+            logApiError("list user pod snapshots", ex);
             throw new KubernetesClientException(formatApiExceptionMessage("Failed to list user pods", ex), ex);
         }
     }
 
+    /**
+     * 사용자 라벨이 붙은 모든 파드를 서버 측 Table 표현(as=Table)으로 조회합니다.
+     * 전체 파드 객체 대신 표시용 열과 메타데이터만 전송받으므로 개수/상태 집계처럼
+     * 리소스 요청량이 필요 없는 화면에서 응답 크기와 디코딩 비용을 줄일 수 있습니다.
+     */
+    public List<PodTableRow> findUserPodRows() {
+        return findUserPodRows(null);
+    }
+
+    /**
+     * 지정한 phase(status.phase 필드 셀렉터)의 사용자 파드만 Table 표현으로 조회합니다.
+     * Table의 STATUS 열은 표시용 사유(CrashLoopBackOff, Terminating 등)라 phase와 다르므로,
+     * phase 기준 집계는 이 메서드로 API 서버에서 걸러 받습니다.
+     */
+    public List<PodTableRow> findUserPodRowsInPhase(String phase) {
+        return findUserPodRows(phase);
+    }
+
+    private List<PodTableRow> findUserPodRows(String phase) {
+        String fieldSelector = phase != null ? "status.phase=" + phase : null;
+        return apiGuard.call("list user pod rows", phase, () -> {
+            List<PodTableRow> rows = new ArrayList<>();
+            try {
+                for (String namespace : userNamespaceScopes()) {
+                    KubernetesPaging.readAll(
+                            continueToken -> listPodTablePage(namespace, continueToken, fieldSelector, rows));
+                }
+            } catch (ApiException ex) {
+                logApiError("list user pod table", ex);
+                throw new KubernetesClientException(formatApiExceptionMessage("Failed to list user pods", ex), ex);
+            }
+            return rows;
+        });
+    }
+
     /**
      * 사용자명(Username)에 해당하는 파드를 조회합니다.
-     * 라벨 셀렉터를 사용하여 검색합니다.
+     * 라벨 셀렉터를 사용하여 검색하며, namespace가 있으면 해당 네임스페이스에서만 찾습니다.
+     * 같은 사용자의 세션이 여러 네임스페이스에 있을 수 있으므로 네임스페이스마다 첫 번째 파드를 반환합니다.
      */
-    public Optional<V1Pod> findByUsername(String username) {
+    public List<V1Pod> findByUsername(String username, String namespace) {
+        String cacheKey = namespace != null ? namespace + "/" + username : username;
+        return apiGuard.call("find pod by username", cacheKey, () -> {
+            try {
+                String selector = properties.getUsernameLabelKey() + "=" + username;
+                List<String> scopes = namespace != null ? List.of(namespace) : userNamespaceScopes();
+                Map<String, V1Pod> firstByNamespace = new LinkedHashMap<>();
+                for (String scope : scopes) {
+                    // 전체 네임스페이스 조회는 다른 네임스페이스의 같은 사용자를 찾을 수 있도록 여러 개를 받음
+                    int limit = scope != null ? 1 : USERNAME_LOOKUP_LIMIT;
+                    for (V1Pod pod : listPods(scope, null, null, selector, limit).getItems()) {
+                        firstByNamespace.putIfAbsent(pod.getMetadata().getNamespace(), pod);
+                    }
+                }
+                return List.copyOf(firstByNamespace.values());
+            } catch (ApiException ex) {
+                logApiError("find pod by username " + username, ex);
+                throw new KubernetesClientException(
+                        formatApiExceptionMessage("Failed to find pod for username " + username, ex),
+                        ex);
+            }
+        });
+    }
+
+    /**
+     * 여러 사용자의 파드를 한 번의 목록 조회로 가져옵니다.
+     * 집합 기반 라벨 셀렉터(key in (a,b,c))를 사용합니다.
+     */
+    public List<V1Pod> findByUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return List.of();
+        }
+        String selector = properties.getUsernameLabelKey() + " in (" + String.join(",", usernames) + ")";
+        List<V1Pod> pods = new ArrayList<>();
         try {
-            String selector = properties.getUsernameLabelKey() + "=" + username;
-            List<V1Pod> pods = coreV1Api.listNamespacedPod(
-                    properties.getNamespace(),
-                    null,
-                    null,
-                    null,
-                    null,
-                    selector,
-                    1,
-                    null,
-                    null,
-                    null,
-                    null,
-                    Boolean.FALSE)
-                    .getItems();
-            return pods.stream().findFirst();
+            for (String namespace : userNamespaceScopes()) {
+                KubernetesPaging.readAll(continueToken -> {
+                    V1PodList page = listPods(namespace, continueToken, null, selector, properties.getMaxPodFetch());
+                    pods.addAll(page.getItems());
+                    return KubernetesPaging.continueOf(page.getMetadata());
+                });
+            }
         } catch (ApiException ex) {
-            logApiError("find pod by username " + username, ex);
-            throw new KubernetesClientException(
-                    formatApiExceptionMessage("Failed to find pod for username " + username, ex),
-                    ex);
+            logApiError("find pods by usernames", ex);
+            throw new KubernetesClientException(formatApiExceptionMessage("Failed to find pods for usernames", ex), ex);
         }
+        return pods;
     }
 
     /**
@@ -89,37 +200,95 @@ public class KubernetesPodRepository {
      * 필드 셀렉터(spec.nodeName)를 사용합니다.
      */
     public List<V1Pod> findByNodeName(String nodeName) {
-        try {
-            return coreV1Api.listNamespacedPod(
-                    properties.getNamespace(),
-                    null,
-                    null,
-                    null,
-                    "spec.nodeName=" + nodeName,
-                    getUserLabelSelector(),
-                    properties.getMaxPodFetch(),
-                    null,
-                    null,
-                    null,
-                    null,
-                    Boolean.FALSE)
-                    .getItems();
-        } catch (ApiException ex) {
-            logApiError("list pods on node " + nodeName, ex);
-            throw new KubernetesClientException(
-                    formatApiExceptionMessage("Failed to list pods on node " + nodeName, ex),
-                    ex);
-        }
+        return apiGuard.call("list pods on node", nodeName, () -> {
+            try {
+                List<V1Pod> pods = new ArrayList<>();
+                for (String namespace : userNamespaceScopes()) {
+                    pods.addAll(listPods(namespace, null, "spec.nodeName=" + nodeName, getUserLabelSelector(),
+                            properties.getMaxPodFetch()).getItems());
+                }
+                return pods;
+            } catch (ApiException ex) {
+                logApiError("list pods on node " + nodeName, ex);
+                throw new KubernetesClientException(
+                        formatApiExceptionMessage("Failed to list pods on node " + nodeName, ex),
+                        ex);
+            }
+        });
     }
 
     /**
-     * 파드를 강제로 삭제합니다.
+     * 사용자 라벨이 붙은 파드를 list + watch로 추적하는 워처를 생성합니다.
+     * namespace가 null이면 전체 네임스페이스를 하나의 watch로 추적합니다. (defaultNamespaceSelector=false)
+     * watch 요청은 읽기 타임아웃이 없는 watch 전용 클라이언트(연결 풀, 디스패처 분리)로 수행합니다.
+     * 목록과 watch 이벤트는 모두 PodSnapshot으로 변환하여 전달하므로 리스너는 V1Pod를 보관하지 않습니다.
+     */
+    public ResourceWatcher<V1Pod, PodSnapshot> newUserPodWatcher(String namespace,
+            ResourceEventListener<PodSnapshot> listener) {
+        OkHttpClient watchHttpClient = watchApiClient.getHttpClient();
+        String usernameLabelKey = properties.getUsernameLabelKey();
+
+        return new ResourceWatcher<>(
+                namespace != null ? "user-pods-" + namespace : "user-pods",
+                watchApiClient,
+                continueToken -> listPodSnapshots(namespace,
+                        continueToken, null, getUserLabelSelector(), properties.getMaxPodFetch()),
+                resourceVersion -> watchHttpClient.newCall(podListCall(
+                        namespace, null, null, getUserLabelSelector(), null, resourceVersion, true).request()),
+                new TypeToken<Watch.Response<V1Pod>>() {
+                }.getType(),
+                pod -> PodSnapshotDecoder.fromPod(pod, usernameLabelKey),
+                listener,
+                WATCH_RETRY_BACKOFF);
+    }
+
+    /**
+     * 사용자 파드 조회 대상 네임스페이스 목록. defaultNamespaceSelector=false이면 전체 네임스페이스(null) 하나입니다.
+     */
+    public List<String> userNamespaceScopes() {
+        return properties.isDefaultNamespaceSelector()
+                ? properties.hubNamespaces()
+                : Collections.singletonList(null);
+    }
+
+    /**
+     * 전체 네임스페이스에서 종료되지 않은(Succeeded/Failed가 아닌) 파드를 list + watch로 추적하는 워처를 생성합니다.
+     * 노드별 리소스 요청량 집계에 사용하며, 파드가 종료 상태가 되면 필드 셀렉터에서 벗어나 삭제 이벤트로 전달됩니다.
+     * 클러스터 범위의 파드 list/watch 권한이 필요합니다.
+     */
+    public ResourceWatcher<V1Pod, PodSnapshot> newClusterPodWatcher(ResourceEventListener<PodSnapshot> listener) {
+        OkHttpClient watchHttpClient = watchApiClient.getHttpClient();
+        String usernameLabelKey = properties.getUsernameLabelKey();
+
+        return new ResourceWatcher<>(
+                "cluster-pods",
+                watchApiClient,
+                continueToken -> listPodSnapshots(null,
+                        continueToken, NON_TERMINAL_POD_SELECTOR, null, properties.getMaxPodFetch()),
+                resourceVersion -> watchHttpClient.newCall(podListCall(
+                        null, null, NON_TERMINAL_POD_SELECTOR, null, null, resourceVersion, true).request()),
+                new TypeToken<Watch.Response<V1Pod>>() {
+                }.getType(),
+                pod -> PodSnapshotDecoder.fromPod(pod, usernameLabelKey),
+                listener,
+                WATCH_RETRY_BACKOFF);
+    }
+
+    /**
+     * 기본 네임스페이스의 파드를 강제로 삭제합니다.
      */
     public void deletePod(String podName) {
+        deletePod(properties.getNamespace(), podName);
+    }
+
+    /**
+     * 파드를 강제로 삭제합니다.
+     */
+    public void deletePod(String namespace, String podName) {
         try {
             coreV1Api.deleteNamespacedPod(
                     podName,
-                    properties.getNamespace(),
+                    namespace,
                     null,
                     null,
                     null,
@@ -139,12 +308,237 @@ public class KubernetesPodRepository {
      * @return V1Pod 객체
      */
     public V1Pod findPod(String podName) {
+        return findPod(properties.getNamespace(), podName);
+    }
+
+    /**
+     * 지정한 네임스페이스의 파드 상세 정보를 조회합니다.
+     */
+    public V1Pod findPod(String namespace, String podName) {
+        return apiGuard.call("read pod", namespace + "/" + podName, () -> {
+            try {
+                return coreV1Api.readNamespacedPod(podName, namespace, null);
+            } catch (ApiException ex) {
+                logApiError("read pod " + podName, ex);
+                throw new KubernetesClientException(
+                        formatApiExceptionMessage("Failed to read pod: " + podName, ex), ex);
+            }
+        });
+    }
+
+    /**
+     * 이름으로 파드를 조회합니다. 파드가 없으면(404) 빈 값을 반환합니다.
+     */
+    public Optional<V1Pod> findPodIfPresent(String podName) {
+        return findPodIfPresent(properties.getNamespace(), podName);
+    }
+
+    /**
+     * 지정한 네임스페이스에서 이름으로 파드를 조회합니다. 파드가 없으면(404) 빈 값을 반환합니다.
+     */
+    public Optional<V1Pod> findPodIfPresent(String namespace, String podName) {
+        return apiGuard.call("read pod", namespace + "/" + podName, () -> {
+            try {
+                return Optional.of(coreV1Api.readNamespacedPod(podName, namespace, null));
+            } catch (ApiException ex) {
+                if (ex.getCode() == HTTP_NOT_FOUND) {
+                    return Optional.empty();
+                }
+                logApiError("read pod " + podName, ex);
+                throw new KubernetesClientException(
+                        formatApiExceptionMessage("Failed to read pod: " + podName, ex), ex);
+            }
+        });
+    }
+
+    /**
+     * 파드 목록 한 페이지를 조회합니다. namespace가 null이면 전체 네임스페이스를 조회합니다.
+     * wireFormat이 PROTOBUF이면 application/vnd.kubernetes.protobuf로 요청하여 디코딩 비용과 응답 크기를 줄입니다.
+     */
+    private V1PodList listPods(String namespace, String continueToken, String fieldSelector, String labelSelector,
+            Integer limit) throws ApiException {
+        if (properties.getWireFormat() == JhubK8sProperties.WireFormat.PROTOBUF) {
+            return listPodsAsProtobuf(namespace, continueToken, fieldSelector, labelSelector, limit);
+        }
+        Call call = podListCall(namespace, continueToken, fieldSelector, labelSelector, limit, null, false);
+        return coreV1Api.getApiClient().<V1PodList>execute(call, V1PodList.class).getData();
+    }
+
+    /**
+     * 파드 목록 또는 watch 호출을 생성합니다. namespace가 null이면 전체 네임스페이스를 대상으로 합니다.
+     * watch 호출은 북마크를 허용하고 서버 측 타임아웃(WATCH_TIMEOUT_SECONDS)을 적용합니다.
+     * sendInitialEvents는 일부 API 서버에서 거절되므로 전송하지 않습니다.
+     */
+    private Call podListCall(String namespace, String continueToken, String fieldSelector, String labelSelector,
+            Integer limit, String resourceVersion, boolean watch) throws ApiException {
+        Boolean allowWatchBookmarks = watch ? Boolean.TRUE : null;
+        Integer timeoutSeconds = watch ? WATCH_TIMEOUT_SECONDS : null;
+        if (namespace != null) {
+            return coreV1Api.listNamespacedPodCall(
+                    namespace,
+                    null,
+                    allowWatchBookmarks,
+                    continueToken,
+                    fieldSelector,
+                    labelSelector,
+                    limit,
+                    resourceVersion,
+                    null,
+                    null,
+                    timeoutSeconds,
+                    watch,
+                    null);
+        }
+        return coreV1Api.listPodForAllNamespacesCall(
+                allowWatchBookmarks,
+                continueToken,
+                fieldSelector,
+                labelSelector,
+                limit,
+                null,
+                resourceVersion,
+                null,
+                null,
+                timeoutSeconds,
+                watch,
+                null);
+    }
+
+    /**
+     * Protobuf로 파드 목록 한 페이지를 조회합니다. namespace가 null이면 전체 네임스페이스를 조회합니다.
+     */
+    private V1PodList listPodsAsProtobuf(String namespace, String continueToken, String fieldSelector,
+            String labelSelector, Integer limit) throws ApiException {
+        StringBuilder path = new StringBuilder("/api/v1/");
+        if (namespace != null) {
+            path.append("namespaces/").append(urlEncode(namespace)).append('/');
+        }
+        path.append("pods?watch=false");
+        appendQuery(path, "continue", continueToken);
+        appendQuery(path, "fieldSelector", fieldSelector);
+        appendQuery(path, "labelSelector", labelSelector);
+        appendQuery(path, "limit", limit != null ? String.valueOf(limit) : null);
+
+        ProtoClient.ObjectOrStatus<V1.PodList> result;
         try {
-            return coreV1Api.readNamespacedPod(podName, properties.getNamespace(), null);
-        } catch (ApiException ex) {
-            logApiError("read pod " + podName, ex);
-            throw new KubernetesClientException(formatApiExceptionMessage("Failed to read pod: " + podName, ex), ex);
+            result = protoClient.list(V1.PodList.newBuilder(), path.toString());
+        } catch (IOException ex) {
+            throw new ApiException(ex);
+        }
+        if (result.object == null) {
+            Meta.Status status = result.status;
+            throw new ApiException(
+                    status != null ? status.getCode() : 0,
+                    status != null ? status.getMessage() : "Empty protobuf response");
         }
+        return ProtoPodConverter.toPodList(result.object);
+    }
+
+    /**
+     * 파드 목록 한 페이지를 PodSnapshot으로 조회합니다. namespace가 null이면 전체 네임스페이스를 조회합니다.
+     * JSON 응답은 본문을 스트리밍으로 디코딩하고, wireFormat이 PROTOBUF이면 Protobuf 목록을 변환합니다.
+     */
+    private ResourceWatcher.Page<PodSnapshot> listPodSnapshots(String namespace, String continueToken,
+            String fieldSelector, String labelSelector, Integer limit) throws ApiException {
+        String usernameLabelKey = properties.getUsernameLabelKey();
+        if (properties.getWireFormat() == JhubK8sProperties.WireFormat.PROTOBUF) {
+            V1PodList list = listPodsAsProtobuf(namespace, continueToken, fieldSelector, labelSelector, limit);
+            return new ResourceWatcher.Page<>(
+                    list.getItems().stream().map(pod -> PodSnapshotDecoder.fromPod(pod, usernameLabelKey)).toList(),
+                    list.getMetadata() != null ? list.getMetadata().getContinue() : null,
+                    list.getMetadata() != null ? list.getMetadata().getResourceVersion() : null);
+        }
+
+        Call call = podListCall(namespace, continueToken, fieldSelector, labelSelector, limit, null, false);
+        try (Response response = call.execute()) {
+            ResponseBody body = response.body();
+            if (!response.isSuccessful()) {
+                throw new ApiException(response.code(), response.headers().toMultimap(),
+                        body != null ? body.string() : null);
+            }
+            return PodSnapshotDecoder.decodeList(objectMapper.getFactory(),
+                    body != null ? body.byteStream() : InputStream.nullInputStream(), usernameLabelKey);
+        } catch (IOException ex) {
+            throw new ApiException(ex);
+        }
+    }
+
+    /**
+     * Table 표현으로 파드 목록 한 페이지를 조회하여 rows에 추가하고 다음 continue 토큰을 반환합니다.
+     * 열 순서는 columnDefinitions의 이름으로 찾습니다.
+     */
+    private String listPodTablePage(String namespace, String continueToken, String fieldSelector,
+            List<PodTableRow> rows) throws ApiException {
+        Request listRequest = podListCall(namespace, continueToken, fieldSelector, getUserLabelSelector(),
+                properties.getMaxPodFetch(), null, false).request();
+        Request tableRequest = listRequest.newBuilder()
+                .url(listRequest.url().newBuilder().addQueryParameter("includeObject", "Metadata").build())
+                .header("Accept", TABLE_ACCEPT)
+                .build();
+
+        JsonNode table;
+        try (Response response = coreV1Api.getApiClient().getHttpClient().newCall(tableRequest).execute()) {
+            ResponseBody body = response.body();
+            if (!response.isSuccessful()) {
+                throw new ApiException(response.code(), response.headers().toMultimap(),
+                        body != null ? body.string() : null);
+            }
+            table = objectMapper.readTree(body != null ? body.byteStream() : InputStream.nullInputStream());
+        } catch (IOException ex) {
+            throw new ApiException(ex);
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        JsonNode definitions = table.path("columnDefinitions");
+        for (int i = 0; i < definitions.size(); i++) {
+            columns.put(definitions.get(i).path("name").asText(), i);
+        }
+        String usernameLabelKey = properties.getUsernameLabelKey();
+        for (JsonNode row : table.path("rows")) {
+            JsonNode cells = row.path("cells");
+            JsonNode metadata = row.path("object").path("metadata");
+            String[] ready = cellText(cells, columns, "Ready").split("/", 2);
+            rows.add(new PodTableRow(
+                    metadata.path("namespace").asText(namespace != null ? namespace : properties.getNamespace()),
+                    cellText(cells, columns, "Name"),
+                    metadata.path("labels").path(usernameLabelKey).asText(null),
+                    cellText(cells, columns, "Status"),
+                    parseLeadingInt(ready[0]),
+                    ready.length > 1 ? parseLeadingInt(ready[1]) : 0,
+                    parseLeadingInt(cellText(cells, columns, "Restarts")),
+                    blankToNull(cellText(cells, columns, "Node"))));
+        }
+        return table.path("metadata").path("continue").asText(null);
+    }
+
+    private static String cellText(JsonNode cells, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index != null ? cells.path(index).asText("") : "";
+    }
+
+    /**
+     * "3 (5m ago)"처럼 부가 정보가 붙은 셀에서 앞쪽 정수만 읽습니다.
+     */
+    private static int parseLeadingInt(String value) {
+        int result = 0;
+        for (int i = 0; i < value.length() && Character.isDigit(value.charAt(i)); i++) {
+            result = result * 10 + (value.charAt(i) - '0');
+        }
+        return result;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() || "<none>".equals(value) ? null : value;
+    }
+
+    private static void appendQuery(StringBuilder path, String name, String value) {
+        if (StringUtils.hasText(value)) {
+            path.append('&').append(name).append('=').append(urlEncode(value));
+        }
+    }
+
+    private static String urlEncode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
     }
 
     private String getUserLabelSelector() {
@@ -1,10 +1,12 @@
 package com.dhkimxx.jhub_k8s_spring.repository.k8s;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
 import com.dhkimxx.jhub_k8s_spring.dto.storage.PvSummaryResponse;
 import com.dhkimxx.jhub_k8s_spring.exception.KubernetesClientException;
 import com.dhkimxx.jhub_k8s_spring.util.ResourceQuantityParser;
@@ -29,17 +31,38 @@ import lombok.RequiredArgsConstructor;
 public class KubernetesPvRepository {
 
     private final CoreV1Api coreV1Api;
+    private final JhubK8sProperties properties;
+    private final KubernetesApiGuard apiGuard;
 
     /**
      * 클러스터의 모든 PV를 조회합니다.
      */
     public List<PvSummaryResponse> findAllPvs() {
+        return apiGuard.call("list persistent volumes", null, () -> {
+            try {
+                V1PersistentVolumeList pvList = coreV1Api.listPersistentVolume(
+                        null, null, null, null, null, null, null, null, null, null, null);
+                return pvList.getItems().stream()
+                        .map(this::toPvSummary)
+                        .toList();
+            } catch (ApiException ex) {
+                throw new KubernetesClientException("Failed to fetch PV list", ex);
+            }
+        });
+    }
+
+    /**
+     * 클러스터의 모든 PV를 페이지 단위로 조회하여 순서대로 전달합니다.
+     */
+    public void forEachPv(Consumer<PvSummaryResponse> consumer) {
         try {
-            V1PersistentVolumeList pvList = coreV1Api.listPersistentVolume(
-                    null, null, null, null, null, null, null, null, null, null, null);
-            return pvList.getItems().stream()
-                    .map(this::toPvSummary)
-                    .toList();
+            KubernetesPaging.readAll(continueToken -> {
+                V1PersistentVolumeList page = coreV1Api.listPersistentVolume(
+                        null, null, continueToken, null, null, properties.getMaxStorageFetch(), null, null, null,
+                        null, null);
+                page.getItems().forEach(pv -> consumer.accept(toPvSummary(pv)));
+                return KubernetesPaging.continueOf(page.getMetadata());
+            });
         } catch (ApiException ex) {
             throw new KubernetesClientException("Failed to fetch PV list", ex);
         }
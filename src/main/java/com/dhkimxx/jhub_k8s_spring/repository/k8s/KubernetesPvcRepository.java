@@ -2,6 +2,9 @@ package com.dhkimxx.jhub_k8s_spring.repository.k8s;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
@@ -36,11 +39,8 @@ public class KubernetesPvcRepository {
 
     private final CoreV1Api coreV1Api;
     private final JhubK8sProperties properties;
+    private final KubernetesApiGuard apiGuard;
 
-    /**
-     * Pod에 연결된 PVC 정보를 조회합니다.
-     * Pod의 volumes에서 persistentVolumeClaim을 찾아 해당 PVC 정보를 반환합니다.
-     */
     /**
      * Pod의 스토리지 사용 정보를 조회합니다. (Ephemeral 우선, 없으면 PVC)
      */
@@ -50,6 +50,24 @@ public class KubernetesPvcRepository {
         }
 
         // Priority 1: Ephemeral Storage Limit 확인
+        Optional<StorageUsageResponse> ephemeral = findEphemeralUsage(pod);
+        if (ephemeral.isPresent()) {
+            return ephemeral.get();
+        }
+
+        // Priority 2: PVC 확인
+        return findClaimName(pod)
+                .map(pvcName -> findStorageUsageByClaim(pvcName, namespaceOf(pod)))
+                .orElse(StorageUsageResponse.none());
+    }
+
+    /**
+     * Pod 첫 번째 컨테이너의 ephemeral-storage 제한으로 스토리지 사용 정보를 구성합니다. (API 호출 없음)
+     */
+    public Optional<StorageUsageResponse> findEphemeralUsage(V1Pod pod) {
+        if (pod == null || pod.getSpec() == null) {
+            return Optional.empty();
+        }
         if (pod.getSpec().getContainers() != null && !pod.getSpec().getContainers().isEmpty()) {
             if (pod.getSpec().getContainers().get(0).getResources() != null &&
                     pod.getSpec().getContainers().get(0).getResources().getLimits() != null) {
@@ -57,50 +75,97 @@ public class KubernetesPvcRepository {
                         .getResources().getLimits().get("ephemeral-storage");
                 if (ephemeralLimit != null) {
                     double limitBytes = ResourceQuantityParser.toBytes(ephemeralLimit);
-                    return StorageUsageResponse.ephemeral(limitBytes);
+                    return Optional.of(StorageUsageResponse.ephemeral(limitBytes));
                 }
             }
         }
+        return Optional.empty();
+    }
 
-        // Priority 2: PVC 확인
-        return findPvcByPod(pod)
-                .map(pvc -> StorageUsageResponse.pvc(
-                        pvc.capacityBytes(),
-                        pvc.requestBytes(),
-                        pvc.pvcName(),
-                        pvc.storageClassName()))
+    /**
+     * PVC 이름과 네임스페이스로 스토리지 사용 정보를 조회합니다. PVC가 없으면 NONE을 반환합니다.
+     */
+    public StorageUsageResponse findStorageUsageByClaim(String pvcName, String namespace) {
+        return findPvcByName(pvcName, namespace)
+                .map(this::toStorageUsage)
                 .orElse(StorageUsageResponse.none());
     }
 
+    private StorageUsageResponse toStorageUsage(PvcSummaryResponse pvc) {
+        return StorageUsageResponse.pvc(
+                pvc.capacityBytes(),
+                pvc.requestBytes(),
+                pvc.pvcName(),
+                pvc.storageClassName());
+    }
+
+    /**
+     * Pod의 스토리지 사용 정보를 비동기로 조회합니다. PVC 조회에는 requestTimeout이 적용됩니다.
+     */
+    public CompletableFuture<StorageUsageResponse> findStorageUsageByPodAsync(V1Pod pod) {
+        if (pod == null || pod.getSpec() == null) {
+            return CompletableFuture.completedFuture(StorageUsageResponse.none());
+        }
+        Optional<StorageUsageResponse> ephemeral = findEphemeralUsage(pod);
+        if (ephemeral.isPresent()) {
+            return CompletableFuture.completedFuture(ephemeral.get());
+        }
+        Optional<String> claimName = findClaimName(pod);
+        if (claimName.isEmpty()) {
+            return CompletableFuture.completedFuture(StorageUsageResponse.none());
+        }
+        String pvcName = claimName.get();
+        return KubernetesCallFuture.<V1PersistentVolumeClaim>start(
+                coreV1Api.getApiClient(),
+                () -> coreV1Api.readNamespacedPersistentVolumeClaimCall(
+                        pvcName,
+                        namespaceOf(pod),
+                        null,
+                        null),
+                V1PersistentVolumeClaim.class,
+                properties.getRequestTimeout())
+                .thenApply(pvc -> toStorageUsage(toPvcSummary(pvc)))
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof ApiException apiException && apiException.getCode() == 404) {
+                        return StorageUsageResponse.none();
+                    }
+                    throw new CompletionException("Failed to fetch PVC: " + pvcName, cause);
+                });
+    }
+
     /**
      * Pod에 연결된 PVC 정보를 조회합니다.
      * Pod의 volumes에서 persistentVolumeClaim을 찾아 해당 PVC 정보를 반환합니다.
      */
     public Optional<PvcSummaryResponse> findPvcByPod(V1Pod pod) {
+        return findClaimName(pod).flatMap(pvcName -> findPvcByName(pvcName, namespaceOf(pod)));
+    }
+
+    /**
+     * Pod의 volumes에서 첫 번째 persistentVolumeClaim 이름을 찾습니다. (API 호출 없음)
+     */
+    public Optional<String> findClaimName(V1Pod pod) {
         if (pod == null || pod.getSpec() == null || pod.getSpec().getVolumes() == null) {
             return Optional.empty();
         }
-
-        String pvcName = null;
-        String namespace = pod.getMetadata() != null && pod.getMetadata().getNamespace() != null
-                ? pod.getMetadata().getNamespace()
-                : properties.getNamespace();
-
-        List<V1Volume> volumes = pod.getSpec().getVolumes();
-
-        for (V1Volume volume : volumes) {
+        for (V1Volume volume : pod.getSpec().getVolumes()) {
             if (volume.getPersistentVolumeClaim() != null) {
-                pvcName = volume.getPersistentVolumeClaim().getClaimName();
-                break;
+                return Optional.ofNullable(volume.getPersistentVolumeClaim().getClaimName());
             }
         }
-
-        if (pvcName != null) {
-            return findPvcByName(pvcName, namespace);
-        }
         return Optional.empty();
     }
 
+    /**
+     * Pod의 네임스페이스. 메타데이터에 없으면 기본 네임스페이스를 사용합니다.
+     */
+    public String namespaceOf(V1Pod pod) {
+        return pod.getMetadata() != null && pod.getMetadata().getNamespace() != null
+                ? pod.getMetadata().getNamespace()
+                : properties.getNamespace();
+    }
+
     /**
      * PVC 이름으로 PVC 정보를 조회합니다. (기본 네임스페이스 사용)
      */
@@ -130,13 +195,33 @@ public class KubernetesPvcRepository {
      * 네임스페이스 내 모든 PVC를 조회합니다.
      */
     public List<PvcSummaryResponse> findAllPvcs() {
+        return apiGuard.call("list persistent volume claims", null, () -> {
+            try {
+                V1PersistentVolumeClaimList pvcList = coreV1Api.listNamespacedPersistentVolumeClaim(
+                        properties.getNamespace(),
+                        null, null, null, null, null, null, null, null, null, null, null);
+                return pvcList.getItems().stream()
+                        .map(this::toPvcSummary)
+                        .toList();
+            } catch (ApiException ex) {
+                throw new KubernetesClientException("Failed to fetch PVC list", ex);
+            }
+        });
+    }
+
+    /**
+     * 네임스페이스 내 모든 PVC를 페이지 단위로 조회하여 순서대로 전달합니다.
+     */
+    public void forEachPvc(Consumer<PvcSummaryResponse> consumer) {
         try {
-            V1PersistentVolumeClaimList pvcList = coreV1Api.listNamespacedPersistentVolumeClaim(
-                    properties.getNamespace(),
-                    null, null, null, null, null, null, null, null, null, null, null);
-            return pvcList.getItems().stream()
-                    .map(this::toPvcSummary)
-                    .toList();
+            KubernetesPaging.readAll(continueToken -> {
+                V1PersistentVolumeClaimList page = coreV1Api.listNamespacedPersistentVolumeClaim(
+                        properties.getNamespace(),
+                        null, null, continueToken, null, null, properties.getMaxStorageFetch(), null, null, null,
+                        null, null);
+                page.getItems().forEach(pvc -> consumer.accept(toPvcSummary(pvc)));
+                return KubernetesPaging.continueOf(page.getMetadata());
+            });
         } catch (ApiException ex) {
             throw new KubernetesClientException("Failed to fetch PVC list", ex);
         }
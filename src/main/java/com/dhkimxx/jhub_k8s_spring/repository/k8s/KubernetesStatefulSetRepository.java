@@ -0,0 +1,86 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import com.dhkimxx.jhub_k8s_spring.exception.KubernetesClientException;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.apis.AppsV1Api;
+import io.kubernetes.client.openapi.models.V1Scale;
+import io.kubernetes.client.openapi.models.V1ScaleSpec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * StatefulSet의 scale 하위 리소스를 조회/변경하는 리포지토리.
+ * user-placeholder StatefulSet의 replicas 조정에 사용하며, 명세 전체가 아닌 scale만 읽고 씁니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class KubernetesStatefulSetRepository {
+
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_CONFLICT = 409;
+
+    private final AppsV1Api appsV1Api;
+    private final KubernetesApiGuard apiGuard;
+
+    /**
+     * StatefulSet의 현재 replicas를 조회합니다. StatefulSet이 없으면 null을 반환합니다.
+     */
+    public Integer findReplicas(String namespace, String name) {
+        return apiGuard.call("read statefulset scale", namespace + "/" + name, () -> {
+            try {
+                V1Scale scale = appsV1Api.readNamespacedStatefulSetScale(name, namespace, null);
+                return scale.getSpec() != null && scale.getSpec().getReplicas() != null
+                        ? scale.getSpec().getReplicas()
+                        : 0;
+            } catch (ApiException ex) {
+                if (ex.getCode() == HTTP_NOT_FOUND) {
+                    return null;
+                }
+                logApiError("read statefulset scale " + namespace + "/" + name, ex);
+                throw new KubernetesClientException(
+                        formatApiExceptionMessage("Failed to read scale of statefulset " + name, ex), ex);
+            }
+        });
+    }
+
+    /**
+     * StatefulSet의 replicas를 변경합니다. (scale 하위 리소스만 갱신)
+     * 읽은 뒤 다른 곳에서 scale이 바뀌어 409 Conflict가 나면 변경하지 않고 false를 반환합니다.
+     */
+    public boolean scale(String namespace, String name, int replicas) {
+        return apiGuard.write("scale statefulset", () -> {
+            try {
+                V1Scale scale = appsV1Api.readNamespacedStatefulSetScale(name, namespace, null);
+                scale.setSpec(new V1ScaleSpec().replicas(replicas));
+                appsV1Api.replaceNamespacedStatefulSetScale(name, namespace, scale, null, null, null, null);
+                return true;
+            } catch (ApiException ex) {
+                if (ex.getCode() == HTTP_CONFLICT) {
+                    log.debug("Scale of statefulset {}/{} changed concurrently; skipping", namespace, name);
+                    return false;
+                }
+                logApiError("scale statefulset " + namespace + "/" + name, ex);
+                throw new KubernetesClientException(
+                        formatApiExceptionMessage("Failed to scale statefulset " + name, ex), ex);
+            }
+        });
+    }
+
+    private void logApiError(String action, ApiException ex) {
+        log.warn(
+                "Kubernetes API call [{}] failed. code={}, responseBody={}",
+                action,
+                ex.getCode(),
+                ex.getResponseBody());
+    }
+
+    private String formatApiExceptionMessage(String baseMessage, ApiException ex) {
+        return baseMessage + " (code=" + ex.getCode() + ", body=" + ex.getResponseBody() + ")";
+    }
+}
@@ -0,0 +1,18 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import java.time.OffsetDateTime;
+
+/**
+ * watch로 전달하는 파드 이벤트 요약. 단계별 소요 시간 계산에 필요한 필드만 담습니다.
+ *
+ * @param podName   이벤트 대상(regarding) 파드 이름
+ * @param reason    이벤트 사유 (Scheduled, Pulling, Pulled 등)
+ * @param note      이벤트 메시지 (이미지 이름, 풀 소요 시간 등)
+ * @param nodeName  이벤트를 보고한 노드 (kubelet 이벤트의 reportingInstance, 없으면 null)
+ * @param timestamp 이벤트 발생 시각 (eventTime → series.lastObservedTime → creationTimestamp 순)
+ * @param uid       이벤트 객체의 metadata.uid
+ * @param resourceVersion 이벤트 객체의 metadata.resourceVersion (series 갱신마다 바뀜)
+ */
+public record PodEvent(String namespace, String podName, String reason, String note, String nodeName,
+        OffsetDateTime timestamp, String uid, String resourceVersion) {
+}
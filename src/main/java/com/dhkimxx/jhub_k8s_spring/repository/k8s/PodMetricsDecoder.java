@@ -0,0 +1,144 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.dhkimxx.jhub_k8s_spring.dto.session.PodMetricsResponse;
+import com.dhkimxx.jhub_k8s_spring.util.ResourceQuantityParser;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * metrics.k8s.io PodMetrics / PodMetricsList JSON 응답을 JsonParser로 순차 읽어 PodMetricsResponse로 변환합니다.
+ * 컨테이너별 usage(cpu, memory)와 timestamp만 읽고 나머지는 건너뜁니다.
+ */
+final class PodMetricsDecoder {
+
+    private PodMetricsDecoder() {
+    }
+
+    /**
+     * 단일 파드 메트릭 응답을 디코딩합니다. containers 필드가 없으면 빈 값을 반환합니다.
+     */
+    static Optional<PodMetricsResponse> decodeOne(JsonFactory jsonFactory, InputStream body, String podName)
+            throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return Optional.empty();
+            }
+            MetricsFields metrics = readMetrics(parser);
+            return metrics.hasContainers ? Optional.of(metrics.toResponse(podName)) : Optional.empty();
+        }
+    }
+
+    /**
+     * 메트릭 목록 응답을 파드 이름 → 메트릭 맵으로 디코딩합니다.
+     */
+    static Map<String, PodMetricsResponse> decodeList(JsonFactory jsonFactory, InputStream body) throws IOException {
+        Map<String, PodMetricsResponse> metricsByPod = new HashMap<>();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return metricsByPod;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!"items".equals(field) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    MetricsFields metrics = readMetrics(parser);
+                    if (metrics.podName != null && metrics.hasContainers) {
+                        metricsByPod.put(metrics.podName, metrics.toResponse(metrics.podName));
+                    }
+                }
+            }
+        }
+        return metricsByPod;
+    }
+
+    /**
+     * 현재 위치(START_OBJECT)의 PodMetrics 객체 하나를 끝까지 읽습니다.
+     */
+    private static MetricsFields readMetrics(JsonParser parser) throws IOException {
+        MetricsFields metrics = new MetricsFields();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "metadata" -> metrics.podName = readName(parser);
+                case "timestamp" -> metrics.timestamp = value == JsonToken.VALUE_STRING
+                        ? OffsetDateTime.parse(parser.getText())
+                        : null;
+                case "containers" -> {
+                    metrics.hasContainers = value != JsonToken.VALUE_NULL;
+                    readContainers(parser, metrics);
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return metrics;
+    }
+
+    private static String readName(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String name = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("name".equals(field)) {
+                name = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return name;
+    }
+
+    private static void readContainers(JsonParser parser, MetricsFields metrics) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!"usage".equals(field) || value != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String resource = parser.currentName();
+                    parser.nextToken();
+                    switch (resource) {
+                        case "cpu" -> metrics.cpu += ResourceQuantityParser.toMilliCores(parser.getValueAsString());
+                        case "memory" -> metrics.memory += ResourceQuantityParser.toBytes(parser.getValueAsString());
+                        default -> parser.skipChildren();
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class MetricsFields {
+        private String podName;
+        private OffsetDateTime timestamp;
+        private boolean hasContainers;
+        private double cpu;
+        private double memory;
+
+        private PodMetricsResponse toResponse(String name) {
+            return new PodMetricsResponse(name, timestamp != null ? timestamp : OffsetDateTime.now(), cpu, memory);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 세션/클러스터 화면이 사용하는 필드만 담은 불변 파드 요약.
+ * 파드 목록 응답을 V1Pod 모델로 만들지 않고 바로 이 형태로 디코딩하여 조회 시 할당량을 줄이며,
+ * watch 캐시도 V1Pod 대신 이 형태로 보관합니다. 응답에 없는 값은 null(리소스 수량은 0)로 둡니다.
+ * 파드마다 반복되는 문자열(네임스페이스, 노드명, phase, 이미지)은 intern하여 같은 인스턴스를 공유합니다.
+ *
+ * @param ready          모든 컨테이너가 준비 상태인지 여부 (컨테이너 상태가 없으면 false)
+ * @param restartCount   모든 컨테이너의 재시작 횟수 합계
+ * @param scheduledAt                  PodScheduled 조건이 True가 된 시각 (아직 아니면 null)
+ * @param containersReadyAt            ContainersReady 조건이 True가 된 시각 (아직 아니면 null)
+ * @param cpuRequestMilliCores         컨테이너 CPU 요청량 합계 (milli-cores)
+ * @param memoryRequestBytes           컨테이너 메모리 요청량 합계 (bytes)
+ * @param ephemeralStorageRequestBytes 컨테이너 임시 스토리지 요청량 합계 (bytes)
+ * @param cpuLimitMilliCores           컨테이너 CPU 제한량 합계 (milli-cores)
+ * @param memoryLimitBytes             컨테이너 메모리 제한량 합계 (bytes)
+ * @param images                       컨테이너 이미지 목록 (컨테이너 순서)
+ * @param claimNames                   마운트한 PVC 이름 목록
+ */
+public record PodSnapshot(
+        String namespace,
+        String name,
+        String username,
+        String phase,
+        boolean ready,
+        int restartCount,
+        String nodeName,
+        OffsetDateTime creationTimestamp,
+        OffsetDateTime startTime,
+        OffsetDateTime scheduledAt,
+        OffsetDateTime containersReadyAt,
+        double cpuRequestMilliCores,
+        double memoryRequestBytes,
+        double ephemeralStorageRequestBytes,
+        double cpuLimitMilliCores,
+        double memoryLimitBytes,
+        List<String> images,
+        List<String> claimNames) {
+
+    public PodSnapshot {
+        namespace = intern(namespace);
+        phase = intern(phase);
+        nodeName = intern(nodeName);
+        images = images != null ? images.stream().map(PodSnapshot::intern).toList() : List.of();
+        claimNames = claimNames != null ? List.copyOf(claimNames) : List.of();
+    }
+
+    private static String intern(String value) {
+        return value != null ? value.intern() : null;
+    }
+}
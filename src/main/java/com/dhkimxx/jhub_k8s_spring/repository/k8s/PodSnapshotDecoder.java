@@ -0,0 +1,363 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.dhkimxx.jhub_k8s_spring.util.ResourceQuantityParser;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1Volume;
+
+/**
+ * 파드 목록(PodList) JSON 응답을 JsonParser로 순차 읽어 PodSnapshot 목록으로 변환합니다.
+ * 필요한 필드만 값으로 읽고 나머지 하위 트리는 건너뛰므로 V1Pod 객체 그래프나 JsonNode 트리를 만들지 않습니다.
+ */
+final class PodSnapshotDecoder {
+
+    static final String POD_SCHEDULED = "PodScheduled";
+    static final String CONTAINERS_READY = "ContainersReady";
+
+    private PodSnapshotDecoder() {
+    }
+
+    /**
+     * 목록 응답 본문을 디코딩합니다. 반환하는 페이지에는 다음 continue 토큰과 resourceVersion이 포함됩니다.
+     */
+    static ResourceWatcher.Page<PodSnapshot> decodeList(JsonFactory jsonFactory, InputStream body,
+            String usernameLabelKey) throws IOException {
+        List<PodSnapshot> items = new ArrayList<>();
+        String[] listMeta = new String[2];
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            parser.nextToken();
+            forEachField(parser, field -> {
+                switch (field) {
+                    case "metadata" -> forEachField(parser, metaField -> {
+                        switch (metaField) {
+                            case "continue" -> listMeta[0] = textOrNull(parser);
+                            case "resourceVersion" -> listMeta[1] = textOrNull(parser);
+                            default -> parser.skipChildren();
+                        }
+                    });
+                    case "items" -> {
+                        if (parser.currentToken() == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                items.add(readPod(parser, usernameLabelKey));
+                            }
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            });
+        }
+        String continueToken = listMeta[0] != null && !listMeta[0].isEmpty() ? listMeta[0] : null;
+        return new ResourceWatcher.Page<>(items, continueToken, listMeta[1]);
+    }
+
+    /**
+     * 이미 디코딩된 V1Pod(Protobuf 응답, watch 이벤트 등)를 동일한 규칙으로 요약합니다.
+     */
+    static PodSnapshot fromPod(V1Pod pod, String usernameLabelKey) {
+        var metadata = pod.getMetadata();
+        var spec = pod.getSpec();
+        var status = pod.getStatus();
+        Map<String, String> labels = metadata != null ? metadata.getLabels() : null;
+        List<V1ContainerStatus> containerStatuses = status != null ? status.getContainerStatuses() : null;
+        List<V1Container> containers = spec != null ? spec.getContainers() : null;
+
+        double cpu = 0d;
+        double memory = 0d;
+        double ephemeralStorage = 0d;
+        double cpuLimit = 0d;
+        double memoryLimit = 0d;
+        List<String> images = new ArrayList<>();
+        if (containers != null) {
+            for (V1Container container : containers) {
+                images.add(container.getImage());
+                V1ResourceRequirements resources = container.getResources();
+                Map<String, Quantity> requests = resources != null ? resources.getRequests() : null;
+                if (requests != null) {
+                    cpu += ResourceQuantityParser.toMilliCores(requests.get("cpu"));
+                    memory += ResourceQuantityParser.toBytes(requests.get("memory"));
+                    ephemeralStorage += ResourceQuantityParser.toBytes(requests.get("ephemeral-storage"));
+                }
+                Map<String, Quantity> limits = resources != null ? resources.getLimits() : null;
+                if (limits != null) {
+                    cpuLimit += ResourceQuantityParser.toMilliCores(limits.get("cpu"));
+                    memoryLimit += ResourceQuantityParser.toBytes(limits.get("memory"));
+                }
+            }
+        }
+        List<String> claimNames = new ArrayList<>();
+        if (spec != null && spec.getVolumes() != null) {
+            for (V1Volume volume : spec.getVolumes()) {
+                if (volume.getPersistentVolumeClaim() != null
+                        && volume.getPersistentVolumeClaim().getClaimName() != null) {
+                    claimNames.add(volume.getPersistentVolumeClaim().getClaimName());
+                }
+            }
+        }
+
+        return new PodSnapshot(
+                metadata != null ? metadata.getNamespace() : null,
+                metadata != null ? metadata.getName() : null,
+                labels != null ? labels.get(usernameLabelKey) : null,
+                status != null ? status.getPhase() : null,
+                containerStatuses != null && !containerStatuses.isEmpty()
+                        && containerStatuses.stream().allMatch(s -> Boolean.TRUE.equals(s.getReady())),
+                containerStatuses != null
+                        ? containerStatuses.stream()
+                                .mapToInt(s -> s.getRestartCount() != null ? s.getRestartCount() : 0)
+                                .sum()
+                        : 0,
+                spec != null ? spec.getNodeName() : null,
+                metadata != null ? metadata.getCreationTimestamp() : null,
+                status != null ? status.getStartTime() : null,
+                conditionTrueSince(status != null ? status.getConditions() : null, POD_SCHEDULED),
+                conditionTrueSince(status != null ? status.getConditions() : null, CONTAINERS_READY),
+                cpu,
+                memory,
+                ephemeralStorage,
+                cpuLimit,
+                memoryLimit,
+                images,
+                claimNames);
+    }
+
+    /**
+     * 지정한 조건이 True이면 마지막 전이 시각을, 아니면 null을 반환합니다.
+     */
+    private static OffsetDateTime conditionTrueSince(List<V1PodCondition> conditions, String type) {
+        if (conditions == null) {
+            return null;
+        }
+        for (V1PodCondition condition : conditions) {
+            if (type.equals(condition.getType())) {
+                return "True".equals(condition.getStatus()) ? condition.getLastTransitionTime() : null;
+            }
+        }
+        return null;
+    }
+
+    private static PodSnapshot readPod(JsonParser parser, String usernameLabelKey) throws IOException {
+        PodFields pod = new PodFields();
+        forEachField(parser, field -> {
+            switch (field) {
+                case "metadata" -> readMetadata(parser, pod, usernameLabelKey);
+                case "spec" -> readSpec(parser, pod);
+                case "status" -> readStatus(parser, pod);
+                default -> parser.skipChildren();
+            }
+        });
+        return pod.toSnapshot();
+    }
+
+    private static void readMetadata(JsonParser parser, PodFields pod, String usernameLabelKey)
+            throws IOException {
+        forEachField(parser, field -> {
+            switch (field) {
+                case "name" -> pod.name = textOrNull(parser);
+                case "namespace" -> pod.namespace = textOrNull(parser);
+                case "creationTimestamp" -> pod.creationTimestamp = timeOrNull(parser);
+                case "labels" -> forEachField(parser, label -> {
+                    if (label.equals(usernameLabelKey)) {
+                        pod.username = textOrNull(parser);
+                    }
+                });
+                default -> parser.skipChildren();
+            }
+        });
+    }
+
+    private static void readSpec(JsonParser parser, PodFields pod) throws IOException {
+        forEachField(parser, field -> {
+            switch (field) {
+                case "nodeName" -> pod.nodeName = textOrNull(parser);
+                case "containers" -> forEachElement(parser, () -> forEachField(parser, containerField -> {
+                    switch (containerField) {
+                        case "image" -> pod.images.add(textOrNull(parser));
+                        case "resources" -> forEachField(parser, resourcesField -> {
+                            switch (resourcesField) {
+                                case "requests" -> readRequests(parser, pod);
+                                case "limits" -> readLimits(parser, pod);
+                                default -> parser.skipChildren();
+                            }
+                        });
+                        default -> parser.skipChildren();
+                    }
+                }));
+                case "volumes" -> forEachElement(parser, () -> forEachField(parser, volumeField -> {
+                    if (volumeField.equals("persistentVolumeClaim")) {
+                        forEachField(parser, claimField -> {
+                            String claimName = claimField.equals("claimName") ? textOrNull(parser) : null;
+                            if (claimName != null) {
+                                pod.claimNames.add(claimName);
+                            }
+                        });
+                    } else {
+                        parser.skipChildren();
+                    }
+                }));
+                default -> parser.skipChildren();
+            }
+        });
+    }
+
+    private static void readRequests(JsonParser parser, PodFields pod) throws IOException {
+        forEachField(parser, resource -> {
+            switch (resource) {
+                case "cpu" -> pod.cpu += ResourceQuantityParser.toMilliCores(textOrNull(parser));
+                case "memory" -> pod.memory += ResourceQuantityParser.toBytes(textOrNull(parser));
+                case "ephemeral-storage" ->
+                    pod.ephemeralStorage += ResourceQuantityParser.toBytes(textOrNull(parser));
+                default -> parser.skipChildren();
+            }
+        });
+    }
+
+    private static void readLimits(JsonParser parser, PodFields pod) throws IOException {
+        forEachField(parser, resource -> {
+            switch (resource) {
+                case "cpu" -> pod.cpuLimit += ResourceQuantityParser.toMilliCores(textOrNull(parser));
+                case "memory" -> pod.memoryLimit += ResourceQuantityParser.toBytes(textOrNull(parser));
+                default -> parser.skipChildren();
+            }
+        });
+    }
+
+    private static void readStatus(JsonParser parser, PodFields pod) throws IOException {
+        forEachField(parser, field -> {
+            switch (field) {
+                case "phase" -> pod.phase = textOrNull(parser);
+                case "startTime" -> pod.startTime = timeOrNull(parser);
+                case "conditions" -> forEachElement(parser, () -> readCondition(parser, pod));
+                case "containerStatuses" -> forEachElement(parser, () -> {
+                    pod.containerCount++;
+                    forEachField(parser, statusField -> {
+                        switch (statusField) {
+                            case "ready" -> {
+                                if (parser.currentToken() == JsonToken.VALUE_TRUE) {
+                                    pod.readyCount++;
+                                }
+                            }
+                            case "restartCount" -> pod.restartCount += parser.getValueAsInt(0);
+                            default -> parser.skipChildren();
+                        }
+                    });
+                });
+                default -> parser.skipChildren();
+            }
+        });
+    }
+
+    private static void readCondition(JsonParser parser, PodFields pod) throws IOException {
+        String[] values = new String[3];
+        forEachField(parser, field -> {
+            switch (field) {
+                case "type" -> values[0] = textOrNull(parser);
+                case "status" -> values[1] = textOrNull(parser);
+                case "lastTransitionTime" -> values[2] = textOrNull(parser);
+                default -> parser.skipChildren();
+            }
+        });
+        if (!"True".equals(values[1]) || values[2] == null || values[2].isEmpty()) {
+            return;
+        }
+        if (POD_SCHEDULED.equals(values[0])) {
+            pod.scheduledAt = OffsetDateTime.parse(values[2]);
+        } else if (CONTAINERS_READY.equals(values[0])) {
+            pod.containersReadyAt = OffsetDateTime.parse(values[2]);
+        }
+    }
+
+    /**
+     * 현재 토큰이 객체 시작이면 각 필드마다 값 토큰으로 이동한 뒤 handler를 호출합니다.
+     * handler는 값을 모두 소비해야 하며(객체/배열은 skipChildren 등), null 등 객체가 아니면 건너뜁니다.
+     */
+    private static void forEachField(JsonParser parser, FieldHandler handler) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            handler.handle(field);
+        }
+    }
+
+    /**
+     * 현재 토큰이 배열 시작이면 각 원소의 시작 토큰에서 handler를 호출합니다.
+     */
+    private static void forEachElement(JsonParser parser, ElementHandler handler) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            handler.handle();
+        }
+    }
+
+    private static String textOrNull(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+    }
+
+    private static OffsetDateTime timeOrNull(JsonParser parser) throws IOException {
+        String text = textOrNull(parser);
+        return text != null && !text.isEmpty() ? OffsetDateTime.parse(text) : null;
+    }
+
+    @FunctionalInterface
+    private interface FieldHandler {
+        void handle(String field) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ElementHandler {
+        void handle() throws IOException;
+    }
+
+    /**
+     * 파드 하나를 읽는 동안 값을 모으는 임시 버퍼.
+     */
+    private static final class PodFields {
+        private String namespace;
+        private String name;
+        private String username;
+        private String phase;
+        private String nodeName;
+        private OffsetDateTime creationTimestamp;
+        private OffsetDateTime startTime;
+        private OffsetDateTime scheduledAt;
+        private OffsetDateTime containersReadyAt;
+        private int containerCount;
+        private int readyCount;
+        private int restartCount;
+        private double cpu;
+        private double memory;
+        private double ephemeralStorage;
+        private double cpuLimit;
+        private double memoryLimit;
+        private final List<String> images = new ArrayList<>(1);
+        private final List<String> claimNames = new ArrayList<>(1);
+
+        private PodSnapshot toSnapshot() {
+            return new PodSnapshot(namespace, name, username, phase,
+                    containerCount > 0 && readyCount == containerCount,
+                    restartCount, nodeName, creationTimestamp, startTime, scheduledAt, containersReadyAt,
+                    cpu, memory, ephemeralStorage, cpuLimit, memoryLimit, images, claimNames);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+/**
+ * 서버 측 Table 표현(as=Table)으로 조회한 파드 한 행.
+ * 목록/개요 화면에 필요한 열과 메타데이터(PartialObjectMetadata)의 사용자 라벨만 담습니다.
+ *
+ * @param status kubectl get pods의 STATUS 열 값 (Running, Pending, Completed, CrashLoopBackOff 등).
+ *               표시용 사유이며 phase가 아니므로 phase 기준 집계에는 사용하지 않습니다.
+ */
+public record PodTableRow(
+        String namespace,
+        String name,
+        String username,
+        String status,
+        int readyContainers,
+        int totalContainers,
+        int restarts,
+        String nodeName) {
+
+    /**
+     * 모든 컨테이너가 준비 상태인지 여부.
+     */
+    public boolean ready() {
+        return totalContainers > 0 && readyContainers == totalContainers;
+    }
+}
@@ -0,0 +1,190 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateRunning;
+import io.kubernetes.client.openapi.models.V1ContainerStateTerminated;
+import io.kubernetes.client.openapi.models.V1ContainerStateWaiting;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1OwnerReference;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimVolumeSource;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.Resource;
+import io.kubernetes.client.proto.V1;
+
+/**
+ * Protobuf로 수신한 파드 목록(V1.PodList)을 client-java 모델(V1PodList)로 변환합니다.
+ * 목록 조회 결과를 사용하는 코드(세션 요약, 인덱스, 노드별 집계)가 참조하는 필드만 변환하며,
+ * 프로브, 환경 변수, 보안 컨텍스트 등 나머지 필드는 비워 둡니다.
+ */
+final class ProtoPodConverter {
+
+    private ProtoPodConverter() {
+    }
+
+    static V1PodList toPodList(V1.PodList proto) {
+        V1ListMeta listMeta = new V1ListMeta();
+        if (proto.hasMetadata()) {
+            Meta.ListMeta meta = proto.getMetadata();
+            listMeta.setResourceVersion(meta.hasResourceVersion() ? meta.getResourceVersion() : null);
+            listMeta.setContinue(meta.hasContinue() && !meta.getContinue().isEmpty() ? meta.getContinue() : null);
+        }
+        return new V1PodList()
+                .apiVersion("v1")
+                .kind("PodList")
+                .metadata(listMeta)
+                .items(proto.getItemsList().stream().map(ProtoPodConverter::toPod).toList());
+    }
+
+    static V1Pod toPod(V1.Pod proto) {
+        return new V1Pod()
+                .apiVersion("v1")
+                .kind("Pod")
+                .metadata(proto.hasMetadata() ? toObjectMeta(proto.getMetadata()) : null)
+                .spec(proto.hasSpec() ? toSpec(proto.getSpec()) : null)
+                .status(proto.hasStatus() ? toStatus(proto.getStatus()) : null);
+    }
+
+    private static V1ObjectMeta toObjectMeta(Meta.ObjectMeta proto) {
+        return new V1ObjectMeta()
+                .name(proto.hasName() ? proto.getName() : null)
+                .namespace(proto.hasNamespace() ? proto.getNamespace() : null)
+                .uid(proto.hasUid() ? proto.getUid() : null)
+                .resourceVersion(proto.hasResourceVersion() ? proto.getResourceVersion() : null)
+                .creationTimestamp(proto.hasCreationTimestamp() ? toTime(proto.getCreationTimestamp()) : null)
+                .deletionTimestamp(proto.hasDeletionTimestamp() ? toTime(proto.getDeletionTimestamp()) : null)
+                .labels(new LinkedHashMap<>(proto.getLabelsMap()))
+                .annotations(new LinkedHashMap<>(proto.getAnnotationsMap()))
+                .ownerReferences(proto.getOwnerReferencesList().stream()
+                        .map(owner -> new V1OwnerReference()
+                                .apiVersion(owner.getApiVersion())
+                                .kind(owner.getKind())
+                                .name(owner.getName())
+                                .uid(owner.getUid())
+                                .controller(owner.hasController() ? owner.getController() : null))
+                        .toList());
+    }
+
+    private static V1PodSpec toSpec(V1.PodSpec proto) {
+        return new V1PodSpec()
+                .nodeName(proto.hasNodeName() ? proto.getNodeName() : null)
+                .serviceAccountName(proto.hasServiceAccountName() ? proto.getServiceAccountName() : null)
+                .restartPolicy(proto.hasRestartPolicy() ? proto.getRestartPolicy() : null)
+                .priorityClassName(proto.hasPriorityClassName() ? proto.getPriorityClassName() : null)
+                .containers(proto.getContainersList().stream().map(ProtoPodConverter::toContainer).toList())
+                .volumes(proto.getVolumesList().stream().map(ProtoPodConverter::toVolume).toList());
+    }
+
+    private static V1Container toContainer(V1.Container proto) {
+        V1ResourceRequirements resources = null;
+        if (proto.hasResources()) {
+            resources = new V1ResourceRequirements()
+                    .requests(toQuantities(proto.getResources().getRequestsMap()))
+                    .limits(toQuantities(proto.getResources().getLimitsMap()));
+        }
+        return new V1Container()
+                .name(proto.getName())
+                .image(proto.hasImage() ? proto.getImage() : null)
+                .resources(resources);
+    }
+
+    private static V1Volume toVolume(V1.Volume proto) {
+        V1Volume volume = new V1Volume().name(proto.getName());
+        if (proto.hasVolumeSource() && proto.getVolumeSource().hasPersistentVolumeClaim()) {
+            V1.PersistentVolumeClaimVolumeSource claim = proto.getVolumeSource().getPersistentVolumeClaim();
+            volume.persistentVolumeClaim(new V1PersistentVolumeClaimVolumeSource()
+                    .claimName(claim.getClaimName())
+                    .readOnly(claim.hasReadOnly() ? claim.getReadOnly() : null));
+        }
+        return volume;
+    }
+
+    private static V1PodStatus toStatus(V1.PodStatus proto) {
+        return new V1PodStatus()
+                .phase(proto.hasPhase() ? proto.getPhase() : null)
+                .message(proto.hasMessage() ? proto.getMessage() : null)
+                .reason(proto.hasReason() ? proto.getReason() : null)
+                .hostIP(proto.hasHostIP() ? proto.getHostIP() : null)
+                .podIP(proto.hasPodIP() ? proto.getPodIP() : null)
+                .qosClass(proto.hasQosClass() ? proto.getQosClass() : null)
+                .startTime(proto.hasStartTime() ? toTime(proto.getStartTime()) : null)
+                .conditions(proto.getConditionsList().stream()
+                        .map(condition -> new V1PodCondition()
+                                .type(condition.getType())
+                                .status(condition.getStatus())
+                                .reason(condition.hasReason() ? condition.getReason() : null)
+                                .message(condition.hasMessage() ? condition.getMessage() : null)
+                                .lastProbeTime(condition.hasLastProbeTime()
+                                        ? toTime(condition.getLastProbeTime())
+                                        : null)
+                                .lastTransitionTime(condition.hasLastTransitionTime()
+                                        ? toTime(condition.getLastTransitionTime())
+                                        : null))
+                        .toList())
+                .containerStatuses(toContainerStatuses(proto.getContainerStatusesList()));
+    }
+
+    private static List<V1ContainerStatus> toContainerStatuses(List<V1.ContainerStatus> statuses) {
+        return statuses.stream()
+                .map(status -> new V1ContainerStatus()
+                        .name(status.getName())
+                        .ready(status.getReady())
+                        .started(status.hasStarted() ? status.getStarted() : null)
+                        .restartCount(status.getRestartCount())
+                        .image(status.getImage())
+                        .imageID(status.getImageID())
+                        .containerID(status.hasContainerID() ? status.getContainerID() : null)
+                        .state(status.hasState() ? toContainerState(status.getState()) : null))
+                .toList();
+    }
+
+    private static V1ContainerState toContainerState(V1.ContainerState proto) {
+        V1ContainerState state = new V1ContainerState();
+        if (proto.hasRunning()) {
+            state.running(new V1ContainerStateRunning()
+                    .startedAt(proto.getRunning().hasStartedAt() ? toTime(proto.getRunning().getStartedAt()) : null));
+        }
+        if (proto.hasWaiting()) {
+            state.waiting(new V1ContainerStateWaiting()
+                    .reason(proto.getWaiting().hasReason() ? proto.getWaiting().getReason() : null)
+                    .message(proto.getWaiting().hasMessage() ? proto.getWaiting().getMessage() : null));
+        }
+        if (proto.hasTerminated()) {
+            V1.ContainerStateTerminated terminated = proto.getTerminated();
+            state.terminated(new V1ContainerStateTerminated()
+                    .exitCode(terminated.getExitCode())
+                    .reason(terminated.hasReason() ? terminated.getReason() : null)
+                    .message(terminated.hasMessage() ? terminated.getMessage() : null)
+                    .startedAt(terminated.hasStartedAt() ? toTime(terminated.getStartedAt()) : null)
+                    .finishedAt(terminated.hasFinishedAt() ? toTime(terminated.getFinishedAt()) : null));
+        }
+        return state;
+    }
+
+    private static Map<String, Quantity> toQuantities(Map<String, Resource.Quantity> proto) {
+        Map<String, Quantity> quantities = new LinkedHashMap<>();
+        proto.forEach((name, quantity) -> quantities.put(name, Quantity.fromString(quantity.getString())));
+        return quantities;
+    }
+
+    private static OffsetDateTime toTime(Meta.Time proto) {
+        return Instant.ofEpochSecond(proto.getSeconds(), proto.getNanos()).atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,26 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import java.util.List;
+
+/**
+ * ResourceWatcher가 전달하는 리소스 변경 이벤트 수신자.
+ * 초기 목록 조회(또는 재조회) 결과와 이후의 watch 이벤트를 순서대로 전달받습니다.
+ */
+public interface ResourceEventListener<T> {
+
+    /**
+     * 전체 목록 조회 결과로 기존 상태를 교체합니다.
+     * 최초 동기화 및 watch 만료(410 Gone) 후 재조회 시 호출됩니다.
+     */
+    void onReplace(List<T> items);
+
+    /**
+     * 리소스가 추가되거나 변경되었을 때 호출됩니다.
+     */
+    void onUpsert(T item);
+
+    /**
+     * 리소스가 삭제되었을 때 호출됩니다.
+     */
+    void onDelete(T item);
+}
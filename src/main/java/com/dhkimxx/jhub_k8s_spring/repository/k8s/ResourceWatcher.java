@@ -0,0 +1,225 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+
+import org.springframework.util.StringUtils;
+
+import com.dhkimxx.jhub_k8s_spring.config.ApiRateLimiter;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.util.Watch;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+
+/**
+ * 쿠버네티스 리소스를 list + watch 방식으로 추적하는 백그라운드 워커.
+ * 페이지 단위로 전체 목록을 조회한 뒤 resourceVersion부터 watch를 이어가며, 변경 사항을 리스너에 전달합니다.
+ * watch가 만료(410 Gone)되거나 실패하면 일정 시간 대기 후 목록을 다시 조회합니다.
+ * 리소스 객체 자체는 보관하지 않으므로 캐시 형태는 리스너가 결정합니다.
+ * watch 이벤트 객체(T)는 transform으로 리스너가 보관할 형태(R)로 변환하여 전달하고,
+ * 목록 조회 함수는 처음부터 변환된 항목을 반환하므로 원본 객체는 이벤트 처리 동안만 유지됩니다.
+ */
+@Slf4j
+public class ResourceWatcher<T extends KubernetesObject, R> {
+
+    private static final int HTTP_GONE = 410;
+
+    private final String name;
+    private final ApiClient apiClient;
+    private final ListFetcher<R> listFetcher;
+    private final WatchCallFactory watchCallFactory;
+    private final Type watchType;
+    private final Function<T, R> transform;
+    private final ResourceEventListener<R> listener;
+    private final Duration retryBackoff;
+
+    private volatile boolean running;
+    private volatile boolean synced;
+    private volatile Watch<T> currentWatch;
+    private Thread worker;
+
+    public ResourceWatcher(
+            String name,
+            ApiClient apiClient,
+            ListFetcher<R> listFetcher,
+            WatchCallFactory watchCallFactory,
+            Type watchType,
+            Function<T, R> transform,
+            ResourceEventListener<R> listener,
+            Duration retryBackoff) {
+        this.name = name;
+        this.apiClient = apiClient;
+        this.listFetcher = listFetcher;
+        this.watchCallFactory = watchCallFactory;
+        this.watchType = watchType;
+        this.transform = transform;
+        this.listener = listener;
+        this.retryBackoff = retryBackoff;
+    }
+
+    /**
+     * threadFactory가 생성한 백그라운드 스레드에서 list + watch 루프를 시작합니다.
+     * 스레드 이름은 "watch-{이름}"으로 지정되며, 이 스레드의 API 호출은 BACKGROUND 우선순위로 QPS 제한기를 거칩니다.
+     */
+    public synchronized void start(ThreadFactory threadFactory) {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = threadFactory.newThread(
+                () -> ApiRateLimiter.runWithLane(ApiRateLimiter.Lane.BACKGROUND, this::run));
+        worker.setName("watch-" + name);
+        worker.start();
+    }
+
+    /**
+     * 루프를 중단하고 진행 중인 watch 연결을 닫습니다.
+     */
+    public synchronized void stop() {
+        running = false;
+        closeQuietly(currentWatch);
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 최초 목록 조회가 완료되어 리스너가 최신 상태를 보유하고 있는지 여부.
+     */
+    public boolean hasSynced() {
+        return synced;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                String resourceVersion = relist();
+                watchFrom(resourceVersion);
+            } catch (Exception ex) {
+                if (!running) {
+                    break;
+                }
+                synced = false;
+                log.warn("Watcher [{}] failed, retrying in {}: {}", name, retryBackoff, ex.getMessage());
+                sleep(retryBackoff);
+            }
+        }
+    }
+
+    private String relist() throws ApiException {
+        List<R> items = new ArrayList<>();
+        String continueToken = null;
+        String resourceVersion;
+        do {
+            Page<R> page = listFetcher.list(continueToken);
+            items.addAll(page.items());
+            continueToken = page.continueToken();
+            resourceVersion = page.resourceVersion();
+        } while (StringUtils.hasText(continueToken));
+
+        listener.onReplace(items);
+        synced = true;
+        log.debug("Watcher [{}] listed {} items at resourceVersion {}", name, items.size(), resourceVersion);
+        return resourceVersion;
+    }
+
+    /**
+     * resourceVersion부터 watch를 이어갑니다. 서버가 연결을 정상 종료하면 마지막 버전부터 다시 watch하고,
+     * 410 Gone을 받으면 반환하여 목록을 다시 조회하도록 합니다.
+     */
+    private void watchFrom(String resourceVersion) throws Exception {
+        String lastVersion = resourceVersion;
+        while (running) {
+            Watch<T> watch = Watch.createWatch(apiClient, watchCallFactory.create(lastVersion), watchType);
+            currentWatch = watch;
+            try {
+                for (Watch.Response<T> event : watch) {
+                    if ("ERROR".equals(event.type)) {
+                        if (event.status != null && event.status.getCode() != null
+                                && event.status.getCode() == HTTP_GONE) {
+                            log.debug("Watcher [{}] resourceVersion {} expired, relisting", name, lastVersion);
+                            return;
+                        }
+                        throw new IllegalStateException("Watch error: "
+                                + (event.status != null ? event.status.getMessage() : "unknown"));
+                    }
+                    String eventVersion = resourceVersionOf(event.object);
+                    if (eventVersion != null) {
+                        lastVersion = eventVersion;
+                    }
+                    switch (event.type) {
+                        case "ADDED", "MODIFIED" -> listener.onUpsert(transform.apply(event.object));
+                        case "DELETED" -> listener.onDelete(transform.apply(event.object));
+                        default -> {
+                            // BOOKMARK: resourceVersion만 갱신
+                        }
+                    }
+                }
+            } finally {
+                currentWatch = null;
+                closeQuietly(watch);
+            }
+        }
+    }
+
+    private String resourceVersionOf(T object) {
+        if (object == null || object.getMetadata() == null) {
+            return null;
+        }
+        return object.getMetadata().getResourceVersion();
+    }
+
+    private void closeQuietly(Watch<T> watch) {
+        if (watch == null) {
+            return;
+        }
+        try {
+            watch.close();
+        } catch (Exception ex) {
+            log.debug("Watcher [{}] close failed: {}", name, ex.getMessage());
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    /**
+     * continue 토큰으로 목록의 한 페이지를 조회하는 함수. 항목은 리스너에 전달할 형태로 반환합니다.
+     */
+    @FunctionalInterface
+    public interface ListFetcher<T> {
+        Page<T> list(String continueToken) throws ApiException;
+    }
+
+    /**
+     * 주어진 resourceVersion부터 시작하는 watch 호출을 생성하는 함수.
+     */
+    @FunctionalInterface
+    public interface WatchCallFactory {
+        Call create(String resourceVersion) throws ApiException;
+    }
+
+    /**
+     * 목록 조회 결과의 한 페이지.
+     */
+    public record Page<T>(List<T> items, String continueToken, String resourceVersion) {
+    }
+}
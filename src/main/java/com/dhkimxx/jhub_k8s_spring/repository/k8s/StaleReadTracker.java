@@ -0,0 +1,107 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 작업(요청 처리, 클러스터 현황 수집 등)에서 이전 조회 결과(stale)로 응답한 API 호출을 기록합니다.
+ * open/track으로 범위를 연 스레드에서만 기록되며, 범위가 없으면 기록하지 않습니다.
+ * 범위가 중첩되면 안쪽 범위의 기록은 바깥 범위에도 반영됩니다.
+ */
+public final class StaleReadTracker {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private StaleReadTracker() {
+    }
+
+    /**
+     * 현재 스레드에서 새 범위를 엽니다. 반환된 범위는 반드시 닫아야 합니다. (try-with-resources)
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 범위를 열고 작업을 실행한 뒤, 결과와 범위 안에서 기록된 stale 정보를 함께 반환합니다.
+     */
+    public static <T> Tracked<T> track(Supplier<T> work) {
+        try (Scope scope = open()) {
+            T value = work.get();
+            return new Tracked<>(value, scope.staleness());
+        }
+    }
+
+    /**
+     * 현재 범위에서 기록된 stale 정보. 범위가 없거나 기록이 없으면 null을 반환합니다.
+     */
+    public static Staleness current() {
+        Scope scope = CURRENT.get();
+        return scope != null ? scope.staleness() : null;
+    }
+
+    static void record(String operation, Instant fetchedAt) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.record(operation, fetchedAt);
+        }
+    }
+
+    /**
+     * stale 응답에 사용된 작업 목록과 그중 가장 오래된 조회 시각.
+     */
+    public record Staleness(Set<String> operations, Instant oldestFetchedAt) {
+    }
+
+    public record Tracked<T>(T value, Staleness staleness) {
+
+        public boolean stale() {
+            return staleness != null;
+        }
+    }
+
+    /**
+     * 기록 범위. 닫으면 바깥 범위(있으면)에 기록을 합치고 현재 범위를 바깥 범위로 되돌립니다.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final Scope outer;
+        private final SortedSet<String> operations = new TreeSet<>();
+        private Instant oldestFetchedAt;
+
+        private Scope(Scope outer) {
+            this.outer = outer;
+        }
+
+        /**
+         * 범위 안에서 기록된 stale 정보. 기록이 없으면 null을 반환합니다.
+         */
+        public Staleness staleness() {
+            return operations.isEmpty()
+                    ? null
+                    : new Staleness(Collections.unmodifiableSortedSet(new TreeSet<>(operations)), oldestFetchedAt);
+        }
+
+        @Override
+        public void close() {
+            if (outer != null) {
+                operations.forEach(operation -> outer.record(operation, oldestFetchedAt));
+                CURRENT.set(outer);
+            } else {
+                CURRENT.remove();
+            }
+        }
+
+        private void record(String operation, Instant fetchedAt) {
+            operations.add(operation);
+            if (oldestFetchedAt == null || fetchedAt.isBefore(oldestFetchedAt)) {
+                oldestFetchedAt = fetchedAt;
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.CapacitySimulationRequest;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.CapacitySimulationResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeSummaryResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.NodePlacement;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.PackingStrategy;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.PodProfile;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.ProfilePlacement;
+import com.dhkimxx.jhub_k8s_spring.exception.BadRequestException;
+import com.dhkimxx.jhub_k8s_spring.util.ResourceQuantityParser;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메모리 내 배치(bin-packing) 시뮬레이터.
+ * 노드 요약(allocatable - 현재 요청량)에서 남은 CPU/메모리를 가져와 가상 파드 묶음을 순서대로 배치하고,
+ * 배치된 수와 노드별로 더 채울 수 없는 고립 자원을 계산합니다. 클러스터 상태는 변경하지 않습니다.
+ * 같은 묶음의 파드는 크기가 같으므로 한 개씩 배치하지 않고 노드마다 들어갈 수 있는 개수를 한 번에 채웁니다.
+ * FIRST_FIT은 노드 이름 순으로 채우는 것과 같고, BEST_FIT은 한 번 배치한 노드의 점수(남는 비율)가 계속 작아져
+ * 가장 좋은 노드로 남으므로 점수 순으로 정렬한 노드를 차례로 채우는 것과 같습니다.
+ * 따라서 묶음마다 노드 정렬 한 번(O(N log N))으로 끝나며 파드 수에 비례하지 않습니다.
+ * 준비(Ready) 노드만 사용하며 taint, affinity, 노드당 최대 파드 수는 고려하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CapacitySimulator {
+
+    private final ClusterService clusterService;
+
+    /**
+     * 현재 노드 요약을 기준으로 가상 파드 묶음을 배치합니다.
+     * 묶음이 없거나 CPU/메모리 요청량을 해석할 수 없으면 BadRequestException을 던집니다.
+     */
+    public CapacitySimulationResponse simulate(CapacitySimulationRequest request) {
+        List<Profile> profiles = toProfiles(request);
+        PackingStrategy strategy = request.strategy() != null ? request.strategy() : PackingStrategy.BEST_FIT;
+        List<ClusterNodeSummaryResponse> nodes = clusterService.fetchNodeSummaries().stream()
+                .filter(node -> "Ready".equals(node.status()))
+                .toList();
+
+        long started = System.nanoTime();
+        CapacitySimulationResponse response = pack(nodes, profiles, strategy, started);
+        log.debug("Simulated {} pods on {} nodes in {} ms", response.requestedPods(), nodes.size(),
+                response.elapsedMillis());
+        return response;
+    }
+
+    static CapacitySimulationResponse pack(List<ClusterNodeSummaryResponse> nodes, List<Profile> profiles,
+            PackingStrategy strategy, long startedNanos) {
+        int nodeCount = nodes.size();
+        String[] names = new String[nodeCount];
+        double[] allocatableCpu = new double[nodeCount];
+        double[] allocatableMemory = new double[nodeCount];
+        double[] freeCpu = new double[nodeCount];
+        double[] freeMemory = new double[nodeCount];
+        int[] placedOnNode = new int[nodeCount];
+        boolean clusterWideRequests = nodeCount > 0;
+        for (int i = 0; i < nodeCount; i++) {
+            ClusterNodeSummaryResponse node = nodes.get(i);
+            names[i] = node.nodeName();
+            allocatableCpu[i] = node.allocatableCpuMilliCores();
+            allocatableMemory[i] = node.allocatableMemoryBytes();
+            freeCpu[i] = Math.max(0d, node.allocatableCpuMilliCores() - node.requestedCpuMilliCores());
+            freeMemory[i] = Math.max(0d, node.allocatableMemoryBytes() - node.requestedMemoryBytes());
+            clusterWideRequests &= node.clusterWideRequests();
+        }
+
+        Integer[] order = new Integer[nodeCount];
+        List<ProfilePlacement> placements = new ArrayList<>(profiles.size());
+        long requested = 0;
+        long placed = 0;
+        for (Profile profile : profiles) {
+            for (int i = 0; i < nodeCount; i++) {
+                order[i] = i;
+            }
+            if (strategy == PackingStrategy.BEST_FIT) {
+                double[] score = new double[nodeCount];
+                for (int i = 0; i < nodeCount; i++) {
+                    score[i] = fits(profile, freeCpu[i], freeMemory[i]) >= 1
+                            ? remainingRatio(profile, allocatableCpu[i], allocatableMemory[i], freeCpu[i],
+                                    freeMemory[i])
+                            : Double.MAX_VALUE;
+                }
+                Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> score[i])
+                        .thenComparing(i -> names[i], Comparator.nullsLast(Comparator.<String>naturalOrder())));
+            }
+
+            int remaining = profile.count();
+            for (int k = 0; k < nodeCount && remaining > 0; k++) {
+                int i = order[k];
+                int count = (int) Math.min(remaining, fits(profile, freeCpu[i], freeMemory[i]));
+                if (count <= 0) {
+                    continue;
+                }
+                freeCpu[i] -= count * profile.cpuMilliCores();
+                freeMemory[i] -= count * profile.memoryBytes();
+                placedOnNode[i] += count;
+                remaining -= count;
+            }
+            requested += profile.count();
+            placed += profile.count() - remaining;
+            placements.add(new ProfilePlacement(profile.name(), profile.cpuMilliCores(), profile.memoryBytes(),
+                    profile.count(), profile.count() - remaining));
+        }
+
+        Profile probe = smallest(profiles);
+        List<NodePlacement> nodePlacements = new ArrayList<>(nodeCount);
+        double strandedCpu = 0d;
+        double strandedMemory = 0d;
+        for (int i = 0; i < nodeCount; i++) {
+            long slots = fits(probe, freeCpu[i], freeMemory[i]);
+            double nodeStrandedCpu = probe.cpuMilliCores() > 0
+                    ? Math.max(0d, freeCpu[i] - slots * probe.cpuMilliCores())
+                    : 0d;
+            double nodeStrandedMemory = probe.memoryBytes() > 0
+                    ? Math.max(0d, freeMemory[i] - slots * probe.memoryBytes())
+                    : 0d;
+            strandedCpu += nodeStrandedCpu;
+            strandedMemory += nodeStrandedMemory;
+            nodePlacements.add(new NodePlacement(names[i], placedOnNode[i], freeCpu[i], freeMemory[i],
+                    nodeStrandedCpu, nodeStrandedMemory));
+        }
+
+        return new CapacitySimulationResponse(
+                strategy,
+                nodeCount,
+                clusterWideRequests,
+                requested,
+                placed,
+                requested - placed,
+                placements,
+                strandedCpu,
+                strandedMemory,
+                nodePlacements,
+                (System.nanoTime() - startedNanos) / 1_000_000d);
+    }
+
+    /**
+     * 남은 자원에 프로필 크기 파드가 몇 개 들어가는지 계산합니다. (요청량이 0인 자원은 제한하지 않음)
+     */
+    private static long fits(Profile profile, double freeCpu, double freeMemory) {
+        long cpuSlots = profile.cpuMilliCores() > 0 ? (long) Math.floor(freeCpu / profile.cpuMilliCores())
+                : Long.MAX_VALUE;
+        long memorySlots = profile.memoryBytes() > 0 ? (long) Math.floor(freeMemory / profile.memoryBytes())
+                : Long.MAX_VALUE;
+        return Math.min(cpuSlots, memorySlots);
+    }
+
+    /**
+     * 파드 하나를 배치한 뒤 노드에 남는 CPU/메모리 비율의 평균. 작을수록 빈틈없이 채웁니다.
+     */
+    private static double remainingRatio(Profile profile, double allocatableCpu, double allocatableMemory,
+            double freeCpu, double freeMemory) {
+        double cpuRatio = allocatableCpu > 0 ? (freeCpu - profile.cpuMilliCores()) / allocatableCpu : 0d;
+        double memoryRatio = allocatableMemory > 0 ? (freeMemory - profile.memoryBytes()) / allocatableMemory : 0d;
+        return (cpuRatio + memoryRatio) / 2d;
+    }
+
+    /**
+     * 고립 자원 계산 기준. 각 자원별로 요청한 묶음 중 가장 작은 값을 사용하므로 고립 자원을 작게(보수적으로) 잡습니다.
+     * 어떤 묶음도 요청하지 않은 자원은 0이 되며, 배치를 막지 않으므로 고립 자원도 0으로 봅니다.
+     */
+    private static Profile smallest(List<Profile> profiles) {
+        double cpu = profiles.stream().mapToDouble(Profile::cpuMilliCores).filter(value -> value > 0).min()
+                .orElse(0d);
+        double memory = profiles.stream().mapToDouble(Profile::memoryBytes).filter(value -> value > 0).min()
+                .orElse(0d);
+        return new Profile("smallest", cpu, memory, 0);
+    }
+
+    private static List<Profile> toProfiles(CapacitySimulationRequest request) {
+        if (request == null || request.profiles() == null || request.profiles().isEmpty()) {
+            throw new BadRequestException("At least one pod profile is required");
+        }
+        List<Profile> profiles = new ArrayList<>(request.profiles().size());
+        for (PodProfile profile : request.profiles()) {
+            double cpu = ResourceQuantityParser.toMilliCores(profile.cpu());
+            double memory = ResourceQuantityParser.toBytes(profile.memory());
+            if ((isPresent(profile.cpu()) && cpu <= 0) || (isPresent(profile.memory()) && memory <= 0)
+                    || (cpu <= 0 && memory <= 0)) {
+                throw new BadRequestException(
+                        "Invalid cpu/memory in pod profile: " + profile.cpu() + "/" + profile.memory());
+            }
+            if (profile.count() < 0) {
+                throw new BadRequestException("count must not be negative: " + profile.count());
+            }
+            String name = isPresent(profile.name()) ? profile.name() : profile.cpu() + "/" + profile.memory();
+            profiles.add(new Profile(name, cpu, memory, profile.count()));
+        }
+        return profiles;
+    }
+
+    private static boolean isPresent(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * 해석된 가상 파드 묶음.
+     */
+    record Profile(String name, double cpuMilliCores, double memoryBytes, int count) {
+    }
+}
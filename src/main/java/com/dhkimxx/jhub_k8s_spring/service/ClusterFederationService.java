@@ -0,0 +1,201 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.dhkimxx.jhub_k8s_spring.config.AsyncConfig;
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterOverviewResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterStatusResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.DataStaleness;
+import com.dhkimxx.jhub_k8s_spring.exception.KubernetesClientException;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.StaleReadTracker;
+import com.dhkimxx.jhub_k8s_spring.service.ClusterRegistry.ClusterStack;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 클러스터의 현황을 동시에 수집하여 하나의 통합 현황으로 합치는 서비스.
+ * 클러스터마다 수집은 한 번에 하나만 진행하며(진행 중이면 그 결과를 함께 기다림), federationTimeout까지만 기다립니다.
+ * 수집에 실패하거나 기한을 넘긴 클러스터는 마지막으로 수집에 성공한 현황을 stale로 표시하여 반환하므로
+ * 느리거나 응답하지 않는 클러스터가 다른 클러스터의 응답을 지연시키지 않습니다.
+ * 서킷 브레이커가 일부 조회를 이전 결과로 대신한 경우에도 해당 클러스터를 stale로 표시합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ClusterFederationService {
+
+    private final ClusterRegistry clusterRegistry;
+    private final JhubK8sProperties properties;
+    @Qualifier(AsyncConfig.KUBERNETES_IO_EXECUTOR)
+    private final AsyncTaskExecutor kubernetesIoExecutor;
+
+    /** 클러스터 이름 → 진행 중인 수집 */
+    private final Map<String, CompletableFuture<Snapshot>> inFlight = new ConcurrentHashMap<>();
+    /** 클러스터 이름 → 마지막으로 수집에 성공한 현황 */
+    private final Map<String, Snapshot> lastGood = new ConcurrentHashMap<>();
+
+    /**
+     * 모든 클러스터의 현황을 동시에 수집하여 합산한 통합 현황을 반환합니다.
+     * 클러스터별 현황과 수집 상태는 clusters에 담깁니다.
+     * 모든 클러스터가 실패하고 이전 수집 결과도 없으면 예외를 던집니다.
+     */
+    public ClusterOverviewResponse buildFederatedOverview() {
+        Map<String, CompletableFuture<Snapshot>> futures = new LinkedHashMap<>();
+        clusterRegistry.clusters().forEach(stack -> futures.put(stack.name(), collect(stack)));
+
+        long deadline = System.nanoTime() + properties.getFederationTimeout().toNanos();
+        List<ClusterStatusResponse> statuses = futures.entrySet().stream()
+                .map(entry -> await(entry.getKey(), entry.getValue(), deadline))
+                .toList();
+        if (statuses.stream().allMatch(status -> status.overview() == null)) {
+            throw new KubernetesClientException("No cluster overview available: " + statuses.stream()
+                    .map(status -> status.name() + "=" + status.error())
+                    .toList());
+        }
+        return merge(statuses);
+    }
+
+    /**
+     * 특정 클러스터의 현황과 수집 상태를 반환합니다.
+     */
+    public ClusterStatusResponse fetchClusterStatus(String clusterName) {
+        ClusterStack stack = clusterRegistry.get(clusterName);
+        long deadline = System.nanoTime() + properties.getFederationTimeout().toNanos();
+        return await(stack.name(), collect(stack), deadline);
+    }
+
+    private CompletableFuture<Snapshot> collect(ClusterStack stack) {
+        String name = stack.name();
+        CompletableFuture<Snapshot> running = inFlight.get(name);
+        if (running != null) {
+            return running;
+        }
+        CompletableFuture<Snapshot> future = new CompletableFuture<>();
+        running = inFlight.putIfAbsent(name, future);
+        if (running != null) {
+            return running;
+        }
+        future.whenComplete((snapshot, ex) -> inFlight.remove(name, future));
+        try {
+            kubernetesIoExecutor.execute(() -> {
+                try {
+                    StaleReadTracker.Tracked<ClusterOverviewResponse> tracked = StaleReadTracker
+                            .track(stack.clusterService()::buildOverview);
+                    Snapshot snapshot = tracked.stale()
+                            ? new Snapshot(tracked.value(),
+                                    tracked.staleness().oldestFetchedAt().atOffset(ZoneOffset.UTC),
+                                    "serving cached data for " + tracked.staleness().operations())
+                            : new Snapshot(tracked.value(), OffsetDateTime.now(), null);
+                    if (snapshot.error() == null) {
+                        lastGood.put(name, snapshot);
+                    }
+                    future.complete(snapshot);
+                } catch (RuntimeException ex) {
+                    future.completeExceptionally(ex);
+                }
+            });
+        } catch (RuntimeException ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    private ClusterStatusResponse await(String name, CompletableFuture<Snapshot> future, long deadlineNanos) {
+        String error;
+        try {
+            long remaining = Math.max(0L, deadlineNanos - System.nanoTime());
+            Snapshot snapshot = future.get(remaining, TimeUnit.NANOSECONDS);
+            return new ClusterStatusResponse(name, snapshot.error() != null, snapshot.collectedAt(), snapshot.error(),
+                    snapshot.overview());
+        } catch (TimeoutException ex) {
+            error = "deadline exceeded";
+        } catch (ExecutionException ex) {
+            error = ex.getCause() != null ? ex.getCause().getMessage() : ex.getMessage();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            error = "interrupted";
+        }
+        log.warn("Cluster [{}] overview unavailable, serving last snapshot: {}", name, error);
+        Snapshot snapshot = lastGood.get(name);
+        return new ClusterStatusResponse(name, true,
+                snapshot != null ? snapshot.collectedAt() : null,
+                error,
+                snapshot != null ? snapshot.overview() : null);
+    }
+
+    private static ClusterOverviewResponse merge(List<ClusterStatusResponse> statuses) {
+        List<ClusterOverviewResponse> overviews = statuses.stream()
+                .map(ClusterStatusResponse::overview)
+                .filter(Objects::nonNull)
+                .toList();
+        double cpuAllocatable = sum(overviews, ClusterOverviewResponse::totalCpuAllocatableMilliCores);
+        double cpuRequested = sum(overviews, ClusterOverviewResponse::totalCpuRequestedMilliCores);
+        double memoryAllocatable = sum(overviews, ClusterOverviewResponse::totalMemoryAllocatableBytes);
+        double memoryRequested = sum(overviews, ClusterOverviewResponse::totalMemoryRequestedBytes);
+        double storageAllocatable = sum(overviews, ClusterOverviewResponse::totalEphemeralStorageAllocatableBytes);
+        double storageRequested = sum(overviews, ClusterOverviewResponse::totalEphemeralStorageRequestedBytes);
+        return new ClusterOverviewResponse(
+                (int) sum(overviews, ClusterOverviewResponse::totalNodes),
+                (int) sum(overviews, ClusterOverviewResponse::readyNodes),
+                (int) sum(overviews, ClusterOverviewResponse::totalSessions),
+                (int) sum(overviews, ClusterOverviewResponse::runningSessions),
+                sum(overviews, ClusterOverviewResponse::totalCpuCapacityMilliCores),
+                cpuAllocatable,
+                cpuRequested,
+                ClusterService.calculateUsagePercent(cpuRequested, cpuAllocatable),
+                sum(overviews, ClusterOverviewResponse::totalMemoryCapacityBytes),
+                memoryAllocatable,
+                memoryRequested,
+                ClusterService.calculateUsagePercent(memoryRequested, memoryAllocatable),
+                sum(overviews, ClusterOverviewResponse::totalEphemeralStorageCapacityBytes),
+                storageAllocatable,
+                storageRequested,
+                ClusterService.calculateUsagePercent(storageRequested, storageAllocatable),
+                statuses,
+                staleness(statuses));
+    }
+
+    /**
+     * stale로 표시된 클러스터 목록과 그중 가장 오래된 수집 시각. 모두 최신이면 null을 반환합니다.
+     */
+    private static DataStaleness staleness(List<ClusterStatusResponse> statuses) {
+        DataStaleness staleness = null;
+        for (ClusterStatusResponse status : statuses) {
+            if (status.stale()) {
+                staleness = DataStaleness.merge(staleness,
+                        new DataStaleness(List.of(status.name()), status.collectedAt()));
+            }
+        }
+        return staleness;
+    }
+
+    private static double sum(List<ClusterOverviewResponse> overviews,
+            ToDoubleFunction<ClusterOverviewResponse> field) {
+        return overviews.stream().mapToDouble(field).sum();
+    }
+
+    /**
+     * 수집 결과. 서킷 브레이커가 일부 조회를 이전 결과로 대신했으면 error에 그 내용이 담기고 stale로 표시됩니다.
+     */
+    private record Snapshot(ClusterOverviewResponse overview, OffsetDateTime collectedAt, String error) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.dhkimxx.jhub_k8s_spring.config.ApiRateLimiter;
+import com.dhkimxx.jhub_k8s_spring.config.AsyncConfig;
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.config.KubernetesClientConfig;
+import com.dhkimxx.jhub_k8s_spring.exception.ResourceNotFoundException;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesApiGuard;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesNodeRepository;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesPodRepository;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesPvRepository;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesPvcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.kubernetes.client.ProtoClient;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모니터링 대상 클러스터 목록.
+ * 기본 클러스터는 애플리케이션 빈(ClusterService 등)을 그대로 사용하고,
+ * jhub.k8s.clusters의 추가 클러스터는 클러스터마다 별도의 ApiClient(QPS 제한기 포함), 리포지토리(서킷 브레이커 포함),
+ * 세션/노드 인덱스를 구성합니다.
+ * 추가 클러스터 인덱스의 watch 시작/중단은 이 빈의 생명주기를 따릅니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ClusterRegistry implements SmartLifecycle {
+
+    private final Map<String, ClusterStack> clusters = new LinkedHashMap<>();
+    private final ThreadFactory watchThreadFactory;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private volatile boolean running;
+
+    public ClusterRegistry(
+            JhubK8sProperties properties,
+            ClusterService clusterService,
+            ObjectMapper objectMapper,
+            @Qualifier(AsyncConfig.WATCH_THREAD_FACTORY) ThreadFactory watchThreadFactory,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.watchThreadFactory = watchThreadFactory;
+        this.meterRegistry = meterRegistry;
+        clusters.put(properties.getClusterName(),
+                new ClusterStack(properties.getClusterName(), clusterService, null, null));
+        properties.getClusters().forEach((name, cluster) -> {
+            if (clusters.containsKey(name)) {
+                throw new IllegalStateException("Duplicate cluster name: " + name);
+            }
+            clusters.put(name, buildStack(name, properties.forCluster(name, cluster), objectMapper));
+        });
+    }
+
+    /**
+     * 등록된 모든 클러스터. 기본 클러스터가 첫 번째입니다.
+     */
+    public Collection<ClusterStack> clusters() {
+        return clusters.values();
+    }
+
+    public Optional<ClusterStack> find(String name) {
+        return Optional.ofNullable(clusters.get(name));
+    }
+
+    /**
+     * 이름으로 클러스터를 조회합니다. 없으면 ResourceNotFoundException을 던집니다.
+     */
+    public ClusterStack get(String name) {
+        return find(name).orElseThrow(() -> new ResourceNotFoundException("Cluster %s not found".formatted(name)));
+    }
+
+    @Override
+    public synchronized void start() {
+        clusters.values().forEach(ClusterStack::start);
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        clusters.values().forEach(ClusterStack::stop);
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private ClusterStack buildStack(String name, JhubK8sProperties properties, ObjectMapper objectMapper) {
+        ApiRateLimiter rateLimiter = new ApiRateLimiter(name, properties.getRateLimit());
+        meterRegistry.ifAvailable(rateLimiter::bindTo);
+        ApiClient apiClient = buildClient(name, properties, properties.getRequestTimeout(), rateLimiter);
+        ApiClient watchApiClient = buildClient(name, properties, Duration.ZERO, rateLimiter);
+        CoreV1Api coreV1Api = new CoreV1Api(apiClient);
+        KubernetesApiGuard apiGuard = new KubernetesApiGuard(properties);
+
+        KubernetesPodRepository podRepository = new KubernetesPodRepository(
+                coreV1Api, properties, watchApiClient, new ProtoClient(apiClient), objectMapper, apiGuard);
+        SessionIndex sessionIndex = new SessionIndex(
+                podRepository, new SessionSummaryMapper(properties), watchThreadFactory);
+        NodeAllocationIndex nodeAllocationIndex = new NodeAllocationIndex(
+                podRepository, properties, watchThreadFactory);
+        ClusterService clusterService = new ClusterService(
+                new KubernetesNodeRepository(coreV1Api, apiGuard),
+                podRepository,
+                new KubernetesPvRepository(coreV1Api, properties, apiGuard),
+                new KubernetesPvcRepository(coreV1Api, properties, apiGuard),
+                sessionIndex,
+                nodeAllocationIndex,
+                properties);
+        log.info("Registered cluster [{}] (namespaces {})", name, properties.hubNamespaces());
+        return new ClusterStack(name, clusterService, sessionIndex, nodeAllocationIndex);
+    }
+
+    private static ApiClient buildClient(String name, JhubK8sProperties properties, Duration readTimeout,
+            ApiRateLimiter rateLimiter) {
+        try {
+            return KubernetesClientConfig.buildClient(properties, readTimeout, rateLimiter);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to create Kubernetes client for cluster " + name, ex);
+        }
+    }
+
+    /**
+     * 클러스터 하나의 조회 서비스와 인덱스.
+     * 기본 클러스터의 인덱스는 애플리케이션 빈으로 관리되므로 sessionIndex/nodeAllocationIndex가 null입니다.
+     */
+    public record ClusterStack(
+            String name,
+            ClusterService clusterService,
+            SessionIndex sessionIndex,
+            NodeAllocationIndex nodeAllocationIndex) {
+
+        void start() {
+            if (sessionIndex != null) {
+                sessionIndex.start();
+            }
+            if (nodeAllocationIndex != null) {
+                nodeAllocationIndex.start();
+            }
+        }
+
+        void stop() {
+            if (sessionIndex != null) {
+                sessionIndex.stop();
+            }
+            if (nodeAllocationIndex != null) {
+                nodeAllocationIndex.stop();
+            }
+        }
+    }
+}
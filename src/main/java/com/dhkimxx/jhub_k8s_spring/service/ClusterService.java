@@ -4,30 +4,36 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
 import com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeSummaryResponse;
 import com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterOverviewResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.RequestBreakdown;
+import com.dhkimxx.jhub_k8s_spring.dto.session.NamespaceSessionSummary;
+import com.dhkimxx.jhub_k8s_spring.dto.session.PvcSummaryResponse;
 import com.dhkimxx.jhub_k8s_spring.dto.storage.PvSummaryResponse;
 import com.dhkimxx.jhub_k8s_spring.dto.storage.PvcOverviewResponse;
 import com.dhkimxx.jhub_k8s_spring.dto.storage.StorageOverviewResponse;
+import com.dhkimxx.jhub_k8s_spring.exception.BadRequestException;
 import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesNodeRepository;
 import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesPodRepository;
 import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesPvRepository;
 import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesPvcRepository;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.PodSnapshot;
+import com.dhkimxx.jhub_k8s_spring.util.FieldSelection;
 import com.dhkimxx.jhub_k8s_spring.util.ResourceQuantityParser;
 
 import io.kubernetes.client.custom.Quantity;
-import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1Node;
 import io.kubernetes.client.openapi.models.V1NodeCondition;
 import io.kubernetes.client.openapi.models.V1NodeStatus;
 import io.kubernetes.client.openapi.models.V1Pod;
-import io.kubernetes.client.openapi.models.V1PodSpec;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -44,23 +50,20 @@ public class ClusterService {
         private final KubernetesPodRepository podRepository;
         private final KubernetesPvRepository pvRepository;
         private final KubernetesPvcRepository pvcRepository;
+        private final SessionIndex sessionIndex;
+        private final NodeAllocationIndex nodeAllocationIndex;
+        private final JhubK8sProperties properties;
 
         /**
          * 전체 노드의 리소스 요약 정보를 조회합니다.
-         * 각 노드에 배치된 파드들의 리소스 요청량을 합산하여 계산합니다.
+         * 노드 요청량 인덱스가 동기화된 경우 노드의 모든 파드(사용자/시스템/기타) 요청량을,
+         * 그 전에는 사용자 파드의 요청량만 합산합니다.
          */
         public List<ClusterNodeSummaryResponse> fetchNodeSummaries() {
-                List<V1Pod> pods = podRepository.findAllUserPods();
-                Map<String, List<V1Pod>> podsByNode = pods.stream()
-                                .filter(pod -> {
-                                        V1PodSpec spec = pod.getSpec();
-                                        return spec != null && spec.getNodeName() != null;
-                                })
-                                .collect(Collectors.groupingBy(pod -> {
-                                        V1PodSpec spec = pod.getSpec();
-                                        // filter에서 이미 체크했으나, 정적 분석기를 만족시키기 위해 삼항 연산자 사용
-                                        return spec != null ? spec.getNodeName() : "unknown";
-                                }));
+                List<PodSnapshot> pods = findUserPodSnapshots();
+                Map<String, List<PodSnapshot>> podsByNode = pods.stream()
+                                .filter(pod -> pod.nodeName() != null)
+                                .collect(Collectors.groupingBy(PodSnapshot::nodeName));
 
                 return nodeRepository.findAllNodes().stream()
                                 .map(node -> {
@@ -79,11 +82,18 @@ public class ClusterService {
          */
         public ClusterOverviewResponse buildOverview() {
                 List<ClusterNodeSummaryResponse> nodes = fetchNodeSummaries();
-                int totalSessions = podRepository.findAllUserPods().size();
-                long runningSessions = podRepository.findAllUserPods().stream()
-                                .map(V1Pod::getStatus)
-                                .filter(status -> status != null && "Running".equalsIgnoreCase(status.getPhase()))
-                                .count();
+                int totalSessions;
+                long runningSessions;
+                if (sessionIndex.isSynced()) {
+                        List<NamespaceSessionSummary> summaries = sessionIndex.namespaceSummaries();
+                        totalSessions = summaries.stream().mapToInt(NamespaceSessionSummary::totalSessions).sum();
+                        runningSessions = summaries.stream().mapToInt(NamespaceSessionSummary::runningSessions).sum();
+                } else {
+                        // 세션 수 집계에는 리소스 요청량이 필요 없으므로 Table 표현으로 가볍게 조회
+                        // 실행 중 세션은 인덱스와 같이 phase 기준 (STATUS 열은 CrashLoopBackOff 등 표시용 사유)
+                        totalSessions = podRepository.findUserPodRows().size();
+                        runningSessions = podRepository.findUserPodRowsInPhase("Running").size();
+                }
 
                 double totalCpuCapacity = nodes.stream().mapToDouble(ClusterNodeSummaryResponse::capacityCpuMilliCores)
                                 .sum();
@@ -126,7 +136,9 @@ public class ClusterService {
                                 totalEphemeralStorageCapacity,
                                 totalEphemeralStorageAllocatable,
                                 totalEphemeralStorageRequested,
-                                ephemeralStorageUsagePercent);
+                                ephemeralStorageUsagePercent,
+                                List.of(),
+                                null);
         }
 
         /**
@@ -161,31 +173,83 @@ public class ClusterService {
                                 boundCapacityBytes,
                                 pvcList.size(),
                                 pvList,
-                                pvcList);
+                                pvcList,
+                                null);
+        }
+
+        /**
+         * 클러스터 스토리지 개요를 스트리밍 방식으로 생성합니다.
+         * PV를 모두 전달한 뒤 PVC를 전달하며, 각 목록은 페이지 단위로 조회되어 전체 목록을 메모리에 유지하지 않습니다.
+         * 반환값에는 집계 정보만 채워지고 목록 필드는 비어 있습니다.
+         */
+        public StorageOverviewResponse streamStorageOverview(Consumer<PvSummaryResponse> pvConsumer,
+                        Consumer<PvcOverviewResponse> pvcConsumer) {
+                StorageTotals totals = new StorageTotals();
+                pvRepository.forEachPv(pv -> {
+                        totals.addPv(pv);
+                        pvConsumer.accept(pv);
+                });
+                pvcRepository.forEachPvc(pvc -> {
+                        totals.pvcCount++;
+                        pvcConsumer.accept(toPvcOverview(pvc));
+                });
+
+                return new StorageOverviewResponse(
+                                totals.pvCount,
+                                totals.boundPvCount,
+                                totals.availablePvCount,
+                                totals.totalCapacityBytes,
+                                totals.boundCapacityBytes,
+                                totals.pvcCount,
+                                List.of(),
+                                List.of(),
+                                null);
+        }
+
+        /**
+         * 스트리밍 중 PV/PVC 집계값을 누적하는 홀더.
+         */
+        private static final class StorageTotals {
+                private int pvCount;
+                private int boundPvCount;
+                private int availablePvCount;
+                private double totalCapacityBytes;
+                private double boundCapacityBytes;
+                private int pvcCount;
+
+                private void addPv(PvSummaryResponse pv) {
+                        pvCount++;
+                        totalCapacityBytes += pv.capacityBytes();
+                        if ("Bound".equals(pv.phase())) {
+                                boundPvCount++;
+                                boundCapacityBytes += pv.capacityBytes();
+                        } else if ("Available".equals(pv.phase())) {
+                                availablePvCount++;
+                        }
+                }
         }
 
         /**
          * 특정 노드의 상세 정보를 조회합니다.
+         * fields에 포함되지 않은 라벨, 어노테이션, 조건, 파드 목록은 만들지 않습니다.
          */
-        public com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeDetailResponse fetchNodeDetail(String nodeName) {
+        public com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeDetailResponse fetchNodeDetail(String nodeName,
+                        FieldSelection fields) {
                 V1Node node = nodeRepository.findNode(nodeName);
                 if (node == null) {
                         throw new IllegalArgumentException("Node not found: " + nodeName);
                 }
 
-                List<V1Pod> allPods = podRepository.findAllUserPods();
-                List<V1Pod> podsOnNode = allPods.stream()
-                                .filter(pod -> {
-                                        V1PodSpec spec = pod.getSpec();
-                                        return spec != null && nodeName.equals(spec.getNodeName());
-                                })
+                List<PodSnapshot> allPods = findUserPodSnapshots();
+                List<PodSnapshot> podsOnNode = allPods.stream()
+                                .filter(pod -> nodeName.equals(pod.nodeName()))
                                 .toList();
 
-                return toNodeDetail(node, podsOnNode);
+                return toNodeDetail(node, podsOnNode, fields);
         }
 
         private com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeDetailResponse toNodeDetail(V1Node node,
-                        List<V1Pod> pods) {
+                        List<PodSnapshot> pods, FieldSelection fields) {
                 V1NodeStatus status = node.getStatus();
                 var metadata = node.getMetadata();
                 var nodeInfo = status != null ? status.getNodeInfo() : null;
@@ -228,13 +292,16 @@ public class ClusterService {
                 }
 
                 // Metadata
-                Map<String, String> labels = metadata != null ? metadata.getLabels() : Map.of();
-                Map<String, String> annotations = metadata != null ? metadata.getAnnotations() : Map.of();
+                Map<String, String> labels = metadata != null && fields.includes("labels") ? metadata.getLabels()
+                                : Map.of();
+                Map<String, String> annotations = metadata != null && fields.includes("annotations")
+                                ? metadata.getAnnotations()
+                                : Map.of();
 
                 // Conditions
                 List<com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeDetailResponse.NodeConditionResponse> conditionResponses = List
                                 .of();
-                if (status != null && status.getConditions() != null) {
+                if (status != null && status.getConditions() != null && fields.includes("conditions")) {
                         conditionResponses = status.getConditions().stream()
                                         .map(c -> new com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeDetailResponse.NodeConditionResponse(
                                                         c.getType(),
@@ -275,9 +342,11 @@ public class ClusterService {
                         }
                 }
 
-                double requestedCpu = calculateResourceRequest(pods, "cpu", true);
-                double requestedMemory = calculateResourceRequest(pods, "memory", false);
-                double requestedEphemeralStorage = calculateResourceRequest(pods, "ephemeral-storage", false);
+                boolean clusterWide = nodeAllocationIndex.isSynced();
+                NodeAllocationIndex.NodeRequests requests = resolveNodeRequests(name, pods, clusterWide);
+                double requestedCpu = requests.cpuMilliCores().total();
+                double requestedMemory = requests.memoryBytes().total();
+                double requestedEphemeralStorage = requests.ephemeralStorageBytes().total();
 
                 double cpuUsagePercent = calculateUsagePercent(requestedCpu, allocatableCpu);
                 double memoryUsagePercent = calculateUsagePercent(requestedMemory, allocatableMemory);
@@ -285,21 +354,20 @@ public class ClusterService {
                                 allocatableEphemeralStorage);
 
                 // Pod Summary
-                List<com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeDetailResponse.NodePodSummaryResponse> podSummaries = pods
+                List<com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeDetailResponse.NodePodSummaryResponse> podSummaries = (fields
+                                .includes("pods") ? pods : List.<PodSnapshot>of())
                                 .stream()
                                 .map(pod -> {
-                                        String podName = pod.getMetadata().getName();
-                                        String namespace = pod.getMetadata().getNamespace();
-                                        String podStatus = pod.getStatus() != null ? pod.getStatus().getPhase()
-                                                        : "Unknown";
-                                        String age = pod.getMetadata().getCreationTimestamp() != null
-                                                        ? pod.getMetadata().getCreationTimestamp().toString()
+                                        String podName = pod.name();
+                                        String namespace = pod.namespace();
+                                        String podStatus = pod.phase() != null ? pod.phase() : "Unknown";
+                                        String age = pod.creationTimestamp() != null
+                                                        ? pod.creationTimestamp().toString()
                                                         : "-";
 
-                                        double pCpu = calculateResourceRequest(List.of(pod), "cpu", true);
-                                        double pMem = calculateResourceRequest(List.of(pod), "memory", false);
-                                        double pStorage = calculateResourceRequest(List.of(pod), "ephemeral-storage",
-                                                        false);
+                                        double pCpu = pod.cpuRequestMilliCores();
+                                        double pMem = pod.memoryRequestBytes();
+                                        double pStorage = pod.ephemeralStorageRequestBytes();
 
                                         return new com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeDetailResponse.NodePodSummaryResponse(
                                                         podName, namespace, podStatus, age, pCpu, pMem, pStorage);
@@ -317,6 +385,10 @@ public class ClusterService {
                                 capacityMemory, allocatableMemory, requestedMemory, memoryUsagePercent,
                                 capacityEphemeralStorage, allocatableEphemeralStorage, requestedEphemeralStorage,
                                 ephemeralStorageUsagePercent,
+                                requests.cpuMilliCores(),
+                                requests.memoryBytes(),
+                                requests.ephemeralStorageBytes(),
+                                clusterWide,
                                 podSummaries);
         }
 
@@ -325,19 +397,23 @@ public class ClusterService {
          */
         public List<PvcOverviewResponse> fetchPvcOverviewList() {
                 return pvcRepository.findAllPvcs().stream()
-                                .map(pvc -> new PvcOverviewResponse(
-                                                pvc.pvcName(),
-                                                pvc.namespace(),
-                                                pvc.capacityBytes(),
-                                                pvc.accessModes(),
-                                                pvc.storageClassName(),
-                                                pvc.phase(),
-                                                pvc.volumeName(),
-                                                null))
+                                .map(this::toPvcOverview)
                                 .toList();
         }
 
-        private ClusterNodeSummaryResponse toNodeSummary(V1Node node, List<V1Pod> podsOnNode) {
+        private PvcOverviewResponse toPvcOverview(PvcSummaryResponse pvc) {
+                return new PvcOverviewResponse(
+                                pvc.pvcName(),
+                                pvc.namespace(),
+                                pvc.capacityBytes(),
+                                pvc.accessModes(),
+                                pvc.storageClassName(),
+                                pvc.phase(),
+                                pvc.volumeName(),
+                                null);
+        }
+
+        private ClusterNodeSummaryResponse toNodeSummary(V1Node node, List<PodSnapshot> podsOnNode) {
                 V1NodeStatus status = node.getStatus();
 
                 double capacityCpu = 0.0;
@@ -364,9 +440,14 @@ public class ClusterService {
                         }
                 }
 
-                double requestedCpu = calculateResourceRequest(podsOnNode, "cpu", true);
-                double requestedMemory = calculateResourceRequest(podsOnNode, "memory", false);
-                double requestedEphemeralStorage = calculateResourceRequest(podsOnNode, "ephemeral-storage", false);
+                String nodeName = Optional.ofNullable(node.getMetadata())
+                                .map(m -> m.getName())
+                                .orElse("unknown");
+                boolean clusterWide = nodeAllocationIndex.isSynced();
+                NodeAllocationIndex.NodeRequests requests = resolveNodeRequests(nodeName, podsOnNode, clusterWide);
+                double requestedCpu = requests.cpuMilliCores().total();
+                double requestedMemory = requests.memoryBytes().total();
+                double requestedEphemeralStorage = requests.ephemeralStorageBytes().total();
 
                 double cpuUsagePercent = calculateUsagePercent(requestedCpu, allocatableCpu);
                 double memoryUsagePercent = calculateUsagePercent(requestedMemory, allocatableMemory);
@@ -374,9 +455,6 @@ public class ClusterService {
                                 allocatableEphemeralStorage);
 
                 String statusMessage = status != null ? resolveNodeStatus(status) : "Unknown";
-                String nodeName = Optional.ofNullable(node.getMetadata())
-                                .map(m -> m.getName())
-                                .orElse("unknown");
 
                 var nodeInfo = status != null ? status.getNodeInfo() : null;
 
@@ -409,7 +487,11 @@ public class ClusterService {
                                 allocatableEphemeralStorage,
                                 requestedEphemeralStorage,
                                 ephemeralStorageUsagePercent,
-                                podsOnNode.size());
+                                podsOnNode.size(),
+                                requests.cpuMilliCores(),
+                                requests.memoryBytes(),
+                                requests.ephemeralStorageBytes(),
+                                clusterWide);
         }
 
         private String resolveNodeStatus(V1NodeStatus status) {
@@ -425,28 +507,35 @@ public class ClusterService {
                                 .orElse("Unknown");
         }
 
-        private double calculateResourceRequest(List<V1Pod> pods, String resourceKey, boolean isCpu) {
-                return pods.stream()
-                                .flatMap(this::getSafeContainerStream)
-                                .map(V1Container::getResources)
-                                .filter(res -> res != null)
-                                .map(res -> res.getRequests())
-                                .filter(requests -> requests != null)
-                                .map(requests -> requests.get(resourceKey))
-                                .mapToDouble(quantity -> isCpu ? ResourceQuantityParser.toMilliCores(quantity)
-                                                : ResourceQuantityParser.toBytes(quantity))
-                                .sum();
+        /**
+         * 세션 인덱스가 동기화된 경우 캐시된 파드 요약을 사용하고, 그 전에는 API로 조회합니다.
+         */
+        private List<PodSnapshot> findUserPodSnapshots() {
+                return sessionIndex.isSynced() ? sessionIndex.snapshots() : podRepository.findAllUserPodSnapshots();
         }
 
-        private Stream<V1Container> getSafeContainerStream(V1Pod pod) {
-                if (pod == null) {
-                        return Stream.empty();
-                }
-                V1PodSpec spec = pod.getSpec();
-                if (spec == null || spec.getContainers() == null) {
-                        return Stream.empty();
+        /**
+         * 노드의 분류별 요청량을 조회합니다. 노드 요청량 인덱스가 동기화되지 않았으면(clusterWide=false)
+         * 사용자 파드 요청량만 사용자 분류로 합산합니다.
+         */
+        private NodeAllocationIndex.NodeRequests resolveNodeRequests(String nodeName, List<PodSnapshot> userPods,
+                        boolean clusterWide) {
+                if (clusterWide) {
+                        return nodeAllocationIndex.findNode(nodeName).orElse(NodeAllocationIndex.NodeRequests.EMPTY);
                 }
-                return spec.getContainers().stream();
+                return new NodeAllocationIndex.NodeRequests(
+                                userOnly(sumRequests(userPods, PodSnapshot::cpuRequestMilliCores)),
+                                userOnly(sumRequests(userPods, PodSnapshot::memoryRequestBytes)),
+                                userOnly(sumRequests(userPods, PodSnapshot::ephemeralStorageRequestBytes)),
+                                userPods.size());
+        }
+
+        private static RequestBreakdown userOnly(double requested) {
+                return new RequestBreakdown(requested, 0, 0);
+        }
+
+        private double sumRequests(List<PodSnapshot> pods, ToDoubleFunction<PodSnapshot> request) {
+                return pods.stream().mapToDouble(request).sum();
         }
 
         /**
@@ -456,16 +545,23 @@ public class ClusterService {
 
         /**
          * 특정 파드의 인프라 레벨 상세 정보를 조회합니다.
+         * fields에 포함되지 않은 라벨, 어노테이션, 조건, 컨테이너(포트)는 만들지 않습니다.
          */
-        public com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterPodDetailResponse fetchPodDetail(String podName) {
-                V1Pod pod = podRepository.findPod(podName); // Assuming default namespace for now
+        public com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterPodDetailResponse fetchPodDetail(String namespace,
+                        String podName, FieldSelection fields) {
+                String podNamespace = namespace != null ? namespace : properties.getNamespace();
+                if (!properties.isUserNamespace(podNamespace)) {
+                        throw new BadRequestException("Not a session namespace: " + podNamespace);
+                }
+                V1Pod pod = podRepository.findPod(podNamespace, podName);
                 if (pod == null) {
                         throw new IllegalArgumentException("Pod not found: " + podName);
                 }
-                return toPodDetail(pod);
+                return toPodDetail(pod, fields);
         }
 
-        private com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterPodDetailResponse toPodDetail(V1Pod pod) {
+        private com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterPodDetailResponse toPodDetail(V1Pod pod,
+                        FieldSelection fields) {
                 var meta = pod.getMetadata();
                 var spec = pod.getSpec();
                 var status = pod.getStatus();
@@ -502,7 +598,7 @@ public class ClusterService {
                 // Conditions
                 List<com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterPodDetailResponse.PodConditionResponse> conditions = List
                                 .of();
-                if (status != null && status.getConditions() != null) {
+                if (status != null && status.getConditions() != null && fields.includes("conditions")) {
                         conditions = status.getConditions().stream()
                                         .map(c -> new com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterPodDetailResponse.PodConditionResponse(
                                                         c.getType(),
@@ -520,7 +616,7 @@ public class ClusterService {
                 // Containers
                 List<com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterPodDetailResponse.ContainerDetailResponse> containers = List
                                 .of();
-                if (spec != null && spec.getContainers() != null) {
+                if (spec != null && spec.getContainers() != null && fields.includes("containers")) {
                         containers = spec.getContainers().stream().map(c -> {
                                 // Find status for this container
                                 var cStatus = status != null && status.getContainerStatuses() != null
@@ -575,7 +671,7 @@ public class ClusterService {
                                 // Ports
                                 List<com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterPodDetailResponse.ContainerPortResponse> ports = List
                                                 .of();
-                                if (c.getPorts() != null) {
+                                if (c.getPorts() != null && fields.includes("containers.ports")) {
                                         ports = c.getPorts().stream()
                                                         .map(p -> new com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterPodDetailResponse.ContainerPortResponse(
                                                                         p.getName(),
@@ -600,7 +696,8 @@ public class ClusterService {
 
                 return new com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterPodDetailResponse(
                                 name, namespace, uid, creationTimestamp,
-                                meta.getLabels(), meta.getAnnotations(),
+                                fields.includes("labels") ? meta.getLabels() : Map.of(),
+                                fields.includes("annotations") ? meta.getAnnotations() : Map.of(),
                                 ownerKind, ownerName,
                                 nodeName, serviceAccountName, restartPolicy, priorityClassName,
                                 phase, qosClass, podIp, hostIp, startTime,
@@ -608,7 +705,7 @@ public class ClusterService {
                                 containers);
         }
 
-        private double calculateUsagePercent(double requested, double allocatable) {
+        static double calculateUsagePercent(double requested, double allocatable) {
                 if (allocatable <= 0) {
                         return 0.0;
                 }
@@ -0,0 +1,322 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import com.dhkimxx.jhub_k8s_spring.config.AsyncConfig;
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.dto.session.BulkTerminationResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.session.IdleSessionResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.session.PodMetricsResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.session.PodReference;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionQuery;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionSortKey;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionSummaryResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.session.TerminationState;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesMetricsRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 유휴 세션 정리기.
+ * scanInterval마다 세션이 있는 네임스페이스별로 파드 메트릭을 한 번씩 조회하고(파드별 조회 없음),
+ * 세션마다 마지막으로 CPU 사용량이 임계값 이상이었던 시각만 갱신하여 유휴 시간을 점진적으로 계산합니다.
+ * 메트릭이 한 번도 관측되지 않은 세션은 유휴로 판단하지 않으며, 관측 간격이 scanInterval의 3배를 넘으면
+ * 그 사이의 사용량을 알 수 없으므로 유휴 시간을 다시 계산합니다.
+ * 유휴 세션은 오래된 순으로 한 번에 maxCullPerScan개까지 세션 일괄 종료 작업으로 삭제하고(속도 제한 적용),
+ * dryRun이면 삭제 없이 로그와 메트릭에만 기록합니다. 정리 수와 회수한 요청 리소스는 jhub.culler.* 메트릭으로 노출되며,
+ * 실제 정리는 종료 작업에서 파드가 삭제된(TERMINATED) 것을 확인한 뒤에 셉니다. 삭제에 실패한 세션은 다음 검사에서 다시 대상이 됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdleSessionCuller implements SmartLifecycle, MeterBinder {
+
+    private static final String RUNNING_PHASE = "Running";
+    private static final int MAX_SAMPLE_GAP_SCANS = 3;
+
+    private final SessionIndex sessionIndex;
+    private final KubernetesMetricsRepository metricsRepository;
+    private final SessionTerminationService sessionTerminationService;
+    private final JhubK8sProperties properties;
+    @Qualifier(AsyncConfig.JOB_SCHEDULER)
+    private final ThreadPoolTaskScheduler jobScheduler;
+
+    /**
+     * "네임스페이스/파드 이름" → 세션 사용량 추적 상태.
+     * 사용자 파드 이름은 재시작해도 같으므로, 시작 시각이 바뀌면 새 세션으로 보고 상태를 새로 만듭니다.
+     */
+    private final Map<String, Activity> activities = new ConcurrentHashMap<>();
+    /** 인덱스 0: 실제 정리, 1: dry-run */
+    private final LongAdder[] culled = { new LongAdder(), new LongAdder() };
+    private final DoubleAdder[] reclaimedCpu = { new DoubleAdder(), new DoubleAdder() };
+    private final DoubleAdder[] reclaimedMemory = { new DoubleAdder(), new DoubleAdder() };
+
+    private ScheduledFuture<?> scanTask;
+
+    @Override
+    public synchronized void start() {
+        JhubK8sProperties.IdleCulling settings = properties.getIdleCulling();
+        if (!settings.isEnabled() || scanTask != null) {
+            return;
+        }
+        scanTask = jobScheduler.scheduleWithFixedDelay(this::scanSafely, settings.getScanInterval());
+        log.info("Idle session culler started (idleAfter={}, threshold={}m, dryRun={})",
+                settings.getIdleAfter(), settings.getCpuThresholdMilliCores(), settings.isDryRun());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scanTask != null) {
+            scanTask.cancel(true);
+            scanTask = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scanTask != null;
+    }
+
+    /**
+     * 현재 유휴 상태인 세션 목록. 유휴 시간이 긴 순으로 반환합니다.
+     */
+    public List<IdleSessionResponse> idleSessions() {
+        JhubK8sProperties.IdleCulling settings = properties.getIdleCulling();
+        OffsetDateTime now = OffsetDateTime.now();
+        return activities.values().stream()
+                .filter(activity -> activity.isIdle(now, settings.getIdleAfter()))
+                .map(Activity::toResponse)
+                .sorted(Comparator.comparing(IdleSessionResponse::idleSince))
+                .toList();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (int index = 0; index < culled.length; index++) {
+            int mode = index;
+            String dryRun = String.valueOf(mode == 1);
+            FunctionCounter.builder("jhub.culler.culled", this, culler -> culler.culled[mode].sum())
+                    .description("Idle sessions culled (dry run: selected for culling)")
+                    .tag("dry_run", dryRun)
+                    .register(registry);
+            FunctionCounter.builder("jhub.culler.reclaimed.cpu", this, culler -> culler.reclaimedCpu[mode].sum())
+                    .description("CPU requests of culled idle sessions")
+                    .baseUnit("millicores")
+                    .tag("dry_run", dryRun)
+                    .register(registry);
+            FunctionCounter.builder("jhub.culler.reclaimed.memory", this,
+                    culler -> culler.reclaimedMemory[mode].sum())
+                    .description("Memory requests of culled idle sessions")
+                    .baseUnit("bytes")
+                    .tag("dry_run", dryRun)
+                    .register(registry);
+        }
+        Gauge.builder("jhub.culler.idle", this, culler -> culler.idleSessions().size())
+                .description("Sessions currently considered idle")
+                .register(registry);
+    }
+
+    private void scanSafely() {
+        try {
+            scan();
+        } catch (RuntimeException ex) {
+            log.warn("Idle session scan failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 메트릭 표본으로 세션별 사용량 상태를 갱신하고 유휴 세션을 정리합니다.
+     * 세션 인덱스가 동기화되기 전에는 건너뜁니다.
+     */
+    void scan() {
+        if (!sessionIndex.isSynced()) {
+            log.debug("Session index not synced, skipping idle scan");
+            return;
+        }
+        JhubK8sProperties.IdleCulling settings = properties.getIdleCulling();
+        SessionQuery query = new SessionQuery(null, RUNNING_PHASE, null, null, null, SessionSortKey.USERNAME, false,
+                0, Integer.MAX_VALUE);
+        Map<String, List<SessionSummaryResponse>> sessionsByNamespace = new LinkedHashMap<>();
+        sessionIndex.query(query).items().forEach(session -> sessionsByNamespace
+                .computeIfAbsent(session.namespace(), namespace -> new ArrayList<>())
+                .add(session));
+        Map<String, CompletableFuture<Map<String, PodMetricsResponse>>> metricsByNamespace = new LinkedHashMap<>();
+        sessionsByNamespace.keySet().forEach(namespace -> metricsByNamespace.put(namespace,
+                metricsRepository.findAllPodMetricsAsync(namespace)));
+
+        OffsetDateTime now = OffsetDateTime.now();
+        Duration maxGap = settings.getScanInterval().multipliedBy(MAX_SAMPLE_GAP_SCANS);
+        Set<String> seen = new HashSet<>();
+        List<Activity> candidates = new ArrayList<>();
+        sessionsByNamespace.forEach((namespace, sessions) -> {
+            Map<String, PodMetricsResponse> samples;
+            try {
+                samples = metricsByNamespace.get(namespace).join();
+            } catch (CompletionException | CancellationException ex) {
+                log.warn("Failed to fetch pod metrics in {} for idle scan: {}", namespace, ex.getMessage());
+                samples = Map.of();
+            }
+            for (SessionSummaryResponse session : sessions) {
+                String key = session.namespace() + "/" + session.podName();
+                seen.add(key);
+                Activity activity = activities.compute(key,
+                        (k, existing) -> existing != null && existing.isSameRun(session) ? existing : new Activity());
+                activity.observe(session, samples.get(session.podName()), settings.getCpuThresholdMilliCores(),
+                        maxGap, now);
+                if (activity.isIdle(now, settings.getIdleAfter()) && !activity.isCulled()
+                        && !settings.getExcludedUsers().contains(session.username())) {
+                    candidates.add(activity);
+                }
+            }
+        });
+        activities.keySet().retainAll(seen);
+
+        List<Activity> selected = candidates.stream()
+                .sorted(Comparator.comparing(Activity::lastActiveAt))
+                .limit(settings.getMaxCullPerScan())
+                .toList();
+        if (!selected.isEmpty()) {
+            cull(selected, settings.isDryRun());
+        }
+    }
+
+    private void cull(List<Activity> selected, boolean dryRun) {
+        List<PodReference> targets = new ArrayList<>(selected.size());
+        Map<PodReference, Culled> pending = new ConcurrentHashMap<>();
+        for (Activity activity : selected) {
+            SessionSummaryResponse session = activity.markCulled();
+            PodReference pod = new PodReference(session.namespace(), session.podName());
+            targets.add(pod);
+            if (dryRun) {
+                record(1, session);
+            } else {
+                pending.put(pod, new Culled(activity, session));
+            }
+        }
+        if (dryRun) {
+            log.info("[dry-run] Would cull {} idle sessions: {}", targets.size(), targets);
+            return;
+        }
+        BulkTerminationResponse job = sessionTerminationService.submitPods(targets, status -> {
+            Culled done = pending.remove(new PodReference(status.namespace(), status.podName()));
+            if (done == null) {
+                return;
+            }
+            if (status.state() == TerminationState.TERMINATED) {
+                record(0, done.session());
+            } else {
+                done.activity().clearCulled();
+                log.warn("Failed to cull idle session {}/{}: {}", status.namespace(), status.podName(),
+                        status.error());
+            }
+        });
+        log.info("Culling {} idle sessions (termination job {})", targets.size(), job.jobId());
+    }
+
+    private void record(int mode, SessionSummaryResponse session) {
+        culled[mode].increment();
+        reclaimedCpu[mode].add(session.cpuMilliCores());
+        reclaimedMemory[mode].add(session.memoryBytes());
+    }
+
+    /**
+     * 종료 작업 결과를 기다리는 정리 대상.
+     */
+    private record Culled(Activity activity, SessionSummaryResponse session) {
+    }
+
+    /**
+     * 세션 하나의 사용량 추적 상태. 표본 이력은 보관하지 않고 마지막 활동 시각만 갱신합니다.
+     */
+    static final class Activity {
+        private SessionSummaryResponse session;
+        /** 마지막으로 임계값 이상의 CPU 사용이 관측된 시각 (표본이 없으면 null) */
+        private OffsetDateTime lastActiveAt;
+        private OffsetDateTime lastSampleAt;
+        private double lastCpuMilliCores;
+        private boolean culled;
+
+        synchronized void observe(SessionSummaryResponse current, PodMetricsResponse sample, double threshold,
+                Duration maxGap, OffsetDateTime now) {
+            session = current;
+            if (sample == null) {
+                return;
+            }
+            OffsetDateTime sampledAt = sample.collectedAt() != null ? sample.collectedAt() : now;
+            boolean gap = lastSampleAt == null || Duration.between(lastSampleAt, sampledAt).compareTo(maxGap) > 0;
+            if (gap || sample.cpuMilliCores() >= threshold) {
+                lastActiveAt = sampledAt;
+            }
+            lastSampleAt = sampledAt;
+            lastCpuMilliCores = sample.cpuMilliCores();
+        }
+
+        /**
+         * 추적 중인 세션과 같은 파드 실행인지 여부. (같은 이름으로 다시 시작한 파드는 시작 시각이 다름)
+         */
+        synchronized boolean isSameRun(SessionSummaryResponse current) {
+            return session == null || Objects.equals(session.startTime(), current.startTime());
+        }
+
+        synchronized boolean isIdle(OffsetDateTime now, Duration idleAfter) {
+            return lastActiveAt != null && Duration.between(lastActiveAt, now).compareTo(idleAfter) >= 0;
+        }
+
+        synchronized boolean isCulled() {
+            return culled;
+        }
+
+        synchronized OffsetDateTime lastActiveAt() {
+            return lastActiveAt;
+        }
+
+        synchronized SessionSummaryResponse markCulled() {
+            culled = true;
+            return session;
+        }
+
+        synchronized void clearCulled() {
+            culled = false;
+        }
+
+        synchronized IdleSessionResponse toResponse() {
+            return new IdleSessionResponse(
+                    session.username(),
+                    session.namespace(),
+                    session.podName(),
+                    lastActiveAt,
+                    lastCpuMilliCores,
+                    session.cpuMilliCores(),
+                    session.memoryBytes(),
+                    culled);
+        }
+    }
+}
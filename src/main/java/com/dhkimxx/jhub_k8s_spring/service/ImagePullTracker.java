@@ -0,0 +1,460 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.ImagePullCell;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.ImagePullMatrixResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.PrePullRecommendation;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesNodeRepository;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.PodEvent;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.PodSnapshot;
+
+import io.kubernetes.client.openapi.models.V1ContainerImage;
+import io.kubernetes.client.openapi.models.V1Node;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드×이미지별 이미지 풀 비용 추적기.
+ * PodEventFeed가 전달하는 kubelet 이벤트에서 Pulling(시작), Pulled(완료 소요 시간/이미지 크기, 또는 "already present")를
+ * 읽어 노드×이미지 칸마다 실제 풀 횟수, 재사용 횟수, 풀 소요 시간을 누적합니다.
+ * 재조회로 같은 이벤트가 다시 오면 이벤트 uid와 resourceVersion으로 판별하여 무시하고,
+ * 같은 이벤트의 series 갱신(resourceVersion 변경)은 새 관측으로 셉니다.
+ * 판별 상태는 watch 범위에 남아 있는 Pulled 이벤트만 보관하므로(만료/재조회 시 정리) 크기가 watch 범위의 이벤트 수를 넘지 않습니다.
+ * 조회 시에는 노드 상태의 이미지 목록(status.images)과 합쳐 warm/cold 행렬을 만들고,
+ * 현재 세션 수와 풀 이력으로 어느 노드에 어떤 이미지를 먼저 받아 두어야 하는지 순위를 계산합니다.
+ * 풀 소요 시간과 횟수는 jhub.image.pull.duration, jhub.image.pulls 메트릭으로 노출됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ImagePullTracker implements MeterBinder {
+
+    private static final String PULLING_REASON = "Pulling";
+    private static final String PULLED_REASON = "Pulled";
+    private static final Pattern PULLING_NOTE = Pattern.compile("^Pulling image \"([^\"]+)\"");
+    private static final Pattern PULLED_NOTE = Pattern.compile(
+            "^Successfully pulled image \"([^\"]+)\" in ([0-9.]+[a-zµ]+(?:[0-9.]+[a-zµ]+)*)"
+                    + "(?:.*?Image size: (\\d+) bytes)?");
+    private static final Pattern PRESENT_NOTE = Pattern.compile("^Container image \"([^\"]+)\" already present");
+    private static final Pattern GO_DURATION_PART = Pattern.compile("([0-9.]+)(h|ms|m|s|µs|us|ns)");
+    private static final int MAX_PENDING_PULLS = 4096;
+    /** 풀 소요 시간 히스토그램 버킷 범위 */
+    private static final Duration MIN_EXPECTED_PULL = Duration.ofMillis(500);
+    private static final Duration MAX_EXPECTED_PULL = Duration.ofMinutes(30);
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final String DEFAULT_REGISTRY_PREFIX = "docker.io/";
+    private static final String DEFAULT_LIBRARY_PREFIX = "docker.io/library/";
+
+    private final SessionIndex sessionIndex;
+    private final KubernetesNodeRepository nodeRepository;
+    private final JhubK8sProperties properties;
+
+    /** "노드 이름 + 구분자 + 이미지" → 칸 */
+    private final Map<String, Cell> cells = new ConcurrentHashMap<>();
+    /** 처리한 Pulled 이벤트 uid → 처리한 버전 (재조회 중복 방지) */
+    private final Map<String, ProcessedEvent> processed = new ConcurrentHashMap<>();
+    /** "네임스페이스/파드/이미지" → Pulling 시각 (Pulled 소요 시간이 메시지에 없을 때 사용, 최근 MAX_PENDING_PULLS개) */
+    private final Map<String, OffsetDateTime> pullStarts = boundedMap();
+
+    private volatile MeterRegistry meterRegistry;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+    }
+
+    /**
+     * PodEventFeed가 전달하는 파드 이벤트. 보고한 노드를 알 수 있는 Pulling/Pulled 이벤트만 반영합니다.
+     */
+    void onPodEvent(PodEvent event) {
+        if (event.note() == null || event.nodeName() == null || event.timestamp() == null) {
+            return;
+        }
+        if (PULLING_REASON.equals(event.reason())) {
+            Matcher pulling = PULLING_NOTE.matcher(event.note());
+            if (pulling.find()) {
+                synchronized (pullStarts) {
+                    pullStarts.putIfAbsent(pullKey(event, normalizeImage(pulling.group(1))), event.timestamp());
+                }
+            }
+            return;
+        }
+        if (!PULLED_REASON.equals(event.reason())) {
+            return;
+        }
+        if (!markProcessed(event)) {
+            return;
+        }
+        Matcher pulled = PULLED_NOTE.matcher(event.note());
+        if (pulled.find()) {
+            String image = normalizeImage(pulled.group(1));
+            Duration duration = parseGoDuration(pulled.group(2));
+            OffsetDateTime startedAt;
+            synchronized (pullStarts) {
+                startedAt = pullStarts.remove(pullKey(event, image));
+            }
+            if (duration == null && startedAt != null && !event.timestamp().isBefore(startedAt)) {
+                duration = Duration.between(startedAt, event.timestamp());
+            }
+            long sizeBytes = pulled.group(3) != null ? Long.parseLong(pulled.group(3)) : 0L;
+            cell(event.nodeName(), image).recordPull(duration, sizeBytes, event.timestamp());
+            recordMetrics(event.nodeName(), image, "cold", duration);
+            return;
+        }
+        Matcher present = PRESENT_NOTE.matcher(event.note());
+        if (present.find()) {
+            String image = normalizeImage(present.group(1));
+            cell(event.nodeName(), image).recordHit(event.timestamp());
+            recordMetrics(event.nodeName(), image, "warm", null);
+            return;
+        }
+        log.debug("Unrecognized Pulled event note on {}: {}", event.nodeName(), event.note());
+    }
+
+    /**
+     * 처음 보는 Pulled 이벤트이거나 series 갱신으로 버전이 바뀐 경우 true.
+     * uid가 없는 이벤트는 판별할 수 없으므로 항상 처리합니다.
+     */
+    private boolean markProcessed(PodEvent event) {
+        if (event.uid() == null) {
+            return true;
+        }
+        ProcessedEvent current = new ProcessedEvent(event.namespace(), event.resourceVersion());
+        ProcessedEvent previous = processed.put(event.uid(), current);
+        return !current.equals(previous);
+    }
+
+    /**
+     * watch 재조회 결과. namespace 범위(null이면 전체)에서 목록에 없는 이벤트의 판별 상태를 정리합니다.
+     */
+    void retainEvents(String namespace, List<PodEvent> events) {
+        Set<String> live = new HashSet<>();
+        events.forEach(event -> live.add(event.uid()));
+        processed.entrySet().removeIf(entry -> (namespace == null || namespace.equals(entry.getValue().namespace()))
+                && !live.contains(entry.getKey()));
+    }
+
+    /**
+     * 만료(삭제)된 이벤트의 판별 상태를 정리합니다.
+     */
+    void forgetEvent(PodEvent event) {
+        if (event.uid() != null) {
+            processed.remove(event.uid());
+        }
+    }
+
+    /**
+     * 보관 중인 Pulled 이벤트 판별 상태 수.
+     */
+    int trackedEvents() {
+        return processed.size();
+    }
+
+    /**
+     * 세션 이미지와 세션 노드의 warm/cold 행렬. 노드 상태 이미지 목록을 함께 반영합니다.
+     */
+    public ImagePullMatrixResponse matrix() {
+        View view = buildView();
+        List<ImagePullCell> result = new ArrayList<>();
+        for (String node : view.nodes) {
+            for (String image : view.images) {
+                result.add(view.cellOf(node, image));
+            }
+        }
+        return new ImagePullMatrixResponse(List.copyOf(view.nodes), List.copyOf(view.images), result);
+    }
+
+    /**
+     * 사전 풀 권장 순위. 이미지가 없는(cold) 세션 노드마다
+     * (현재 세션 수 + 실제 풀 횟수) × 예상 풀 시간을 점수로 하여 높은 순으로 최대 limit개를 반환합니다.
+     */
+    public List<PrePullRecommendation> recommendPrePulls(Integer limit) {
+        int max = limit != null && limit > 0 ? limit : properties.getImagePull().getMaxRecommendations();
+        View view = buildView();
+        List<PrePullRecommendation> result = new ArrayList<>();
+        for (String image : view.images) {
+            int activeSessions = view.activeSessions.getOrDefault(image, 0);
+            long coldPulls = 0;
+            double pullSeconds = 0d;
+            long timedPulls = 0;
+            long sizeBytes = view.statusSizes.getOrDefault(image, 0L);
+            for (Cell cell : cells.values()) {
+                if (cell.image.equals(image)) {
+                    synchronized (cell) {
+                        coldPulls += cell.coldPulls;
+                        pullSeconds += cell.pullSecondsSum;
+                        timedPulls += cell.timedPulls;
+                        sizeBytes = Math.max(sizeBytes, cell.imageSizeBytes);
+                    }
+                }
+            }
+            Double expectedPullSeconds = timedPulls > 0 ? pullSeconds / timedPulls : null;
+            double score = (activeSessions + coldPulls) * (expectedPullSeconds != null ? expectedPullSeconds : 1d);
+            if (score <= 0) {
+                continue;
+            }
+            for (String node : view.nodes) {
+                if (!view.cellOf(node, image).warm()) {
+                    result.add(new PrePullRecommendation(node, image, activeSessions, coldPulls,
+                            expectedPullSeconds, sizeBytes, score));
+                }
+            }
+        }
+        return result.stream()
+                .sorted(Comparator.comparingDouble(PrePullRecommendation::score).reversed()
+                        .thenComparing(PrePullRecommendation::node)
+                        .thenComparing(PrePullRecommendation::image))
+                .limit(max)
+                .toList();
+    }
+
+    /**
+     * 현재 세션, 풀 이력, 노드 상태를 합쳐 행렬 계산에 필요한 값을 모읍니다.
+     * 대상 노드는 세션을 실행 중이거나 풀 이력이 있는 준비된 노드이며, 그런 노드가 없으면 준비된 모든 노드입니다.
+     */
+    private View buildView() {
+        View view = new View();
+        Set<String> sessionNodes = new TreeSet<>();
+        for (PodSnapshot pod : sessionIndex.snapshots()) {
+            if (!pod.images().isEmpty()) {
+                String image = normalizeImage(pod.images().get(0));
+                view.activeSessions.merge(image, 1, Integer::sum);
+                view.images.add(image);
+            }
+            if (pod.nodeName() != null) {
+                sessionNodes.add(pod.nodeName());
+            }
+        }
+        cells.values().forEach(cell -> {
+            view.images.add(cell.image);
+            sessionNodes.add(cell.node);
+        });
+
+        Set<String> readyNodes = new TreeSet<>();
+        for (V1Node node : nodeRepository.findAllNodes()) {
+            String name = node.getMetadata() != null ? node.getMetadata().getName() : null;
+            if (name == null || !isSchedulable(node)) {
+                continue;
+            }
+            readyNodes.add(name);
+            List<V1ContainerImage> images = node.getStatus() != null ? node.getStatus().getImages() : null;
+            if (images == null) {
+                continue;
+            }
+            for (V1ContainerImage image : images) {
+                if (image.getNames() == null) {
+                    continue;
+                }
+                for (String imageName : image.getNames()) {
+                    String normalized = normalizeImage(imageName);
+                    view.statusImages.computeIfAbsent(name, k -> new HashSet<>()).add(normalized);
+                    if (image.getSizeBytes() != null) {
+                        view.statusSizes.merge(normalized, image.getSizeBytes(), Math::max);
+                    }
+                }
+            }
+        }
+        Set<String> candidates = new TreeSet<>(readyNodes);
+        candidates.retainAll(sessionNodes);
+        view.nodes.addAll(candidates.isEmpty() ? readyNodes : candidates);
+        view.warmSince = OffsetDateTime.now().minus(properties.getImagePull().getWarmTtl());
+        return view;
+    }
+
+    private Cell cell(String node, String image) {
+        return cells.computeIfAbsent(node + KEY_SEPARATOR + image, k -> new Cell(node, image));
+    }
+
+    private void recordMetrics(String node, String image, String result, Duration duration) {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            return;
+        }
+        Counter.builder("jhub.image.pulls")
+                .description("Image pull outcomes observed from kubelet events (cold: pulled, warm: already present)")
+                .tag("node", node)
+                .tag("image", image)
+                .tag("result", result)
+                .register(registry)
+                .increment();
+        if (duration != null) {
+            Timer.builder("jhub.image.pull.duration")
+                    .description("Time kubelet spent pulling an image")
+                    .tag("node", node)
+                    .tag("image", image)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MIN_EXPECTED_PULL)
+                    .maximumExpectedValue(MAX_EXPECTED_PULL)
+                    .register(registry)
+                    .record(duration);
+        }
+    }
+
+    private static String pullKey(PodEvent event, String image) {
+        return event.namespace() + "/" + event.podName() + "/" + image;
+    }
+
+    private static boolean isSchedulable(V1Node node) {
+        if (node.getSpec() != null && Boolean.TRUE.equals(node.getSpec().getUnschedulable())) {
+            return false;
+        }
+        return node.getStatus() != null && node.getStatus().getConditions() != null
+                && node.getStatus().getConditions().stream()
+                        .anyMatch(condition -> "Ready".equals(condition.getType())
+                                && "True".equals(condition.getStatus()));
+    }
+
+    /**
+     * 이벤트, 파드 명세, 노드 상태의 이미지 표기를 맞춥니다.
+     * 기본 레지스트리(docker.io, docker.io/library) 접두사를 제거하고 태그/다이제스트가 없으면 :latest를 붙입니다.
+     */
+    static String normalizeImage(String image) {
+        String normalized = image.trim();
+        if (normalized.startsWith(DEFAULT_LIBRARY_PREFIX)) {
+            normalized = normalized.substring(DEFAULT_LIBRARY_PREFIX.length());
+        } else if (normalized.startsWith(DEFAULT_REGISTRY_PREFIX)) {
+            normalized = normalized.substring(DEFAULT_REGISTRY_PREFIX.length());
+        }
+        String lastSegment = normalized.substring(normalized.lastIndexOf('/') + 1);
+        if (!normalized.contains("@") && lastSegment.indexOf(':') < 0) {
+            normalized = normalized + ":latest";
+        }
+        return normalized;
+    }
+
+    /**
+     * Go 형식 기간 문자열(예: 1m2.5s, 850ms)을 Duration으로 변환합니다. 형식이 맞지 않으면 null입니다.
+     */
+    static Duration parseGoDuration(String text) {
+        Matcher matcher = GO_DURATION_PART.matcher(text);
+        double nanos = 0d;
+        int end = 0;
+        while (matcher.find()) {
+            if (matcher.start() != end) {
+                return null;
+            }
+            double value = Double.parseDouble(matcher.group(1));
+            nanos += switch (matcher.group(2)) {
+                case "h" -> value * 3_600_000_000_000d;
+                case "m" -> value * 60_000_000_000d;
+                case "s" -> value * 1_000_000_000d;
+                case "ms" -> value * 1_000_000d;
+                case "µs", "us" -> value * 1_000d;
+                default -> value;
+            };
+            end = matcher.end();
+        }
+        return end == text.length() && end > 0 ? Duration.ofNanos((long) nanos) : null;
+    }
+
+    private static <K, V> Map<K, V> boundedMap() {
+        return new LinkedHashMap<>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > MAX_PENDING_PULLS;
+            }
+        };
+    }
+
+    private record ProcessedEvent(String namespace, String resourceVersion) {
+    }
+
+    /**
+     * 조회 한 번에 사용하는 현재 상태.
+     */
+    private final class View {
+        private final Set<String> nodes = new TreeSet<>();
+        private final Set<String> images = new TreeSet<>();
+        private final Map<String, Integer> activeSessions = new HashMap<>();
+        private final Map<String, Set<String>> statusImages = new HashMap<>();
+        private final Map<String, Long> statusSizes = new HashMap<>();
+        private OffsetDateTime warmSince;
+
+        private ImagePullCell cellOf(String node, String image) {
+            boolean inNodeStatus = statusImages.getOrDefault(node, Set.of()).contains(image);
+            long statusSize = statusSizes.getOrDefault(image, 0L);
+            Cell cell = cells.get(node + KEY_SEPARATOR + image);
+            if (cell == null) {
+                return new ImagePullCell(node, image, inNodeStatus, inNodeStatus, 0, 0, null, null, statusSize, null);
+            }
+            return cell.toResponse(inNodeStatus, statusSize, warmSince);
+        }
+    }
+
+    /**
+     * 노드×이미지 칸 하나의 누적 이력.
+     */
+    private static final class Cell {
+        private final String node;
+        private final String image;
+        private long coldPulls;
+        private long warmHits;
+        private long timedPulls;
+        private double pullSecondsSum;
+        private double maxPullSeconds;
+        private long imageSizeBytes;
+        private OffsetDateTime lastObservedAt;
+
+        private Cell(String node, String image) {
+            this.node = node;
+            this.image = image;
+        }
+
+        synchronized void recordPull(Duration duration, long sizeBytes, OffsetDateTime at) {
+            coldPulls++;
+            if (duration != null) {
+                double seconds = duration.toNanos() / 1_000_000_000d;
+                timedPulls++;
+                pullSecondsSum += seconds;
+                maxPullSeconds = Math.max(maxPullSeconds, seconds);
+            }
+            imageSizeBytes = Math.max(imageSizeBytes, sizeBytes);
+            observe(at);
+        }
+
+        synchronized void recordHit(OffsetDateTime at) {
+            warmHits++;
+            observe(at);
+        }
+
+        private void observe(OffsetDateTime at) {
+            if (lastObservedAt == null || at.isAfter(lastObservedAt)) {
+                lastObservedAt = at;
+            }
+        }
+
+        synchronized ImagePullCell toResponse(boolean inNodeStatus, long statusSize, OffsetDateTime warmSince) {
+            boolean warm = inNodeStatus || (lastObservedAt != null && lastObservedAt.isAfter(warmSince));
+            return new ImagePullCell(node, image, warm, inNodeStatus, coldPulls, warmHits,
+                    timedPulls > 0 ? pullSecondsSum / timedPulls : null,
+                    timedPulls > 0 ? maxPullSeconds : null,
+                    Math.max(imageSizeBytes, statusSize),
+                    lastObservedAt);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.dhkimxx.jhub_k8s_spring.config.AsyncConfig;
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.RequestBreakdown;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesPodRepository;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.PodSnapshot;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.ResourceEventListener;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.ResourceWatcher;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드별 리소스 요청량 인덱스.
+ * 전체 네임스페이스의 종료되지 않은 파드를 watch하여 노드마다 사용자/시스템/기타 파드의 요청량 합계를 유지합니다.
+ * 파드마다 노드명, 분류, 요청량만 보관하며 보관 파드 수는 nodeAllocation.maxPods로 제한합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class NodeAllocationIndex implements SmartLifecycle, ResourceEventListener<PodSnapshot> {
+
+    private final KubernetesPodRepository podRepository;
+    private final JhubK8sProperties properties;
+    @Qualifier(AsyncConfig.WATCH_THREAD_FACTORY)
+    private final ThreadFactory watchThreadFactory;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PodAllocation> podsByKey = new HashMap<>();
+    private final Map<String, NodeTotals> totalsByNode = new HashMap<>();
+    private boolean overflowWarned;
+
+    private ResourceWatcher<V1Pod, PodSnapshot> watcher;
+
+    @Override
+    public synchronized void start() {
+        if (!properties.getNodeAllocation().isEnabled()) {
+            return;
+        }
+        if (watcher == null) {
+            watcher = podRepository.newClusterPodWatcher(this);
+        }
+        watcher.start(watchThreadFactory);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (watcher != null) {
+            watcher.stop();
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return watcher != null && watcher.isRunning();
+    }
+
+    /**
+     * 최초 동기화가 완료되어 노드별 요청량을 인덱스에서 응답할 수 있는지 여부.
+     */
+    public boolean isSynced() {
+        ResourceWatcher<V1Pod, PodSnapshot> current = watcher;
+        return current != null && current.hasSynced();
+    }
+
+    @Override
+    public void onReplace(List<PodSnapshot> pods) {
+        lock.writeLock().lock();
+        try {
+            podsByKey.clear();
+            totalsByNode.clear();
+            overflowWarned = false;
+            pods.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Node allocation index synchronized with {} pods on {} nodes", podsByKey.size(),
+                totalsByNode.size());
+    }
+
+    @Override
+    public void onUpsert(PodSnapshot pod) {
+        lock.writeLock().lock();
+        try {
+            put(pod);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onDelete(PodSnapshot pod) {
+        lock.writeLock().lock();
+        try {
+            PodAllocation removed = podsByKey.remove(keyOf(pod));
+            if (removed != null) {
+                subtract(removed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 노드의 분류별 요청량 합계를 조회합니다. 인덱스에 파드가 없는 노드는 빈 값을 반환합니다.
+     */
+    public Optional<NodeRequests> findNode(String nodeName) {
+        lock.readLock().lock();
+        try {
+            NodeTotals totals = totalsByNode.get(nodeName);
+            return totals != null ? Optional.of(totals.toRequests()) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(PodSnapshot pod) {
+        String key = keyOf(pod);
+        PodAllocation previous = podsByKey.get(key);
+        if (previous == null && podsByKey.size() >= properties.getNodeAllocation().getMaxPods()) {
+            if (!overflowWarned) {
+                overflowWarned = true;
+                log.warn("Node allocation index reached {} pods; additional pods are not counted",
+                        properties.getNodeAllocation().getMaxPods());
+            }
+            return;
+        }
+        if (previous != null) {
+            subtract(previous);
+        }
+        PodAllocation allocation = new PodAllocation(
+                pod.nodeName(),
+                categorize(pod),
+                pod.cpuRequestMilliCores(),
+                pod.memoryRequestBytes(),
+                pod.ephemeralStorageRequestBytes());
+        podsByKey.put(key, allocation);
+        if (allocation.nodeName() != null) {
+            totalsByNode.computeIfAbsent(allocation.nodeName(), name -> new NodeTotals()).add(allocation, 1);
+        }
+    }
+
+    private void subtract(PodAllocation allocation) {
+        if (allocation.nodeName() == null) {
+            return;
+        }
+        NodeTotals totals = totalsByNode.get(allocation.nodeName());
+        if (totals == null) {
+            return;
+        }
+        totals.add(allocation, -1);
+        if (totals.podCount <= 0) {
+            totalsByNode.remove(allocation.nodeName());
+        }
+    }
+
+    /**
+     * JupyterHub 네임스페이스의 사용자 라벨 파드는 사용자, 시스템 네임스페이스와
+     * JupyterHub 네임스페이스의 나머지 파드(hub, proxy 등)는 시스템, 그 외는 기타로 분류합니다.
+     */
+    private PodCategory categorize(PodSnapshot pod) {
+        String namespace = pod.namespace();
+        if (pod.username() != null && properties.isUserNamespace(namespace)) {
+            return PodCategory.USER;
+        }
+        boolean hubNamespace = properties.hubNamespaces().contains(namespace);
+        if (hubNamespace || properties.getNodeAllocation().getSystemNamespaces().contains(namespace)) {
+            return PodCategory.SYSTEM;
+        }
+        return PodCategory.OTHER;
+    }
+
+    private static String keyOf(PodSnapshot pod) {
+        return pod.namespace() + "/" + pod.name();
+    }
+
+    private enum PodCategory {
+        USER,
+        SYSTEM,
+        OTHER
+    }
+
+    /**
+     * 인덱스에 보관하는 파드 한 개의 정보. (노드명은 PodSnapshot에서 intern된 인스턴스를 공유)
+     */
+    private record PodAllocation(
+            String nodeName,
+            PodCategory category,
+            double cpuMilliCores,
+            double memoryBytes,
+            double ephemeralStorageBytes) {
+    }
+
+    /**
+     * 노드 하나의 분류별 요청량 누적값.
+     */
+    private static final class NodeTotals {
+        private final double[] cpu = new double[PodCategory.values().length];
+        private final double[] memory = new double[PodCategory.values().length];
+        private final double[] ephemeralStorage = new double[PodCategory.values().length];
+        private int podCount;
+
+        private void add(PodAllocation allocation, int sign) {
+            int index = allocation.category().ordinal();
+            cpu[index] += sign * allocation.cpuMilliCores();
+            memory[index] += sign * allocation.memoryBytes();
+            ephemeralStorage[index] += sign * allocation.ephemeralStorageBytes();
+            podCount += sign;
+        }
+
+        private NodeRequests toRequests() {
+            return new NodeRequests(toBreakdown(cpu), toBreakdown(memory), toBreakdown(ephemeralStorage), podCount);
+        }
+
+        private static RequestBreakdown toBreakdown(double[] values) {
+            return new RequestBreakdown(
+                    Math.max(0, values[PodCategory.USER.ordinal()]),
+                    Math.max(0, values[PodCategory.SYSTEM.ordinal()]),
+                    Math.max(0, values[PodCategory.OTHER.ordinal()]));
+        }
+    }
+
+    /**
+     * 노드 하나의 분류별 요청량 합계.
+     *
+     * @param podCount 노드에 배치된 종료되지 않은 파드 수 (전체 분류)
+     */
+    public record NodeRequests(
+            RequestBreakdown cpuMilliCores,
+            RequestBreakdown memoryBytes,
+            RequestBreakdown ephemeralStorageBytes,
+            int podCount) {
+
+        public static final NodeRequests EMPTY = new NodeRequests(
+                RequestBreakdown.EMPTY, RequestBreakdown.EMPTY, RequestBreakdown.EMPTY, 0);
+    }
+}
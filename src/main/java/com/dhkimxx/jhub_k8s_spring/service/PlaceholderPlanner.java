@@ -0,0 +1,413 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import com.dhkimxx.jhub_k8s_spring.config.AsyncConfig;
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeSummaryResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.PlaceholderPlanResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.PlaceholderSimulationResponse;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesStatefulSetRepository;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.PodSnapshot;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.ResourceEventListener;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * user-placeholder 용량 계획기.
+ * 세션 인덱스로 새 세션의 생성 시각을 받아 시간별 생성 수를 기록하고, 시간이 끝날 때마다 요일×시간대(168칸)별 EWMA에 반영합니다.
+ * 현재/다음 시간대 예측으로 leadTime(노드 확장 시간) 동안의 예상 생성 수를 구해 포아송 가정의 안전 여유를 더하고,
+ * 세션 노드에 이미 남아 있는 빈 자리(현재 세션 요청량 중앙값 기준)를 뺀 값을 placeholder 권장 replicas로 계산합니다.
+ * autoScale=true이면 planInterval마다 placeholder StatefulSet의 scale을 권장 값으로 맞춥니다.
+ * 기록은 메모리에만 보관합니다. 시작 시점에 이미 끝난 세션은 알 수 없으므로 시작 다음 정시부터의 생성만 기록하고,
+ * 그 이전 시간은 예측에 반영하지 않습니다. (살아 있는 세션만으로 과거 시간을 채우면 예측이 낮게 치우침)
+ * 끝난 시간이 하나도 반영되지 않은 동안에는 autoScale이 켜져 있어도 scale을 바꾸지 않습니다.
+ * simulate는 보관 중인 시간별 기록을 빈 예측기로 처음부터 재생하여 설정(alpha, safetyFactor)을 오프라인으로 검증합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PlaceholderPlanner implements SmartLifecycle, MeterBinder {
+
+    private static final int HOURS_PER_WEEK = 168;
+    private static final long SECONDS_PER_HOUR = 3600L;
+
+    private final SessionIndex sessionIndex;
+    private final ClusterService clusterService;
+    private final KubernetesStatefulSetRepository statefulSetRepository;
+    private final JhubK8sProperties properties;
+    @Qualifier(AsyncConfig.JOB_SCHEDULER)
+    private final ThreadPoolTaskScheduler jobScheduler;
+
+    /** "네임스페이스/파드 이름" → 기록한 생성 시각 (같은 이름으로 다시 생성되면 새 생성으로 기록) */
+    private final Map<String, OffsetDateTime> seenPods = new ConcurrentHashMap<>();
+    /** UTC 기준 시간 번호(epoch hour) → 생성 수 (this로 보호) */
+    private final NavigableMap<Long, Integer> hourlySpawns = new TreeMap<>();
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private Forecaster forecaster;
+    /** 기록을 시작한 시간 (시작 다음 정시, this로 보호) */
+    private long observedFromHour = Long.MIN_VALUE;
+    private long lastFoldedHour = Long.MIN_VALUE;
+    private boolean listening;
+    private ScheduledFuture<?> planTask;
+    private volatile PlaceholderPlanResponse lastPlan;
+
+    @Override
+    public synchronized void start() {
+        JhubK8sProperties.Placeholders settings = properties.getPlaceholders();
+        if (!settings.isEnabled() || planTask != null) {
+            return;
+        }
+        beginObservation(Instant.now());
+        if (!listening) {
+            sessionIndex.addPodListener(new SpawnListener());
+            listening = true;
+        }
+        planTask = jobScheduler.scheduleWithFixedDelay(this::planSafely, settings.getPlanInterval());
+        log.info("Placeholder planner started (autoScale={}, statefulSet={})", settings.isAutoScale(),
+                settings.getStatefulSetName());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (planTask != null) {
+            planTask.cancel(true);
+            planTask = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return planTask != null;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jhub.placeholder.recommended", this,
+                planner -> planner.lastPlanValue(PlaceholderPlanResponse::recommendedReplicas))
+                .description("Recommended user-placeholder replicas")
+                .register(registry);
+        Gauge.builder("jhub.placeholder.forecast", this,
+                planner -> planner.lastPlanValue(PlaceholderPlanResponse::forecastSpawnsPerHour))
+                .description("Forecast session spawns per hour for the current hour of week")
+                .register(registry);
+        Gauge.builder("jhub.placeholder.free.slots", this,
+                planner -> planner.lastPlanValue(PlaceholderPlanResponse::freeSlots))
+                .description("Session-sized free slots already available on session nodes")
+                .register(registry);
+    }
+
+    /**
+     * 현재 시점의 placeholder 권장 값을 계산합니다. (StatefulSet은 변경하지 않음)
+     */
+    public PlaceholderPlanResponse plan() {
+        JhubK8sProperties.Placeholders settings = properties.getPlaceholders();
+        OffsetDateTime now = OffsetDateTime.now();
+        long hour = epochHour(now.toInstant());
+        double rate;
+        long recordedHours;
+        synchronized (this) {
+            Forecaster current = foldClosedHours(now.toInstant());
+            rate = Math.max(current.forecast(bucketOf(hour)), current.forecast(bucketOf(hour + 1)));
+            recordedHours = current.updates;
+        }
+        double expected = rate * settings.getLeadTime().toSeconds() / SECONDS_PER_HOUR;
+        int required = requiredHeadroom(expected, settings.getSafetyFactor());
+
+        List<PodSnapshot> sessions = sessionIndex.snapshots();
+        double sessionCpu = median(sessions, PodSnapshot::cpuRequestMilliCores);
+        double sessionMemory = median(sessions, PodSnapshot::memoryRequestBytes);
+        Set<String> sessionNodes = new HashSet<>();
+        sessions.forEach(pod -> {
+            if (pod.nodeName() != null) {
+                sessionNodes.add(pod.nodeName());
+            }
+        });
+        int freeSlots = freeSlots(clusterService.fetchNodeSummaries(), sessionNodes, sessionCpu, sessionMemory);
+
+        Integer currentReplicas;
+        try {
+            currentReplicas = statefulSetRepository.findReplicas(placeholderNamespace(), settings.getStatefulSetName());
+        } catch (RuntimeException ex) {
+            log.debug("Could not read placeholder statefulset scale: {}", ex.getMessage());
+            currentReplicas = null;
+        }
+        int recommended = clamp(required - freeSlots, settings.getMinReplicas(), settings.getMaxReplicas());
+        PlaceholderPlanResponse plan = new PlaceholderPlanResponse(now, bucketOf(hour), rate, expected, required,
+                freeSlots, sessionCpu, sessionMemory, currentReplicas, recommended, settings.isAutoScale(),
+                recordedHours);
+        lastPlan = plan;
+        return plan;
+    }
+
+    /**
+     * 보관 중인 시간별 생성 기록을 빈 예측기로 처음부터 재생합니다.
+     * alpha/safetyFactor를 지정하면 설정값 대신 사용하여 값을 바꿨을 때의 결과를 비교할 수 있습니다.
+     */
+    public PlaceholderSimulationResponse simulate(Double alpha, Double safetyFactor) {
+        JhubK8sProperties.Placeholders settings = properties.getPlaceholders();
+        double simulatedAlpha = alpha != null ? Math.min(1d, Math.max(0.01d, alpha)) : settings.getAlpha();
+        double simulatedSafety = safetyFactor != null ? Math.max(0d, safetyFactor) : settings.getSafetyFactor();
+        NavigableMap<Long, Integer> history;
+        long lastHour;
+        long firstHour;
+        synchronized (this) {
+            foldClosedHours(Instant.now());
+            lastHour = lastFoldedHour;
+            firstHour = Math.max(observedFromHour,
+                    lastHour - (long) settings.getHistoryWeeks() * HOURS_PER_WEEK + 1);
+            history = new TreeMap<>(hourlySpawns.headMap(lastHour, true));
+        }
+        if (lastHour < firstHour) {
+            return new PlaceholderSimulationResponse(null, null, 0, 0, 0, 0, 1d, 0, 0d, simulatedAlpha,
+                    simulatedSafety);
+        }
+
+        double leadHours = settings.getLeadTime().toSeconds() / (double) SECONDS_PER_HOUR;
+        double refillsPerHour = leadHours > 0 ? Math.max(1d, 1d / leadHours) : 1d;
+        Forecaster replay = new Forecaster(simulatedAlpha);
+        long spawns = 0;
+        long instant = 0;
+        long placeholderHours = 0;
+        for (long hour = firstHour; hour <= lastHour; hour++) {
+            int bucket = bucketOf(hour);
+            double rate = Math.max(replay.forecast(bucket), replay.forecast(bucketOf(hour + 1)));
+            int replicas = clamp(requiredHeadroom(rate * leadHours, simulatedSafety), settings.getMinReplicas(),
+                    settings.getMaxReplicas());
+            int actual = history.getOrDefault(hour, 0);
+            spawns += actual;
+            instant += Math.min(actual, (long) Math.floor(replicas * refillsPerHour));
+            placeholderHours += replicas;
+            replay.update(bucket, actual);
+        }
+        int hours = (int) (lastHour - firstHour + 1);
+        return new PlaceholderSimulationResponse(
+                hourStart(firstHour),
+                hourStart(lastHour),
+                hours,
+                spawns,
+                instant,
+                spawns - instant,
+                spawns > 0 ? (double) instant / spawns : 1d,
+                placeholderHours,
+                (double) placeholderHours / hours,
+                simulatedAlpha,
+                simulatedSafety);
+    }
+
+    private void planSafely() {
+        try {
+            PlaceholderPlanResponse plan = plan();
+            if (!properties.getPlaceholders().isAutoScale() || plan.currentReplicas() == null
+                    || plan.currentReplicas() == plan.recommendedReplicas()) {
+                return;
+            }
+            if (plan.recordedHours() == 0) {
+                log.debug("Skipping placeholder auto-scale until a full hour has been observed");
+                return;
+            }
+            String name = properties.getPlaceholders().getStatefulSetName();
+            if (statefulSetRepository.scale(placeholderNamespace(), name, plan.recommendedReplicas())) {
+                log.info("Scaled {} from {} to {} replicas (forecast {}/h, free slots {})", name,
+                        plan.currentReplicas(), plan.recommendedReplicas(),
+                        String.format("%.2f", plan.forecastSpawnsPerHour()), plan.freeSlots());
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Placeholder planning failed: {}", ex.getMessage());
+        }
+    }
+
+    private synchronized void recordSpawn(String key, OffsetDateTime createdAt) {
+        if (createdAt == null || createdAt.equals(seenPods.put(key, createdAt))) {
+            return;
+        }
+        long hour = epochHour(createdAt.toInstant());
+        long oldest = epochHour(Instant.now()) - (long) properties.getPlaceholders().getHistoryWeeks() * HOURS_PER_WEEK;
+        beginObservation(Instant.now());
+        if (hour < Math.max(oldest, observedFromHour)) {
+            return;
+        }
+        hourlySpawns.merge(hour, 1, Integer::sum);
+        hourlySpawns.headMap(oldest, false).clear();
+    }
+
+    /**
+     * 처음 호출될 때 기록 시작 시간(다음 정시)을 정합니다. 시작 시각이 속한 시간은 일부만 관측되므로 제외합니다.
+     */
+    private synchronized void beginObservation(Instant now) {
+        if (observedFromHour != Long.MIN_VALUE) {
+            return;
+        }
+        observedFromHour = epochHour(now) + 1;
+        lastFoldedHour = observedFromHour - 1;
+        forecaster = new Forecaster(properties.getPlaceholders().getAlpha());
+    }
+
+    /**
+     * 기록 시작 후 끝난 시간의 생성 수를 EWMA에 반영합니다.
+     * 이미 반영한 시간에 늦게 도착한 기록은 시뮬레이션 기록에만 남습니다. (this 잠금 상태에서 호출)
+     */
+    private Forecaster foldClosedHours(Instant now) {
+        beginObservation(now);
+        long lastClosed = epochHour(now) - 1;
+        long from = Math.max(lastFoldedHour + 1,
+                lastClosed - (long) HOURS_PER_WEEK * properties.getPlaceholders().getHistoryWeeks() + 1);
+        for (long hour = from; hour <= lastClosed; hour++) {
+            forecaster.update(bucketOf(hour), hourlySpawns.getOrDefault(hour, 0));
+        }
+        lastFoldedHour = Math.max(lastFoldedHour, lastClosed);
+        return forecaster;
+    }
+
+    private double lastPlanValue(ToDoubleFunction<PlaceholderPlanResponse> field) {
+        PlaceholderPlanResponse plan = lastPlan;
+        return plan != null ? field.applyAsDouble(plan) : Double.NaN;
+    }
+
+    private String placeholderNamespace() {
+        String namespace = properties.getPlaceholders().getNamespace();
+        return namespace != null && !namespace.isBlank() ? namespace : properties.getNamespace();
+    }
+
+    private int bucketOf(long epochHour) {
+        ZonedDateTime time = Instant.ofEpochSecond(epochHour * SECONDS_PER_HOUR).atZone(zone);
+        return (time.getDayOfWeek().getValue() - 1) * 24 + time.getHour();
+    }
+
+    private OffsetDateTime hourStart(long epochHour) {
+        return Instant.ofEpochSecond(epochHour * SECONDS_PER_HOUR).atZone(zone).toOffsetDateTime();
+    }
+
+    private static long epochHour(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), SECONDS_PER_HOUR);
+    }
+
+    /**
+     * 예상 생성 수에 표준편차(포아송: √기댓값) × safetyFactor를 더해 올림한 값.
+     */
+    static int requiredHeadroom(double expectedSpawns, double safetyFactor) {
+        if (expectedSpawns <= 0) {
+            return 0;
+        }
+        return (int) Math.ceil(expectedSpawns + safetyFactor * Math.sqrt(expectedSpawns));
+    }
+
+    /**
+     * 세션 노드(없으면 준비된 모든 노드)에 세션 크기 자리가 몇 개 남았는지 계산합니다.
+     * 노드 요청량이 사용자 파드만의 합계(clusterWideRequests=false)이면 시스템/placeholder 파드가 빠져 있으므로 0으로 봅니다.
+     */
+    static int freeSlots(List<ClusterNodeSummaryResponse> nodes, Set<String> sessionNodes, double sessionCpu,
+            double sessionMemory) {
+        if (sessionCpu <= 0 && sessionMemory <= 0) {
+            return 0;
+        }
+        boolean anySessionNode = nodes.stream().anyMatch(node -> sessionNodes.contains(node.nodeName()));
+        long slots = 0;
+        for (ClusterNodeSummaryResponse node : nodes) {
+            if (!"Ready".equals(node.status()) || !node.clusterWideRequests()
+                    || (anySessionNode && !sessionNodes.contains(node.nodeName()))) {
+                continue;
+            }
+            long cpuSlots = sessionCpu > 0
+                    ? (long) Math.floor((node.allocatableCpuMilliCores() - node.requestedCpuMilliCores()) / sessionCpu)
+                    : Long.MAX_VALUE;
+            long memorySlots = sessionMemory > 0
+                    ? (long) Math.floor((node.allocatableMemoryBytes() - node.requestedMemoryBytes()) / sessionMemory)
+                    : Long.MAX_VALUE;
+            slots += Math.max(0L, Math.min(cpuSlots, memorySlots));
+        }
+        return (int) Math.min(Integer.MAX_VALUE, slots);
+    }
+
+    private static double median(List<PodSnapshot> pods, ToDoubleFunction<PodSnapshot> field) {
+        double[] values = pods.stream().mapToDouble(field).filter(value -> value > 0).sorted().toArray();
+        return values.length > 0 ? values[values.length / 2] : 0d;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(Math.max(min, max), value));
+    }
+
+    /**
+     * 새 세션 파드의 생성 시각을 기록합니다. 재조회 후에는 인덱스에 없는 파드를 잊습니다.
+     */
+    private final class SpawnListener implements ResourceEventListener<PodSnapshot> {
+
+        @Override
+        public void onReplace(List<PodSnapshot> pods) {
+            pods.forEach(this::onUpsert);
+            Set<String> live = new HashSet<>();
+            sessionIndex.snapshots().forEach(pod -> live.add(pod.namespace() + "/" + pod.name()));
+            seenPods.keySet().retainAll(live);
+        }
+
+        @Override
+        public void onUpsert(PodSnapshot pod) {
+            recordSpawn(pod.namespace() + "/" + pod.name(), pod.creationTimestamp());
+        }
+
+        @Override
+        public void onDelete(PodSnapshot pod) {
+            seenPods.remove(pod.namespace() + "/" + pod.name());
+        }
+    }
+
+    /**
+     * 요일×시간대별 시간당 생성 수의 EWMA. 아직 관측되지 않은 칸은 관측된 칸의 평균으로 예측합니다.
+     */
+    static final class Forecaster {
+        private final double alpha;
+        private final double[] levels = new double[HOURS_PER_WEEK];
+        private final boolean[] observed = new boolean[HOURS_PER_WEEK];
+        private long updates;
+
+        Forecaster(double alpha) {
+            this.alpha = alpha;
+        }
+
+        void update(int bucket, int count) {
+            levels[bucket] = observed[bucket] ? alpha * count + (1 - alpha) * levels[bucket] : count;
+            observed[bucket] = true;
+            updates++;
+        }
+
+        double forecast(int bucket) {
+            if (observed[bucket]) {
+                return levels[bucket];
+            }
+            double sum = 0d;
+            int count = 0;
+            for (int i = 0; i < HOURS_PER_WEEK; i++) {
+                if (observed[i]) {
+                    sum += levels[i];
+                    count++;
+                }
+            }
+            return count > 0 ? sum / count : 0d;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.dhkimxx.jhub_k8s_spring.config.AsyncConfig;
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesEventRepository;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesPodRepository;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.PodEvent;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.ResourceEventListener;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.ResourceWatcher;
+
+import io.kubernetes.client.openapi.models.EventsV1Event;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 네임스페이스의 파드 이벤트를 watch하여 이벤트를 사용하는 분석기들에 함께 전달합니다.
+ * 세션 인덱스와 같은 범위(네임스페이스별, 또는 전체 네임스페이스 하나)로 watch를 하나씩만 열고,
+ * 생성 소요 시간 분석(Scheduled/Pulled)과 이미지 풀 비용 추적(Pulling/Pulled)이 같은 이벤트를 공유합니다.
+ * 두 분석이 모두 꺼져 있으면 watch를 시작하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PodEventFeed implements SmartLifecycle {
+
+    private final KubernetesPodRepository podRepository;
+    private final KubernetesEventRepository eventRepository;
+    private final SpawnLatencyTracker spawnLatencyTracker;
+    private final ImagePullTracker imagePullTracker;
+    private final JhubK8sProperties properties;
+    @Qualifier(AsyncConfig.WATCH_THREAD_FACTORY)
+    private final ThreadFactory watchThreadFactory;
+
+    private List<ResourceWatcher<EventsV1Event, PodEvent>> watchers = List.of();
+
+    @Override
+    public synchronized void start() {
+        if (!properties.getSpawnLatency().isEnabled() && !properties.getImagePull().isEnabled()) {
+            return;
+        }
+        if (watchers.isEmpty()) {
+            watchers = podRepository.userNamespaceScopes().stream()
+                    .map(namespace -> eventRepository.newPodEventWatcher(namespace, new FeedListener(namespace)))
+                    .toList();
+            log.info("Starting pod event feed with {} watchers", watchers.size());
+        }
+        watchers.forEach(watcher -> watcher.start(watchThreadFactory));
+    }
+
+    @Override
+    public synchronized void stop() {
+        watchers.forEach(ResourceWatcher::stop);
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return !watchers.isEmpty() && watchers.stream().allMatch(ResourceWatcher::isRunning);
+    }
+
+    private void dispatch(PodEvent event) {
+        if (properties.getSpawnLatency().isEnabled()) {
+            spawnLatencyTracker.onPodEvent(event);
+        }
+        if (properties.getImagePull().isEnabled()) {
+            imagePullTracker.onPodEvent(event);
+        }
+    }
+
+    /**
+     * 재조회 결과도 개별 이벤트와 같이 전달합니다. 중복은 각 분석기가 무시합니다.
+     * 이미지 풀 추적기의 중복 판별 상태는 watch 범위에 남아 있는 이벤트로 한정되도록
+     * 재조회 결과와 이벤트 만료(삭제)를 함께 알립니다.
+     */
+    private final class FeedListener implements ResourceEventListener<PodEvent> {
+
+        /** watch 범위의 네임스페이스 (전체 네임스페이스이면 null) */
+        private final String namespace;
+
+        private FeedListener(String namespace) {
+            this.namespace = namespace;
+        }
+
+        @Override
+        public void onReplace(List<PodEvent> events) {
+            if (properties.getImagePull().isEnabled()) {
+                imagePullTracker.retainEvents(namespace, events);
+            }
+            events.forEach(PodEventFeed.this::dispatch);
+        }
+
+        @Override
+        public void onUpsert(PodEvent event) {
+            dispatch(event);
+        }
+
+        @Override
+        public void onDelete(PodEvent event) {
+            // 이벤트 만료(TTL)는 분석 결과에 영향을 주지 않고 중복 판별 상태만 정리합니다.
+            if (properties.getImagePull().isEnabled()) {
+                imagePullTracker.forgetEvent(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,558 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.dhkimxx.jhub_k8s_spring.config.AsyncConfig;
+import com.dhkimxx.jhub_k8s_spring.dto.session.NamespaceSessionSummary;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionPage;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionQuery;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionSortKey;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionSummaryResponse;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesPodRepository;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.PodSnapshot;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.ResourceEventListener;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.ResourceWatcher;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 세션의 인메모리 인덱스.
+ * 사용자 파드를 watch하여 세션 요약 정보를 최신 상태로 유지하고,
+ * 정렬 기준별로 미리 정렬된 인덱스를 관리하여 요청마다 전체 목록을 정렬하지 않고 페이지를 응답합니다.
+ * 사용자명/파드명 접두사 인덱스를 함께 유지하여 검색 및 자동완성 요청을 API 호출 없이 처리합니다.
+ * 파드는 V1Pod 대신 불변 요약(PodSnapshot)으로 한 번만 보관하고, 정렬/접두사 인덱스도 같은 인스턴스를 가리킵니다.
+ * 정렬과 필터는 PodSnapshot 필드로 직접 처리하고, 세션 요약(SessionSummaryResponse)은 응답할 항목만 만듭니다.
+ * 네임스페이스마다 정렬 인덱스를 따로 두며, 전체 조회는 네임스페이스별 인덱스를 병합하여 응답합니다.
+ * 대상 네임스페이스마다 watch를 하나씩 사용하고, defaultNamespaceSelector=false이면 전체 네임스페이스를 하나의 watch로 추적합니다.
+ * 세션 종료 작업은 awaitRemoval로 파드가 watch에서 사라지는 시점을 통지받습니다.
+ * 같은 파드 변경을 다른 구성 요소(생성 소요 시간 분석 등)도 받아야 하면 addPodListener로 별도 watch 없이 전달받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SessionIndex implements SmartLifecycle {
+
+    private static final String USERNAME_TERM = "u:";
+    private static final String POD_NAME_TERM = "p:";
+    private static final char TERM_SEPARATOR = '\u0000';
+
+    private final KubernetesPodRepository podRepository;
+    private final SessionSummaryMapper summaryMapper;
+    @Qualifier(AsyncConfig.WATCH_THREAD_FACTORY)
+    private final ThreadFactory watchThreadFactory;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /** 네임스페이스 → 해당 네임스페이스의 세션 인덱스 */
+    private final NavigableMap<String, Partition> partitions = new TreeMap<>();
+    /** "소문자 검색어 + 구분자 + 세션 키" → 파드. 사용자명과 파드명 각각에 대해 항목을 가집니다. */
+    private final NavigableMap<String, PodSnapshot> prefixIndex = new TreeMap<>();
+    /** 정렬 기준 → 파드 비교자 (SessionSortKey의 세션 요약 정렬과 같은 순서) */
+    private static final Map<SessionSortKey, Comparator<PodSnapshot>> COMPARATORS = createComparators();
+    /** "네임스페이스/파드 이름" → 해당 파드가 인덱스에서 사라지기를 기다리는 작업 (쓰기 잠금으로 보호) */
+    private final Map<String, List<CompletableFuture<Void>>> removalWaiters = new HashMap<>();
+    /** 인덱스 반영 후 같은 이벤트를 전달받는 수신자 */
+    private final List<ResourceEventListener<PodSnapshot>> podListeners = new CopyOnWriteArrayList<>();
+
+    private List<ResourceWatcher<V1Pod, PodSnapshot>> watchers = List.of();
+
+    @Override
+    public synchronized void start() {
+        if (watchers.isEmpty()) {
+            watchers = podRepository.userNamespaceScopes().stream()
+                    .map(namespace -> podRepository.newUserPodWatcher(namespace, new ScopeListener(namespace)))
+                    .toList();
+        }
+        watchers.forEach(watcher -> watcher.start(watchThreadFactory));
+    }
+
+    @Override
+    public synchronized void stop() {
+        watchers.forEach(ResourceWatcher::stop);
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return !watchers.isEmpty() && watchers.stream().allMatch(ResourceWatcher::isRunning);
+    }
+
+    /**
+     * 모든 대상 네임스페이스의 최초 동기화가 완료되어 인덱스로 조회 요청을 처리할 수 있는지 여부.
+     */
+    public boolean isSynced() {
+        List<ResourceWatcher<V1Pod, PodSnapshot>> current = watchers;
+        return !current.isEmpty() && current.stream().allMatch(ResourceWatcher::hasSynced);
+    }
+
+    /**
+     * 조건에 맞는 세션 페이지를 정렬 인덱스 순서대로 조회합니다.
+     * namespace 조건이 있으면 해당 네임스페이스의 인덱스만 사용합니다.
+     */
+    public SessionPage query(SessionQuery query) {
+        lock.readLock().lock();
+        try {
+            List<Iterable<PodSnapshot>> ordered = new ArrayList<>();
+            for (Partition partition : partitions.values()) {
+                if (query.namespace() == null || query.namespace().equals(partition.namespace)) {
+                    NavigableSet<PodSnapshot> index = partition.sortedIndexes.get(query.sort());
+                    ordered.add(query.descending() ? index.descendingSet() : index);
+                }
+            }
+            Comparator<PodSnapshot> comparator = query.descending()
+                    ? comparatorOf(query.sort()).reversed()
+                    : comparatorOf(query.sort());
+            return select(merge(ordered, comparator), pod -> matches(query, pod), summaryMapper::toSummary, query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자명 또는 파드명이 검색어로 시작하는 세션을 최대 limit개 조회합니다. (대소문자 구분 없음)
+     * 사용자명 일치 항목을 파드명 일치 항목보다 먼저, 각각 사전순으로 반환합니다.
+     */
+    public List<SessionSummaryResponse> search(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        Map<String, PodSnapshot> found = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            collectPrefix(USERNAME_TERM + normalized, found, limit);
+            collectPrefix(POD_NAME_TERM + normalized, found, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found.values().stream().map(summaryMapper::toSummary).toList();
+    }
+
+    /**
+     * 사용자명이 정확히 일치하는 세션을 모두 조회합니다. (네임스페이스, 파드 이름순)
+     * 같은 사용자가 여러 네임스페이스에 세션을 가질 수 있으므로 하나를 고르는 것은 호출자가 결정합니다.
+     */
+    public List<SessionSummaryResponse> findByUsername(String username) {
+        String start = USERNAME_TERM + normalize(username) + TERM_SEPARATOR;
+        lock.readLock().lock();
+        try {
+            return prefixIndex.subMap(start, true, start + Character.MAX_VALUE, false).values().stream()
+                    .filter(pod -> username.equals(pod.username()))
+                    .map(summaryMapper::toSummary)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스에 보관된 모든 사용자 파드 요약. (노드별 요청량 집계 등)
+     */
+    public List<PodSnapshot> snapshots() {
+        lock.readLock().lock();
+        try {
+            List<PodSnapshot> snapshots = new ArrayList<>(size());
+            partitions.values().forEach(partition -> snapshots.addAll(partition.podsByKey.values()));
+            return snapshots;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 네임스페이스별 세션 집계. 네임스페이스 이름순으로 반환하며, 세션이 없는 대상 네임스페이스도 포함합니다.
+     */
+    public List<NamespaceSessionSummary> namespaceSummaries() {
+        lock.readLock().lock();
+        try {
+            return partitions.values().stream()
+                    .map(partition -> summarizeSnapshots(partition.namespace, partition.podsByKey.values()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 파드가 인덱스에서 사라지면(삭제 이벤트 또는 재조회 결과에 없음) 완료되는 future를 반환합니다.
+     * 인덱스가 동기화되어 있고 파드가 이미 없으면 즉시 완료됩니다.
+     * 기다림을 포기하려면 반환된 future를 취소하거나 타임아웃으로 완료시키면 되고, 다음 호출 때 정리됩니다.
+     */
+    public CompletableFuture<Void> awaitRemoval(String namespace, String podName) {
+        CompletableFuture<Void> removed = new CompletableFuture<>();
+        String key = namespace + "/" + podName;
+        boolean synced = isSynced();
+        lock.writeLock().lock();
+        try {
+            removalWaiters.values().removeIf(waiters -> {
+                waiters.removeIf(CompletableFuture::isDone);
+                return waiters.isEmpty();
+            });
+            if (!synced || containsKey(key)) {
+                removalWaiters.computeIfAbsent(key, k -> new ArrayList<>()).add(removed);
+                return removed;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        removed.complete(null);
+        return removed;
+    }
+
+    /**
+     * 사용자 파드 이벤트 수신자를 등록합니다. 인덱스에 반영한 뒤 watch 스레드에서 같은 순서로 호출하며,
+     * 재조회(onReplace)는 watch 범위(네임스페이스)마다 따로 전달됩니다.
+     */
+    public void addPodListener(ResourceEventListener<PodSnapshot> listener) {
+        podListeners.add(listener);
+    }
+
+    /**
+     * 현재 인덱스에 있는 세션 수.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return partitions.values().stream().mapToInt(partition -> partition.podsByKey.size()).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 세션 목록을 네임스페이스별 집계로 변환합니다.
+     */
+    static NamespaceSessionSummary summarize(String namespace, Iterable<SessionSummaryResponse> sessions) {
+        int total = 0;
+        int running = 0;
+        int ready = 0;
+        double cpu = 0d;
+        double memory = 0d;
+        for (SessionSummaryResponse session : sessions) {
+            total++;
+            if ("Running".equalsIgnoreCase(session.phase())) {
+                running++;
+            }
+            if (session.ready()) {
+                ready++;
+            }
+            cpu += session.cpuMilliCores();
+            memory += session.memoryBytes();
+        }
+        return new NamespaceSessionSummary(namespace, total, running, ready, cpu, memory);
+    }
+
+    /**
+     * 파드 요약 목록을 네임스페이스별 집계로 변환합니다. (세션 요약을 만들지 않음)
+     */
+    private static NamespaceSessionSummary summarizeSnapshots(String namespace, Iterable<PodSnapshot> pods) {
+        int total = 0;
+        int running = 0;
+        int ready = 0;
+        double cpu = 0d;
+        double memory = 0d;
+        for (PodSnapshot pod : pods) {
+            total++;
+            if ("Running".equalsIgnoreCase(pod.phase())) {
+                running++;
+            }
+            if (pod.ready()) {
+                ready++;
+            }
+            cpu += pod.cpuRequestMilliCores();
+            memory += pod.memoryRequestBytes();
+        }
+        return new NamespaceSessionSummary(namespace, total, running, ready, cpu, memory);
+    }
+
+    /**
+     * 이미 정렬된 세션 목록에서 필터 조건과 페이지 범위에 해당하는 항목을 선택합니다.
+     */
+    static SessionPage select(Iterable<SessionSummaryResponse> orderedSessions, SessionQuery query) {
+        return select(orderedSessions, query::matches, Function.identity(), query);
+    }
+
+    /**
+     * 이미 정렬된 항목에서 필터 조건과 페이지 범위에 해당하는 항목을 선택하고, 선택한 항목만 세션 요약으로 변환합니다.
+     */
+    private static <T> SessionPage select(Iterable<T> ordered, Predicate<T> filter,
+            Function<T, SessionSummaryResponse> toSummary, SessionQuery query) {
+        long offset = query.offset();
+        List<SessionSummaryResponse> items = new ArrayList<>(Math.min(query.size(), 1000));
+        int total = 0;
+        for (T item : ordered) {
+            if (!filter.test(item)) {
+                continue;
+            }
+            if (total >= offset && items.size() < query.size()) {
+                items.add(toSummary.apply(item));
+            }
+            total++;
+        }
+        return new SessionPage(items, total);
+    }
+
+    private static boolean matches(SessionQuery query, PodSnapshot pod) {
+        return query.matches(pod.namespace(), SessionSummaryMapper.phaseOf(pod), SessionSummaryMapper.nodeNameOf(pod),
+                pod.ready(), SessionSummaryMapper.usernameOf(pod));
+    }
+
+    /**
+     * 각각 정렬된 목록들을 하나의 정렬된 순서로 병합합니다. (k-way merge)
+     */
+    static <T> Iterable<T> merge(List<? extends Iterable<T>> sortedSources, Comparator<? super T> comparator) {
+        if (sortedSources.size() == 1) {
+            return sortedSources.get(0);
+        }
+        return () -> new Iterator<>() {
+            private final PriorityQueue<Head<T>> heads = createHeads();
+
+            private PriorityQueue<Head<T>> createHeads() {
+                PriorityQueue<Head<T>> queue = new PriorityQueue<>(
+                        Math.max(1, sortedSources.size()), (a, b) -> comparator.compare(a.value, b.value));
+                for (Iterable<T> source : sortedSources) {
+                    Iterator<T> iterator = source.iterator();
+                    if (iterator.hasNext()) {
+                        queue.add(new Head<>(iterator.next(), iterator));
+                    }
+                }
+                return queue;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                Head<T> head = heads.poll();
+                if (head == null) {
+                    throw new NoSuchElementException();
+                }
+                if (head.rest.hasNext()) {
+                    heads.add(new Head<>(head.rest.next(), head.rest));
+                }
+                return head.value;
+            }
+        };
+    }
+
+    private void replace(String scope, List<PodSnapshot> pods) {
+        List<CompletableFuture<Void>> removedWaiters = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            if (scope == null) {
+                partitions.clear();
+                prefixIndex.clear();
+            } else {
+                Partition removed = partitions.remove(scope);
+                if (removed != null) {
+                    removed.podsByKey.forEach(this::removePrefixEntries);
+                }
+                partitions.put(scope, new Partition(scope));
+            }
+            pods.forEach(this::put);
+            removalWaiters.entrySet().removeIf(entry -> {
+                if ((scope != null && !entry.getKey().startsWith(scope + "/")) || containsKey(entry.getKey())) {
+                    return false;
+                }
+                removedWaiters.addAll(entry.getValue());
+                return true;
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        removedWaiters.forEach(waiter -> waiter.complete(null));
+        log.info("Session index synchronized with {} sessions{}", pods.size(),
+                scope != null ? " in namespace " + scope : "");
+    }
+
+    private void upsert(PodSnapshot pod) {
+        lock.writeLock().lock();
+        try {
+            put(pod);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void delete(PodSnapshot pod) {
+        String key = keyOf(pod);
+        List<CompletableFuture<Void>> waiters;
+        lock.writeLock().lock();
+        try {
+            waiters = removalWaiters.remove(key);
+            Partition partition = partitions.get(pod.namespace());
+            if (partition != null) {
+                PodSnapshot removed = partition.podsByKey.remove(key);
+                if (removed != null) {
+                    partition.sortedIndexes.values().forEach(index -> index.remove(removed));
+                    removePrefixEntries(key, removed);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (waiters != null) {
+            waiters.forEach(waiter -> waiter.complete(null));
+        }
+    }
+
+    private boolean containsKey(String key) {
+        Partition partition = partitions.get(key.substring(0, key.indexOf('/')));
+        return partition != null && partition.podsByKey.containsKey(key);
+    }
+
+    private void put(PodSnapshot pod) {
+        String key = keyOf(pod);
+        Partition partition = partitions.computeIfAbsent(pod.namespace(), Partition::new);
+        PodSnapshot previous = partition.podsByKey.put(key, pod);
+        if (previous != null) {
+            partition.sortedIndexes.values().forEach(index -> index.remove(previous));
+            removePrefixEntries(key, previous);
+        }
+        partition.sortedIndexes.values().forEach(index -> index.add(pod));
+        prefixIndex.put(usernameEntry(key, pod), pod);
+        prefixIndex.put(podNameEntry(key, pod), pod);
+    }
+
+    private void removePrefixEntries(String key, PodSnapshot pod) {
+        prefixIndex.remove(usernameEntry(key, pod));
+        prefixIndex.remove(podNameEntry(key, pod));
+    }
+
+    private void collectPrefix(String start, Map<String, PodSnapshot> found, int limit) {
+        for (PodSnapshot pod : prefixIndex.subMap(start, true, start + Character.MAX_VALUE, false).values()) {
+            if (found.size() >= limit) {
+                return;
+            }
+            found.putIfAbsent(keyOf(pod), pod);
+        }
+    }
+
+    private static String usernameEntry(String key, PodSnapshot pod) {
+        return USERNAME_TERM + normalize(pod.username()) + TERM_SEPARATOR + key;
+    }
+
+    private static String podNameEntry(String key, PodSnapshot pod) {
+        return POD_NAME_TERM + normalize(pod.name()) + TERM_SEPARATOR + key;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String keyOf(PodSnapshot pod) {
+        return pod.namespace() + "/" + pod.name();
+    }
+
+    private static Map<SessionSortKey, NavigableSet<PodSnapshot>> createSortedIndexes() {
+        Map<SessionSortKey, NavigableSet<PodSnapshot>> indexes = new EnumMap<>(SessionSortKey.class);
+        for (SessionSortKey key : SessionSortKey.values()) {
+            indexes.put(key, new TreeSet<>(comparatorOf(key)));
+        }
+        return indexes;
+    }
+
+    /**
+     * 정렬 기준별 파드 비교자. 세션 요약을 만들지 않고 PodSnapshot 필드를 직접 비교하며,
+     * 값이 없는 사용자명/노드는 세션 요약과 같은 기본값으로 비교하고,
+     * 동일 값은 SessionSortKey와 같이 네임스페이스/파드 이름 순으로 고정합니다.
+     */
+    private static Map<SessionSortKey, Comparator<PodSnapshot>> createComparators() {
+        Comparator<String> text = Comparator.nullsLast(Comparator.<String>naturalOrder());
+        Comparator<PodSnapshot> tieBreaker = Comparator.comparing(PodSnapshot::namespace, text)
+                .thenComparing(PodSnapshot::name, text);
+        Map<SessionSortKey, Comparator<PodSnapshot>> comparators = new EnumMap<>(SessionSortKey.class);
+        for (SessionSortKey key : SessionSortKey.values()) {
+            Comparator<PodSnapshot> primary = switch (key) {
+                case USERNAME -> Comparator.comparing(SessionSummaryMapper::usernameOf, text);
+                case CPU -> Comparator.comparingDouble(PodSnapshot::cpuRequestMilliCores);
+                case MEMORY -> Comparator.comparingDouble(PodSnapshot::memoryRequestBytes);
+                case RESTARTS -> Comparator.comparingInt(PodSnapshot::restartCount);
+                case START_TIME -> Comparator.comparing(PodSnapshot::startTime,
+                        Comparator.nullsLast(Comparator.<OffsetDateTime>naturalOrder()));
+                case NODE -> Comparator.comparing(SessionSummaryMapper::nodeNameOf, text);
+            };
+            comparators.put(key, primary.thenComparing(tieBreaker));
+        }
+        return comparators;
+    }
+
+    private static Comparator<PodSnapshot> comparatorOf(SessionSortKey key) {
+        return COMPARATORS.get(key);
+    }
+
+    /**
+     * watch 하나가 담당하는 범위(네임스페이스, 전체 네임스페이스이면 null)의 이벤트를 인덱스에 반영합니다.
+     * 재조회 시 해당 범위의 세션만 교체합니다.
+     */
+    private final class ScopeListener implements ResourceEventListener<PodSnapshot> {
+
+        private final String scope;
+
+        private ScopeListener(String scope) {
+            this.scope = scope;
+        }
+
+        @Override
+        public void onReplace(List<PodSnapshot> pods) {
+            replace(scope, pods);
+            podListeners.forEach(listener -> listener.onReplace(pods));
+        }
+
+        @Override
+        public void onUpsert(PodSnapshot pod) {
+            upsert(pod);
+            podListeners.forEach(listener -> listener.onUpsert(pod));
+        }
+
+        @Override
+        public void onDelete(PodSnapshot pod) {
+            delete(pod);
+            podListeners.forEach(listener -> listener.onDelete(pod));
+        }
+    }
+
+    /**
+     * 네임스페이스 하나의 세션 인덱스.
+     */
+    private static final class Partition {
+        private final String namespace;
+        private final Map<String, PodSnapshot> podsByKey = new HashMap<>();
+        private final Map<SessionSortKey, NavigableSet<PodSnapshot>> sortedIndexes = createSortedIndexes();
+
+        private Partition(String namespace) {
+            this.namespace = namespace;
+        }
+    }
+
+    private record Head<T>(T value, Iterator<T> rest) {
+    }
+}
@@ -1,21 +1,44 @@
 package com.dhkimxx.jhub_k8s_spring.service;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import com.dhkimxx.jhub_k8s_spring.config.AsyncConfig;
 import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
 import com.dhkimxx.jhub_k8s_spring.dto.session.KubernetesEventResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.session.NamespaceSessionSummary;
 import com.dhkimxx.jhub_k8s_spring.dto.session.PodMetricsResponse;
 import com.dhkimxx.jhub_k8s_spring.dto.session.StorageUsageResponse;
 import com.dhkimxx.jhub_k8s_spring.dto.session.SessionDetailResponse;
 import com.dhkimxx.jhub_k8s_spring.dto.session.SessionMetadata;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionPage;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionQuery;
 import com.dhkimxx.jhub_k8s_spring.dto.session.SessionResourceUsage;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionSortKey;
 import com.dhkimxx.jhub_k8s_spring.dto.session.SessionStatus;
 import com.dhkimxx.jhub_k8s_spring.dto.session.SessionSummaryResponse;
+import com.dhkimxx.jhub_k8s_spring.exception.BadRequestException;
+import com.dhkimxx.jhub_k8s_spring.exception.ConflictException;
 import com.dhkimxx.jhub_k8s_spring.exception.ResourceNotFoundException;
 import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesEventRepository;
 import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesMetricsRepository;
@@ -24,112 +47,341 @@ import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesPvcRepository;
 import com.dhkimxx.jhub_k8s_spring.util.ResourceQuantityParser;
 
 import io.kubernetes.client.openapi.models.V1Container;
-import io.kubernetes.client.openapi.models.V1ContainerStatus;
 import io.kubernetes.client.openapi.models.V1Pod;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * 사용자 세션(JupyterHub Pod)을 관리하는 서비스.
  * 파드 조회, 상세 정보(메트릭, 이벤트) 조회 및 세션 종료 기능을 수행합니다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
 public class SessionService {
 
+    private static final String SOURCE_METRICS = "metrics";
+    private static final String SOURCE_EVENTS = "events";
+    private static final String SOURCE_STORAGE = "storage";
+
     private final KubernetesPodRepository podRepository;
     private final KubernetesMetricsRepository metricsRepository;
     private final KubernetesEventRepository eventRepository;
     private final KubernetesPvcRepository pvcRepository;
+    private final SessionIndex sessionIndex;
+    private final SessionSummaryMapper summaryMapper;
     private final JhubK8sProperties properties;
+    @Qualifier(AsyncConfig.KUBERNETES_IO_EXECUTOR)
+    private final AsyncTaskExecutor kubernetesIoExecutor;
 
     /**
      * 실행 중인 모든 사용자 세션을 요약 정보로 조회합니다.
      * 사용자 이름순으로 정렬하여 반환합니다.
      */
     public List<SessionSummaryResponse> fetchAllSessions() {
-        return podRepository.findAllUserPods().stream()
-                .map(this::toSummary)
-                .sorted(Comparator.comparing(SessionSummaryResponse::username))
-                .collect(Collectors.toList());
+        return fetchSessionPage(SessionQuery.all()).items();
+    }
+
+    /**
+     * 필터/정렬/페이지 조건에 맞는 세션 목록을 조회합니다.
+     * 세션 인덱스가 동기화된 경우 미리 정렬된 인덱스에서 응답하고,
+     * 동기화 전에는 파드 목록을 직접 조회하여 요청 단위로 정렬합니다.
+     */
+    public SessionPage fetchSessionPage(SessionQuery query) {
+        if (sessionIndex.isSynced()) {
+            return sessionIndex.query(query);
+        }
+        List<SessionSummaryResponse> sessions = podRepository.findAllUserPodSnapshots().stream()
+                .map(summaryMapper::toSummary)
+                .sorted(query.descending() ? query.sort().comparator().reversed() : query.sort().comparator())
+                .toList();
+        return SessionIndex.select(sessions, query);
+    }
+
+    /**
+     * 모든 사용자 세션을 요약 정보로 변환하여 하나씩 전달합니다. (스트리밍 응답용)
+     * 파드를 페이지 단위로 조회하므로 전체 목록을 메모리에 만들지 않으며, 정렬되지 않은 순서로 전달됩니다.
+     */
+    public void streamAllSessions(Consumer<SessionSummaryResponse> consumer) {
+        podRepository.forEachUserPodSnapshot(pod -> consumer.accept(summaryMapper.toSummary(pod)));
+    }
+
+    /**
+     * 사용자명 또는 파드명이 검색어로 시작하는 세션을 최대 limit개 조회합니다. (자동완성용)
+     * 세션 인덱스가 동기화된 경우 접두사 인덱스에서 응답하고, 동기화 전에는 파드 목록을 직접 조회합니다.
+     */
+    public List<SessionSummaryResponse> searchSessions(String prefix, int limit) {
+        if (sessionIndex.isSynced()) {
+            return sessionIndex.search(prefix, limit);
+        }
+        return podRepository.findAllUserPodSnapshots().stream()
+                .map(summaryMapper::toSummary)
+                .filter(session -> startsWithIgnoreCase(session.username(), prefix)
+                        || startsWithIgnoreCase(session.podName(), prefix))
+                .sorted(SessionSortKey.USERNAME.comparator())
+                .limit(limit)
+                .toList();
     }
 
     /**
      * 특정 사용자의 세션 상세 정보를 조회합니다.
      * 파드 기본 정보, 실시간 메트릭, 쿠버네티스 이벤트, PVC 정보를 모두 취합합니다.
+     * 메트릭/이벤트/스토리지는 각자의 기한을 두고 동시에 조회하며,
+     * 일부가 실패하거나 기한을 넘기면 해당 항목을 비운 부분 응답(degraded)을 반환합니다.
+     * namespace가 없고 같은 사용자의 세션이 여러 네임스페이스에 있으면 ConflictException을 던집니다.
      */
-    public SessionDetailResponse fetchSessionDetail(String username) {
-        V1Pod pod = podRepository.findByUsername(username)
+    public SessionDetailResponse fetchSessionDetail(String username, String namespace) {
+        if (namespace != null && !properties.isUserNamespace(namespace)) {
+            throw new BadRequestException("Not a session namespace: " + namespace);
+        }
+        V1Pod pod = findUserPod(username, namespace)
                 .orElseThrow(() -> new ResourceNotFoundException("Session for user %s not found".formatted(username)));
 
         // K8s 활성화 시 추가 정보 조회 (Metrics, Events, Storage)
         PodMetricsResponse metrics = null;
         List<KubernetesEventResponse> events = List.of();
-        StorageUsageResponse storage = null;
+        StorageUsageResponse storage = StorageUsageResponse.none();
+        List<String> failedSources = new ArrayList<>();
 
         if (properties.isEnabled()) {
-            metrics = metricsRepository.findPodMetrics(pod.getMetadata().getName()).orElse(null);
-            events = eventRepository.findEventsByPodName(pod.getMetadata().getName());
-            storage = pvcRepository.findStorageUsageByPod(pod);
+            String podNamespace = pvcRepository.namespaceOf(pod);
+            String podName = pod.getMetadata().getName();
+            CompletableFuture<Optional<PodMetricsResponse>> metricsFuture = metricsRepository
+                    .findPodMetricsAsync(podNamespace, podName);
+            CompletableFuture<List<KubernetesEventResponse>> eventsFuture = eventRepository
+                    .findEventsByPodNameAsync(podNamespace, podName);
+            CompletableFuture<StorageUsageResponse> storageFuture = pvcRepository.findStorageUsageByPodAsync(pod);
+
+            metrics = await(metricsFuture, SOURCE_METRICS, Optional.<PodMetricsResponse>empty(), failedSources)
+                    .orElse(null);
+            events = await(eventsFuture, SOURCE_EVENTS, List.of(), failedSources);
+            storage = await(storageFuture, SOURCE_STORAGE, StorageUsageResponse.none(), failedSources);
         }
 
         return new SessionDetailResponse(
                 toMetadata(pod),
                 toStatus(pod),
-                toResourceUsage(pod, metrics, storage != null ? storage : StorageUsageResponse.none()),
-                events);
+                toResourceUsage(pod, metrics, storage),
+                events,
+                !failedSources.isEmpty(),
+                List.copyOf(failedSources));
+    }
+
+    /**
+     * 여러 사용자의 세션 상세 정보를 한 번에 조회합니다.
+     * 파드, 메트릭, 이벤트는 네임스페이스마다 한 번의 목록 조회로 가져와 로컬에서 분배하고,
+     * PVC는 이름 기준으로 중복을 제거한 뒤 병렬로 조회합니다.
+     * 각 키는 사용자명 또는 "네임스페이스/사용자명"이며, 결과 맵은 요청한 키를 그대로 키로 사용합니다.
+     * 세션이 없는 키는 결과에서 제외되며, 결과는 요청한 키 순서를 따릅니다.
+     * 네임스페이스 없이 지정한 사용자의 세션이 여러 네임스페이스에 있으면 fetchSessionDetail과 같이 ConflictException을 던집니다.
+     */
+    public Map<String, SessionDetailResponse> fetchSessionDetails(Collection<String> keys) {
+        Map<String, UserKey> userKeys = new LinkedHashMap<>();
+        keys.forEach(key -> userKeys.put(key, UserKey.parse(key)));
+        userKeys.values().stream()
+                .map(UserKey::namespace)
+                .filter(namespace -> namespace != null && !properties.isUserNamespace(namespace))
+                .findFirst()
+                .ifPresent(namespace -> {
+                    throw new BadRequestException("Not a session namespace: " + namespace);
+                });
+
+        Map<String, List<V1Pod>> podsByUsername = new HashMap<>();
+        Set<String> usernames = userKeys.values().stream().map(UserKey::username).collect(Collectors.toSet());
+        for (V1Pod pod : podRepository.findByUsernames(usernames)) {
+            podsByUsername.computeIfAbsent(summaryMapper.resolveUsername(pod), username -> new ArrayList<>())
+                    .add(pod);
+        }
+        Map<String, V1Pod> podsByKey = new LinkedHashMap<>();
+        userKeys.forEach((key, userKey) -> {
+            List<V1Pod> pods = podsByUsername.getOrDefault(userKey.username(), List.of()).stream()
+                    .filter(pod -> userKey.namespace() == null
+                            || userKey.namespace().equals(pvcRepository.namespaceOf(pod)))
+                    .toList();
+            if (userKey.namespace() == null) {
+                requireSingleNamespace(userKey.username(), pods.stream().map(pvcRepository::namespaceOf).toList());
+            }
+            if (!pods.isEmpty()) {
+                podsByKey.put(key, pods.get(0));
+            }
+        });
+        if (podsByKey.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, PodMetricsResponse> metricsByPod = Map.of();
+        Map<String, List<KubernetesEventResponse>> eventsByPod = Map.of();
+        Map<V1Pod, CompletableFuture<StorageUsageResponse>> storageByPod = new HashMap<>();
+        List<String> sharedFailures = new ArrayList<>();
+
+        if (properties.isEnabled()) {
+            Map<String, Set<String>> podNamesByNamespace = podsByKey.values().stream()
+                    .collect(Collectors.groupingBy(pvcRepository::namespaceOf,
+                            Collectors.mapping(pod -> pod.getMetadata().getName(), Collectors.toSet())));
+            Map<String, CompletableFuture<Map<String, PodMetricsResponse>>> metricsFutures = new HashMap<>();
+            Map<String, CompletableFuture<Map<String, List<KubernetesEventResponse>>>> eventsFutures = new HashMap<>();
+            podNamesByNamespace.forEach((namespace, podNames) -> {
+                metricsFutures.put(namespace, metricsRepository.findAllPodMetricsAsync(namespace));
+                eventsFutures.put(namespace, eventRepository.findEventsByPodNamesAsync(namespace, podNames));
+            });
+
+            Map<String, CompletableFuture<StorageUsageResponse>> storageByClaim = new HashMap<>();
+            for (V1Pod pod : podsByKey.values()) {
+                storageByPod.put(pod, pvcRepository.findEphemeralUsage(pod)
+                        .map(CompletableFuture::completedFuture)
+                        .or(() -> pvcRepository.findClaimName(pod).map(claimName -> {
+                            String namespace = pvcRepository.namespaceOf(pod);
+                            return storageByClaim.computeIfAbsent(namespace + "/" + claimName,
+                                    key -> CompletableFuture.supplyAsync(
+                                            () -> pvcRepository.findStorageUsageByClaim(claimName, namespace),
+                                            kubernetesIoExecutor)
+                                            .orTimeout(properties.getRequestTimeout().toMillis(),
+                                                    TimeUnit.MILLISECONDS));
+                        }))
+                        .orElseGet(() -> CompletableFuture.completedFuture(StorageUsageResponse.none())));
+            }
+
+            metricsByPod = awaitByNamespace(metricsFutures, SOURCE_METRICS, sharedFailures);
+            eventsByPod = awaitByNamespace(eventsFutures, SOURCE_EVENTS, sharedFailures);
+        }
+
+        Map<String, SessionDetailResponse> details = new LinkedHashMap<>();
+        for (Map.Entry<String, V1Pod> entry : podsByKey.entrySet()) {
+            V1Pod pod = entry.getValue();
+            String podKey = podKey(pvcRepository.namespaceOf(pod), pod.getMetadata().getName());
+            List<String> failedSources = new ArrayList<>(sharedFailures);
+            CompletableFuture<StorageUsageResponse> storageFuture = storageByPod.get(pod);
+            StorageUsageResponse storage = storageFuture != null
+                    ? await(storageFuture, SOURCE_STORAGE, StorageUsageResponse.none(), failedSources)
+                    : StorageUsageResponse.none();
+            details.put(entry.getKey(), new SessionDetailResponse(
+                    toMetadata(pod),
+                    toStatus(pod),
+                    toResourceUsage(pod, metricsByPod.get(podKey), storage),
+                    eventsByPod.getOrDefault(podKey, List.of()),
+                    !failedSources.isEmpty(),
+                    List.copyOf(failedSources)));
+        }
+        return details;
     }
 
     /**
-     * 세션(파드)을 강제 종료합니다.
+     * 네임스페이스별 세션 수와 요청 리소스 합계를 조회합니다.
+     * 세션 인덱스가 동기화된 경우 인덱스에서 집계하고, 동기화 전에는 파드 목록을 직접 조회합니다.
      */
-    public void terminateSession(String podName) {
-        podRepository.deletePod(podName);
+    public List<NamespaceSessionSummary> fetchNamespaceSummaries() {
+        if (sessionIndex.isSynced()) {
+            return sessionIndex.namespaceSummaries();
+        }
+        Map<String, List<SessionSummaryResponse>> sessionsByNamespace = new TreeMap<>();
+        properties.hubNamespaces().forEach(namespace -> sessionsByNamespace.put(namespace, new ArrayList<>()));
+        podRepository.forEachUserPodSnapshot(pod -> sessionsByNamespace
+                .computeIfAbsent(pod.namespace(), namespace -> new ArrayList<>())
+                .add(summaryMapper.toSummary(pod)));
+        return sessionsByNamespace.entrySet().stream()
+                .map(entry -> SessionIndex.summarize(entry.getKey(), entry.getValue()))
+                .toList();
     }
 
-    private SessionSummaryResponse toSummary(V1Pod pod) {
-        var metadata = pod.getMetadata();
-        var status = pod.getStatus();
-        var spec = pod.getSpec();
+    /**
+     * 세션(파드)을 강제 종료합니다. namespace가 없으면 기본 네임스페이스의 파드를 종료합니다.
+     */
+    public void terminateSession(String namespace, String podName) {
+        if (namespace != null && !properties.isUserNamespace(namespace)) {
+            throw new ResourceNotFoundException("Session %s/%s not found".formatted(namespace, podName));
+        }
+        podRepository.deletePod(namespace != null ? namespace : properties.getNamespace(), podName);
+    }
 
-        String username = "unknown";
-        if (metadata != null) {
-            var labels = metadata.getLabels();
-            if (labels != null) {
-                username = labels.getOrDefault(properties.getUsernameLabelKey(), "unknown");
+    /**
+     * 사용자의 파드를 조회합니다. namespace가 있으면 해당 네임스페이스에서만 찾습니다.
+     * 세션 인덱스가 동기화된 경우 인덱스에서 파드 이름을 찾아 이름으로 직접 조회하고,
+     * 인덱스가 아직 반영하지 못한 새 세션이나 다시 생성된 파드는 라벨 셀렉터로 API 서버에서 찾습니다.
+     */
+    private Optional<V1Pod> findUserPod(String username, String namespace) {
+        if (sessionIndex.isSynced()) {
+            List<SessionSummaryResponse> sessions = sessionIndex.findByUsername(username).stream()
+                    .filter(session -> namespace == null || namespace.equals(session.namespace()))
+                    .toList();
+            requireSingleNamespace(username, sessions.stream().map(SessionSummaryResponse::namespace).toList());
+            Optional<V1Pod> indexed = sessions.isEmpty()
+                    ? Optional.empty()
+                    : podRepository.findPodIfPresent(sessions.get(0).namespace(), sessions.get(0).podName());
+            if (indexed.isPresent()) {
+                return indexed;
             }
         }
-        String phase = status != null ? status.getPhase() : "Unknown";
-        boolean ready = isReady(pod);
-        int restartCount = aggregateRestarts(pod);
-        String nodeName = spec != null ? spec.getNodeName() : "Unknown";
-        List<V1Container> containers = spec != null && spec.getContainers() != null
-                ? spec.getContainers()
-                : List.of();
-
-        double cpuRequests = calculateResource(containers, "cpu", true);
-        double memoryRequests = calculateResource(containers, "memory", false);
-
-        return new SessionSummaryResponse(
-                username,
-                metadata != null ? metadata.getNamespace() : properties.getNamespace(),
-                metadata != null ? metadata.getName() : "unknown",
-                phase,
-                ready,
-                restartCount,
-                nodeName,
-                status != null ? status.getStartTime() : null,
-                cpuRequests,
-                memoryRequests);
+        List<V1Pod> pods = podRepository.findByUsername(username, namespace);
+        requireSingleNamespace(username, pods.stream().map(pvcRepository::namespaceOf).toList());
+        return pods.stream().findFirst();
     }
 
-    private SessionMetadata toMetadata(V1Pod pod) {
-        String username = "unknown";
-        if (pod.getMetadata() != null && pod.getMetadata().getLabels() != null) {
-            username = pod.getMetadata().getLabels().getOrDefault(properties.getUsernameLabelKey(), "unknown");
+    /**
+     * 사용자의 세션이 여러 네임스페이스에 있으면 대상을 정할 수 없으므로 ConflictException을 던집니다.
+     */
+    private static void requireSingleNamespace(String username, List<String> namespaces) {
+        Set<String> distinct = new TreeSet<>(namespaces);
+        if (distinct.size() > 1) {
+            throw new ConflictException("Sessions for user %s exist in namespaces %s; specify namespace"
+                    .formatted(username, distinct));
+        }
+    }
+
+    /**
+     * 일괄 상세 조회의 키. "네임스페이스/사용자명" 형식이면 네임스페이스를 함께 지정한 것입니다.
+     */
+    private record UserKey(String namespace, String username) {
+
+        static UserKey parse(String key) {
+            int slash = key.indexOf('/');
+            return slash < 0 ? new UserKey(null, key) : new UserKey(key.substring(0, slash), key.substring(slash + 1));
+        }
+    }
+
+    /**
+     * 네임스페이스별로 조회한 결과를 "네임스페이스/파드 이름" 키로 합칩니다.
+     * 실패한 네임스페이스가 있으면 해당 항목은 비우고 실패 항목으로 한 번만 기록합니다.
+     */
+    private <V> Map<String, V> awaitByNamespace(Map<String, CompletableFuture<Map<String, V>>> futures,
+            String source, List<String> failedSources) {
+        Map<String, V> merged = new HashMap<>();
+        List<String> failures = new ArrayList<>();
+        futures.forEach((namespace, future) -> await(future, source, Map.<String, V>of(), failures)
+                .forEach((podName, value) -> merged.put(podKey(namespace, podName), value)));
+        if (!failures.isEmpty()) {
+            failedSources.add(source);
+        }
+        return merged;
+    }
+
+    private static String podKey(String namespace, String podName) {
+        return namespace + "/" + podName;
+    }
+
+    /**
+     * 부가 정보 조회 결과를 기다립니다. 실패하거나 기한을 넘기면 기본값을 반환하고 실패 항목으로 기록합니다.
+     * 각 future에는 리포지토리에서 기한이 적용되어 있으므로 대기 시간은 가장 긴 기한을 넘지 않습니다.
+     */
+    private <T> T await(CompletableFuture<T> future, String source, T fallback, List<String> failedSources) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException ex) {
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            log.warn("Session detail source [{}] unavailable: {}", source,
+                    cause instanceof TimeoutException ? "deadline exceeded" : cause.getMessage());
+            failedSources.add(source);
+            return fallback;
         }
+    }
+
+    private static boolean startsWithIgnoreCase(String value, String prefix) {
+        return value != null && value.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    private SessionMetadata toMetadata(V1Pod pod) {
         return new SessionMetadata(
-                username,
+                summaryMapper.resolveUsername(pod),
                 pod.getMetadata() != null ? pod.getMetadata().getName() : "unknown",
                 pod.getMetadata() != null ? pod.getMetadata().getNamespace() : properties.getNamespace(),
                 pod.getSpec() != null ? pod.getSpec().getNodeName() : "Unknown");
@@ -142,8 +394,8 @@ public class SessionService {
                 phase,
                 message,
                 pod.getStatus() != null ? pod.getStatus().getStartTime() : null,
-                aggregateRestarts(pod),
-                isReady(pod));
+                summaryMapper.aggregateRestarts(pod),
+                summaryMapper.isReady(pod));
     }
 
     private SessionResourceUsage toResourceUsage(V1Pod pod, PodMetricsResponse metrics, StorageUsageResponse storage) {
@@ -177,46 +429,4 @@ public class SessionService {
                         memUsage),
                 storage);
     }
-
-    private boolean isReady(V1Pod pod) {
-        var status = pod.getStatus();
-        if (status == null) {
-            return false;
-        }
-        var containerStatuses = status.getContainerStatuses();
-        if (containerStatuses == null) {
-            return false;
-        }
-        return containerStatuses.stream().allMatch(V1ContainerStatus::getReady);
-    }
-
-    private int aggregateRestarts(V1Pod pod) {
-        var status = pod.getStatus();
-        if (status == null) {
-            return 0;
-        }
-        var containerStatuses = status.getContainerStatuses();
-        if (containerStatuses == null) {
-            return 0;
-        }
-        return containerStatuses.stream()
-                .mapToInt(s -> s.getRestartCount() != null ? s.getRestartCount() : 0)
-                .sum();
-    }
-
-    private double calculateResource(List<V1Container> containers, String key, boolean isCpu) {
-        if (containers == null) {
-            return 0.0;
-        }
-        return containers.stream()
-                .map(V1Container::getResources)
-                .filter(resources -> resources != null)
-                .map(resources -> resources.getRequests())
-                .filter(requests -> requests != null)
-                .map(requests -> requests.get(key))
-                .mapToDouble(quantity -> isCpu
-                        ? ResourceQuantityParser.toMilliCores(quantity)
-                        : ResourceQuantityParser.toBytes(quantity))
-                .sum();
-    }
 }
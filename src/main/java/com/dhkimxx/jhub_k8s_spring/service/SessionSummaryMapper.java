@@ -0,0 +1,158 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionSummaryResponse;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.PodSnapshot;
+import com.dhkimxx.jhub_k8s_spring.util.ResourceQuantityParser;
+
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Pod;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 파드(V1Pod)를 세션 요약 정보로 변환하는 매퍼.
+ * 세션 서비스와 세션 인덱스가 동일한 변환 규칙을 공유합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SessionSummaryMapper {
+
+    private final JhubK8sProperties properties;
+
+    /**
+     * 파드를 세션 요약 정보로 변환합니다.
+     */
+    public SessionSummaryResponse toSummary(V1Pod pod) {
+        var metadata = pod.getMetadata();
+        var status = pod.getStatus();
+        var spec = pod.getSpec();
+
+        String username = resolveUsername(pod);
+        String phase = status != null ? status.getPhase() : "Unknown";
+        boolean ready = isReady(pod);
+        int restartCount = aggregateRestarts(pod);
+        String nodeName = spec != null ? spec.getNodeName() : "Unknown";
+        List<V1Container> containers = spec != null && spec.getContainers() != null
+                ? spec.getContainers()
+                : List.of();
+
+        double cpuRequests = calculateResource(containers, "cpu", true);
+        double memoryRequests = calculateResource(containers, "memory", false);
+
+        return new SessionSummaryResponse(
+                username,
+                metadata != null ? metadata.getNamespace() : properties.getNamespace(),
+                metadata != null ? metadata.getName() : "unknown",
+                phase,
+                ready,
+                restartCount,
+                nodeName,
+                status != null ? status.getStartTime() : null,
+                cpuRequests,
+                memoryRequests);
+    }
+
+    /**
+     * 파드 요약(PodSnapshot)을 세션 요약 정보로 변환합니다. 누락된 값은 V1Pod 변환과 같은 기본값을 사용합니다.
+     */
+    public SessionSummaryResponse toSummary(PodSnapshot pod) {
+        return new SessionSummaryResponse(
+                usernameOf(pod),
+                pod.namespace() != null ? pod.namespace() : properties.getNamespace(),
+                pod.name() != null ? pod.name() : "unknown",
+                phaseOf(pod),
+                pod.ready(),
+                pod.restartCount(),
+                nodeNameOf(pod),
+                pod.startTime(),
+                pod.cpuRequestMilliCores(),
+                pod.memoryRequestBytes());
+    }
+
+    /**
+     * 세션 요약에 표시되는 사용자명. (세션 인덱스가 요약 없이 정렬/필터할 때도 사용)
+     */
+    static String usernameOf(PodSnapshot pod) {
+        return pod.username() != null ? pod.username() : "unknown";
+    }
+
+    /**
+     * 세션 요약에 표시되는 파드 단계.
+     */
+    static String phaseOf(PodSnapshot pod) {
+        return pod.phase() != null ? pod.phase() : "Unknown";
+    }
+
+    /**
+     * 세션 요약에 표시되는 노드 이름.
+     */
+    static String nodeNameOf(PodSnapshot pod) {
+        return pod.nodeName() != null ? pod.nodeName() : "Unknown";
+    }
+
+    /**
+     * 사용자 라벨에서 사용자명을 추출합니다. 라벨이 없으면 "unknown"을 반환합니다.
+     */
+    public String resolveUsername(V1Pod pod) {
+        var metadata = pod.getMetadata();
+        if (metadata == null || metadata.getLabels() == null) {
+            return "unknown";
+        }
+        return metadata.getLabels().getOrDefault(properties.getUsernameLabelKey(), "unknown");
+    }
+
+    /**
+     * 모든 컨테이너가 Ready 상태인지 여부.
+     */
+    public boolean isReady(V1Pod pod) {
+        var status = pod.getStatus();
+        if (status == null) {
+            return false;
+        }
+        var containerStatuses = status.getContainerStatuses();
+        if (containerStatuses == null) {
+            return false;
+        }
+        return containerStatuses.stream().allMatch(V1ContainerStatus::getReady);
+    }
+
+    /**
+     * 모든 컨테이너의 재시작 횟수 합계.
+     */
+    public int aggregateRestarts(V1Pod pod) {
+        var status = pod.getStatus();
+        if (status == null) {
+            return 0;
+        }
+        var containerStatuses = status.getContainerStatuses();
+        if (containerStatuses == null) {
+            return 0;
+        }
+        return containerStatuses.stream()
+                .mapToInt(s -> s.getRestartCount() != null ? s.getRestartCount() : 0)
+                .sum();
+    }
+
+    private double calculateResource(List<V1Container> containers, String key, boolean isCpu) {
+        if (containers == null) {
+            return 0.0;
+        }
+        return containers.stream()
+                .map(V1Container::getResources)
+                .filter(resources -> resources != null)
+                .map(resources -> resources.getRequests())
+                .filter(requests -> requests != null)
+                .map(requests -> requests.get(key))
+                .mapToDouble(quantity -> isCpu
+                        ? ResourceQuantityParser.toMilliCores(quantity)
+                        : ResourceQuantityParser.toBytes(quantity))
+                .sum();
+    }
+}
@@ -0,0 +1,332 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import com.dhkimxx.jhub_k8s_spring.config.ApiRateLimiter;
+import com.dhkimxx.jhub_k8s_spring.config.AsyncConfig;
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.dto.session.BulkTerminationRequest;
+import com.dhkimxx.jhub_k8s_spring.dto.session.BulkTerminationResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.session.PodReference;
+import com.dhkimxx.jhub_k8s_spring.dto.session.PodTerminationStatus;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionQuery;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionSortKey;
+import com.dhkimxx.jhub_k8s_spring.dto.session.TerminationState;
+import com.dhkimxx.jhub_k8s_spring.exception.BadRequestException;
+import com.dhkimxx.jhub_k8s_spring.exception.ResourceNotFoundException;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesPodRepository;
+
+import io.kubernetes.client.openapi.ApiException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션 일괄 종료 작업을 실행하고 진행 상황을 보관하는 서비스.
+ * 작업은 jobScheduler에서 진행되며, 삭제 요청은 초당 deletesPerSecond개 간격으로 시작하여
+ * kubernetesIoExecutor에서 동시에 concurrency개까지 수행합니다.
+ * 삭제가 접수된 파드는 API를 다시 조회하지 않고 세션 인덱스의 watch로 사라진 것을 확인하며,
+ * completionTimeout 안에 사라지지 않으면 실패로 표시합니다.
+ * 최근 maxRetainedJobs개 작업의 진행 상황을 조회할 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SessionTerminationService {
+
+    private static final int HTTP_NOT_FOUND = 404;
+
+    private final KubernetesPodRepository podRepository;
+    private final SessionService sessionService;
+    private final SessionIndex sessionIndex;
+    private final JhubK8sProperties properties;
+    @Qualifier(AsyncConfig.KUBERNETES_IO_EXECUTOR)
+    private final AsyncTaskExecutor kubernetesIoExecutor;
+    @Qualifier(AsyncConfig.JOB_SCHEDULER)
+    private final ThreadPoolTaskScheduler jobScheduler;
+
+    /** 작업 ID → 작업 (등록 순서) */
+    private final Map<String, Job> jobs = new LinkedHashMap<>();
+
+    /**
+     * 종료 대상을 확정하고 일괄 종료 작업을 시작합니다.
+     * 대상이 지정되지 않았거나 세션 조회 대상이 아닌 네임스페이스의 파드가 있으면 BadRequestException을 던집니다.
+     */
+    public BulkTerminationResponse submit(BulkTerminationRequest request) {
+        return submitPods(resolveTargets(request));
+    }
+
+    /**
+     * 이미 확정된 파드 목록(세션 조회 대상 네임스페이스의 파드)으로 일괄 종료 작업을 시작합니다.
+     */
+    public BulkTerminationResponse submitPods(List<PodReference> targets) {
+        return submitPods(targets, status -> {
+        });
+    }
+
+    /**
+     * 이미 확정된 파드 목록으로 일괄 종료 작업을 시작하고, 파드마다 완료(TERMINATED 또는 FAILED)되면 onDone을 한 번 호출합니다.
+     * (유휴 세션 정리 등) onDone은 작업 스레드나 watch 스레드에서 호출되므로 오래 걸리는 일을 하지 않아야 합니다.
+     */
+    public BulkTerminationResponse submitPods(List<PodReference> targets, Consumer<PodTerminationStatus> onDone) {
+        Job job = new Job(UUID.randomUUID().toString(), targets, onDone);
+        register(job);
+        log.info("Bulk termination job {} started for {} pods", job.id, targets.size());
+        jobScheduler.execute(() -> run(job));
+        return job.toResponse();
+    }
+
+    /**
+     * 일괄 종료 작업의 진행 상황을 조회합니다.
+     */
+    public BulkTerminationResponse fetchJob(String jobId) {
+        Job job;
+        synchronized (jobs) {
+            job = jobs.get(jobId);
+        }
+        if (job == null) {
+            throw new ResourceNotFoundException("Termination job %s not found".formatted(jobId));
+        }
+        return job.toResponse();
+    }
+
+    private List<PodReference> resolveTargets(BulkTerminationRequest request) {
+        List<PodReference> pods = request.pods() != null ? request.pods() : List.of();
+        if (pods.isEmpty() && !request.hasSelector()) {
+            throw new BadRequestException("Either pods or a selector (namespace, nodeName, phase, minAge) is required");
+        }
+        if (request.namespace() != null && !properties.isUserNamespace(request.namespace())) {
+            throw new BadRequestException("Not a session namespace: " + request.namespace());
+        }
+
+        Map<String, PodReference> targets = new LinkedHashMap<>();
+        for (PodReference pod : pods) {
+            if (pod == null || pod.podName() == null || pod.podName().isBlank()) {
+                throw new BadRequestException("podName is required for each pod");
+            }
+            String namespace = pod.namespace() != null ? pod.namespace() : properties.getNamespace();
+            if (!properties.isUserNamespace(namespace)) {
+                throw new BadRequestException("Not a session namespace: " + namespace);
+            }
+            targets.putIfAbsent(namespace + "/" + pod.podName(), new PodReference(namespace, pod.podName()));
+        }
+        if (request.hasSelector()) {
+            OffsetDateTime startedBefore = request.minAge() != null
+                    ? OffsetDateTime.now().minus(request.minAge())
+                    : null;
+            SessionQuery query = new SessionQuery(request.namespace(), request.phase(), request.nodeName(), null,
+                    null, SessionSortKey.USERNAME, false, 0, Integer.MAX_VALUE);
+            sessionService.fetchSessionPage(query).items().stream()
+                    .filter(session -> startedBefore == null
+                            || (session.startTime() != null && session.startTime().isBefore(startedBefore)))
+                    .forEach(session -> targets.putIfAbsent(session.namespace() + "/" + session.podName(),
+                            new PodReference(session.namespace(), session.podName())));
+        }
+        return List.copyOf(targets.values());
+    }
+
+    private void register(Job job) {
+        synchronized (jobs) {
+            jobs.put(job.id, job);
+            int excess = jobs.size() - properties.getBulkTermination().getMaxRetainedJobs();
+            Iterator<Job> iterator = jobs.values().iterator();
+            while (excess > 0 && iterator.hasNext()) {
+                if (iterator.next().isCompleted()) {
+                    iterator.remove();
+                    excess--;
+                }
+            }
+        }
+    }
+
+    /**
+     * 삭제 요청을 일정 간격으로 시작합니다. 동시에 진행 중인 삭제가 concurrency개이면 하나가 끝날 때까지 기다립니다.
+     */
+    private void run(Job job) {
+        JhubK8sProperties.BulkTermination settings = properties.getBulkTermination();
+        Semaphore slots = new Semaphore(settings.getConcurrency());
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / settings.getDeletesPerSecond());
+        long nextStart = System.nanoTime();
+        for (Target target : job.targets) {
+            try {
+                long delay = nextStart - System.nanoTime();
+                if (delay > 0) {
+                    TimeUnit.NANOSECONDS.sleep(delay);
+                }
+                slots.acquire();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                job.targets.stream()
+                        .filter(remaining -> remaining.state() == TerminationState.PENDING)
+                        .forEach(remaining -> remaining.update(TerminationState.FAILED, "job interrupted"));
+                return;
+            }
+            nextStart = Math.max(nextStart, System.nanoTime()) + intervalNanos;
+            target.update(TerminationState.DELETING, null);
+            try {
+                kubernetesIoExecutor.execute(() -> {
+                    try {
+                        delete(target, settings);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            } catch (RuntimeException ex) {
+                slots.release();
+                target.update(TerminationState.FAILED, ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 파드를 삭제하고 인덱스에서 사라지기를 기다립니다. 이미 없는 파드는 종료된 것으로 처리합니다.
+     * 같은 파드에 대한 삭제 이벤트를 놓치지 않도록 삭제 요청 전에 기다림을 등록합니다.
+     */
+    private void delete(Target target, JhubK8sProperties.BulkTermination settings) {
+        PodReference pod = target.pod;
+        CompletableFuture<Void> removed = sessionIndex.awaitRemoval(pod.namespace(), pod.podName());
+        try {
+            // 일괄 삭제가 사용자의 상세 조회나 개별 종료보다 앞서지 않도록 목록 조회와 같은 우선순위를 사용
+            ApiRateLimiter.runWithLane(ApiRateLimiter.Lane.NORMAL,
+                    () -> podRepository.deletePod(pod.namespace(), pod.podName()));
+        } catch (RuntimeException ex) {
+            removed.cancel(false);
+            if (isNotFound(ex)) {
+                target.update(TerminationState.TERMINATED, null);
+            } else {
+                log.warn("Failed to delete pod {}/{}: {}", pod.namespace(), pod.podName(), ex.getMessage());
+                target.update(TerminationState.FAILED, ex.getMessage());
+            }
+            return;
+        }
+        target.update(TerminationState.AWAITING_REMOVAL, null);
+        removed.orTimeout(settings.getCompletionTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, ex) -> {
+                    if (ex == null) {
+                        target.update(TerminationState.TERMINATED, null);
+                    } else if (ex instanceof TimeoutException) {
+                        target.update(TerminationState.FAILED,
+                                "pod not removed within " + settings.getCompletionTimeout());
+                    } else {
+                        target.update(TerminationState.FAILED, ex.getMessage());
+                    }
+                });
+    }
+
+    private static boolean isNotFound(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiException apiException) {
+                return apiException.getCode() == HTTP_NOT_FOUND;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 일괄 종료 작업 하나. 파드별 상태는 Target이 관리합니다.
+     */
+    private static final class Job {
+        private final String id;
+        private final OffsetDateTime createdAt = OffsetDateTime.now();
+        private final List<Target> targets;
+
+        private Job(String id, List<PodReference> pods, Consumer<PodTerminationStatus> onDone) {
+            this.id = id;
+            this.targets = pods.stream().map(pod -> new Target(pod, onDone)).toList();
+        }
+
+        boolean isCompleted() {
+            return targets.stream().allMatch(target -> target.state().isDone());
+        }
+
+        BulkTerminationResponse toResponse() {
+            List<PodTerminationStatus> statuses = new ArrayList<>(targets.size());
+            int[] counts = new int[TerminationState.values().length];
+            OffsetDateTime completedAt = null;
+            for (Target target : targets) {
+                PodTerminationStatus status = target.toStatus();
+                statuses.add(status);
+                counts[status.state().ordinal()]++;
+                if (completedAt == null || status.updatedAt().isAfter(completedAt)) {
+                    completedAt = status.updatedAt();
+                }
+            }
+            boolean completed = counts[TerminationState.TERMINATED.ordinal()]
+                    + counts[TerminationState.FAILED.ordinal()] == targets.size();
+            return new BulkTerminationResponse(
+                    id,
+                    completed,
+                    createdAt,
+                    completed ? (completedAt != null ? completedAt : createdAt) : null,
+                    targets.size(),
+                    counts[TerminationState.PENDING.ordinal()],
+                    counts[TerminationState.DELETING.ordinal()],
+                    counts[TerminationState.AWAITING_REMOVAL.ordinal()],
+                    counts[TerminationState.TERMINATED.ordinal()],
+                    counts[TerminationState.FAILED.ordinal()],
+                    statuses);
+        }
+    }
+
+    /**
+     * 파드 하나의 종료 진행 상태. 완료 상태(TERMINATED, FAILED)가 된 뒤에는 바뀌지 않습니다.
+     */
+    private static final class Target {
+        private final PodReference pod;
+        private final Consumer<PodTerminationStatus> onDone;
+        private TerminationState state = TerminationState.PENDING;
+        private String error;
+        private OffsetDateTime updatedAt = OffsetDateTime.now();
+
+        private Target(PodReference pod, Consumer<PodTerminationStatus> onDone) {
+            this.pod = pod;
+            this.onDone = onDone;
+        }
+
+        synchronized TerminationState state() {
+            return state;
+        }
+
+        void update(TerminationState next, String message) {
+            PodTerminationStatus done;
+            synchronized (this) {
+                if (state.isDone()) {
+                    return;
+                }
+                state = next;
+                error = message;
+                updatedAt = OffsetDateTime.now();
+                done = next.isDone() ? toStatus() : null;
+            }
+            if (done != null) {
+                try {
+                    onDone.accept(done);
+                } catch (RuntimeException ex) {
+                    log.warn("Termination callback failed for {}/{}: {}", pod.namespace(), pod.podName(),
+                            ex.getMessage());
+                }
+            }
+        }
+
+        synchronized PodTerminationStatus toStatus() {
+            return new PodTerminationStatus(pod.namespace(), pod.podName(), state, error, updatedAt);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.SpawnLatencyResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.SpawnPhaseLatency;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.PodEvent;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.PodSnapshot;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.ResourceEventListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션 생성 단계별 소요 시간 분석기.
+ * 세션 인덱스의 파드 watch(PodScheduled/ContainersReady 조건)와 PodEventFeed의 파드 이벤트(Scheduled/Pulled)를 받아
+ * 파드마다 생성→스케줄링→이미지 준비(마지막 Pulled)→컨테이너 준비 시각을 점진적으로 채우고,
+ * 각 단계가 확정되는 시점에 한 번씩만 기록합니다. 별도의 파드 조회나 주기적 재계산은 없습니다.
+ * 분석 시작 전에 이미 준비된 파드는 기록하지 않으며, 같은 이름으로 다시 생성된 파드는 생성 시각으로 구분합니다.
+ * 소요 시간은 jhub.spawn.duration 히스토그램(단계 태그)과 노드별/이미지별 히스토그램
+ * (jhub.spawn.duration.node, jhub.spawn.duration.image)으로 나누어 노출하므로 시계열 수는 노드 수와 이미지 수의 합에 비례합니다.
+ * 백분위수는 서버에서 계산하지 않고(집계 불가) 버킷 범위는 MIN_EXPECTED~MAX_EXPECTED로 제한합니다.
+ * 화면용 백분위수는 단계 × 노드/이미지별 최근 windowSize개 표본으로 계산합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SpawnLatencyTracker implements SmartLifecycle, MeterBinder {
+
+    private static final String SCHEDULED_REASON = "Scheduled";
+    private static final String PULLED_REASON = "Pulled";
+    private static final String UNKNOWN = "unknown";
+    /** 히스토그램 버킷 범위. 범위 밖의 값은 가장 가까운 버킷에 집계됩니다. */
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(100);
+    private static final Duration MAX_EXPECTED = Duration.ofMinutes(30);
+
+    private final SessionIndex sessionIndex;
+    private final JhubK8sProperties properties;
+
+    /** "네임스페이스/파드 이름" → 생성 진행 상태 */
+    private final Map<String, Spawn> spawns = new ConcurrentHashMap<>();
+    /** (단계, 분류, 값) → 최근 표본 */
+    private final Map<WindowKey, LatencyWindow> windows = new ConcurrentHashMap<>();
+    private final LongAdder recorded = new LongAdder();
+
+    private volatile MeterRegistry meterRegistry;
+    private volatile OffsetDateTime startedAt;
+    private volatile boolean running;
+    private boolean listening;
+
+    @Override
+    public synchronized void start() {
+        if (!properties.getSpawnLatency().isEnabled()) {
+            return;
+        }
+        if (startedAt == null) {
+            startedAt = OffsetDateTime.now();
+        }
+        if (!listening) {
+            sessionIndex.addPodListener(new PodListener());
+            listening = true;
+        }
+        running = true;
+        log.info("Spawn latency tracker started");
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+    }
+
+    /**
+     * 단계별 최근 소요 시간 백분위수. 전체, 노드별, 이미지별로 나누어 반환합니다.
+     */
+    public SpawnLatencyResponse latency() {
+        Comparator<Map.Entry<WindowKey, LatencyWindow>> order = Comparator
+                .comparing((Map.Entry<WindowKey, LatencyWindow> entry) -> entry.getKey().key(),
+                        Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(entry -> entry.getKey().phase());
+        Map<Dimension, List<SpawnPhaseLatency>> grouped = windows.entrySet().stream()
+                .sorted(order)
+                .collect(Collectors.groupingBy(entry -> entry.getKey().dimension(),
+                        Collectors.mapping(entry -> entry.getValue().summarize(entry.getKey()),
+                                Collectors.toList())));
+        return new SpawnLatencyResponse(
+                startedAt,
+                recorded.sum(),
+                grouped.getOrDefault(Dimension.OVERALL, List.of()),
+                grouped.getOrDefault(Dimension.NODE, List.of()),
+                grouped.getOrDefault(Dimension.IMAGE, List.of()));
+    }
+
+    private void onPod(PodSnapshot pod) {
+        if (pod.creationTimestamp() == null) {
+            return;
+        }
+        Spawn spawn = spawns.compute(keyOf(pod.namespace(), pod.name()),
+                (key, current) -> current != null && current.createdAt.equals(pod.creationTimestamp())
+                        ? current
+                        : new Spawn(pod.creationTimestamp()));
+        synchronized (spawn) {
+            spawn.node = pod.nodeName() != null ? pod.nodeName() : spawn.node;
+            spawn.image = !pod.images().isEmpty() ? pod.images().get(0) : spawn.image;
+            if (pod.scheduledAt() != null) {
+                spawn.scheduledAt = pod.scheduledAt();
+            }
+            if (pod.containersReadyAt() == null || spawn.readyAt != null) {
+                return;
+            }
+            spawn.readyAt = pod.containersReadyAt();
+            if (spawn.readyAt.isBefore(startedAt)) {
+                spawn.pullRecorded = true;
+                return;
+            }
+            record(Phase.SCHEDULING, spawn, spawn.createdAt, spawn.scheduledAt);
+            record(Phase.TOTAL, spawn, spawn.createdAt, spawn.readyAt);
+            recorded.increment();
+            recordPull(spawn);
+        }
+    }
+
+    /**
+     * PodEventFeed가 전달하는 파드 이벤트. 추적 중인 파드의 Scheduled/Pulled 이벤트만 반영합니다.
+     */
+    void onPodEvent(PodEvent event) {
+        boolean scheduled = SCHEDULED_REASON.equals(event.reason());
+        if ((!scheduled && !PULLED_REASON.equals(event.reason())) || event.timestamp() == null) {
+            return;
+        }
+        Spawn spawn = spawns.get(keyOf(event.namespace(), event.podName()));
+        if (spawn == null) {
+            return;
+        }
+        synchronized (spawn) {
+            if (event.timestamp().isBefore(spawn.createdAt)) {
+                return;
+            }
+            if (scheduled) {
+                if (spawn.scheduledAt == null) {
+                    spawn.scheduledAt = event.timestamp();
+                }
+                return;
+            }
+            if ((spawn.readyAt == null || !event.timestamp().isAfter(spawn.readyAt))
+                    && (spawn.pulledAt == null || event.timestamp().isAfter(spawn.pulledAt))) {
+                spawn.pulledAt = event.timestamp();
+            }
+            recordPull(spawn);
+        }
+    }
+
+    /**
+     * 준비 완료가 기록된 파드의 이미지 준비/시작 단계를 기록합니다. Pulled 이벤트가 늦게 도착하면 그때 기록합니다.
+     */
+    private void recordPull(Spawn spawn) {
+        if (spawn.readyAt == null || spawn.pullRecorded || spawn.pulledAt == null || spawn.scheduledAt == null) {
+            return;
+        }
+        spawn.pullRecorded = true;
+        record(Phase.IMAGE_PULL, spawn, spawn.scheduledAt, spawn.pulledAt);
+        record(Phase.STARTUP, spawn, spawn.pulledAt, spawn.readyAt);
+    }
+
+    private void record(Phase phase, Spawn spawn, OffsetDateTime from, OffsetDateTime to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            return;
+        }
+        Duration duration = Duration.between(from, to);
+        String node = Objects.requireNonNullElse(spawn.node, UNKNOWN);
+        String image = Objects.requireNonNullElse(spawn.image, UNKNOWN);
+        int windowSize = properties.getSpawnLatency().getWindowSize();
+        windows.computeIfAbsent(new WindowKey(phase, Dimension.OVERALL, null), k -> new LatencyWindow(windowSize))
+                .add(duration);
+        windows.computeIfAbsent(new WindowKey(phase, Dimension.NODE, node), k -> new LatencyWindow(windowSize))
+                .add(duration);
+        windows.computeIfAbsent(new WindowKey(phase, Dimension.IMAGE, image), k -> new LatencyWindow(windowSize))
+                .add(duration);
+
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            timer("jhub.spawn.duration", "Time spent in each session spawn phase", phase)
+                    .register(registry).record(duration);
+            timer("jhub.spawn.duration.node", "Time spent in each session spawn phase by node", phase)
+                    .tag("node", node)
+                    .register(registry).record(duration);
+            timer("jhub.spawn.duration.image", "Time spent in each session spawn phase by image", phase)
+                    .tag("image", image)
+                    .register(registry).record(duration);
+        }
+    }
+
+    private static Timer.Builder timer(String name, String description, Phase phase) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("phase", phase.tag())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED);
+    }
+
+    private static String keyOf(String namespace, String podName) {
+        return namespace + "/" + podName;
+    }
+
+    /**
+     * 세션 인덱스가 전달하는 사용자 파드 변경. 재조회 후에는 인덱스에 없는 파드의 상태를 정리합니다.
+     */
+    private final class PodListener implements ResourceEventListener<PodSnapshot> {
+
+        @Override
+        public void onReplace(List<PodSnapshot> pods) {
+            pods.forEach(SpawnLatencyTracker.this::onPod);
+            Set<String> live = sessionIndex.snapshots().stream()
+                    .map(pod -> keyOf(pod.namespace(), pod.name()))
+                    .collect(Collectors.toSet());
+            spawns.keySet().retainAll(live);
+        }
+
+        @Override
+        public void onUpsert(PodSnapshot pod) {
+            onPod(pod);
+        }
+
+        @Override
+        public void onDelete(PodSnapshot pod) {
+            spawns.remove(keyOf(pod.namespace(), pod.name()));
+        }
+    }
+
+    /**
+     * 세션 생성 단계. 선언 순서가 진행 순서입니다.
+     */
+    enum Phase {
+        SCHEDULING,
+        IMAGE_PULL,
+        STARTUP,
+        TOTAL;
+
+        String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private enum Dimension {
+        OVERALL,
+        NODE,
+        IMAGE
+    }
+
+    private record WindowKey(Phase phase, Dimension dimension, String key) {
+    }
+
+    /**
+     * 파드 하나의 생성 진행 상태. 시각은 확인되는 대로 채웁니다.
+     */
+    private static final class Spawn {
+        private final OffsetDateTime createdAt;
+        private OffsetDateTime scheduledAt;
+        private OffsetDateTime pulledAt;
+        private OffsetDateTime readyAt;
+        private String node;
+        private String image;
+        private boolean pullRecorded;
+
+        private Spawn(OffsetDateTime createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * 최근 표본을 고정 크기 링 버퍼에 보관하고 조회 시 백분위수를 계산합니다.
+     */
+    private static final class LatencyWindow {
+        private final double[] samples;
+        private int next;
+        private int count;
+
+        private LatencyWindow(int size) {
+            this.samples = new double[size];
+        }
+
+        synchronized void add(Duration duration) {
+            samples[next] = duration.toMillis() / 1000d;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        synchronized SpawnPhaseLatency summarize(WindowKey key) {
+            double[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return new SpawnPhaseLatency(key.phase().tag(), key.key(), count,
+                    percentile(sorted, 0.5), percentile(sorted, 0.95), percentile(sorted, 0.99));
+        }
+
+        /**
+         * nearest-rank 백분위수. 표본이 없으면 0입니다.
+         */
+        private static double percentile(double[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0d;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+    }
+}
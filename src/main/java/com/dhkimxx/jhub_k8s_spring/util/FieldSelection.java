@@ -0,0 +1,72 @@
+package com.dhkimxx.jhub_k8s_spring.util;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * fields= 파라미터로 선택한 응답 필드 경로 집합.
+ * 경로는 점(.)으로 중첩 객체를 가리키며 배열은 경로에 나타나지 않습니다. (예: name,conditions.type,containers.ports)
+ * 선택한 경로의 상위 필드는 하위 경로를 담기 위해 포함되고, 선택한 경로의 하위 필드는 모두 포함됩니다.
+ * 서비스는 includes로 선택되지 않은 부분(라벨, 어노테이션, 포트 등)을 만들지 않고,
+ * 직렬화 필터는 같은 규칙으로 나머지 필드를 제외합니다.
+ */
+public final class FieldSelection {
+
+    /** 필드 선택이 없는 경우 (모든 필드 포함) */
+    public static final FieldSelection ALL = new FieldSelection(Set.of());
+
+    private final Set<String> paths;
+
+    private FieldSelection(Set<String> paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * fields 파라미터 값을 해석합니다. 값이 없거나 비어 있으면 ALL을 반환합니다.
+     */
+    public static FieldSelection parse(String fieldsParam) {
+        if (!StringUtils.hasText(fieldsParam)) {
+            return ALL;
+        }
+        Set<String> paths = Arrays.stream(fieldsParam.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toCollection(TreeSet::new));
+        return paths.isEmpty() ? ALL : new FieldSelection(Set.copyOf(paths));
+    }
+
+    /**
+     * 모든 필드를 포함하는지 여부.
+     */
+    public boolean isAll() {
+        return paths.isEmpty();
+    }
+
+    /**
+     * 경로의 필드가 응답에 포함되는지 여부. 선택한 경로 자신, 그 상위 경로, 그 하위 경로가 포함됩니다.
+     */
+    public boolean includes(String path) {
+        if (paths.isEmpty()) {
+            return true;
+        }
+        for (String selected : paths) {
+            if (selected.equals(path)
+                    || selected.startsWith(path + ".")
+                    || path.startsWith(selected + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 선택한 경로를 정렬하여 쉼표로 이은 값. (캐시 키용)
+     */
+    public String cacheKey() {
+        return String.join(",", new TreeSet<>(paths));
+    }
+}
@@ -0,0 +1,282 @@
+package com.dhkimxx.jhub_k8s_spring.web;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * /api/** 요청을 엔드포인트 그룹(목록/상세/스토리지/변경)으로 나누어 그룹별 동시 처리 수를 제한하는 벌크헤드 필터.
+ * 그룹마다 maxConcurrent개까지 처리하고, 초과한 요청은 maxQueued개까지 도착 순으로 maxWait 동안 기다립니다.
+ * 대기열이 가득 찼거나 기다려도 차례가 오지 않으면 컨트롤러를 호출하지 않고 즉시 503과 Retry-After로 응답합니다.
+ * 스트리밍 응답처럼 비동기로 처리되는 요청은 비동기 처리가 끝날 때 자리를 반환합니다.
+ * 그룹별 처리 중/대기 중 요청 수, 대기 시간, 거절 수는 jhub.api.bulkhead.* 메트릭으로 노출됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "jhub.k8s", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private static final String API_PATH_PREFIX = "/api/";
+    /** /api/cluster/storage, /api/clusters/{cluster}/storage */
+    private static final Pattern STORAGE_PATH = Pattern.compile("^/api/(cluster|clusters/[^/]+)/storage(/.*)?$");
+    /** 노드/파드 상세, 세션 상세(일괄 상세 포함) */
+    private static final Pattern DETAIL_PATH = Pattern.compile(
+            "^/api/(cluster|clusters/[^/]+)/(nodes|pods)/[^/]+$|^/api/sessions/(?!search$|namespaces$|idle$)[^/]+$");
+
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final Map<Group, Compartment> compartments = new EnumMap<>(Group.class);
+
+    public BulkheadFilter(JhubK8sProperties properties, ObjectMapper objectMapper) {
+        JhubK8sProperties.Bulkhead settings = properties.getBulkhead();
+        this.enabled = settings.isEnabled();
+        this.objectMapper = objectMapper;
+        compartments.put(Group.LISTS, new Compartment(settings.getLists()));
+        compartments.put(Group.DETAILS, new Compartment(settings.getDetails()));
+        compartments.put(Group.STORAGE, new Compartment(settings.getStorage()));
+        compartments.put(Group.MUTATIONS, new Compartment(settings.getMutations()));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(API_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        Group group = groupOf(request);
+        Compartment compartment = compartments.get(group);
+        boolean admitted;
+        try {
+            admitted = compartment.tryEnter();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            reject(request, response, group, compartment);
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                compartment.exit();
+            }
+        };
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseListener(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        compartments.forEach((group, compartment) -> {
+            String tag = group.name().toLowerCase();
+            Gauge.builder("jhub.api.bulkhead.active", compartment, Compartment::active)
+                    .description("API requests being processed in the bulkhead group")
+                    .tag("group", tag)
+                    .register(registry);
+            Gauge.builder("jhub.api.bulkhead.queued", compartment, Compartment::queued)
+                    .description("API requests waiting for a slot in the bulkhead group")
+                    .tag("group", tag)
+                    .register(registry);
+            FunctionTimer.builder("jhub.api.bulkhead.wait", compartment,
+                    Compartment::admittedCount, Compartment::waitNanos, TimeUnit.NANOSECONDS)
+                    .description("Time API requests waited for a slot in the bulkhead group")
+                    .tag("group", tag)
+                    .register(registry);
+            FunctionCounter.builder("jhub.api.bulkhead.rejected", compartment, Compartment::rejectedCount)
+                    .description("API requests rejected because the bulkhead group was full")
+                    .tag("group", tag)
+                    .register(registry);
+        });
+    }
+
+    /**
+     * 요청의 엔드포인트 그룹. 조회가 아닌 요청은 모두 변경 그룹입니다.
+     */
+    static Group groupOf(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return Group.MUTATIONS;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (STORAGE_PATH.matcher(path).matches()) {
+            return Group.STORAGE;
+        }
+        if (DETAIL_PATH.matcher(path).matches()) {
+            return Group.DETAILS;
+        }
+        return Group.LISTS;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Group group,
+            Compartment compartment) throws IOException {
+        log.debug("Bulkhead [{}] full, rejecting {} {}", group, request.getMethod(), request.getRequestURI());
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(OffsetDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message("Too many concurrent " + group.name().toLowerCase() + " requests, retry later")
+                .path(request.getRequestURI())
+                .build();
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(compartment.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    /**
+     * 엔드포인트 그룹.
+     */
+    enum Group {
+        LISTS,
+        DETAILS,
+        STORAGE,
+        MUTATIONS
+    }
+
+    /**
+     * 그룹 하나의 처리 자리와 대기열. 자리는 도착 순(공정 세마포어)으로 배정됩니다.
+     */
+    private static final class Compartment {
+
+        private final int maxConcurrent;
+        private final int maxQueued;
+        private final long maxWaitNanos;
+        private final Semaphore permits;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final LongAdder admitted = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        Compartment(JhubK8sProperties.Bulkhead.Group settings) {
+            this.maxConcurrent = settings.getMaxConcurrent();
+            this.maxQueued = settings.getMaxQueued();
+            this.maxWaitNanos = settings.getMaxWait().toNanos();
+            this.permits = new Semaphore(maxConcurrent, true);
+        }
+
+        /**
+         * 자리를 얻으면 true, 대기열이 가득 찼거나 maxWait 안에 자리를 얻지 못하면 false를 반환합니다.
+         */
+        boolean tryEnter() throws InterruptedException {
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                admitted.increment();
+                return true;
+            }
+            if (waiting.incrementAndGet() > maxQueued) {
+                waiting.decrementAndGet();
+                rejected.increment();
+                return false;
+            }
+            long start = System.nanoTime();
+            try {
+                if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                    admitted.increment();
+                    waitNanos.add(System.nanoTime() - start);
+                    return true;
+                }
+                rejected.increment();
+                return false;
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        void exit() {
+            permits.release();
+        }
+
+        long retryAfterSeconds() {
+            return Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(maxWaitNanos + 999_999_999L));
+        }
+
+        double active() {
+            return maxConcurrent - permits.availablePermits();
+        }
+
+        double queued() {
+            return waiting.get();
+        }
+
+        long admittedCount() {
+            return admitted.sum();
+        }
+
+        double waitNanos() {
+            return waitNanos.sum();
+        }
+
+        double rejectedCount() {
+            return rejected.sum();
+        }
+    }
+
+    /**
+     * 비동기 처리가 끝나면(완료/오류/타임아웃) 자리를 반환하는 리스너.
+     */
+    private record ReleaseListener(Runnable release) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
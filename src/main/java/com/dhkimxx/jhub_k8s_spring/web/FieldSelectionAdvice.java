@@ -0,0 +1,77 @@
+package com.dhkimxx.jhub_k8s_spring.web;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import com.dhkimxx.jhub_k8s_spring.util.FieldSelection;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * /api/** GET 응답에 대한 필드 선택(Sparse fieldset) 처리.
+ * 'fields' 쿼리 파라미터(예: fields=name,status,cpuUsagePercent,conditions.type)가 주어지면
+ * 직렬화 시점에 선택된 필드 경로만 기록합니다. 점(.)으로 이은 경로로 중첩 객체의 필드도 고를 수 있습니다.
+ * 상세 조회처럼 큰 부분(라벨, 어노테이션, 조건, 포트)이 있는 응답은 컨트롤러가 FieldSelection을 서비스에 넘겨
+ * 선택되지 않은 부분을 아예 만들지 않으며, 이 필터는 나머지 필드를 응답에서 제외합니다.
+ * 필드 조합별 FilterProvider는 캐싱하여 재사용합니다.
+ */
+@RestControllerAdvice
+public class FieldSelectionAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    public static final String FIELDS_PARAM = "fields";
+
+    private static final String API_PATH_PREFIX = "/api/";
+    private static final int MAX_CACHED_FIELD_SETS = 256;
+
+    private final Map<String, FilterProvider> filterCache = new ConcurrentHashMap<>();
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+            MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!HttpMethod.GET.equals(request.getMethod())
+                || !request.getURI().getPath().startsWith(API_PATH_PREFIX)
+                || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        FilterProvider filters = resolveFilters(servletRequest.getServletRequest().getParameter(FIELDS_PARAM));
+        if (filters != null) {
+            bodyContainer.setFilters(filters);
+        }
+    }
+
+    /**
+     * fields 파라미터 값에 해당하는 FilterProvider를 반환합니다.
+     * 파라미터가 없거나 비어 있으면 null을 반환합니다.
+     */
+    public FilterProvider resolveFilters(String fieldsParam) {
+        FieldSelection selection = FieldSelection.parse(fieldsParam);
+        if (selection.isAll()) {
+            return null;
+        }
+
+        String cacheKey = selection.cacheKey();
+        FilterProvider cached = filterCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        FilterProvider provider = new SimpleFilterProvider()
+                .addFilter(FieldSelectionFilter.FILTER_ID, new FieldSelectionFilter(selection))
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .setFailOnUnknownId(false);
+        if (filterCache.size() < MAX_CACHED_FIELD_SETS) {
+            filterCache.putIfAbsent(cacheKey, provider);
+        }
+        return provider;
+    }
+}
@@ -0,0 +1,57 @@
+package com.dhkimxx.jhub_k8s_spring.web;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import com.dhkimxx.jhub_k8s_spring.util.FieldSelection;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+/**
+ * 선택된 필드 경로만 직렬화하는 Jackson 필터. (예: fields=name,status,conditions.type)
+ * 필드의 경로는 출력 중인 JSON 위치에서 상위 객체의 필드 이름을 이어 만들며, 배열은 경로에 넣지 않으므로
+ * 최상위 배열의 원소는 최상위 객체와 같이 취급됩니다.
+ * @JsonUnwrapped 필드는 하위 필드가 같은 객체에 펼쳐지므로 필드 자체는 통과시키고 하위 필드에서 선택합니다.
+ */
+public class FieldSelectionFilter extends SimpleBeanPropertyFilter {
+
+    /** DTO 클래스에 부여되는 필터 ID */
+    public static final String FILTER_ID = "fieldSelection";
+
+    private final FieldSelection selection;
+
+    public FieldSelectionFilter(FieldSelection selection) {
+        this.selection = selection;
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator jgen, SerializerProvider provider, PropertyWriter writer)
+            throws Exception {
+        if (isUnwrapping(writer) || selection.includes(pathOf(jgen, writer.getName()))) {
+            writer.serializeAsField(pojo, jgen, provider);
+        } else if (!jgen.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, jgen, provider);
+        }
+    }
+
+    private static boolean isUnwrapping(PropertyWriter writer) {
+        return writer instanceof BeanPropertyWriter beanWriter && beanWriter.isUnwrapping();
+    }
+
+    private static String pathOf(JsonGenerator jgen, String fieldName) {
+        Deque<String> names = new ArrayDeque<>();
+        names.push(fieldName);
+        for (JsonStreamContext context = jgen.getOutputContext().getParent();
+                context != null && !context.inRoot();
+                context = context.getParent()) {
+            if (context.inObject() && context.getCurrentName() != null) {
+                names.push(context.getCurrentName());
+            }
+        }
+        return String.join(".", names);
+    }
+}
@@ -0,0 +1,189 @@
+package com.dhkimxx.jhub_k8s_spring.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.dhkimxx.jhub_k8s_spring.util.FieldSelection;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대용량 목록 응답을 JsonGenerator로 직접 기록하는 스트리밍 유틸리티.
+ * 원천 데이터에서 항목이 생성되는 즉시 응답 스트림에 기록하므로 요청당 메모리 사용량이 일정합니다.
+ * JSON 배열, NDJSON(한 줄에 하나의 JSON 객체), 배열 필드를 포함한 JSON 객체 형식을 지원합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonStreamWriter {
+
+    private final ObjectMapper objectMapper;
+    private final FieldSelectionAdvice fieldSelectionAdvice;
+
+    /**
+     * source가 전달하는 항목들을 하나의 JSON 배열로 기록합니다.
+     */
+    public <T> StreamingResponseBody array(String fieldsParam, Consumer<Consumer<T>> source) {
+        ObjectWriter writer = itemWriter(fieldsParam);
+        return outputStream -> {
+            try (JsonGenerator generator = createGenerator(outputStream)) {
+                generator.writeStartArray();
+                source.accept(item -> writeValue(writer, generator, item));
+                generator.writeEndArray();
+            }
+        };
+    }
+
+    /**
+     * source가 전달하는 항목들을 NDJSON(application/x-ndjson) 형식으로 기록합니다.
+     */
+    public <T> StreamingResponseBody ndjson(String fieldsParam, Consumer<Consumer<T>> source) {
+        ObjectWriter writer = itemWriter(fieldsParam);
+        return outputStream -> {
+            try (JsonGenerator generator = createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                source.accept(item -> {
+                    writeValue(writer, generator, item);
+                    writeRaw(generator, '\n');
+                });
+            }
+        };
+    }
+
+    /**
+     * 배열 필드와 단일 필드로 구성된 JSON 객체를 기록합니다.
+     * arrayFields로 선언된 배열은 항목이 없더라도 빈 배열로 기록됩니다.
+     * 필드 선택은 객체의 필드 이름과 배열 항목의 중첩 경로(예: pvList.name)에 모두 적용됩니다.
+     */
+    public StreamingResponseBody object(String fieldsParam, Set<String> arrayFields, Consumer<ObjectStream> body) {
+        ObjectWriter writer = itemWriter(fieldsParam);
+        FieldSelection selected = FieldSelection.parse(fieldsParam);
+        return outputStream -> {
+            try (JsonGenerator generator = createGenerator(outputStream)) {
+                ObjectStream stream = new ObjectStream(generator, writer, selected, arrayFields);
+                generator.writeStartObject();
+                body.accept(stream);
+                stream.finish();
+                generator.writeEndObject();
+            }
+        };
+    }
+
+    private JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        return objectMapper.getFactory()
+                .createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private ObjectWriter itemWriter(String fieldsParam) {
+        FilterProvider filters = fieldSelectionAdvice.resolveFilters(fieldsParam);
+        ObjectWriter writer = filters != null ? objectMapper.writer(filters) : objectMapper.writer();
+        return writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    private static void writeValue(ObjectWriter writer, JsonGenerator generator, Object value) {
+        try {
+            writer.writeValue(generator, value);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeRaw(JsonGenerator generator, char c) {
+        try {
+            generator.writeRaw(c);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * 스트리밍 중인 JSON 객체에 필드를 기록하는 핸들.
+     * 서로 다른 배열 필드의 항목은 필드 단위로 연속해서 전달되어야 합니다.
+     */
+    public static final class ObjectStream {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter writer;
+        private final FieldSelection selectedFields;
+        private final Set<String> pendingArrays;
+        private String openArray;
+
+        private ObjectStream(JsonGenerator generator, ObjectWriter writer, FieldSelection selectedFields,
+                Set<String> arrayFields) {
+            this.generator = generator;
+            this.writer = writer;
+            this.selectedFields = selectedFields;
+            this.pendingArrays = new LinkedHashSet<>(arrayFields);
+        }
+
+        /**
+         * fieldName 배열 필드에 항목을 추가합니다. 다른 배열이 열려 있으면 닫고 새 배열을 엽니다.
+         */
+        public void arrayItem(String fieldName, Object item) {
+            if (!isSelected(fieldName)) {
+                return;
+            }
+            try {
+                if (!fieldName.equals(openArray)) {
+                    closeOpenArray();
+                    generator.writeArrayFieldStart(fieldName);
+                    openArray = fieldName;
+                    pendingArrays.remove(fieldName);
+                }
+                writer.writeValue(generator, item);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        /**
+         * 단일 값 필드를 기록합니다.
+         */
+        public void field(String fieldName, Object value) {
+            if (!isSelected(fieldName)) {
+                return;
+            }
+            try {
+                closeOpenArray();
+                generator.writeFieldName(fieldName);
+                writer.writeValue(generator, value);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        private void finish() throws IOException {
+            closeOpenArray();
+            for (String fieldName : pendingArrays) {
+                if (isSelected(fieldName)) {
+                    generator.writeArrayFieldStart(fieldName);
+                    generator.writeEndArray();
+                }
+            }
+            pendingArrays.clear();
+        }
+
+        private void closeOpenArray() throws IOException {
+            if (openArray != null) {
+                generator.writeEndArray();
+                openArray = null;
+            }
+        }
+
+        private boolean isSelected(String fieldName) {
+            return selectedFields.includes(fieldName);
+        }
+    }
+}
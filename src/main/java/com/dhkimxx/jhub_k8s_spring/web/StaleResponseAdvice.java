@@ -0,0 +1,113 @@
+package com.dhkimxx.jhub_k8s_spring.web;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.DataStaleness;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.StaleReadTracker;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 서킷 브레이커가 이전 조회 결과로 응답한 경우 응답에 stale 헤더를 추가합니다.
+ * X-Data-Stale: true, X-Data-Stale-Operations: 작업 목록, Age: 가장 오래된 결과의 경과 초,
+ * Warning: 110 - "Response is Stale"
+ * /api/** 요청마다 StaleReadTracker 범위를 열고(Scope 필터), 본문 기록 직전에 범위의 기록을 확인합니다.
+ * 본문이 staleness 필드를 가진 객체(DataStaleness.Holder: 클러스터 현황, 스토리지 개요)이면 같은 정보를 본문에도 채우며,
+ * 본문에 이미 담긴 stale 정보(통합 현황의 클러스터별 수집 상태)도 헤더에 반영합니다.
+ * JSON 배열로 응답하는 목록(세션, 노드)은 응답 형식을 바꾸지 않도록 X-Total-Count와 같이 헤더로만 알립니다.
+ */
+@RestControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STALE_HEADER = "X-Data-Stale";
+    public static final String STALE_OPERATIONS_HEADER = "X-Data-Stale-Operations";
+
+    private static final String API_PATH_PREFIX = "/api/";
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        DataStaleness staleness = toDataStaleness(StaleReadTracker.current());
+        Object value = body instanceof MappingJacksonValue container ? container.getValue() : body;
+        if (value instanceof DataStaleness.Holder<?> holder) {
+            DataStaleness recorded = holder.staleness();
+            if (staleness != null) {
+                Object updated = holder.withStaleness(DataStaleness.merge(recorded, staleness));
+                if (body instanceof MappingJacksonValue container) {
+                    container.setValue(updated);
+                } else {
+                    body = updated;
+                }
+            }
+            staleness = DataStaleness.merge(recorded, staleness);
+        }
+        if (staleness != null) {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(STALE_HEADER, "true");
+            headers.set(STALE_OPERATIONS_HEADER, String.join(",", staleness.sources()));
+            if (staleness.oldestFetchedAt() != null) {
+                headers.set(HttpHeaders.AGE, String.valueOf(Math.max(0L,
+                        Duration.between(staleness.oldestFetchedAt().toInstant(), Instant.now()).toSeconds())));
+            }
+            headers.set(HttpHeaders.WARNING, STALE_WARNING);
+        }
+        return body;
+    }
+
+    private static DataStaleness toDataStaleness(StaleReadTracker.Staleness staleness) {
+        return staleness != null
+                ? new DataStaleness(List.copyOf(staleness.operations()),
+                        OffsetDateTime.ofInstant(staleness.oldestFetchedAt(), ZoneOffset.UTC))
+                : null;
+    }
+
+    /**
+     * /api/** 요청 처리 동안 StaleReadTracker 범위를 유지하는 필터.
+     */
+    @Component
+    public static class ScopeFilter extends OncePerRequestFilter {
+
+        @Override
+        protected boolean shouldNotFilter(HttpServletRequest request) {
+            return !request.getRequestURI().startsWith(API_PATH_PREFIX);
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                FilterChain filterChain) throws ServletException, IOException {
+            StaleReadTracker.Scope scope = StaleReadTracker.open();
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                scope.close();
+            }
+        }
+    }
+}
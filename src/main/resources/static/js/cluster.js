@@ -29,6 +29,15 @@ const nodesLoading = document.getElementById("nodes-loading");
 const nodesError = document.getElementById("nodes-error");
 const nodesEmpty = document.getElementById("nodes-empty");
 
+const spawnLatencyWrapper = document.getElementById("spawn-latency");
+const spawnLatencyBody = document.getElementById("spawn-latency-body");
+const spawnLatencyDetail = document.getElementById("spawn-latency-detail");
+const spawnLatencyError = document.getElementById("spawn-latency-error");
+const spawnLatencyEmpty = document.getElementById("spawn-latency-empty");
+const spawnLatencyDimension = document.getElementById("spawn-latency-dimension");
+const SPAWN_PHASES = ["scheduling", "image_pull", "startup", "total"];
+
+let spawnLatency = null;
 let cpuChart = null;
 let memChart = null;
 let storageChart = null;
@@ -130,6 +139,14 @@ const loadOverview = async () => {
     }
     const data = await res.json();
     renderOverview(data);
+    const staleClusters = (data.clusters || [])
+      .filter((cluster) => cluster.stale)
+      .map((cluster) => cluster.name);
+    if (staleClusters.length > 0) {
+      setOverviewAlert(
+        `일부 클러스터(${staleClusters.join(", ")})의 최신 정보를 가져오지 못해 마지막 수집 결과를 표시합니다.`
+      );
+    }
   } catch (error) {
     console.error(error);
     toggle(overviewError, true);
@@ -139,6 +156,66 @@ const loadOverview = async () => {
   }
 };
 
+const formatSeconds = (seconds) => {
+  if (seconds === null || seconds === undefined || Number.isNaN(seconds)) {
+    return "-";
+  }
+  return seconds >= 60
+    ? `${Math.round((seconds / 60) * 10) / 10}m`
+    : `${Math.round(seconds * 10) / 10}s`;
+};
+
+const renderSpawnLatency = () => {
+  const rows = spawnLatency ? spawnLatency[spawnLatencyDimension.value] || [] : [];
+  spawnLatencyBody.innerHTML = "";
+  toggle(spawnLatencyEmpty, rows.length === 0);
+  toggle(spawnLatencyWrapper, rows.length > 0);
+  if (rows.length === 0) return;
+
+  const byTarget = new Map();
+  rows.forEach((row) => {
+    const target = row.key ?? "전체";
+    if (!byTarget.has(target)) byTarget.set(target, {});
+    byTarget.get(target)[row.phase] = row;
+  });
+  byTarget.forEach((phases, target) => {
+    const tr = document.createElement("tr");
+    tr.className = "border-b border-slate-800";
+    const cells = SPAWN_PHASES.map((phase) => {
+      const stat = phases[phase];
+      return stat
+        ? `<td class="px-4 py-3 font-mono text-slate-300" title="${stat.count} samples">${formatSeconds(
+            stat.p50Seconds
+          )} / ${formatSeconds(stat.p95Seconds)} / ${formatSeconds(stat.p99Seconds)}</td>`
+        : `<td class="px-4 py-3 text-slate-600">-</td>`;
+    });
+    tr.innerHTML = `<td class="px-4 py-3 text-slate-200 truncate max-w-xs" title="${target}">${target}</td>${cells.join(
+      ""
+    )}`;
+    spawnLatencyBody.appendChild(tr);
+  });
+  spawnLatencyDetail.textContent = `${new Date(
+    spawnLatency.since
+  ).toLocaleString()} 이후 ${spawnLatency.recordedSpawns}개 세션 생성 기록`;
+};
+
+const loadSpawnLatency = async () => {
+  toggle(spawnLatencyError, false);
+  try {
+    const res = await fetch("/api/cluster/spawn-latency");
+    if (!res.ok) {
+      throw new Error(`Spawn latency fetch failed: ${res.status}`);
+    }
+    spawnLatency = await res.json();
+    renderSpawnLatency();
+  } catch (error) {
+    console.error(error);
+    toggle(spawnLatencyWrapper, false);
+    toggle(spawnLatencyEmpty, false);
+    toggle(spawnLatencyError, true);
+  }
+};
+
 let nodeCharts = []; // Store chart instances to destroy them later
 
 const renderNodes = (nodes) => {
@@ -288,6 +365,11 @@ const loadNodes = async () => {
       throw new Error(`Nodes fetch failed: ${res.status}`);
     }
     const data = await res.json();
+    if (res.headers.get("X-Data-Stale") === "true") {
+      setOverviewAlert(
+        `API 서버 응답이 원활하지 않아 ${res.headers.get("Age") || 0}초 전에 조회한 노드 목록을 표시합니다.`
+      );
+    }
     if (!data.length) {
       toggle(nodesEmpty, true);
       nodesList.innerHTML = ""; // Clear if empty
@@ -305,8 +387,10 @@ const loadNodes = async () => {
 
 const refreshAll = () => {
   loadOverview();
+  loadSpawnLatency();
   loadNodes();
 };
 
 refreshBtn?.addEventListener("click", refreshAll);
+spawnLatencyDimension?.addEventListener("change", renderSpawnLatency);
 refreshAll();
@@ -94,6 +94,25 @@ const renderDetail = (data) => {
     data.allocatableEphemeralStorageBytes
   );
 
+  renderRequestBreakdown(
+    "detail-cpu-breakdown",
+    data.cpuRequestBreakdown,
+    data.clusterWideRequests,
+    (value) => formatNumber(value, "m")
+  );
+  renderRequestBreakdown(
+    "detail-mem-breakdown",
+    data.memoryRequestBreakdown,
+    data.clusterWideRequests,
+    formatBytes
+  );
+  renderRequestBreakdown(
+    "detail-storage-breakdown",
+    data.ephemeralStorageRequestBreakdown,
+    data.clusterWideRequests,
+    formatBytes
+  );
+
   // Charts
   if (cpuChart) cpuChart.destroy();
   if (memChart) memChart.destroy();
@@ -171,10 +190,13 @@ const renderDetail = (data) => {
   podsTableBody.innerHTML = "";
   podCountEl.textContent = data.pods.length;
   data.pods.forEach((pod) => {
+    const podUrl = `/cluster/pods/${encodeURIComponent(
+      pod.name
+    )}?${new URLSearchParams({ namespace: pod.namespace })}`;
     const tr = document.createElement("tr");
     tr.className =
       "border-b border-slate-700/50 hover:bg-slate-800/50 cursor-pointer transition-colors";
-    tr.onclick = () => (location.href = `/cluster/pods/${pod.name}`);
+    tr.onclick = () => (location.href = podUrl);
 
     let statusColor = "text-slate-400";
     if (pod.status === "Running") statusColor = "text-emerald-400";
@@ -195,9 +217,7 @@ const renderDetail = (data) => {
         <td class="px-4 py-3 text-center">
           <button 
             class="text-slate-400 hover:text-pink-400 transition-colors p-1.5 hover:bg-slate-800 rounded"
-            onclick="location.href='/cluster/pods/${encodeURIComponent(
-              pod.name
-            )}'"
+            onclick="location.href='${podUrl}'"
             title="View details"
           >
             <svg xmlns="http://www.w3.org/2000/svg" fill="none" viewBox="0 0 24 24" stroke-width="2" stroke="currentColor" class="w-5 h-5">
@@ -229,3 +249,13 @@ document.addEventListener("DOMContentLoaded", () => {
   fetchNodeDetail();
   // Refresh every 30s?
 });
+
+function renderRequestBreakdown(elementId, breakdown, clusterWide, format) {
+  const el = document.getElementById(elementId);
+  if (!el || !breakdown) return;
+  el.textContent = clusterWide
+    ? `User ${format(breakdown.user)} · System ${format(
+        breakdown.system
+      )} · Other ${format(breakdown.other)}`
+    : "User pods only";
+}
@@ -186,7 +186,12 @@ const renderDetail = (data) => {
 const fetchPodDetail = async () => {
   try {
     if (!currentPodName || currentPodName === "unknown") return;
-    const res = await fetch(`/api/cluster/pods/${currentPodName}`);
+    const query = currentPodNamespace
+      ? `?${new URLSearchParams({ namespace: currentPodNamespace })}`
+      : "";
+    const res = await fetch(
+      `/api/cluster/pods/${encodeURIComponent(currentPodName)}${query}`
+    );
     if (!res.ok) throw new Error("Failed to fetch pod");
     const data = await res.json();
     renderDetail(data);
@@ -9,6 +9,18 @@
   const emptyEl = document.getElementById("sessions-empty");
   const errorEl = document.getElementById("sessions-error");
   const alertEl = document.getElementById("sessions-alert");
+  const pagerEl = document.getElementById("sessions-pager");
+  const pageInfoEl = document.getElementById("sessions-page-info");
+  const prevBtn = document.getElementById("sessions-prev");
+  const nextBtn = document.getElementById("sessions-next");
+
+  const filterInputs = {
+    username: document.getElementById("filter-username"),
+    phase: document.getElementById("filter-phase"),
+    ready: document.getElementById("filter-ready"),
+    node: document.getElementById("filter-node"),
+    sort: document.getElementById("sessions-sort"),
+  };
 
   const detailWrapper = document.getElementById("session-detail");
   const detailEmpty = document.getElementById("session-detail-empty");
@@ -30,7 +42,11 @@
   const pvcSection = document.getElementById("session-pvc-section");
   const eventsList = document.getElementById("session-events");
 
+  const PAGE_SIZE = 30;
+
   let selectedUsername = null;
+  let currentPage = 0;
+  let totalCount = 0;
   let cpuChart = null;
   let memChart = null;
 
@@ -178,28 +194,67 @@
             `;
       card.addEventListener("click", () => {
         selectedUsername = session.username;
-        loadSessionDetail(session.username);
+        loadSessionDetail(session.username, session.namespace);
       });
       listContainer.appendChild(card);
     });
   };
 
+  const buildListQuery = () => {
+    const params = new URLSearchParams({
+      page: String(currentPage),
+      size: String(PAGE_SIZE),
+      sort: filterInputs.sort?.value || "username",
+    });
+    const username = filterInputs.username?.value.trim();
+    const phase = filterInputs.phase?.value;
+    const ready = filterInputs.ready?.value;
+    const node = filterInputs.node?.value.trim();
+    if (username) params.set("username", username);
+    if (phase) params.set("phase", phase);
+    if (ready) params.set("ready", ready);
+    if (node) params.set("node", node);
+    return params.toString();
+  };
+
+  const renderPager = () => {
+    const totalPages = Math.max(Math.ceil(totalCount / PAGE_SIZE), 1);
+    toggle(pagerEl, totalCount > 0);
+    if (pageInfoEl) {
+      const from = totalCount === 0 ? 0 : currentPage * PAGE_SIZE + 1;
+      const to = Math.min((currentPage + 1) * PAGE_SIZE, totalCount);
+      pageInfoEl.textContent = `${from}-${to} / 총 ${totalCount}개 (페이지 ${
+        currentPage + 1
+      }/${totalPages})`;
+    }
+    if (prevBtn) prevBtn.disabled = currentPage <= 0;
+    if (nextBtn) nextBtn.disabled = currentPage + 1 >= totalPages;
+  };
+
   const loadSessions = async () => {
     toggle(loadingEl, true);
     toggle(emptyEl, false);
     toggle(errorEl, false);
     setAlert(null);
     try {
-      const res = await fetch("/api/sessions");
+      const res = await fetch(`/api/sessions?${buildListQuery()}`);
       if (!res.ok) {
         throw new Error(`세션 조회 실패: ${res.status}`);
       }
       const data = await res.json();
+      totalCount = Number(res.headers.get("X-Total-Count") ?? data.length);
+      if (!data.length && currentPage > 0 && totalCount > 0) {
+        // 필터 결과가 줄어 현재 페이지가 범위를 벗어난 경우 마지막 페이지로 이동
+        currentPage = Math.max(Math.ceil(totalCount / PAGE_SIZE) - 1, 0);
+        return loadSessions();
+      }
       if (!data.length) {
+        listContainer.innerHTML = "";
         toggle(emptyEl, true);
       } else {
         renderSessions(data);
       }
+      renderPager();
     } catch (error) {
       console.error(error);
       toggle(errorEl, true);
@@ -209,6 +264,55 @@
     }
   };
 
+  const reloadFromFirstPage = () => {
+    currentPage = 0;
+    loadSessions();
+  };
+
+  let filterTimer = null;
+  const scheduleReload = () => {
+    clearTimeout(filterTimer);
+    filterTimer = setTimeout(reloadFromFirstPage, 300);
+  };
+
+  const suggestionList = document.getElementById("username-suggestions");
+  let suggestTimer = null;
+  let suggestController = null;
+
+  const loadSuggestions = async (query) => {
+    suggestController?.abort();
+    suggestController = new AbortController();
+    try {
+      const res = await fetch(
+        `/api/sessions/search?${new URLSearchParams({ q: query, limit: "10" })}`,
+        { signal: suggestController.signal }
+      );
+      if (!res.ok) return;
+      const sessions = await res.json();
+      suggestionList.innerHTML = "";
+      new Set(sessions.map((session) => session.username)).forEach(
+        (username) => {
+          const option = document.createElement("option");
+          option.value = username;
+          suggestionList.appendChild(option);
+        }
+      );
+    } catch (error) {
+      if (error.name !== "AbortError") console.error(error);
+    }
+  };
+
+  const scheduleSuggestions = () => {
+    if (!suggestionList) return;
+    clearTimeout(suggestTimer);
+    const query = filterInputs.username?.value.trim();
+    if (!query) {
+      suggestionList.innerHTML = "";
+      return;
+    }
+    suggestTimer = setTimeout(() => loadSuggestions(query), 150);
+  };
+
   const renderDetail = (detail) => {
     toggle(detailWrapper, true);
     toggle(detailEmpty, false);
@@ -330,10 +434,11 @@
     }
 
     terminateBtn.dataset.pod = detail.metadata.podName;
+    terminateBtn.dataset.namespace = detail.metadata.namespace || "";
     toggle(terminateBtn, true);
   };
 
-  const loadSessionDetail = async (username) => {
+  const loadSessionDetail = async (username, namespace) => {
     toggle(detailWrapper, false);
     toggle(detailError, false);
     toggle(detailEmpty, false);
@@ -341,12 +446,18 @@
     setAlert(null);
 
     try {
-      const res = await fetch(`/api/sessions/${encodeURIComponent(username)}`);
+      const query = namespace ? `?namespace=${encodeURIComponent(namespace)}` : "";
+      const res = await fetch(`/api/sessions/${encodeURIComponent(username)}${query}`);
       if (!res.ok) {
         throw new Error(`세션 상세 조회 실패: ${res.status}`);
       }
       const detail = await res.json();
       renderDetail(detail);
+      if (detail.degraded) {
+        setAlert(
+          `일부 정보를 가져오지 못했습니다: ${(detail.failedSources || []).join(", ")}`
+        );
+      }
     } catch (error) {
       console.error(error);
       toggle(detailError, true);
@@ -358,13 +469,15 @@
 
   const terminateSession = async () => {
     const podName = terminateBtn.dataset.pod;
+    const namespace = terminateBtn.dataset.namespace;
     if (!podName) return;
     if (!confirm("해당 세션을 종료하시겠습니까?")) {
       return;
     }
     setAlert("세션 종료 요청을 전송했습니다. 잠시 후 목록을 새로고침하세요.");
     try {
-      const res = await fetch(`/api/sessions/${encodeURIComponent(podName)}`, {
+      const query = namespace ? `?namespace=${encodeURIComponent(namespace)}` : "";
+      const res = await fetch(`/api/sessions/${encodeURIComponent(podName)}${query}`, {
         method: "DELETE",
       });
       if (!res.ok && res.status !== 202) {
@@ -380,6 +493,27 @@
   document
     .getElementById("refresh-sessions")
     ?.addEventListener("click", loadSessions);
+  document
+    .getElementById("sessions-filters")
+    ?.addEventListener("submit", (event) => event.preventDefault());
+  filterInputs.username?.addEventListener("input", () => {
+    scheduleSuggestions();
+    scheduleReload();
+  });
+  filterInputs.node?.addEventListener("input", scheduleReload);
+  filterInputs.phase?.addEventListener("change", reloadFromFirstPage);
+  filterInputs.ready?.addEventListener("change", reloadFromFirstPage);
+  filterInputs.sort?.addEventListener("change", reloadFromFirstPage);
+  prevBtn?.addEventListener("click", () => {
+    if (currentPage > 0) {
+      currentPage -= 1;
+      loadSessions();
+    }
+  });
+  nextBtn?.addEventListener("click", () => {
+    currentPage += 1;
+    loadSessions();
+  });
   terminateBtn?.addEventListener("click", terminateSession);
   loadSessions();
 })();
@@ -183,6 +183,11 @@
       renderOverview(data);
       renderPvList(data.pvList);
       renderPvcList(data.pvcList);
+      if (data.staleness) {
+        setAlert(
+          "쿠버네티스 API 응답이 원활하지 않아 마지막으로 조회한 스토리지 정보를 표시합니다."
+        );
+      }
     } catch (error) {
       console.error(error);
       toggle(errorEl, true);
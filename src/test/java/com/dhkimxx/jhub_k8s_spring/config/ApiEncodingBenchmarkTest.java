@@ -0,0 +1,81 @@
+package com.dhkimxx.jhub_k8s_spring.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionSummaryResponse;
+import com.dhkimxx.jhub_k8s_spring.support.Measurements;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 5천 개 세션 목록의 JSON/Smile/CBOR 인코딩 크기와 인코딩/디코딩 시간. (user-026)
+ */
+@Tag("benchmark")
+class ApiEncodingBenchmarkTest {
+
+    private static final int SESSIONS = 5_000;
+
+    @Test
+    void comparesEncodingsOnSessionList() throws IOException {
+        SessionSummaryResponse[] sessions = sessions().toArray(SessionSummaryResponse[]::new);
+        ApiEncodingConfig config = new ApiEncodingConfig();
+        measure("json", builder().build(), sessions);
+        measure("smile", config.smileHttpMessageConverter(builder()).getObjectMapper(), sessions);
+        measure("cbor", config.cborHttpMessageConverter(builder()).getObjectMapper(), sessions);
+    }
+
+    private static void measure(String format, ObjectMapper mapper, SessionSummaryResponse[] sessions)
+            throws IOException {
+        byte[] encoded = mapper.writeValueAsBytes(sessions);
+        assertThat(Arrays.asList(mapper.readValue(encoded, SessionSummaryResponse[].class)))
+                .containsExactly(sessions);
+
+        double encodeMillis = Measurements.medianMillis(20, 30, () -> write(mapper, sessions));
+        double decodeMillis = Measurements.medianMillis(20, 30, () -> read(mapper, encoded));
+        Measurements.report("encoding " + format, "%,d sessions, %,d bytes, encode %.2f ms, decode %.2f ms",
+                sessions.length, encoded.length, encodeMillis, decodeMillis);
+    }
+
+    private static Jackson2ObjectMapperBuilder builder() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        new JacksonConfig().fieldSelectionCustomizer().customize(builder);
+        return builder;
+    }
+
+    private static byte[] write(ObjectMapper mapper, Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static SessionSummaryResponse[] read(ObjectMapper mapper, byte[] encoded) {
+        try {
+            return mapper.readValue(encoded, SessionSummaryResponse[].class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static List<SessionSummaryResponse> sessions() {
+        OffsetDateTime started = OffsetDateTime.parse("2026-10-19T09:00:00Z");
+        List<SessionSummaryResponse> sessions = new ArrayList<>(SESSIONS);
+        for (int i = 0; i < SESSIONS; i++) {
+            sessions.add(new SessionSummaryResponse("user" + i, "hub-" + (i % 3), "jupyter-user" + i,
+                    i % 10 == 0 ? "Pending" : "Running", i % 10 != 0, i % 4, "node-" + (i % 50),
+                    started.plusSeconds(i), 500d + (i % 4) * 500, (1L << 30) * (1 + i % 8)));
+        }
+        return sessions;
+    }
+}
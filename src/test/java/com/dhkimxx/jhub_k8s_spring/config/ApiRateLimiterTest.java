@@ -0,0 +1,125 @@
+package com.dhkimxx.jhub_k8s_spring.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.dhkimxx.jhub_k8s_spring.config.ApiRateLimiter.Lane;
+
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+class ApiRateLimiterTest {
+
+    private static final String BASE = "https://k8s.example.com";
+
+    @Test
+    void laneOfClassifiesByMethodAndPath() {
+        assertThat(ApiRateLimiter.laneOf(get("/api/v1/namespaces/jhub/pods"))).isEqualTo(Lane.NORMAL);
+        assertThat(ApiRateLimiter.laneOf(get("/api/v1/namespaces/jhub/pods/jupyter-alice")))
+                .isEqualTo(Lane.INTERACTIVE);
+        assertThat(ApiRateLimiter.laneOf(get("/apis/apps/v1/namespaces/jhub/statefulsets/user-placeholder")))
+                .isEqualTo(Lane.INTERACTIVE);
+        assertThat(ApiRateLimiter.laneOf(get("/api/v1/namespaces/jhub/pods?watch=true")))
+                .isEqualTo(Lane.BACKGROUND);
+        Request delete = new Request.Builder().url(BASE + "/api/v1/namespaces/jhub/pods").delete().build();
+        assertThat(ApiRateLimiter.laneOf(delete)).isEqualTo(Lane.INTERACTIVE);
+    }
+
+    @Test
+    void requestTagTakesPrecedenceOverThreadLane() {
+        Request tagged = get("/api/v1/namespaces/jhub/pods").newBuilder().tag(Lane.class, Lane.BACKGROUND).build();
+
+        Lane lane = ApiRateLimiter.callWithLane(Lane.INTERACTIVE, () -> ApiRateLimiter.laneOf(tagged));
+        Lane threadLane = ApiRateLimiter.callWithLane(Lane.INTERACTIVE,
+                () -> ApiRateLimiter.laneOf(get("/api/v1/namespaces/jhub/pods")));
+
+        assertThat(lane).isEqualTo(Lane.BACKGROUND);
+        assertThat(threadLane).isEqualTo(Lane.INTERACTIVE);
+    }
+
+    @Test
+    void rejectsWhenNoTokenWithinMaxWait() throws Exception {
+        ApiRateLimiter limiter = limiter(0.1, 1, Duration.ofMillis(30));
+        limiter.acquire(Lane.NORMAL);
+
+        assertThatThrownBy(() -> limiter.acquire(Lane.NORMAL)).isInstanceOf(ApiRateLimiter.RejectedException.class);
+        assertThat(limiter.queued(Lane.NORMAL)).isZero();
+    }
+
+    @Test
+    void higherPriorityWaiterIsServedFirst() throws Exception {
+        ApiRateLimiter limiter = limiter(2, 1, Duration.ofSeconds(5));
+        limiter.acquire(Lane.NORMAL);
+        List<Lane> served = new CopyOnWriteArrayList<>();
+
+        Thread background = waitFor(limiter, Lane.BACKGROUND, served);
+        awaitQueued(limiter, Lane.BACKGROUND);
+        Thread interactive = waitFor(limiter, Lane.INTERACTIVE, served);
+        awaitQueued(limiter, Lane.INTERACTIVE);
+        background.join(TimeUnit.SECONDS.toMillis(5));
+        interactive.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(served).containsExactly(Lane.INTERACTIVE, Lane.BACKGROUND);
+    }
+
+    @Test
+    void prepareAsyncTagsLaneAndTakesTokenBeforeEnqueue() throws Exception {
+        ApiRateLimiter limiter = limiter(0.1, 1, Duration.ofMillis(30));
+        OkHttpClient httpClient = new OkHttpClient.Builder().addInterceptor(limiter.interceptor()).build();
+        Call call = httpClient.newCall(get("/api/v1/namespaces/jhub/pods"));
+
+        Call prepared = ApiRateLimiter.callWithLane(Lane.INTERACTIVE, () -> {
+            try {
+                return ApiRateLimiter.prepareAsync(httpClient, call);
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        assertThat(prepared.request().tag(Lane.class)).isEqualTo(Lane.INTERACTIVE);
+        assertThatThrownBy(() -> limiter.acquire(Lane.INTERACTIVE))
+                .isInstanceOf(ApiRateLimiter.RejectedException.class);
+    }
+
+    private static Thread waitFor(ApiRateLimiter limiter, Lane lane, List<Lane> served) {
+        Thread thread = new Thread(() -> {
+            try {
+                limiter.acquire(lane);
+                served.add(lane);
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private static void awaitQueued(ApiRateLimiter limiter, Lane lane) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (limiter.queued(lane) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(limiter.queued(lane)).isEqualTo(1);
+    }
+
+    private static ApiRateLimiter limiter(double qps, int burst, Duration maxWait) {
+        JhubK8sProperties.RateLimit settings = new JhubK8sProperties.RateLimit();
+        settings.setQps(qps);
+        settings.setBurst(burst);
+        settings.setMaxWait(maxWait);
+        return new ApiRateLimiter("test", settings);
+    }
+
+    private static Request get(String path) {
+        return new Request.Builder().url(BASE + path).build();
+    }
+}
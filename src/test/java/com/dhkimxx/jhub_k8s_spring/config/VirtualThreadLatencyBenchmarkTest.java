@@ -0,0 +1,159 @@
+package com.dhkimxx.jhub_k8s_spring.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.dhkimxx.jhub_k8s_spring.support.Measurements;
+import com.sun.net.httpserver.HttpServer;
+
+import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * API 서버 응답이 2초씩 지연될 때 플랫폼 스레드 모드와 가상 스레드 모드의 스레드 사용량과 지연 시간. (user-033)
+ * 요청 처리 스레드는 Tomcat 기본 설정(최대 200개)의 풀과 가상 스레드 실행기로 재현하고,
+ * 각 요청은 ApiClient의 OkHttpClient로 지연 응답하는 로컬 가짜 API 서버를 동기 호출합니다.
+ * 호출이 몰린 중에 API를 호출하지 않는 요청(정적 페이지)이 얼마나 기다리는지도 함께 측정합니다.
+ * 가상 스레드가 필요하므로 Java 21 이상에서만 실행됩니다.
+ */
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadLatencyBenchmarkTest {
+
+    private static final Duration API_LATENCY = Duration.ofSeconds(2);
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int REQUESTS = 1_000;
+    private static final byte[] POD_LIST = "{\"kind\":\"PodList\",\"apiVersion\":\"v1\",\"metadata\":{},\"items\":[]}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer apiServer;
+    private OkHttpClient httpClient;
+    private String podsUrl;
+
+    @BeforeEach
+    void startApiServer() throws IOException {
+        apiServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), REQUESTS);
+        apiServer.setExecutor(new VirtualThreadTaskExecutor("fake-apiserver-"));
+        apiServer.createContext("/", exchange -> {
+            try {
+                Thread.sleep(API_LATENCY.toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, POD_LIST.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(POD_LIST);
+            }
+        });
+        apiServer.start();
+        podsUrl = "http://127.0.0.1:" + apiServer.getAddress().getPort() + "/api/v1/namespaces/hub/pods";
+        httpClient = new ApiClient().getHttpClient();
+    }
+
+    @AfterEach
+    void stopApiServer() {
+        apiServer.stop(0);
+    }
+
+    @Test
+    void comparesPlatformAndVirtualRequestThreads() {
+        ThreadPoolTaskExecutor tomcat = new ThreadPoolTaskExecutor();
+        tomcat.setCorePoolSize(TOMCAT_MAX_THREADS);
+        tomcat.setMaxPoolSize(TOMCAT_MAX_THREADS);
+        tomcat.setThreadNamePrefix("http-nio-exec-");
+        tomcat.initialize();
+        try {
+            Burst platform = burst(tomcat);
+            Measurements.report("platform request threads", platform.toString());
+            Burst virtual = burst(new VirtualThreadTaskExecutor("http-virtual-"));
+            Measurements.report("virtual request threads", virtual.toString());
+
+            assertThat(virtual.staticPageMillis()).isLessThan(platform.staticPageMillis());
+        } finally {
+            tomcat.shutdown();
+        }
+    }
+
+    /**
+     * REQUESTS개의 API 호출 요청을 한꺼번에 보낸 뒤 정적 페이지 요청 하나를 보냅니다.
+     */
+    private Burst burst(Executor requestThreads) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        int baseline = threads.getThreadCount();
+        threads.resetPeakThreadCount();
+        long started = System.nanoTime();
+
+        List<CompletableFuture<Long>> calls = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            long submitted = System.nanoTime();
+            calls.add(CompletableFuture.supplyAsync(() -> callApiServer(submitted), requestThreads));
+        }
+        long staticSubmitted = System.nanoTime();
+        long staticPageNanos = CompletableFuture.supplyAsync(() -> System.nanoTime() - staticSubmitted, requestThreads)
+                .join();
+        long[] latencies = calls.stream().mapToLong(CompletableFuture::join).sorted().toArray();
+        long totalNanos = System.nanoTime() - started;
+
+        return new Burst(threads.getPeakThreadCount() - baseline, millis(percentile(latencies, 50)),
+                millis(percentile(latencies, 99)), millis(latencies[latencies.length - 1]),
+                millis(staticPageNanos), millis(totalNanos));
+    }
+
+    /**
+     * API 서버를 호출하고, 처리 스레드를 기다린 시간을 포함하여 요청 제출 시각부터의 응답 시간을 반환합니다.
+     */
+    private long callApiServer(long submitted) {
+        try (Response response = httpClient.newCall(new Request.Builder().url(podsUrl).build()).execute()) {
+            assertThat(response.code()).isEqualTo(200);
+            response.body().bytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return System.nanoTime() - submitted;
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percent / 100)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+
+    private record Burst(int extraPlatformThreads, double p50Millis, double p99Millis, double maxMillis,
+            double staticPageMillis, double totalMillis) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "%,d calls, +%d platform threads, call p50 %.0f ms, p99 %.0f ms, max %.0f ms, "
+                            + "static page %.0f ms, burst %.0f ms",
+                    REQUESTS, extraPlatformThreads, p50Millis, p99Millis, maxMillis, staticPageMillis, totalMillis);
+        }
+    }
+}
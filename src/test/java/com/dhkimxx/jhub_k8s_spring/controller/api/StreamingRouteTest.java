@@ -0,0 +1,72 @@
+package com.dhkimxx.jhub_k8s_spring.controller.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.dhkimxx.jhub_k8s_spring.service.CapacitySimulator;
+import com.dhkimxx.jhub_k8s_spring.service.ClusterFederationService;
+import com.dhkimxx.jhub_k8s_spring.service.ClusterService;
+import com.dhkimxx.jhub_k8s_spring.service.IdleSessionCuller;
+import com.dhkimxx.jhub_k8s_spring.service.ImagePullTracker;
+import com.dhkimxx.jhub_k8s_spring.service.PlaceholderPlanner;
+import com.dhkimxx.jhub_k8s_spring.service.SessionService;
+import com.dhkimxx.jhub_k8s_spring.service.SessionTerminationService;
+import com.dhkimxx.jhub_k8s_spring.service.SpawnLatencyTracker;
+import com.dhkimxx.jhub_k8s_spring.web.JsonStreamWriter;
+
+/**
+ * stream=true와 format=ndjson을 함께 지정해도 핸들러가 하나로 정해지는지 확인합니다.
+ */
+class StreamingRouteTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        JsonStreamWriter jsonStreamWriter = mock(JsonStreamWriter.class);
+        StreamingResponseBody empty = outputStream -> {
+        };
+        when(jsonStreamWriter.array(any(), any())).thenReturn(empty);
+        when(jsonStreamWriter.ndjson(any(), any())).thenReturn(empty);
+        when(jsonStreamWriter.object(any(), any(), any())).thenReturn(empty);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new SessionApiController(mock(SessionService.class), mock(SessionTerminationService.class),
+                        mock(IdleSessionCuller.class), jsonStreamWriter),
+                new ClusterApiController(mock(ClusterService.class), mock(ClusterFederationService.class),
+                        jsonStreamWriter, mock(SpawnLatencyTracker.class), mock(ImagePullTracker.class),
+                        mock(PlaceholderPlanner.class), mock(CapacitySimulator.class)))
+                .build();
+    }
+
+    @Test
+    void ndjsonFormatWinsOverStreamFlag() throws Exception {
+        expect("/api/sessions?stream=true&format=ndjson", MediaType.APPLICATION_NDJSON_VALUE);
+        expect("/api/cluster/storage?stream=true&format=ndjson", MediaType.APPLICATION_NDJSON_VALUE);
+    }
+
+    @Test
+    void streamFlagAloneStreamsJson() throws Exception {
+        expect("/api/sessions?stream=true", MediaType.APPLICATION_JSON_VALUE);
+        expect("/api/sessions?stream=true&format=json", MediaType.APPLICATION_JSON_VALUE);
+        expect("/api/cluster/storage?stream=true", MediaType.APPLICATION_JSON_VALUE);
+        expect("/api/sessions?format=ndjson", MediaType.APPLICATION_NDJSON_VALUE);
+    }
+
+    private void expect(String url, String contentType) throws Exception {
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", contentType));
+    }
+}
@@ -0,0 +1,123 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.dhkimxx.jhub_k8s_spring.config.ApiRateLimiter;
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.exception.KubernetesUnavailableException;
+
+import io.kubernetes.client.openapi.ApiException;
+
+class KubernetesApiGuardTest {
+
+    private static final String OPERATION = "list nodes";
+
+    @Test
+    void opensAfterConsecutiveServerErrorsAndStopsCalling() {
+        KubernetesApiGuard guard = guard(Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.call(OPERATION, null, () -> fail(calls, 503)))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(guard.openCircuits()).containsEntry(OPERATION, true);
+
+        assertThatThrownBy(() -> guard.call(OPERATION, null, () -> fail(calls, 503)))
+                .isInstanceOf(KubernetesUnavailableException.class);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void servesLastGoodResultWhileFailingOrOpen() {
+        KubernetesApiGuard guard = guard(Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(guard.call(OPERATION, "node-1", () -> "fresh")).isEqualTo("fresh");
+        assertThat(guard.call(OPERATION, "node-1", () -> fail(calls, 500))).isEqualTo("fresh");
+        assertThat(guard.call(OPERATION, "node-1", () -> fail(calls, 0))).isEqualTo("fresh");
+        assertThat(guard.call(OPERATION, "node-1", () -> fail(calls, 500))).isEqualTo("fresh");
+        assertThat(calls).hasValue(2);
+
+        assertThatThrownBy(() -> guard.call(OPERATION, "node-2", () -> "unused"))
+                .isInstanceOf(KubernetesUnavailableException.class);
+    }
+
+    @Test
+    void clientErrorsAndRateLimiterRejectionsDoNotTrip() {
+        KubernetesApiGuard guard = guard(Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> guard.call(OPERATION, null, () -> fail(calls, 404)))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> guard.call(OPERATION, null, () -> {
+                throw new UncheckedIOException(
+                        new ApiRateLimiter.RejectedException(ApiRateLimiter.Lane.NORMAL, Duration.ZERO));
+            })).isInstanceOf(KubernetesUnavailableException.class);
+        }
+
+        assertThat(guard.openCircuits()).containsEntry(OPERATION, false);
+        assertThat(guard.call(OPERATION, null, () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void halfOpenTrialClosesOnSuccessAndReopensOnFailure() throws InterruptedException {
+        KubernetesApiGuard guard = guard(Duration.ofMillis(40));
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.call(OPERATION, null, () -> fail(calls, 500)));
+        }
+        Thread.sleep(60);
+
+        // 시험 호출 한 번이 실패하면 임계값과 관계없이 다시 차단
+        assertThatThrownBy(() -> guard.call(OPERATION, null, () -> fail(calls, 500)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(guard.openCircuits()).containsEntry(OPERATION, true);
+        Thread.sleep(60);
+
+        assertThat(guard.call(OPERATION, null, () -> "recovered")).isEqualTo("recovered");
+        assertThat(guard.openCircuits()).containsEntry(OPERATION, false);
+    }
+
+    @Test
+    void backoffDoublesUpToMaxWithEqualJitter() {
+        JhubK8sProperties.CircuitBreaker settings = new JhubK8sProperties.CircuitBreaker();
+        settings.setInitialBackoff(Duration.ofSeconds(5));
+        settings.setMaxBackoff(Duration.ofMinutes(2));
+
+        Set<Duration> seen = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            assertThat(KubernetesApiGuard.backoff(settings, 1))
+                    .isBetween(Duration.ofMillis(2_500), Duration.ofSeconds(5));
+            assertThat(KubernetesApiGuard.backoff(settings, 3))
+                    .isBetween(Duration.ofSeconds(10), Duration.ofSeconds(20));
+            assertThat(KubernetesApiGuard.backoff(settings, 30))
+                    .isBetween(Duration.ofMinutes(1), Duration.ofMinutes(2));
+            seen.add(KubernetesApiGuard.backoff(settings, 1));
+        }
+        assertThat(seen).hasSizeGreaterThan(1);
+    }
+
+    private static KubernetesApiGuard guard(Duration initialBackoff) {
+        JhubK8sProperties properties = new JhubK8sProperties();
+        properties.getCircuitBreaker().setFailureThreshold(2);
+        properties.getCircuitBreaker().setInitialBackoff(initialBackoff);
+        properties.getCircuitBreaker().setMaxBackoff(initialBackoff);
+        return new KubernetesApiGuard(properties);
+    }
+
+    private static String fail(AtomicInteger calls, int code) {
+        calls.incrementAndGet();
+        throw new IllegalStateException(new ApiException(code, "status " + code));
+    }
+}
@@ -0,0 +1,102 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.dhkimxx.jhub_k8s_spring.support.Measurements;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1PodList;
+
+/**
+ * 목록 한 번을 디코딩할 때 현재 스레드가 할당하는 바이트 수. (user-037)
+ * 스트리밍 디코더(PodSnapshotDecoder, PodMetricsDecoder)와 이전 경로(V1PodList 모델, 범용 맵 → JsonNode)를 비교합니다.
+ */
+@Tag("benchmark")
+class ListDecodeAllocationBenchmarkTest {
+
+    private static final int PODS = 5_000;
+    private static final int WARMUP = 10;
+
+    @Test
+    void comparesPodListDecodeAllocation() {
+        byte[] json = SyntheticPods.json(PODS);
+        String jsonText = new String(json, StandardCharsets.UTF_8);
+        JSON gson = new JSON();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        long model = Measurements.allocatedBytes(WARMUP, () -> {
+            V1PodList list = gson.deserialize(jsonText, V1PodList.class);
+            return list.getItems().stream()
+                    .map(pod -> PodSnapshotDecoder.fromPod(pod, SyntheticPods.USERNAME_LABEL))
+                    .toList();
+        });
+        long streaming = Measurements.allocatedBytes(WARMUP, () -> decode(() -> PodSnapshotDecoder
+                .decodeList(objectMapper.getFactory(), new ByteArrayInputStream(json), SyntheticPods.USERNAME_LABEL)
+                .items()));
+
+        Measurements.report("pod list decode allocation",
+                "%,d pods (%,d bytes), gson V1PodList + fromPod %,d bytes, PodSnapshotDecoder %,d bytes (%.0f%%)",
+                PODS, json.length, model, streaming, 100d * streaming / model);
+        assertThat(streaming).isLessThan(model);
+    }
+
+    @Test
+    void comparesMetricsListDecodeAllocation() {
+        byte[] json = metricsList(PODS);
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        long tree = Measurements.allocatedBytes(WARMUP, () -> decode(() -> {
+            Object generic = objectMapper.readValue(json, Object.class);
+            JsonNode node = objectMapper.valueToTree(generic);
+            return node.path("items").size();
+        }));
+        long streaming = Measurements.allocatedBytes(WARMUP,
+                () -> decode(() -> PodMetricsDecoder.decodeList(objectMapper.getFactory(), new ByteArrayInputStream(json))));
+
+        Measurements.report("metrics list decode allocation",
+                "%,d pods (%,d bytes), generic map + valueToTree %,d bytes, PodMetricsDecoder %,d bytes (%.0f%%)",
+                PODS, json.length, tree, streaming, 100d * streaming / tree);
+        assertThat(streaming).isLessThan(tree);
+    }
+
+    private static byte[] metricsList(int count) {
+        StringBuilder json = new StringBuilder("{\"kind\":\"PodMetricsList\",\"apiVersion\":\"metrics.k8s.io/v1beta1\","
+                + "\"metadata\":{},\"items\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"metadata\":{\"name\":\"jupyter-user").append(i)
+                    .append("\",\"namespace\":\"hub-").append(i % 3)
+                    .append("\",\"creationTimestamp\":\"2026-10-19T09:10:00Z\",\"labels\":{\"app\":\"jupyterhub\","
+                            + "\"component\":\"singleuser-server\",\"hub.jupyter.org/username\":\"user")
+                    .append(i).append("\"}},\"timestamp\":\"2026-10-19T09:09:45Z\",\"window\":\"15s\","
+                            + "\"containers\":[{\"name\":\"notebook\",\"usage\":{\"cpu\":\"")
+                    .append(1_000_000 + i * 37).append("n\",\"memory\":\"").append(200_000 + i).append("Ki\"}}]}");
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static <T> T decode(Decode<T> decode) {
+        try {
+            return decode.run();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Decode<T> {
+        T run() throws IOException;
+    }
+}
@@ -0,0 +1,73 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.dhkimxx.jhub_k8s_spring.support.Measurements;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.proto.V1;
+
+/**
+ * 5천 개 파드 목록의 Protobuf/JSON 응답 크기와 디코딩 시간. (user-035)
+ * Protobuf는 ProtoClient와 같이 파싱한 뒤 ProtoPodConverter로 V1PodList를 만들고,
+ * JSON은 client-java의 Gson 디코딩과 PodSnapshotDecoder 스트리밍 디코딩을 함께 측정합니다.
+ */
+@Tag("benchmark")
+class PodListWireFormatBenchmarkTest {
+
+    private static final int PODS = 5_000;
+
+    @Test
+    void comparesProtobufAndJsonPodLists() throws IOException {
+        byte[] proto = SyntheticPods.protoList(PODS).toByteArray();
+        byte[] json = SyntheticPods.json(PODS);
+        String jsonText = new String(json, StandardCharsets.UTF_8);
+        JSON gson = new JSON();
+        JsonFactory jsonFactory = new JsonFactory();
+
+        assertThat(parseProto(proto).getItems()).hasSize(PODS);
+        assertThat(gson.<V1PodList>deserialize(jsonText, V1PodList.class).getItems()).hasSize(PODS);
+        assertThat(decodeSnapshots(jsonFactory, json).items()).hasSize(PODS);
+
+        Measurements.report("pod list bytes", "%,d pods, protobuf %,d bytes, json %,d bytes (%.0f%%)",
+                PODS, proto.length, json.length, 100d * proto.length / json.length);
+        Measurements.report("pod list decode",
+                "protobuf parse %.2f ms, protobuf+convert %.2f ms, json gson %.2f ms, json snapshot %.2f ms",
+                Measurements.medianMillis(10, 20, () -> parseProtoMessage(proto)),
+                Measurements.medianMillis(10, 20, () -> parseProto(proto)),
+                Measurements.medianMillis(10, 20, () -> gson.<V1PodList>deserialize(jsonText, V1PodList.class)),
+                Measurements.medianMillis(10, 20, () -> decodeSnapshots(jsonFactory, json)));
+    }
+
+    private static V1PodList parseProto(byte[] body) {
+        return ProtoPodConverter.toPodList(parseProtoMessage(body));
+    }
+
+    private static V1.PodList parseProtoMessage(byte[] body) {
+        try {
+            return V1.PodList.parseFrom(body);
+        } catch (InvalidProtocolBufferException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static ResourceWatcher.Page<PodSnapshot> decodeSnapshots(JsonFactory jsonFactory, byte[] body) {
+        try {
+            return PodSnapshotDecoder.decodeList(jsonFactory, new ByteArrayInputStream(body),
+                    SyntheticPods.USERNAME_LABEL);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.dhkimxx.jhub_k8s_spring.dto.session.PodMetricsResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+
+class PodMetricsDecoderTest {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    @Test
+    void sumsContainerUsageOfOnePod() throws IOException {
+        Optional<PodMetricsResponse> metrics = PodMetricsDecoder.decodeOne(JSON, body("""
+                {"kind": "PodMetrics",
+                 "metadata": {"name": "jupyter-alice", "namespace": "hub", "labels": {"a": "b"}},
+                 "timestamp": "2026-10-19T09:00:00Z",
+                 "window": "30s",
+                 "containers": [
+                   {"name": "notebook", "usage": {"cpu": "250m", "memory": "512Mi"}},
+                   {"name": "sidecar", "usage": {"cpu": "1500000n", "memory": "16Mi", "nvidia.com/gpu": "1"}}
+                 ]}
+                """), "jupyter-alice");
+
+        assertThat(metrics).hasValueSatisfying(value -> {
+            assertThat(value.podName()).isEqualTo("jupyter-alice");
+            assertThat(value.collectedAt()).isEqualTo(OffsetDateTime.parse("2026-10-19T09:00:00Z"));
+            assertThat(value.cpuMilliCores()).isEqualTo(251.5d);
+            assertThat(value.memoryBytes()).isEqualTo(528d * 1024 * 1024);
+        });
+    }
+
+    @Test
+    void returnsEmptyWithoutContainers() throws IOException {
+        assertThat(PodMetricsDecoder.decodeOne(JSON, body("{\"metadata\": {\"name\": \"p\"}}"), "p")).isEmpty();
+        assertThat(PodMetricsDecoder.decodeOne(JSON, body("{\"containers\": null}"), "p")).isEmpty();
+        assertThat(PodMetricsDecoder.decodeOne(JSON, body("[]"), "p")).isEmpty();
+    }
+
+    @Test
+    void mapsListItemsByPodName() throws IOException {
+        Map<String, PodMetricsResponse> metrics = PodMetricsDecoder.decodeList(JSON, body("""
+                {"kind": "PodMetricsList", "metadata": {"resourceVersion": ""},
+                 "items": [
+                   {"metadata": {"name": "jupyter-alice"}, "timestamp": "2026-10-19T09:00:00Z",
+                    "containers": [{"usage": {"cpu": "1", "memory": "1Gi"}}]},
+                   {"metadata": {"name": "jupyter-bob"}, "containers": []},
+                   {"metadata": {"name": "no-containers"}},
+                   {"containers": [{"usage": {"cpu": "1"}}]}
+                 ]}
+                """));
+
+        assertThat(metrics).containsOnlyKeys("jupyter-alice", "jupyter-bob");
+        assertThat(metrics.get("jupyter-alice").cpuMilliCores()).isEqualTo(1000d);
+        assertThat(metrics.get("jupyter-alice").memoryBytes()).isEqualTo(1024d * 1024 * 1024);
+        assertThat(metrics.get("jupyter-bob").cpuMilliCores()).isZero();
+        assertThat(metrics.get("jupyter-bob").collectedAt()).isNotNull();
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,203 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimVolumeSource;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1Volume;
+
+class PodSnapshotDecoderTest {
+
+    private static final String USERNAME_LABEL = "hub.jupyter.org/username";
+    private static final OffsetDateTime CREATED = OffsetDateTime.parse("2026-10-19T09:00:00Z");
+    private static final OffsetDateTime SCHEDULED = OffsetDateTime.parse("2026-10-19T09:00:05Z");
+    private static final OffsetDateTime READY = OffsetDateTime.parse("2026-10-19T09:01:00Z");
+
+    private static final String POD_JSON = """
+            {
+              "metadata": {
+                "name": "jupyter-alice",
+                "namespace": "hub",
+                "creationTimestamp": "2026-10-19T09:00:00Z",
+                "labels": {"app": "jupyterhub", "hub.jupyter.org/username": "alice"},
+                "managedFields": [{"manager": "kubelet", "fieldsV1": {"f:status": {}}}]
+              },
+              "spec": {
+                "nodeName": "node-1",
+                "containers": [
+                  {
+                    "name": "notebook",
+                    "image": "quay.io/jupyter/base-notebook:2024",
+                    "env": [{"name": "JUPYTER_ENABLE_LAB", "value": "yes"}],
+                    "resources": {
+                      "requests": {"cpu": "500m", "memory": "1Gi", "ephemeral-storage": "2Gi"},
+                      "limits": {"cpu": "2", "memory": "4Gi"}
+                    }
+                  },
+                  {
+                    "name": "sidecar",
+                    "image": "busybox",
+                    "resources": {"requests": {"cpu": "100m", "memory": "64Mi"}}
+                  }
+                ],
+                "volumes": [
+                  {"name": "home", "persistentVolumeClaim": {"claimName": "claim-alice"}},
+                  {"name": "config", "configMap": {"name": "hub-config"}}
+                ]
+              },
+              "status": {
+                "phase": "Running",
+                "startTime": "2026-10-19T09:00:00Z",
+                "conditions": [
+                  {"type": "PodScheduled", "status": "True", "lastTransitionTime": "2026-10-19T09:00:05Z"},
+                  {"type": "Initialized", "status": "True", "lastTransitionTime": "2026-10-19T09:00:30Z"},
+                  {"type": "ContainersReady", "status": "True", "lastTransitionTime": "2026-10-19T09:01:00Z"}
+                ],
+                "containerStatuses": [
+                  {"name": "notebook", "ready": true, "restartCount": 2, "state": {"running": {}}},
+                  {"name": "sidecar", "ready": true, "restartCount": 1}
+                ]
+              }
+            }
+            """;
+
+    @Test
+    void decodesListMetadataAndSkipsUnreadFields() throws IOException {
+        ResourceWatcher.Page<PodSnapshot> page = decode("""
+                {"kind": "PodList", "apiVersion": "v1",
+                 "metadata": {"resourceVersion": "42", "continue": "next", "remainingItemCount": 10},
+                 "items": [%s, {"metadata": {"name": "jupyter-bob", "namespace": "hub"}}]}
+                """.formatted(POD_JSON));
+
+        assertThat(page.continueToken()).isEqualTo("next");
+        assertThat(page.resourceVersion()).isEqualTo("42");
+        assertThat(page.items()).extracting(PodSnapshot::name).containsExactly("jupyter-alice", "jupyter-bob");
+
+        PodSnapshot bare = page.items().get(1);
+        assertThat(bare.username()).isNull();
+        assertThat(bare.ready()).isFalse();
+        assertThat(bare.cpuRequestMilliCores()).isZero();
+        assertThat(bare.images()).isEmpty();
+    }
+
+    @Test
+    void treatsEmptyContinueTokenAsLastPage() throws IOException {
+        ResourceWatcher.Page<PodSnapshot> page = decode("""
+                {"metadata": {"resourceVersion": "43", "continue": ""}, "items": []}
+                """);
+
+        assertThat(page.continueToken()).isNull();
+        assertThat(page.items()).isEmpty();
+    }
+
+    @Test
+    void sumsContainerResourcesAndReadsConditions() throws IOException {
+        PodSnapshot pod = decode("{\"items\": [" + POD_JSON + "]}").items().get(0);
+
+        assertThat(pod.namespace()).isEqualTo("hub");
+        assertThat(pod.username()).isEqualTo("alice");
+        assertThat(pod.phase()).isEqualTo("Running");
+        assertThat(pod.ready()).isTrue();
+        assertThat(pod.restartCount()).isEqualTo(3);
+        assertThat(pod.nodeName()).isEqualTo("node-1");
+        assertThat(pod.creationTimestamp()).isEqualTo(CREATED);
+        assertThat(pod.scheduledAt()).isEqualTo(SCHEDULED);
+        assertThat(pod.containersReadyAt()).isEqualTo(READY);
+        assertThat(pod.cpuRequestMilliCores()).isEqualTo(600d);
+        assertThat(pod.memoryRequestBytes()).isEqualTo(1024d * 1024 * 1024 + 64d * 1024 * 1024);
+        assertThat(pod.ephemeralStorageRequestBytes()).isEqualTo(2d * 1024 * 1024 * 1024);
+        assertThat(pod.cpuLimitMilliCores()).isEqualTo(2000d);
+        assertThat(pod.memoryLimitBytes()).isEqualTo(4d * 1024 * 1024 * 1024);
+        assertThat(pod.images()).containsExactly("quay.io/jupyter/base-notebook:2024", "busybox");
+        assertThat(pod.claimNames()).containsExactly("claim-alice");
+    }
+
+    @Test
+    void streamingDecodeMatchesModelConversion() throws IOException {
+        PodSnapshot decoded = decode("{\"items\": [" + POD_JSON + "]}").items().get(0);
+
+        assertThat(PodSnapshotDecoder.fromPod(model(), USERNAME_LABEL)).isEqualTo(decoded);
+    }
+
+    @Test
+    void ignoresConditionsThatAreNotTrue() throws IOException {
+        PodSnapshot pod = decode("""
+                {"items": [{"status": {"conditions": [
+                  {"type": "PodScheduled", "status": "False", "lastTransitionTime": "2026-10-19T09:00:05Z"},
+                  {"type": "ContainersReady", "status": "True"}
+                ], "containerStatuses": [{"ready": true}, {"ready": false}]}}]}
+                """).items().get(0);
+
+        assertThat(pod.scheduledAt()).isNull();
+        assertThat(pod.containersReadyAt()).isNull();
+        assertThat(pod.ready()).isFalse();
+    }
+
+    private static ResourceWatcher.Page<PodSnapshot> decode(String json) throws IOException {
+        return PodSnapshotDecoder.decodeList(new JsonFactory(),
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), USERNAME_LABEL);
+    }
+
+    /** POD_JSON과 같은 내용의 V1Pod */
+    private static V1Pod model() {
+        return new V1Pod()
+                .metadata(new V1ObjectMeta()
+                        .name("jupyter-alice")
+                        .namespace("hub")
+                        .creationTimestamp(CREATED)
+                        .labels(Map.of("app", "jupyterhub", USERNAME_LABEL, "alice")))
+                .spec(new V1PodSpec()
+                        .nodeName("node-1")
+                        .containers(List.of(
+                                new V1Container()
+                                        .name("notebook")
+                                        .image("quay.io/jupyter/base-notebook:2024")
+                                        .resources(new V1ResourceRequirements()
+                                                .requests(Map.of(
+                                                        "cpu", Quantity.fromString("500m"),
+                                                        "memory", Quantity.fromString("1Gi"),
+                                                        "ephemeral-storage", Quantity.fromString("2Gi")))
+                                                .limits(Map.of(
+                                                        "cpu", Quantity.fromString("2"),
+                                                        "memory", Quantity.fromString("4Gi")))),
+                                new V1Container()
+                                        .name("sidecar")
+                                        .image("busybox")
+                                        .resources(new V1ResourceRequirements()
+                                                .requests(Map.of(
+                                                        "cpu", Quantity.fromString("100m"),
+                                                        "memory", Quantity.fromString("64Mi"))))))
+                        .volumes(List.of(
+                                new V1Volume().name("home").persistentVolumeClaim(
+                                        new V1PersistentVolumeClaimVolumeSource().claimName("claim-alice")),
+                                new V1Volume().name("config"))))
+                .status(new V1PodStatus()
+                        .phase("Running")
+                        .startTime(CREATED)
+                        .conditions(List.of(
+                                new V1PodCondition().type("PodScheduled").status("True").lastTransitionTime(SCHEDULED),
+                                new V1PodCondition().type("ContainersReady").status("True").lastTransitionTime(READY)))
+                        .containerStatuses(List.of(
+                                new V1ContainerStatus().name("notebook").ready(true).restartCount(2),
+                                new V1ContainerStatus().name("sidecar").ready(true).restartCount(1))));
+    }
+}
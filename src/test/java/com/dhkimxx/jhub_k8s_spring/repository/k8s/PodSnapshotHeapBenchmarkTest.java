@@ -0,0 +1,61 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.dhkimxx.jhub_k8s_spring.support.Measurements;
+import com.fasterxml.jackson.core.JsonFactory;
+
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+
+/**
+ * 파드 1만 개를 V1Pod 모델과 PodSnapshot으로 보관할 때의 힙 사용량. (user-038)
+ * 두 형태 모두 같은 JSON 응답을 디코딩하여 만들며, 응답 본문 자체는 측정에서 제외됩니다.
+ */
+@Tag("benchmark")
+class PodSnapshotHeapBenchmarkTest {
+
+    private static final int PODS = 10_000;
+
+    @Test
+    void comparesRetainedHeapOfPodsAndSnapshots() {
+        byte[] json = SyntheticPods.json(PODS);
+        String jsonText = new String(json, StandardCharsets.UTF_8);
+        JsonFactory jsonFactory = new JsonFactory();
+
+        long pods = Measurements.retainedBytes(() -> {
+            List<V1Pod> items = new JSON().<V1PodList>deserialize(jsonText, V1PodList.class).getItems();
+            assertThat(items).hasSize(PODS);
+            return items;
+        });
+        long snapshots = Measurements.retainedBytes(() -> {
+            List<PodSnapshot> items = decode(jsonFactory, json);
+            assertThat(items).hasSize(PODS);
+            return items;
+        });
+
+        Measurements.report("pod cache heap", "%,d pods, V1Pod %,d bytes (%,d per pod), "
+                + "PodSnapshot %,d bytes (%,d per pod, %.0f%%)",
+                PODS, pods, pods / PODS, snapshots, snapshots / PODS, 100d * snapshots / pods);
+        assertThat(snapshots).isLessThan(pods);
+    }
+
+    private static List<PodSnapshot> decode(JsonFactory jsonFactory, byte[] body) {
+        try {
+            return PodSnapshotDecoder.decodeList(jsonFactory, new ByteArrayInputStream(body),
+                    SyntheticPods.USERNAME_LABEL).items();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.Resource;
+import io.kubernetes.client.proto.V1;
+
+class ProtoPodConverterTest {
+
+    private static final long STARTED = OffsetDateTime.parse("2026-10-19T09:00:00Z").toEpochSecond();
+
+    @Test
+    void convertsListMetadataAndContinueToken() {
+        V1PodList list = ProtoPodConverter.toPodList(V1.PodList.newBuilder()
+                .setMetadata(Meta.ListMeta.newBuilder().setResourceVersion("42").setContinue("next"))
+                .addItems(pod())
+                .build());
+
+        assertThat(list.getMetadata().getResourceVersion()).isEqualTo("42");
+        assertThat(list.getMetadata().getContinue()).isEqualTo("next");
+        assertThat(list.getItems()).hasSize(1);
+
+        V1PodList last = ProtoPodConverter.toPodList(V1.PodList.newBuilder()
+                .setMetadata(Meta.ListMeta.newBuilder().setResourceVersion("43").setContinue(""))
+                .build());
+        assertThat(last.getMetadata().getContinue()).isNull();
+        assertThat(last.getItems()).isEmpty();
+    }
+
+    @Test
+    void convertsFieldsReadByListConsumers() {
+        V1Pod pod = ProtoPodConverter.toPod(pod());
+
+        assertThat(pod.getMetadata().getName()).isEqualTo("jupyter-alice");
+        assertThat(pod.getMetadata().getNamespace()).isEqualTo("hub");
+        assertThat(pod.getMetadata().getLabels()).containsEntry("hub.jupyter.org/username", "alice");
+        assertThat(pod.getMetadata().getCreationTimestamp().toEpochSecond()).isEqualTo(STARTED);
+        assertThat(pod.getMetadata().getDeletionTimestamp()).isNull();
+
+        assertThat(pod.getSpec().getNodeName()).isEqualTo("node-1");
+        assertThat(pod.getSpec().getContainers().get(0).getResources().getRequests())
+                .containsEntry("cpu", Quantity.fromString("500m"))
+                .containsEntry("memory", Quantity.fromString("1Gi"));
+        assertThat(pod.getSpec().getVolumes().get(0).getPersistentVolumeClaim().getClaimName())
+                .isEqualTo("claim-alice");
+
+        assertThat(pod.getStatus().getPhase()).isEqualTo("Running");
+        assertThat(pod.getStatus().getConditions().get(0).getType()).isEqualTo("Ready");
+        assertThat(pod.getStatus().getContainerStatuses().get(0).getRestartCount()).isEqualTo(2);
+        assertThat(pod.getStatus().getContainerStatuses().get(0).getState().getRunning().getStartedAt()
+                .toEpochSecond()).isEqualTo(STARTED);
+    }
+
+    @Test
+    void leavesAbsentSectionsNull() {
+        V1Pod pod = ProtoPodConverter.toPod(V1.Pod.newBuilder()
+                .setMetadata(Meta.ObjectMeta.newBuilder().setName("bare"))
+                .build());
+
+        assertThat(pod.getMetadata().getName()).isEqualTo("bare");
+        assertThat(pod.getMetadata().getNamespace()).isNull();
+        assertThat(pod.getSpec()).isNull();
+        assertThat(pod.getStatus()).isNull();
+    }
+
+    private static V1.Pod pod() {
+        Meta.Time started = Meta.Time.newBuilder().setSeconds(STARTED).build();
+        return V1.Pod.newBuilder()
+                .setMetadata(Meta.ObjectMeta.newBuilder()
+                        .setName("jupyter-alice")
+                        .setNamespace("hub")
+                        .setCreationTimestamp(started)
+                        .putLabels("hub.jupyter.org/username", "alice"))
+                .setSpec(V1.PodSpec.newBuilder()
+                        .setNodeName("node-1")
+                        .addContainers(V1.Container.newBuilder()
+                                .setName("notebook")
+                                .setResources(V1.ResourceRequirements.newBuilder()
+                                        .putRequests("cpu", Resource.Quantity.newBuilder().setString("500m").build())
+                                        .putRequests("memory", Resource.Quantity.newBuilder().setString("1Gi").build())))
+                        .addVolumes(V1.Volume.newBuilder()
+                                .setName("home")
+                                .setVolumeSource(V1.VolumeSource.newBuilder()
+                                        .setPersistentVolumeClaim(V1.PersistentVolumeClaimVolumeSource.newBuilder()
+                                                .setClaimName("claim-alice")))))
+                .setStatus(V1.PodStatus.newBuilder()
+                        .setPhase("Running")
+                        .addConditions(V1.PodCondition.newBuilder().setType("Ready").setStatus("True"))
+                        .addContainerStatuses(V1.ContainerStatus.newBuilder()
+                                .setName("notebook")
+                                .setReady(true)
+                                .setRestartCount(2)
+                                .setState(V1.ContainerState.newBuilder()
+                                        .setRunning(V1.ContainerStateRunning.newBuilder().setStartedAt(started)))))
+                .build();
+    }
+}
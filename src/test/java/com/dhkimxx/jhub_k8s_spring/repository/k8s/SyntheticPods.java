@@ -0,0 +1,224 @@
+package com.dhkimxx.jhub_k8s_spring.repository.k8s;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateRunning;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1OwnerReference;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimVolumeSource;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.Resource;
+import io.kubernetes.client.proto.V1;
+
+/**
+ * benchmark 테스트용 JupyterHub 사용자 파드 목록.
+ * 같은 내용의 파드를 client-java 모델(JSON 응답의 원본)과 Protobuf 메시지로 각각 만듭니다.
+ * managedFields, 프로브 등은 넣지 않으므로 실제 API 서버의 JSON 응답보다 작습니다.
+ */
+final class SyntheticPods {
+
+    static final String USERNAME_LABEL = "hub.jupyter.org/username";
+
+    private static final OffsetDateTime CREATED = OffsetDateTime.parse("2026-10-19T09:00:00Z");
+    private static final String IMAGE = "quay.io/jupyter/scipy-notebook:2026-10-13";
+    private static final List<String> CONDITIONS = List.of("PodScheduled", "Initialized", "ContainersReady",
+            "Ready");
+
+    private SyntheticPods() {
+    }
+
+    static V1PodList modelList(int count) {
+        List<V1Pod> pods = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pods.add(model(i));
+        }
+        return new V1PodList().apiVersion("v1").kind("PodList")
+                .metadata(new V1ListMeta().resourceVersion("1000"))
+                .items(pods);
+    }
+
+    static byte[] json(int count) {
+        return new JSON().serialize(modelList(count)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    static V1.PodList protoList(int count) {
+        V1.PodList.Builder list = V1.PodList.newBuilder()
+                .setMetadata(Meta.ListMeta.newBuilder().setResourceVersion("1000"));
+        for (int i = 0; i < count; i++) {
+            list.addItems(proto(i));
+        }
+        return list.build();
+    }
+
+    static V1Pod model(int i) {
+        OffsetDateTime created = CREATED.plusSeconds(i);
+        V1Container notebook = new V1Container()
+                .name("notebook")
+                .image(IMAGE)
+                .env(List.of(
+                        new V1EnvVar().name("JUPYTERHUB_USER").value(username(i)),
+                        new V1EnvVar().name("JUPYTERHUB_API_URL").value("http://hub:8081/hub/api"),
+                        new V1EnvVar().name("MEM_GUARANTEE").value(String.valueOf(memoryGi(i) << 30))))
+                .resources(new V1ResourceRequirements()
+                        .requests(Map.of("cpu", Quantity.fromString(cpu(i)),
+                                "memory", Quantity.fromString(memoryGi(i) + "Gi")))
+                        .limits(Map.of("cpu", Quantity.fromString("2"),
+                                "memory", Quantity.fromString(memoryGi(i) * 2 + "Gi"))));
+        List<V1PodCondition> conditions = new ArrayList<>();
+        for (int c = 0; c < CONDITIONS.size(); c++) {
+            conditions.add(new V1PodCondition().type(CONDITIONS.get(c)).status("True")
+                    .lastTransitionTime(created.plusSeconds(5L * (c + 1))));
+        }
+        return new V1Pod().apiVersion("v1").kind("Pod")
+                .metadata(new V1ObjectMeta()
+                        .name(podName(i))
+                        .namespace(namespace(i))
+                        .uid(uid(i))
+                        .resourceVersion(String.valueOf(1000 + i))
+                        .creationTimestamp(created)
+                        .labels(Map.of("app", "jupyterhub", "component", "singleuser-server",
+                                "heritage", "jupyterhub", USERNAME_LABEL, username(i)))
+                        .annotations(Map.of("hub.jupyter.org/username", username(i)))
+                        .ownerReferences(List.of()))
+                .spec(new V1PodSpec()
+                        .nodeName(nodeName(i))
+                        .serviceAccountName("default")
+                        .restartPolicy("OnFailure")
+                        .containers(List.of(notebook))
+                        .volumes(List.of(new V1Volume().name("home")
+                                .persistentVolumeClaim(new V1PersistentVolumeClaimVolumeSource()
+                                        .claimName("claim-" + username(i))))))
+                .status(new V1PodStatus()
+                        .phase("Running")
+                        .hostIP("10.0." + (i % 50) + ".1")
+                        .podIP("10.1." + (i / 250) + "." + (i % 250))
+                        .qosClass("Burstable")
+                        .startTime(created)
+                        .conditions(conditions)
+                        .containerStatuses(List.of(new V1ContainerStatus()
+                                .name("notebook")
+                                .ready(true)
+                                .started(true)
+                                .restartCount(i % 3)
+                                .image(IMAGE)
+                                .imageID("docker-pullable://" + IMAGE)
+                                .containerID("containerd://" + uid(i))
+                                .state(new V1ContainerState()
+                                        .running(new V1ContainerStateRunning().startedAt(created.plusSeconds(20)))))));
+    }
+
+    static V1.Pod proto(int i) {
+        long created = CREATED.plusSeconds(i).toEpochSecond();
+        V1.Container notebook = V1.Container.newBuilder()
+                .setName("notebook")
+                .setImage(IMAGE)
+                .addEnv(V1.EnvVar.newBuilder().setName("JUPYTERHUB_USER").setValue(username(i)))
+                .addEnv(V1.EnvVar.newBuilder().setName("JUPYTERHUB_API_URL").setValue("http://hub:8081/hub/api"))
+                .addEnv(V1.EnvVar.newBuilder().setName("MEM_GUARANTEE")
+                        .setValue(String.valueOf(memoryGi(i) << 30)))
+                .setResources(V1.ResourceRequirements.newBuilder()
+                        .putRequests("cpu", quantity(cpu(i)))
+                        .putRequests("memory", quantity(memoryGi(i) + "Gi"))
+                        .putLimits("cpu", quantity("2"))
+                        .putLimits("memory", quantity(memoryGi(i) * 2 + "Gi")))
+                .build();
+        V1.PodStatus.Builder status = V1.PodStatus.newBuilder()
+                .setPhase("Running")
+                .setHostIP("10.0." + (i % 50) + ".1")
+                .setPodIP("10.1." + (i / 250) + "." + (i % 250))
+                .setQosClass("Burstable")
+                .setStartTime(time(created));
+        for (int c = 0; c < CONDITIONS.size(); c++) {
+            status.addConditions(V1.PodCondition.newBuilder().setType(CONDITIONS.get(c)).setStatus("True")
+                    .setLastTransitionTime(time(created + 5L * (c + 1))));
+        }
+        status.addContainerStatuses(V1.ContainerStatus.newBuilder()
+                .setName("notebook")
+                .setReady(true)
+                .setStarted(true)
+                .setRestartCount(i % 3)
+                .setImage(IMAGE)
+                .setImageID("docker-pullable://" + IMAGE)
+                .setContainerID("containerd://" + uid(i))
+                .setState(V1.ContainerState.newBuilder()
+                        .setRunning(V1.ContainerStateRunning.newBuilder().setStartedAt(time(created + 20)))));
+        return V1.Pod.newBuilder()
+                .setMetadata(Meta.ObjectMeta.newBuilder()
+                        .setName(podName(i))
+                        .setNamespace(namespace(i))
+                        .setUid(uid(i))
+                        .setResourceVersion(String.valueOf(1000 + i))
+                        .setCreationTimestamp(time(created))
+                        .putLabels("app", "jupyterhub")
+                        .putLabels("component", "singleuser-server")
+                        .putLabels("heritage", "jupyterhub")
+                        .putLabels(USERNAME_LABEL, username(i))
+                        .putAnnotations("hub.jupyter.org/username", username(i)))
+                .setSpec(V1.PodSpec.newBuilder()
+                        .setNodeName(nodeName(i))
+                        .setServiceAccountName("default")
+                        .setRestartPolicy("OnFailure")
+                        .addContainers(notebook)
+                        .addVolumes(V1.Volume.newBuilder()
+                                .setName("home")
+                                .setVolumeSource(V1.VolumeSource.newBuilder()
+                                        .setPersistentVolumeClaim(V1.PersistentVolumeClaimVolumeSource.newBuilder()
+                                                .setClaimName("claim-" + username(i))))))
+                .setStatus(status)
+                .build();
+    }
+
+    private static String username(int i) {
+        return "user" + i;
+    }
+
+    private static String podName(int i) {
+        return "jupyter-" + username(i);
+    }
+
+    private static String namespace(int i) {
+        return "hub-" + (i % 3);
+    }
+
+    private static String nodeName(int i) {
+        return "node-" + (i % 50);
+    }
+
+    private static String uid(int i) {
+        return String.format("00000000-0000-4000-8000-%012d", i);
+    }
+
+    private static String cpu(int i) {
+        return (500 + (i % 4) * 500) + "m";
+    }
+
+    private static long memoryGi(int i) {
+        return 1 + i % 8;
+    }
+
+    private static Resource.Quantity quantity(String value) {
+        return Resource.Quantity.newBuilder().setString(value).build();
+    }
+
+    private static Meta.Time time(long epochSecond) {
+        return Meta.Time.newBuilder().setSeconds(epochSecond).build();
+    }
+}
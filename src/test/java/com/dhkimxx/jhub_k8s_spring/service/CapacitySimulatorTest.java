@@ -0,0 +1,100 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.CapacitySimulationResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeSummaryResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.NodePlacement;
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.PackingStrategy;
+import com.dhkimxx.jhub_k8s_spring.service.CapacitySimulator.Profile;
+
+class CapacitySimulatorTest {
+
+    private static final double GI = 1024d * 1024 * 1024;
+
+    /** node-a: CPU 3000m 여유, node-b: CPU 500m 여유, 메모리는 각 8Gi 여유 */
+    private static final List<ClusterNodeSummaryResponse> NODES = List.of(
+            node("node-a", 4000, 1000, 8 * GI),
+            node("node-b", 4000, 3500, 8 * GI));
+
+    /** 작은 파드를 먼저 배치한 뒤 남은 노드 하나를 모두 쓰는 큰 파드 */
+    private static final List<Profile> SMALL_THEN_LARGE = List.of(
+            new Profile("small", 500, GI, 1),
+            new Profile("large", 3000, GI, 1));
+
+    @Test
+    void firstFitFillsNodesInOrderAndStrandsTheLargeNode() {
+        CapacitySimulationResponse response = CapacitySimulator.pack(NODES, SMALL_THEN_LARGE,
+                PackingStrategy.FIRST_FIT, System.nanoTime());
+
+        assertThat(response.requestedPods()).isEqualTo(2);
+        assertThat(response.placedPods()).isEqualTo(1);
+        assertThat(response.unplacedPods()).isEqualTo(1);
+        assertThat(response.nodes()).extracting(NodePlacement::placedPods).containsExactly(1, 0);
+
+        // 기준 파드(500m/1Gi) 기준: node-a는 2500m/7Gi 중 5개, node-b는 500m/8Gi 중 1개만 더 들어감
+        assertThat(response.strandedCpuMilliCores()).isZero();
+        assertThat(response.strandedMemoryBytes()).isEqualTo(9 * GI);
+        assertThat(response.nodes()).extracting(NodePlacement::strandedMemoryBytes).containsExactly(2 * GI, 7 * GI);
+    }
+
+    @Test
+    void bestFitPacksTheTightestNodeFirst() {
+        CapacitySimulationResponse response = CapacitySimulator.pack(NODES, SMALL_THEN_LARGE,
+                PackingStrategy.BEST_FIT, System.nanoTime());
+
+        assertThat(response.placedPods()).isEqualTo(2);
+        assertThat(response.unplacedPods()).isZero();
+        assertThat(response.nodes()).extracting(NodePlacement::placedPods).containsExactly(1, 1);
+        assertThat(response.nodes()).extracting(NodePlacement::freeCpuMilliCores).containsExactly(0d, 0d);
+
+        // CPU가 모두 찼으므로 남은 메모리(각 7Gi)는 모두 고립됨
+        assertThat(response.strandedCpuMilliCores()).isZero();
+        assertThat(response.strandedMemoryBytes()).isEqualTo(14 * GI);
+    }
+
+    @Test
+    void resourceNoProfileRequestsIsNeverStranded() {
+        CapacitySimulationResponse response = CapacitySimulator.pack(NODES,
+                List.of(new Profile("memory-only", 0, GI, 2)), PackingStrategy.FIRST_FIT, System.nanoTime());
+
+        assertThat(response.placedPods()).isEqualTo(2);
+        assertThat(response.nodes()).extracting(NodePlacement::freeCpuMilliCores).containsExactly(3000d, 500d);
+        assertThat(response.strandedCpuMilliCores()).isZero();
+        assertThat(response.strandedMemoryBytes()).isZero();
+    }
+
+    @Test
+    void packsLargeClustersWithoutIteratingPerPod() {
+        List<ClusterNodeSummaryResponse> nodes = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            nodes.add(node("node-" + i, 64_000, i % 8_000, 256 * GI));
+        }
+        List<Profile> profiles = List.of(
+                new Profile("small", 500, GI, 1_000_000),
+                new Profile("large", 4000, 16 * GI, 1_000_000));
+
+        CapacitySimulationResponse response = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> CapacitySimulator.pack(nodes, profiles, PackingStrategy.BEST_FIT, System.nanoTime()));
+
+        assertThat(response.requestedPods()).isEqualTo(2_000_000);
+        assertThat(response.placedPods()).isPositive().isLessThan(2_000_000);
+        assertThat(response.elapsedMillis()).isLessThan(5_000d);
+    }
+
+    private static ClusterNodeSummaryResponse node(String name, double allocatableCpu, double requestedCpu,
+            double allocatableMemory) {
+        return new ClusterNodeSummaryResponse(name, null, "Ready", null, null,
+                allocatableCpu, allocatableCpu, requestedCpu, 0d,
+                allocatableMemory, allocatableMemory, 0d, 0d,
+                0d, 0d, 0d, 0d,
+                0, null, null, null, true);
+    }
+}
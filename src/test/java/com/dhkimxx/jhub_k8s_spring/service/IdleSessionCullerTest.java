@@ -0,0 +1,148 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.dto.session.IdleSessionResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.session.PodMetricsResponse;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionPage;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionSummaryResponse;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesMetricsRepository;
+
+class IdleSessionCullerTest {
+
+    private static final OffsetDateTime T0 = OffsetDateTime.parse("2026-10-19T09:00:00Z");
+    private static final Duration MAX_GAP = Duration.ofMinutes(15);
+    private static final Duration IDLE_AFTER = Duration.ofMinutes(30);
+    private static final double THRESHOLD = 10d;
+    private static final SessionSummaryResponse SESSION = new SessionSummaryResponse("alice", "jhub",
+            "jupyter-alice", "Running", true, 0, "node-1", T0, 500d, 1024d);
+
+    @Test
+    void isNotIdleWithoutSamples() {
+        IdleSessionCuller.Activity activity = new IdleSessionCuller.Activity();
+
+        activity.observe(SESSION, null, THRESHOLD, MAX_GAP, T0.plusHours(5));
+
+        assertThat(activity.isIdle(T0.plusHours(5), IDLE_AFTER)).isFalse();
+        assertThat(activity.lastActiveAt()).isNull();
+    }
+
+    @Test
+    void becomesIdleAfterLowUsageForIdleAfter() {
+        IdleSessionCuller.Activity activity = new IdleSessionCuller.Activity();
+
+        observe(activity, 0, 50d);
+        observe(activity, 10, 1d);
+        observe(activity, 20, 2d);
+        observe(activity, 30, 1d);
+
+        assertThat(activity.lastActiveAt()).isEqualTo(T0);
+        assertThat(activity.isIdle(T0.plusMinutes(29), IDLE_AFTER)).isFalse();
+        assertThat(activity.isIdle(T0.plusMinutes(30), IDLE_AFTER)).isTrue();
+
+        observe(activity, 40, 20d);
+        assertThat(activity.isIdle(T0.plusMinutes(40), IDLE_AFTER)).isFalse();
+    }
+
+    @Test
+    void restartsIdleTimeAfterSampleGap() {
+        IdleSessionCuller.Activity activity = new IdleSessionCuller.Activity();
+
+        observe(activity, 0, 1d);
+        observe(activity, 60, 1d);
+
+        assertThat(activity.lastActiveAt()).isEqualTo(T0.plusMinutes(60));
+    }
+
+    @Test
+    void culledFlagCanBeClearedForRetry() {
+        IdleSessionCuller.Activity activity = new IdleSessionCuller.Activity();
+        observe(activity, 0, 1d);
+
+        assertThat(activity.markCulled()).isEqualTo(SESSION);
+        assertThat(activity.isCulled()).isTrue();
+        activity.clearCulled();
+        assertThat(activity.isCulled()).isFalse();
+    }
+
+    @Test
+    void restartedPodWithSameNameIsNotCulledWithPreviousActivity() {
+        OffsetDateTime now = OffsetDateTime.now();
+        Scanner scanner = new Scanner(Duration.ofHours(2));
+
+        // 이전 파드: 40분 전 사용량이 있었으나 idleAfter(2시간)에 미치지 않음
+        scanner.scan(session(now.minusHours(3)), now.minusMinutes(40), 50d);
+        assertThat(scanner.culler.idleSessions()).isEmpty();
+
+        // 같은 이름으로 다시 시작한 파드의 첫 표본 (시작 직후라 CPU가 낮음)
+        scanner.settings.setIdleAfter(Duration.ofMinutes(38));
+        scanner.scan(session(now.minusMinutes(36)), now.minusMinutes(35), 1d);
+
+        assertThat(scanner.culler.idleSessions()).isEmpty();
+    }
+
+    @Test
+    void restartedPodWithSameNameCanBeCulledAgain() {
+        OffsetDateTime now = OffsetDateTime.now();
+        Scanner scanner = new Scanner(Duration.ofMinutes(30));
+
+        scanner.scan(session(now.minusHours(3)), now.minusMinutes(60), 1d);
+        assertThat(scanner.culler.idleSessions()).extracting(IdleSessionResponse::culled).containsExactly(true);
+
+        scanner.scan(session(now.minusMinutes(50)), now.minusMinutes(45), 1d);
+        assertThat(scanner.culler.idleSessions()).extracting(IdleSessionResponse::culled).containsExactly(true);
+        assertThat(scanner.culler.idleSessions()).extracting(IdleSessionResponse::idleSince)
+                .containsExactly(now.minusMinutes(45));
+    }
+
+    private static SessionSummaryResponse session(OffsetDateTime startTime) {
+        return new SessionSummaryResponse("alice", "jhub", "jupyter-alice", "Running", true, 0, "node-1",
+                startTime, 500d, 1024d);
+    }
+
+    /**
+     * 세션 인덱스와 메트릭 조회를 대신하여 dry-run으로 scan을 실행합니다.
+     */
+    private static final class Scanner {
+        private final SessionIndex sessionIndex = mock(SessionIndex.class);
+        private final KubernetesMetricsRepository metricsRepository = mock(KubernetesMetricsRepository.class);
+        private final JhubK8sProperties.IdleCulling settings;
+        private final IdleSessionCuller culler;
+
+        private Scanner(Duration idleAfter) {
+            JhubK8sProperties properties = new JhubK8sProperties();
+            settings = properties.getIdleCulling();
+            settings.setDryRun(true);
+            settings.setIdleAfter(idleAfter);
+            settings.setScanInterval(Duration.ofMinutes(5));
+            settings.setCpuThresholdMilliCores(THRESHOLD);
+            when(sessionIndex.isSynced()).thenReturn(true);
+            culler = new IdleSessionCuller(sessionIndex, metricsRepository, null, properties, null);
+        }
+
+        private void scan(SessionSummaryResponse session, OffsetDateTime sampledAt, double cpu) {
+            when(sessionIndex.query(any())).thenReturn(new SessionPage(List.of(session), 1));
+            when(metricsRepository.findAllPodMetricsAsync(anyString())).thenReturn(CompletableFuture.completedFuture(
+                    Map.of(session.podName(), new PodMetricsResponse(session.podName(), sampledAt, cpu, 0d))));
+            culler.scan();
+        }
+    }
+
+    private static void observe(IdleSessionCuller.Activity activity, int minutes, double cpu) {
+        OffsetDateTime at = T0.plusMinutes(minutes);
+        activity.observe(SESSION, new PodMetricsResponse(SESSION.podName(), at, cpu, 0d), THRESHOLD, MAX_GAP, at);
+    }
+}
@@ -0,0 +1,74 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.PodEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ImagePullTrackerTest {
+
+    private static final OffsetDateTime AT = OffsetDateTime.parse("2026-10-19T09:00:00Z");
+
+    @Test
+    void parsesGoDurations() {
+        assertThat(ImagePullTracker.parseGoDuration("850ms")).isEqualTo(Duration.ofMillis(850));
+        assertThat(ImagePullTracker.parseGoDuration("1m2.5s")).isEqualTo(Duration.ofMillis(62_500));
+        assertThat(ImagePullTracker.parseGoDuration("1h0m0s")).isEqualTo(Duration.ofHours(1));
+        assertThat(ImagePullTracker.parseGoDuration("12µs")).isEqualTo(Duration.ofNanos(12_000));
+        assertThat(ImagePullTracker.parseGoDuration("1m x")).isNull();
+        assertThat(ImagePullTracker.parseGoDuration("")).isNull();
+    }
+
+    @Test
+    void normalizesDefaultRegistryAndTag() {
+        assertThat(ImagePullTracker.normalizeImage("docker.io/library/python")).isEqualTo("python:latest");
+        assertThat(ImagePullTracker.normalizeImage("docker.io/jupyter/base-notebook:2024"))
+                .isEqualTo("jupyter/base-notebook:2024");
+        assertThat(ImagePullTracker.normalizeImage(" quay.io/jupyter/scipy-notebook "))
+                .isEqualTo("quay.io/jupyter/scipy-notebook:latest");
+        assertThat(ImagePullTracker.normalizeImage("registry:5000/team/image"))
+                .isEqualTo("registry:5000/team/image:latest");
+        assertThat(ImagePullTracker.normalizeImage("quay.io/img@sha256:abc")).isEqualTo("quay.io/img@sha256:abc");
+    }
+
+    @Test
+    void countsEachEventVersionOnceAndForgetsExpiredEvents() {
+        ImagePullTracker tracker = new ImagePullTracker(null, null, new JhubK8sProperties());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        tracker.bindTo(registry);
+
+        PodEvent pulled = pulled("uid-1", "100", "user-a");
+        tracker.onPodEvent(pulled);
+        tracker.retainEvents("user-a", List.of(pulled));
+        tracker.onPodEvent(pulled);
+        assertThat(pulls(registry)).isEqualTo(1d);
+
+        tracker.onPodEvent(pulled("uid-1", "101", "user-a"));
+        tracker.onPodEvent(pulled("uid-2", "102", "user-b"));
+        assertThat(pulls(registry)).isEqualTo(3d);
+        assertThat(tracker.trackedEvents()).isEqualTo(2);
+
+        tracker.retainEvents("user-a", List.of());
+        assertThat(tracker.trackedEvents()).isEqualTo(1);
+        tracker.forgetEvent(pulled("uid-2", "102", "user-b"));
+        assertThat(tracker.trackedEvents()).isZero();
+    }
+
+    private static PodEvent pulled(String uid, String resourceVersion, String namespace) {
+        return new PodEvent(namespace, "jupyter-a", "Pulled",
+                "Successfully pulled image \"python:3.12\" in 2.5s (2.5s including waiting). Image size: 100 bytes.",
+                "node-1", AT, uid, resourceVersion);
+    }
+
+    private static double pulls(SimpleMeterRegistry registry) {
+        return registry.get("jhub.image.pulls").counter().count();
+    }
+}
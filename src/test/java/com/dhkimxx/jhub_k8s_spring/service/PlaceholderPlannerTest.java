@@ -0,0 +1,78 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.ClusterNodeSummaryResponse;
+
+class PlaceholderPlannerTest {
+
+    private static final double GIB = 1024d * 1024d * 1024d;
+
+    @Test
+    void forecasterStartsAtFirstObservationAndSmoothsAfterwards() {
+        PlaceholderPlanner.Forecaster forecaster = new PlaceholderPlanner.Forecaster(0.5);
+
+        forecaster.update(10, 4);
+        forecaster.update(10, 8);
+
+        assertThat(forecaster.forecast(10)).isCloseTo(6d, within(1e-9));
+    }
+
+    @Test
+    void forecasterUsesMeanOfObservedBucketsForUnseenBucket() {
+        PlaceholderPlanner.Forecaster forecaster = new PlaceholderPlanner.Forecaster(0.3);
+        assertThat(forecaster.forecast(0)).isZero();
+
+        forecaster.update(1, 2);
+        forecaster.update(2, 6);
+
+        assertThat(forecaster.forecast(100)).isCloseTo(4d, within(1e-9));
+    }
+
+    @Test
+    void requiredHeadroomAddsPoissonMargin() {
+        assertThat(PlaceholderPlanner.requiredHeadroom(0, 1.65)).isZero();
+        // 4 + 1.65 * 2 = 7.3
+        assertThat(PlaceholderPlanner.requiredHeadroom(4, 1.65)).isEqualTo(8);
+        assertThat(PlaceholderPlanner.requiredHeadroom(4, 0)).isEqualTo(4);
+    }
+
+    @Test
+    void freeSlotsCountsSessionNodesOnlyAndTakesTighterResource() {
+        List<ClusterNodeSummaryResponse> nodes = List.of(
+                // CPU 기준 4자리, 메모리 기준 2자리 → 2
+                node("a", "Ready", 16000, 8000, 64 * GIB, 32 * GIB, true),
+                // 세션이 없는 노드는 제외
+                node("b", "Ready", 16000, 0, 64 * GIB, 0, true),
+                // 준비되지 않은 노드는 제외
+                node("c", "NotReady", 16000, 0, 64 * GIB, 0, true));
+
+        int slots = PlaceholderPlanner.freeSlots(nodes, Set.of("a", "c"), 2000, 16 * GIB);
+
+        assertThat(slots).isEqualTo(2);
+    }
+
+    @Test
+    void freeSlotsFallsBackToAllReadyNodesAndIgnoresPartialRequests() {
+        List<ClusterNodeSummaryResponse> nodes = List.of(
+                node("a", "Ready", 8000, 0, 32 * GIB, 0, true),
+                node("b", "Ready", 8000, 0, 32 * GIB, 0, false));
+
+        assertThat(PlaceholderPlanner.freeSlots(nodes, Set.of(), 2000, 8 * GIB)).isEqualTo(4);
+        assertThat(PlaceholderPlanner.freeSlots(nodes, Set.of(), 0, 0)).isZero();
+    }
+
+    private static ClusterNodeSummaryResponse node(String name, String status, double allocatableCpu,
+            double requestedCpu, double allocatableMemory, double requestedMemory, boolean clusterWideRequests) {
+        return new ClusterNodeSummaryResponse(name, null, status, null, null,
+                allocatableCpu, allocatableCpu, requestedCpu, 0,
+                allocatableMemory, allocatableMemory, requestedMemory, 0,
+                0, 0, 0, 0, 0, null, null, null, clusterWideRequests);
+    }
+}
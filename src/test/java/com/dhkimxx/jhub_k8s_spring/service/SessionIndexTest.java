@@ -0,0 +1,196 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionPage;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionQuery;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionSortKey;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionSummaryResponse;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesPodRepository;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.PodSnapshot;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.ResourceEventListener;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.ResourceWatcher;
+
+class SessionIndexTest {
+
+    private final Map<String, ResourceEventListener<PodSnapshot>> listeners = new HashMap<>();
+    private ResourceWatcher<?, PodSnapshot> watcher;
+    private SessionIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        KubernetesPodRepository podRepository = mock(KubernetesPodRepository.class);
+        watcher = mock(ResourceWatcher.class);
+        when(watcher.hasSynced()).thenReturn(true);
+        when(podRepository.userNamespaceScopes()).thenReturn(List.of("hub-a", "hub-b"));
+        when(podRepository.newUserPodWatcher(anyString(), any())).thenAnswer(invocation -> {
+            listeners.put(invocation.getArgument(0), invocation.getArgument(1));
+            return watcher;
+        });
+        index = new SessionIndex(podRepository, new SessionSummaryMapper(new JhubK8sProperties()), Thread::new);
+        index.start();
+
+        listeners.get("hub-a").onReplace(List.of(pod("hub-a", "alice", 100), pod("hub-a", "john", 300)));
+        listeners.get("hub-b").onReplace(List.of(pod("hub-b", "jo", 200), pod("hub-b", "dave", 50)));
+    }
+
+    @Test
+    void mergeInterleavesSortedSources() {
+        Iterable<Integer> merged = SessionIndex.merge(
+                List.of(List.of(1, 4, 7), List.of(2, 5), List.<Integer>of(), List.of(3, 6, 8)),
+                Integer::compare);
+
+        assertThat(merged).containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+    }
+
+    @Test
+    void queryMergesNamespacePartitionsInSortOrder() {
+        assertThat(usernames(index.query(query(null, SessionSortKey.USERNAME, false, 0, 10))))
+                .containsExactly("alice", "dave", "jo", "john");
+        assertThat(usernames(index.query(query(null, SessionSortKey.CPU, true, 0, 10))))
+                .containsExactly("john", "jo", "alice", "dave");
+
+        SessionPage page = index.query(query(null, SessionSortKey.USERNAME, false, 1, 3));
+        assertThat(usernames(page)).containsExactly("john");
+        assertThat(page.totalCount()).isEqualTo(4);
+
+        assertThat(usernames(index.query(query("hub-b", SessionSortKey.USERNAME, false, 0, 10))))
+                .containsExactly("dave", "jo");
+    }
+
+    @Test
+    void snapshotOrderMatchesSummaryOrderForEverySortKey() {
+        OffsetDateTime started = OffsetDateTime.parse("2026-10-19T09:00:00Z");
+        listeners.get("hub-a").onReplace(List.of(
+                new PodSnapshot("hub-a", "jupyter-alice", "alice", "Running", true, 2, "node-2", null,
+                        started, null, null, 100, 2048, 0d, 0d, 0d, List.of(), List.of()),
+                new PodSnapshot("hub-a", "jupyter-john", "john", "Pending", false, 0, null, null,
+                        null, null, null, 300, 1024, 0d, 0d, 0d, List.of(), List.of())));
+        listeners.get("hub-b").onReplace(List.of(
+                new PodSnapshot("hub-b", "jupyter-jo", "jo", "Running", true, 2, "node-1", null,
+                        started.plusMinutes(5), null, null, 100, 4096, 0d, 0d, 0d, List.of(), List.of()),
+                new PodSnapshot("hub-b", "jupyter-dave", "dave", "Running", false, 1, "node-1", null,
+                        started, null, null, 50, 1024, 0d, 0d, 0d, List.of(), List.of())));
+
+        for (SessionSortKey sort : SessionSortKey.values()) {
+            for (boolean descending : new boolean[] { false, true }) {
+                List<SessionSummaryResponse> page = index.query(query(null, sort, descending, 0, 10)).items();
+                Comparator<SessionSummaryResponse> expected = descending
+                        ? sort.comparator().reversed()
+                        : sort.comparator();
+                assertThat(page).as("%s descending=%s", sort, descending).isSortedAccordingTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void searchReturnsUsernameMatchesBeforePodNameMatches() {
+        assertThat(index.search("JO", 10)).extracting(SessionSummaryResponse::username)
+                .containsExactly("jo", "john");
+        assertThat(index.search("jupyter-", 10)).extracting(SessionSummaryResponse::username)
+                .containsExactly("alice", "dave", "jo", "john");
+        assertThat(index.search("jupyter-", 2)).hasSize(2);
+        assertThat(index.search("zed", 10)).isEmpty();
+    }
+
+    @Test
+    void searchFollowsUpsertsAndDeletes() {
+        listeners.get("hub-a").onUpsert(pod("hub-a", "joan", 10));
+        listeners.get("hub-a").onDelete(pod("hub-a", "john", 300));
+
+        assertThat(index.search("jo", 10)).extracting(SessionSummaryResponse::username)
+                .containsExactly("jo", "joan");
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void findByUsernameReturnsSessionsInEveryNamespace() {
+        listeners.get("hub-a").onUpsert(pod("hub-a", "jo", 10));
+
+        assertThat(index.findByUsername("jo")).extracting(SessionSummaryResponse::namespace)
+                .containsExactly("hub-a", "hub-b");
+        assertThat(index.findByUsername("john")).hasSize(1);
+        assertThat(index.findByUsername("JOHN")).isEmpty();
+    }
+
+    @Test
+    void awaitRemovalCompletesOnDeleteEvent() {
+        CompletableFuture<Void> removed = index.awaitRemoval("hub-a", "jupyter-alice");
+        CompletableFuture<Void> other = index.awaitRemoval("hub-a", "jupyter-alice");
+        assertThat(removed).isNotDone();
+
+        listeners.get("hub-a").onDelete(pod("hub-a", "john", 300));
+        listeners.get("hub-b").onDelete(pod("hub-b", "jo", 200));
+        assertThat(removed).isNotDone();
+
+        listeners.get("hub-a").onDelete(pod("hub-a", "alice", 100));
+        assertThat(removed).isCompleted();
+        assertThat(other).isCompleted();
+    }
+
+    @Test
+    void awaitRemovalCompletesWhenRelistOfItsNamespaceDropsThePod() {
+        CompletableFuture<Void> removed = index.awaitRemoval("hub-b", "jupyter-jo");
+
+        listeners.get("hub-a").onReplace(List.of());
+        assertThat(removed).isNotDone();
+
+        listeners.get("hub-b").onReplace(List.of(pod("hub-b", "jo", 250), pod("hub-b", "dave", 50)));
+        assertThat(removed).isNotDone();
+
+        listeners.get("hub-b").onReplace(List.of(pod("hub-b", "dave", 50)));
+        assertThat(removed).isCompleted();
+    }
+
+    @Test
+    void awaitRemovalOfAbsentPodCompletesOnlyOnceSynced() {
+        assertThat(index.awaitRemoval("hub-a", "jupyter-zed")).isCompleted();
+
+        when(watcher.hasSynced()).thenReturn(false);
+        CompletableFuture<Void> removed = index.awaitRemoval("hub-a", "jupyter-zed");
+        assertThat(removed).isNotDone();
+
+        listeners.get("hub-a").onReplace(List.of(pod("hub-a", "alice", 100)));
+        assertThat(removed).isCompleted();
+    }
+
+    @Test
+    void cancelledWaitersDoNotBlockLaterWaiters() {
+        CompletableFuture<Void> abandoned = index.awaitRemoval("hub-a", "jupyter-john");
+        abandoned.cancel(false);
+        CompletableFuture<Void> removed = index.awaitRemoval("hub-a", "jupyter-john");
+
+        listeners.get("hub-a").onDelete(pod("hub-a", "john", 300));
+        assertThat(removed).isCompleted();
+        assertThat(abandoned).isCancelled();
+    }
+
+    static PodSnapshot pod(String namespace, String username, double cpu) {
+        return new PodSnapshot(namespace, "jupyter-" + username, username, "Running", true, 0, "node-1",
+                null, null, null, null, cpu, 0d, 0d, 0d, 0d, List.of(), List.of());
+    }
+
+    private static SessionQuery query(String namespace, SessionSortKey sort, boolean descending, int page, int size) {
+        return new SessionQuery(namespace, null, null, null, null, sort, descending, page, size);
+    }
+
+    private static List<String> usernames(SessionPage page) {
+        return page.items().stream().map(SessionSummaryResponse::username).toList();
+    }
+}
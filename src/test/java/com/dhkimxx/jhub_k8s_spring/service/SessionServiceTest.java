@@ -0,0 +1,91 @@
+package com.dhkimxx.jhub_k8s_spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.dhkimxx.jhub_k8s_spring.config.JhubK8sProperties;
+import com.dhkimxx.jhub_k8s_spring.dto.session.SessionDetailResponse;
+import com.dhkimxx.jhub_k8s_spring.exception.BadRequestException;
+import com.dhkimxx.jhub_k8s_spring.exception.ConflictException;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesEventRepository;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesMetricsRepository;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesPodRepository;
+import com.dhkimxx.jhub_k8s_spring.repository.k8s.KubernetesPvcRepository;
+
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+
+class SessionServiceTest {
+
+    private static final String USERNAME_LABEL = "hub.jupyter.org/username";
+
+    private KubernetesPodRepository podRepository;
+    private SessionService sessionService;
+
+    @BeforeEach
+    void setUp() {
+        JhubK8sProperties properties = new JhubK8sProperties();
+        properties.setEnabled(false);
+        properties.setNamespace("hub-a");
+        properties.setNamespaces(List.of("hub-b"));
+        properties.setUsernameLabelKey(USERNAME_LABEL);
+
+        podRepository = mock(KubernetesPodRepository.class);
+        KubernetesPvcRepository pvcRepository = mock(KubernetesPvcRepository.class);
+        when(pvcRepository.namespaceOf(any())).thenAnswer(
+                invocation -> invocation.<V1Pod>getArgument(0).getMetadata().getNamespace());
+        when(podRepository.findByUsernames(anyCollection())).thenReturn(List.of(
+                pod("hub-a", "alice"), pod("hub-b", "alice"), pod("hub-a", "bob")));
+
+        sessionService = new SessionService(podRepository, mock(KubernetesMetricsRepository.class),
+                mock(KubernetesEventRepository.class), pvcRepository, mock(SessionIndex.class),
+                new SessionSummaryMapper(properties), properties, null);
+    }
+
+    @Test
+    void batchDetailsRejectUnqualifiedUserWithSessionsInSeveralNamespaces() {
+        assertThatThrownBy(() -> sessionService.fetchSessionDetails(List.of("bob", "alice")))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("alice")
+                .hasMessageContaining("[hub-a, hub-b]");
+    }
+
+    @Test
+    void batchDetailsAcceptNamespaceQualifiedKeys() {
+        Map<String, SessionDetailResponse> details = sessionService.fetchSessionDetails(
+                List.of("hub-b/alice", "bob", "hub-b/bob", "carol"));
+
+        assertThat(details).containsOnlyKeys("hub-b/alice", "bob");
+        assertThat(details.get("hub-b/alice").metadata().namespace()).isEqualTo("hub-b");
+        assertThat(details.get("bob").metadata().namespace()).isEqualTo("hub-a");
+    }
+
+    @Test
+    void batchDetailsRejectNamespacesOutsideTheHubs() {
+        assertThatThrownBy(() -> sessionService.fetchSessionDetails(List.of("kube-system/alice")))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static V1Pod pod(String namespace, String username) {
+        return new V1Pod()
+                .metadata(new V1ObjectMeta()
+                        .namespace(namespace)
+                        .name("jupyter-" + username)
+                        .labels(Map.of(USERNAME_LABEL, username)))
+                .spec(new V1PodSpec().nodeName("node-1").containers(List.of(new V1Container().name("notebook"))))
+                .status(new V1PodStatus().phase("Running"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.dhkimxx.jhub_k8s_spring.support;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * benchmark 태그 테스트에서 사용하는 간단한 측정 도구.
+ * JMH 없이 워밍업 후 반복 실행의 중앙값, 현재 스레드 할당량, GC 후 힙 사용량 차이를 측정하며,
+ * 결과는 "[benchmark]" 접두사로 표준 출력에 남깁니다. (./gradlew benchmark)
+ */
+public final class Measurements {
+
+    private static final int GC_ROUNDS = 5;
+
+    private Measurements() {
+    }
+
+    /**
+     * warmup번 실행한 뒤 runs번 실행한 시간의 중앙값(밀리초).
+     */
+    public static double medianMillis(int warmup, int runs, Supplier<?> operation) {
+        for (int i = 0; i < warmup; i++) {
+            Reference.reachabilityFence(operation.get());
+        }
+        long[] nanos = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long started = System.nanoTime();
+            Reference.reachabilityFence(operation.get());
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        return nanos[runs / 2] / 1_000_000d;
+    }
+
+    /**
+     * 한 번 실행하는 동안 현재 스레드가 할당한 바이트 수. (워밍업 후 측정)
+     */
+    public static long allocatedBytes(int warmup, Supplier<?> operation) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        for (int i = 0; i < warmup; i++) {
+            Reference.reachabilityFence(operation.get());
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        Object result = operation.get();
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        Reference.reachabilityFence(result);
+        return allocated;
+    }
+
+    /**
+     * 만든 객체가 붙잡고 있는 힙 크기의 근사값. 만들기 전후로 GC를 수행한 힙 사용량의 차이입니다.
+     */
+    public static long retainedBytes(Supplier<?> build) {
+        long before = usedHeapAfterGc();
+        Object retained = build.get();
+        long after = usedHeapAfterGc();
+        Reference.reachabilityFence(retained);
+        return after - before;
+    }
+
+    public static void report(String name, String format, Object... args) {
+        System.out.println("[benchmark] " + name + ": " + String.format(Locale.ROOT, format, args));
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,56 @@
+package com.dhkimxx.jhub_k8s_spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.dhkimxx.jhub_k8s_spring.web.BulkheadFilter.Group;
+
+class BulkheadFilterTest {
+
+    @Test
+    void sessionCollectionRoutesAreListsAndUsernamesAreDetails() {
+        assertThat(groupOf("GET", "/api/sessions")).isEqualTo(Group.LISTS);
+        assertThat(groupOf("GET", "/api/sessions/search")).isEqualTo(Group.LISTS);
+        assertThat(groupOf("GET", "/api/sessions/namespaces")).isEqualTo(Group.LISTS);
+        assertThat(groupOf("GET", "/api/sessions/idle")).isEqualTo(Group.LISTS);
+        assertThat(groupOf("GET", "/api/sessions/terminations/job-1")).isEqualTo(Group.LISTS);
+
+        assertThat(groupOf("GET", "/api/sessions/details")).isEqualTo(Group.DETAILS);
+        assertThat(groupOf("GET", "/api/sessions/alice")).isEqualTo(Group.DETAILS);
+        assertThat(groupOf("GET", "/api/sessions/searcher")).isEqualTo(Group.DETAILS);
+    }
+
+    @Test
+    void nodeAndPodDetailsAreDetailsForEveryCluster() {
+        assertThat(groupOf("GET", "/api/cluster/nodes")).isEqualTo(Group.LISTS);
+        assertThat(groupOf("GET", "/api/cluster/nodes/node-1")).isEqualTo(Group.DETAILS);
+        assertThat(groupOf("GET", "/api/cluster/pods/jupyter-alice")).isEqualTo(Group.DETAILS);
+        assertThat(groupOf("GET", "/api/clusters/east/nodes")).isEqualTo(Group.LISTS);
+        assertThat(groupOf("GET", "/api/clusters/east/nodes/node-1")).isEqualTo(Group.DETAILS);
+        assertThat(groupOf("GET", "/api/cluster/overview")).isEqualTo(Group.LISTS);
+    }
+
+    @Test
+    void storageAndMutationsHaveTheirOwnGroups() {
+        assertThat(groupOf("GET", "/api/cluster/storage")).isEqualTo(Group.STORAGE);
+        assertThat(groupOf("HEAD", "/api/clusters/east/storage")).isEqualTo(Group.STORAGE);
+
+        assertThat(groupOf("DELETE", "/api/sessions/jupyter-alice")).isEqualTo(Group.MUTATIONS);
+        assertThat(groupOf("POST", "/api/sessions/terminations")).isEqualTo(Group.MUTATIONS);
+        assertThat(groupOf("POST", "/api/cluster/capacity/simulation")).isEqualTo(Group.MUTATIONS);
+    }
+
+    @Test
+    void ignoresContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/monitor/api/sessions/alice");
+        request.setContextPath("/monitor");
+
+        assertThat(BulkheadFilter.groupOf(request)).isEqualTo(Group.DETAILS);
+    }
+
+    private static Group groupOf(String method, String uri) {
+        return BulkheadFilter.groupOf(new MockHttpServletRequest(method, uri));
+    }
+}
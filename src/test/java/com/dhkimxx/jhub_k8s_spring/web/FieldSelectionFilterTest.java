@@ -0,0 +1,64 @@
+package com.dhkimxx.jhub_k8s_spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.dhkimxx.jhub_k8s_spring.util.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+class FieldSelectionFilterTest {
+
+    @JsonFilter(FieldSelectionFilter.FILTER_ID)
+    record Port(String name, int containerPort) {
+    }
+
+    @JsonFilter(FieldSelectionFilter.FILTER_ID)
+    record Container(String name, String image, List<Port> ports) {
+    }
+
+    @JsonFilter(FieldSelectionFilter.FILTER_ID)
+    record Pod(String name, String phase, List<Container> containers) {
+    }
+
+    private static final Pod POD = new Pod("jupyter-alice", "Running",
+            List.of(new Container("notebook", "jupyter/base", List.of(new Port("http", 8888)))));
+
+    private static String write(Object value, String fields) throws Exception {
+        SimpleFilterProvider filters = new SimpleFilterProvider()
+                .addFilter(FieldSelectionFilter.FILTER_ID, new FieldSelectionFilter(FieldSelection.parse(fields)));
+        return new ObjectMapper().writer(filters).writeValueAsString(value);
+    }
+
+    @Test
+    void includesAncestorsAndDescendantsOfSelectedPaths() {
+        FieldSelection selection = FieldSelection.parse(" name , containers.ports ");
+
+        assertThat(selection.isAll()).isFalse();
+        assertThat(selection.includes("name")).isTrue();
+        assertThat(selection.includes("containers")).isTrue();
+        assertThat(selection.includes("containers.ports.containerPort")).isTrue();
+        assertThat(selection.includes("containers.image")).isFalse();
+        assertThat(selection.includes("labels")).isFalse();
+        assertThat(selection.cacheKey()).isEqualTo("containers.ports,name");
+        assertThat(FieldSelection.parse(" , ")).isSameAs(FieldSelection.ALL);
+    }
+
+    @Test
+    void filtersNestedFieldsByDottedPath() throws Exception {
+        assertThat(write(POD, "name,containers.ports.containerPort"))
+                .isEqualTo("{\"name\":\"jupyter-alice\",\"containers\":[{\"ports\":[{\"containerPort\":8888}]}]}");
+        assertThat(write(POD, "containers.name"))
+                .isEqualTo("{\"containers\":[{\"name\":\"notebook\"}]}");
+    }
+
+    @Test
+    void treatsTopLevelArrayElementsAsRootObjects() throws Exception {
+        assertThat(write(List.of(POD), "phase")).isEqualTo("[{\"phase\":\"Running\"}]");
+        assertThat(write(POD, null)).contains("\"image\":\"jupyter/base\"");
+    }
+}
@@ -0,0 +1,77 @@
+package com.dhkimxx.jhub_k8s_spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.dhkimxx.jhub_k8s_spring.dto.cluster.DataStaleness;
+import com.dhkimxx.jhub_k8s_spring.dto.storage.StorageOverviewResponse;
+
+class StaleResponseAdviceTest {
+
+    private static final OffsetDateTime FETCHED_AT = OffsetDateTime.now().minusSeconds(90);
+
+    private final StaleResponseAdvice advice = new StaleResponseAdvice();
+
+    @Test
+    void copiesStalenessCarriedByTheBodyToHeaders() {
+        StorageOverviewResponse body = storage(new DataStaleness(List.of("cluster-b"), FETCHED_AT));
+        ServerHttpResponse response = response();
+
+        Object written = write(new MappingJacksonValue(body), response);
+
+        assertThat(((MappingJacksonValue) written).getValue()).isSameAs(body);
+        HttpHeaders headers = response.getHeaders();
+        assertThat(headers.getFirst(StaleResponseAdvice.STALE_HEADER)).isEqualTo("true");
+        assertThat(headers.getFirst(StaleResponseAdvice.STALE_OPERATIONS_HEADER)).isEqualTo("cluster-b");
+        assertThat(Long.parseLong(headers.getFirst(HttpHeaders.AGE))).isBetween(90L, 100L);
+        assertThat(headers.getFirst(HttpHeaders.WARNING)).contains("Response is Stale");
+    }
+
+    @Test
+    void leavesFreshResponsesUntouched() {
+        StorageOverviewResponse body = storage(null);
+        ServerHttpResponse response = response();
+
+        assertThat(write(body, response)).isSameAs(body);
+        assertThat(write(List.of("a"), response)).isEqualTo(List.of("a"));
+        assertThat(response.getHeaders().containsKey(StaleResponseAdvice.STALE_HEADER)).isFalse();
+    }
+
+    @Test
+    void mergesSourcesAndKeepsOldestKnownFetchTime() {
+        DataStaleness first = new DataStaleness(List.of("list nodes"), FETCHED_AT);
+        DataStaleness second = new DataStaleness(List.of("cluster-b", "list nodes"), null);
+
+        DataStaleness merged = DataStaleness.merge(first, second);
+
+        assertThat(merged.sources()).containsExactly("cluster-b", "list nodes");
+        assertThat(merged.oldestFetchedAt()).isEqualTo(FETCHED_AT);
+        assertThat(DataStaleness.merge(null, second)).isSameAs(second);
+        assertThat(DataStaleness.merge(first, null)).isSameAs(first);
+    }
+
+    private Object write(Object body, ServerHttpResponse response) {
+        return advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON, null,
+                new ServletServerHttpRequest(new MockHttpServletRequest()), response);
+    }
+
+    private static ServerHttpResponse response() {
+        return new ServletServerHttpResponse(new MockHttpServletResponse());
+    }
+
+    private static StorageOverviewResponse storage(DataStaleness staleness) {
+        return new StorageOverviewResponse(1, 1, 0, 1024d, 1024d, 1, List.of(), List.of(), staleness);
+    }
+}